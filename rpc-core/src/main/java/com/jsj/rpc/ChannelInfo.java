@@ -1,12 +1,17 @@
 package com.jsj.rpc;
 
+import com.jsj.rpc.client.channel.RpcChannel;
 import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.server.ServerCallStream;
 import io.netty.channel.Channel;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -19,7 +24,22 @@ public class ChannelInfo {
     private static final AttributeKey<ChannelInfo> RPC_CLIENT_CHANNEL_INFO = AttributeKey.valueOf("rpc-client-channel-info");
     private Channel channel;
     private Protocol protocol;
-    private Map<Long, RpcFuture<?>> rpcFutures = new HashMap<>(8);
+    /**
+     * 客户端channel所属的RpcChannel
+     */
+    private RpcChannel rpcChannel;
+    /**
+     * 连接为多路复用，多个业务线程与io线程并发访问
+     */
+    private Map<Long, RpcFuture<?>> rpcFutures = new ConcurrentHashMap<>(8);
+    /**
+     * 等待PONG的探活请求，key为探测id
+     */
+    private final Map<Long, CompletableFuture<Void>> pingFutures = new ConcurrentHashMap<>(2);
+    /**
+     * 服务端连接上未结束的流式调用，key为streamId
+     */
+    private final Map<Long, ServerCallStream<?>> serverStreams = new ConcurrentHashMap<>(2);
 
     public static ChannelInfo getOrCreateClientChannelInfo(Channel channel) {
         if (channel == null) {
@@ -57,6 +77,22 @@ public class ChannelInfo {
         return rpcFutures.remove(requestId);
     }
 
+    /**
+     * 移除连接上所有等待响应的请求，连接断开时调用
+     *
+     * @return
+     */
+    public List<RpcFuture<?>> removeAllRpcFutures() {
+        List<RpcFuture<?>> removed = new ArrayList<>(rpcFutures.size());
+        for (Long requestId : rpcFutures.keySet()) {
+            RpcFuture<?> rpcFuture = rpcFutures.remove(requestId);
+            if (rpcFuture != null) {
+                removed.add(rpcFuture);
+            }
+        }
+        return removed;
+    }
+
     public RpcFuture<?> getRpcFuture(long requestId) {
         return rpcFutures.get(requestId);
     }
@@ -65,6 +101,37 @@ public class ChannelInfo {
         rpcFutures.put(rpcFuture.getRequest().getRequestId(), rpcFuture);
     }
 
+    public void addPingFuture(long pingId, CompletableFuture<Void> future) {
+        pingFutures.put(pingId, future);
+    }
+
+    public CompletableFuture<Void> getAndRemovePingFuture(long pingId) {
+        return pingFutures.remove(pingId);
+    }
+
+    public void addServerStream(ServerCallStream<?> stream) {
+        serverStreams.put(stream.getStreamId(), stream);
+    }
+
+    public ServerCallStream<?> getServerStream(long streamId) {
+        return serverStreams.get(streamId);
+    }
+
+    public ServerCallStream<?> removeServerStream(long streamId) {
+        return serverStreams.remove(streamId);
+    }
+
+    /**
+     * 移除连接上所有未结束的流式调用，连接断开时调用
+     *
+     * @return
+     */
+    public List<ServerCallStream<?>> removeAllServerStreams() {
+        List<ServerCallStream<?>> removed = new ArrayList<>(serverStreams.values());
+        serverStreams.clear();
+        return removed;
+    }
+
     public Channel getChannel() {
         return channel;
     }
@@ -81,6 +148,14 @@ public class ChannelInfo {
         this.protocol = protocol;
     }
 
+    public RpcChannel getRpcChannel() {
+        return rpcChannel;
+    }
+
+    public void setRpcChannel(RpcChannel rpcChannel) {
+        this.rpcChannel = rpcChannel;
+    }
+
     public Map<Long, RpcFuture<?>> getRpcFutures() {
         return rpcFutures;
     }
@@ -0,0 +1,126 @@
+package com.jsj.rpc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 服务方法返回的文件，或文件中的一段
+ * <p>
+ * 服务端以FileRegion(sendfile)直接把文件内容写入连接，不经过堆内存和序列化；
+ * 客户端收到的内容写入本地临时文件，可以流的方式读取或映射到内存，使用完毕后应调用{@link #delete()}
+ *
+ * @author jiangshenjie
+ */
+public class RpcFile {
+    private final File file;
+    private final long position;
+    private final long length;
+
+    public RpcFile(File file) {
+        this(file, 0L, file.length());
+    }
+
+    /**
+     * @param file
+     * @param position 起始位置
+     * @param length   长度
+     */
+    public RpcFile(File file, long position, long length) {
+        this.file = file;
+        this.position = position;
+        this.length = length;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * 读取文件中的这一段
+     *
+     * @return
+     * @throws IOException
+     */
+    public InputStream openStream() throws IOException {
+        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        fileChannel.position(position);
+        return new RegionInputStream(fileChannel, length);
+    }
+
+    /**
+     * 以只读方式映射到内存，长度不能超过2GB
+     *
+     * @return
+     * @throws IOException
+     */
+    public MappedByteBuffer map() throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+    }
+
+    /**
+     * 删除文件，用于客户端收到的临时文件
+     *
+     * @return
+     */
+    public boolean delete() {
+        try {
+            return Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RpcFile(file=%s, position=%d, length=%d)", file, position, length);
+    }
+
+    private static class RegionInputStream extends InputStream {
+        private final FileChannel fileChannel;
+        private long remaining;
+
+        private RegionInputStream(FileChannel fileChannel, long remaining) {
+            this.fileChannel = fileChannel;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = fileChannel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            fileChannel.close();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.jsj.rpc;
 
+import com.jsj.rpc.client.channel.RpcChannel;
 import com.jsj.rpc.exception.RpcException;
 import com.jsj.rpc.protocol.Request;
 import com.jsj.rpc.protocol.Response;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -12,13 +16,24 @@ import java.util.concurrent.TimeoutException;
 /**
  * @author jiangshenjie
  */
+@Slf4j
 public class RpcFuture<T> implements Future<T> {
     protected final Request request;
-    private Response response;
+    private volatile Response response;
 
     private volatile boolean cancelled = false;
-    private boolean isDone = false;
+    private volatile boolean isDone = false;
     private final long startTime = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private List<RpcFutureListener> listeners;
+    /**
+     * 请求所在连接的信息，取消时从中移除，避免迟到的响应再被处理
+     */
+    private volatile ChannelInfo channelInfo;
+    /**
+     * 发送请求的服务节点，发送前失败时为null
+     */
+    private volatile RpcChannel rpcChannel;
 
     public RpcFuture(Request request) {
         this.request = request;
@@ -31,10 +46,18 @@ public class RpcFuture<T> implements Future<T> {
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
         synchronized (this) {
+            if (isDone()) {
+                return false;
+            }
             this.cancelled = true;
             this.isDone = true;
             this.notifyAll();
         }
+        ChannelInfo info = channelInfo;
+        if (info != null) {
+            info.getAndRemoveRpcFuture(request.getRequestId());
+        }
+        notifyListeners();
         return true;
     }
 
@@ -57,10 +80,12 @@ public class RpcFuture<T> implements Future<T> {
 
     @Override
     public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-        long millis = unit.toMillis(timeout);
+        long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
         synchronized (this) {
+            long millis = deadline - System.currentTimeMillis();
             while (!isDone() && millis > 0L) {
                 this.wait(millis);
+                millis = deadline - System.currentTimeMillis();
             }
         }
         if (!isDone()) {
@@ -68,6 +93,10 @@ public class RpcFuture<T> implements Future<T> {
         } else if (isCancelled()) {
             throw new ExecutionException(new RpcException("rpc task cancelled."));
         }
+        Exception exception = response.getException();
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
         return (T) this.response.getResult();
     }
 
@@ -101,14 +130,83 @@ public class RpcFuture<T> implements Future<T> {
             this.isDone = true;
             this.notifyAll();
         }
+        notifyListeners();
         return this;
     }
 
+    /**
+     * 添加完成监听器，若已完成则立即在当前线程调用
+     *
+     * @param listener
+     * @return
+     */
+    public RpcFuture<T> addListener(RpcFutureListener listener) {
+        synchronized (this) {
+            if (!isDone()) {
+                if (listeners == null) {
+                    listeners = new ArrayList<>(2);
+                }
+                listeners.add(listener);
+                return this;
+            }
+        }
+        listener.operationComplete(this);
+        return this;
+    }
+
+    private void notifyListeners() {
+        List<RpcFutureListener> toNotify;
+        synchronized (this) {
+            toNotify = listeners;
+            listeners = null;
+        }
+        if (toNotify == null) {
+            return;
+        }
+        for (RpcFutureListener listener : toNotify) {
+            try {
+                listener.operationComplete(this);
+            } catch (Exception e) {
+                log.warn("Exception caught when notify listener of rpc future, request id: {}."
+                        , request.getRequestId(), e);
+            }
+        }
+    }
+
+    /**
+     * 完成后的响应，未完成或已取消时为null
+     *
+     * @return
+     */
+    public Response getResponse() {
+        return response;
+    }
+
     public Request getRequest() {
         return request;
     }
 
+    public ChannelInfo getChannelInfo() {
+        return channelInfo;
+    }
+
+    public RpcChannel getRpcChannel() {
+        return rpcChannel;
+    }
+
+    public void setRpcChannel(RpcChannel rpcChannel) {
+        this.rpcChannel = rpcChannel;
+    }
+
+    public void setChannelInfo(ChannelInfo channelInfo) {
+        this.channelInfo = channelInfo;
+    }
+
     public long getStartTime() {
         return startTime;
     }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
 }
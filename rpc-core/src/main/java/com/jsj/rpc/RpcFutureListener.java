@@ -0,0 +1,15 @@
+package com.jsj.rpc;
+
+/**
+ * RpcFuture完成(包括成功、失败、超时和取消)时的监听器
+ *
+ * @author jiangshenjie
+ */
+public interface RpcFutureListener {
+    /**
+     * RpcFuture完成时调用
+     *
+     * @param rpcFuture
+     */
+    void operationComplete(RpcFuture<?> rpcFuture);
+}
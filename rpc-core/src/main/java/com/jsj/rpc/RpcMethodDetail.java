@@ -3,6 +3,8 @@ package com.jsj.rpc;
 import lombok.*;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 
 /**
  * @author jiangshenjie
@@ -30,4 +32,80 @@ public class RpcMethodDetail {
     public Class<?>[] getParamTypes() {
         return method.getParameterTypes();
     }
+
+    /**
+     * 随请求传递的参数类型，不含流式方法的StreamObserver
+     *
+     * @return
+     */
+    public Class<?>[] getRequestParamTypes() {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        if (isServerStreaming(method) || isBidiStreaming(method)) {
+            Class<?>[] requestParamTypes = new Class<?>[paramTypes.length - 1];
+            System.arraycopy(paramTypes, 0, requestParamTypes, 0, requestParamTypes.length);
+            return requestParamTypes;
+        }
+        return paramTypes;
+    }
+
+    /**
+     * 服务端流式方法：返回void，最后一个参数为StreamObserver
+     *
+     * @param method
+     * @return
+     */
+    public static boolean isServerStreaming(Method method) {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        return method.getReturnType() == void.class && paramTypes.length > 0
+                && paramTypes[paramTypes.length - 1] == StreamObserver.class;
+    }
+
+    /**
+     * 客户端流式或双向流式方法：唯一的参数为接收响应消息的StreamObserver，返回接收请求消息的StreamObserver。
+     * 客户端流式方法只是服务端只返回一条消息的双向流式方法
+     *
+     * @param method
+     * @return
+     */
+    public static boolean isBidiStreaming(Method method) {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        return method.getReturnType() == StreamObserver.class && paramTypes.length == 1
+                && paramTypes[0] == StreamObserver.class;
+    }
+
+    public static boolean isStreaming(Method method) {
+        return isServerStreaming(method) || isBidiStreaming(method);
+    }
+
+    /**
+     * 客户端流式或双向流式方法的请求消息类型，即返回的StreamObserver的泛型参数
+     *
+     * @param method
+     * @return
+     */
+    public static Class<?> getStreamRequestType(Method method) {
+        return getObserverMessageType(method, method.getGenericReturnType());
+    }
+
+    /**
+     * 流式方法的消息类型，即StreamObserver参数的泛型参数
+     *
+     * @param method
+     * @return
+     */
+    public static Class<?> getStreamMessageType(Method method) {
+        Type[] paramTypes = method.getGenericParameterTypes();
+        return getObserverMessageType(method, paramTypes[paramTypes.length - 1]);
+    }
+
+    private static Class<?> getObserverMessageType(Method method, Type observerType) {
+        if (observerType instanceof ParameterizedType) {
+            Type messageType = ((ParameterizedType) observerType).getActualTypeArguments()[0];
+            if (messageType instanceof Class) {
+                return (Class<?>) messageType;
+            }
+        }
+        throw new IllegalArgumentException(String.format("message type of stream method %s is not specified"
+                , method.getName()));
+    }
 }
@@ -0,0 +1,31 @@
+package com.jsj.rpc;
+
+/**
+ * 流式调用中消息的接收方
+ * <p>
+ * 服务端流式方法声明为{@code void method(Request request, StreamObserver<Message> observer)}，
+ * 服务端通过observer逐条返回消息，客户端传入的observer按序收到这些消息。
+ * 同一个observer的方法不会被并发调用
+ *
+ * @author jiangshenjie
+ */
+public interface StreamObserver<T> {
+    /**
+     * 收到一条消息
+     *
+     * @param message
+     */
+    void onNext(T message);
+
+    /**
+     * 流异常结束，之后不会再有回调
+     *
+     * @param t
+     */
+    void onError(Throwable t);
+
+    /**
+     * 流正常结束，之后不会再有回调
+     */
+    void onCompleted();
+}
@@ -2,8 +2,12 @@ package com.jsj.rpc.client;
 
 import com.jsj.rpc.ChannelInfo;
 import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.client.breaker.CircuitBreaker;
+import com.jsj.rpc.client.breaker.CircuitBreakerConfig;
+import com.jsj.rpc.client.breaker.CircuitBreakerMetrics;
 import com.jsj.rpc.client.channel.RpcChannel;
 import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.instance.EndpointStats;
 import com.jsj.rpc.exception.RpcException;
 import com.jsj.rpc.exception.RpcExceptionType;
 import com.jsj.rpc.protocol.Packet;
@@ -11,12 +15,18 @@ import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Request;
 import com.jsj.rpc.protocol.Response;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.nio.NioEventLoopGroup;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -26,6 +36,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Slf4j
 @Getter
 public abstract class AbstractRpcClient {
+    /**
+     * 熔断时重新选择节点的最大次数
+     */
+    private static final int MAX_SELECT_TIMES = 3;
+
     protected final Endpoint endpoint;
     protected final RpcClientOptions clientOptions;
     protected Protocol protocol;
@@ -33,7 +48,7 @@ public abstract class AbstractRpcClient {
 
     protected NioEventLoopGroup workerGroup;
     protected ScheduledThreadPoolExecutor scheduledThreadPool;
-    protected ThreadPoolExecutor workerThreadPool;
+    protected ExecutorService workerThreadPool;
     /**
      * 状态
      */
@@ -56,20 +71,64 @@ public abstract class AbstractRpcClient {
         rpcFuture.handleResponse(response);
     }
 
+    /**
+     * 以某次实际发送的请求的响应完成调用方持有的RpcFuture，用于对冲与重试
+     *
+     * @param rpcFuture
+     * @param attemptResponse
+     */
+    protected void forwardResponse(RpcFuture<?> rpcFuture, Response attemptResponse) {
+        Response response = protocol.createResponse();
+        response.setRequestId(rpcFuture.getRequest().getRequestId());
+        response.setRpcFuture(rpcFuture);
+        response.setResult(attemptResponse.getResult());
+        response.setException(attemptResponse.getException());
+        rpcFuture.handleResponse(response);
+    }
+
     public <T> RpcFuture<T> sendRequest(Request request) {
+        return sendRequest(request, Collections.emptySet());
+    }
+
+    /**
+     * 发送单次请求
+     *
+     * @param request
+     * @param excluded 尽量避开的服务节点，如对冲或重试时已使用过的节点
+     * @return
+     */
+    protected <T> RpcFuture<T> sendRequest(Request request, Collection<RpcChannel> excluded) {
         RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+        RpcChannel selectedRpcChannel = null;
         Channel channel = null;
         ChannelInfo channelInfo = null;
         try {
-            channel = rpcChannel.getChannel();
+            CircuitBreakerConfig breakerConfig = getCircuitBreakerConfig(request.getMethodName());
+            selectedRpcChannel = breakerConfig == null ? selectRpcChannel(request, excluded)
+                    : selectPermittedRpcChannel(request, excluded, breakerConfig, rpcFuture);
+            rpcFuture.setRpcChannel(selectedRpcChannel);
+            recordStats(selectedRpcChannel, rpcFuture);
+            channel = selectedRpcChannel.getChannel();
             channelInfo = ChannelInfo.getOrCreateClientChannelInfo(channel);
             channelInfo.addRpcFuture(rpcFuture);
+            rpcFuture.setChannelInfo(channelInfo);
             scheduleTimeoutTask(rpcFuture);
             Packet packet = request.transToPacket();
-            boolean writeSucceed = channel.writeAndFlush(packet)
-                    .await(clientOptions.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS);
-            if (!writeSucceed) {
-                throw new RpcException(String.format("Write rpc request failed, request: %s.", request));
+            ChannelFuture writeFuture = channel.writeAndFlush(packet);
+            if (!writeFuture.await(request.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                //取消成功说明请求未写出，服务端不会执行，可按网络异常重试；
+                //取消失败时请求可能已部分或全部写出(如分片发送中)，服务端仍可能执行，以超时结束，避免重试重复执行
+                if (writeFuture.cancel(false)) {
+                    throw new RpcException(String.format("Write rpc request timeout, request cancelled: %s.", request)
+                            , RpcExceptionType.NETWORK_EXCEPTION.getCode());
+                }
+                throw new RpcException(String.format("Write rpc request timeout, request may have been sent: %s."
+                        , request), RpcExceptionType.TIMEOUT_EXCEPTION.getCode());
+            }
+            //await只表示写入已结束，写入失败时立即以网络异常结束调用，而不是等到超时
+            if (!writeFuture.isSuccess()) {
+                throw new RpcException(String.format("Write rpc request failed, request: %s.", request)
+                        , writeFuture.cause(), RpcExceptionType.NETWORK_EXCEPTION.getCode());
             }
         } catch (Exception e) {
             handleErrorResponse(rpcFuture, e);
@@ -78,24 +137,188 @@ public abstract class AbstractRpcClient {
             }
         } finally {
             if (channel != null) {
-                processChannelAfterSendRequest(channel);
+                processChannelAfterSendRequest(selectedRpcChannel, channel);
             }
         }
         return rpcFuture;
     }
 
+    /**
+     * 为请求选择服务节点，单节点客户端直接使用自身的RpcChannel
+     *
+     * @param request
+     * @param excluded 尽量避开的服务节点，没有其他可用节点时仍可选择
+     * @return
+     */
+    protected RpcChannel selectRpcChannel(Request request, Collection<RpcChannel> excluded) throws RpcException {
+        if (isSaturated(rpcChannel)) {
+            throw endpointSaturated(request);
+        }
+        return rpcChannel;
+    }
+
+    /**
+     * 节点上未完成的请求数是否已达到maxInflightRequestsPerEndpoint
+     *
+     * @param rpcChannel
+     * @return
+     */
+    protected boolean isSaturated(RpcChannel rpcChannel) {
+        int maxInflight = clientOptions.getMaxInflightRequestsPerEndpoint();
+        return maxInflight > 0 && rpcChannel.getStats().getInflight() >= maxInflight;
+    }
+
+    protected RpcException endpointSaturated(Request request) {
+        return new RpcException(String.format("Too many inflight requests on endpoints of service: %s, max: %d."
+                , request.getServiceName(), clientOptions.getMaxInflightRequestsPerEndpoint())
+                , RpcExceptionType.INFLIGHT_LIMIT_EXCEPTION.getCode());
+    }
+
+    /**
+     * 选择熔断器放行的节点，被拒绝的节点在重新选择时避开，获得许可后由rpcFuture完成时交回
+     *
+     * @param request
+     * @param excluded
+     * @param breakerConfig
+     * @param rpcFuture
+     * @return
+     * @throws RpcException 所选节点均处于熔断状态
+     */
+    private RpcChannel selectPermittedRpcChannel(Request request, Collection<RpcChannel> excluded
+            , CircuitBreakerConfig breakerConfig, RpcFuture<?> rpcFuture) throws RpcException {
+        List<RpcChannel> rejected = new ArrayList<>(excluded);
+        RpcChannel selected = selectRpcChannel(request, excluded);
+        for (int i = 0; i < MAX_SELECT_TIMES; i++) {
+            CircuitBreaker circuitBreaker = getCircuitBreaker(selected, request.getMethodName(), breakerConfig);
+            CircuitBreaker.Permit permit = circuitBreaker.tryAcquirePermission();
+            if (permit != null) {
+                recordCircuitBreaker(circuitBreaker, permit, rpcFuture);
+                return selected;
+            }
+            rejected.add(selected);
+            selected = selectRpcChannel(request, rejected);
+            if (rejected.contains(selected)) {
+                break;
+            }
+        }
+        throw new RpcException(String.format("Circuit breaker is open, service: %s, method: %s."
+                , request.getServiceName(), request.getMethodName())
+                , RpcExceptionType.CIRCUIT_BREAKER_OPEN_EXCEPTION.getCode());
+    }
+
+    /**
+     * 方法级别的熔断配置优先于客户端级别
+     *
+     * @param methodName
+     * @return 未开启熔断时为null
+     */
+    protected CircuitBreakerConfig getCircuitBreakerConfig(String methodName) {
+        RpcMethodOptions methodOptions = clientOptions.getMethodOptions(methodName);
+        if (methodOptions != null && methodOptions.getCircuitBreakerConfig() != null) {
+            return methodOptions.getCircuitBreakerConfig();
+        }
+        return clientOptions.getCircuitBreakerConfig();
+    }
+
+    private CircuitBreaker getCircuitBreaker(RpcChannel rpcChannel, String methodName, CircuitBreakerConfig config) {
+        return rpcChannel.getCircuitBreakers().computeIfAbsent(methodName
+                , name -> new CircuitBreaker(rpcChannel.getEndpoint(), name, config));
+    }
+
+    /**
+     * 服务方法自身抛出的业务异常说明节点可用，不计为熔断器的失败
+     */
+    private void recordCircuitBreaker(CircuitBreaker circuitBreaker, CircuitBreaker.Permit permit
+            , RpcFuture<?> rpcFuture) {
+        rpcFuture.addListener(future -> {
+            if (future.isCancelled()) {
+                circuitBreaker.onCancelled(permit);
+                return;
+            }
+            Exception exception = future.getResponse().getException();
+            boolean failed = exception != null && !(exception instanceof RpcException
+                    && ((RpcException) exception).getCode() == RpcExceptionType.SERVICE_EXCEPTION.getCode());
+            circuitBreaker.onComplete(permit, System.nanoTime() - future.getStartNanos(), failed);
+        });
+    }
+
+    /**
+     * 所有服务节点上各方法熔断器的状态
+     *
+     * @return
+     */
+    public List<CircuitBreakerMetrics> getCircuitBreakerMetrics() {
+        List<CircuitBreakerMetrics> metrics = new ArrayList<>();
+        for (RpcChannel channel : getRpcChannels()) {
+            for (CircuitBreaker circuitBreaker : channel.getCircuitBreakers().values()) {
+                metrics.add(circuitBreaker.getMetrics());
+            }
+        }
+        return metrics;
+    }
+
+    public List<RpcChannel> getRpcChannels() {
+        return rpcChannel == null ? Collections.emptyList() : Collections.singletonList(rpcChannel);
+    }
+
+    private void recordStats(RpcChannel selectedRpcChannel, RpcFuture<?> rpcFuture) {
+        EndpointStats stats = selectedRpcChannel.getStats();
+        if (stats == null) {
+            return;
+        }
+        stats.onRequestStart();
+        rpcFuture.addListener(future -> {
+            if (future.isCancelled()) {
+                stats.onRequestCancelled();
+                return;
+            }
+            Response response = future.getResponse();
+            boolean success = response != null && response.getException() == null;
+            onRequestComplete(selectedRpcChannel, System.nanoTime() - future.getStartNanos(), success);
+        });
+    }
+
+    /**
+     * 请求完成(成功、失败或超时)后回调，用于更新节点统计
+     *
+     * @param rpcChannel
+     * @param latencyNanos
+     * @param success
+     */
+    protected void onRequestComplete(RpcChannel rpcChannel, long latencyNanos, boolean success) {
+        rpcChannel.getStats().onRequestComplete(latencyNanos, success);
+        rpcChannel.getHealth().onRequestComplete(success);
+    }
+
+    /**
+     * 超时后从连接中移除请求，请求提前完成时取消超时任务，避免二者在10s超时前一直堆积
+     *
+     * @param rpcFuture
+     */
     protected void scheduleTimeoutTask(RpcFuture<?> rpcFuture) {
-        scheduledThreadPool.schedule(
-                () -> handleErrorResponse(rpcFuture, new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION))
-                , clientOptions.getRpcTaskTimeoutMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> timeoutTask = scheduledThreadPool.schedule(() -> {
+            handleErrorResponse(rpcFuture, new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION));
+            ChannelInfo channelInfo = rpcFuture.getChannelInfo();
+            if (channelInfo != null) {
+                channelInfo.getAndRemoveRpcFuture(rpcFuture.getRequest().getRequestId());
+            }
+        }, rpcFuture.getRequest().getTaskTimeoutMills(), TimeUnit.MILLISECONDS);
+        rpcFuture.addListener(future -> timeoutTask.cancel(false));
     }
 
     /**
      * 向Channel写入Request后，对Channel进行后置处理
      *
+     * @param rpcChannel channel所属的RpcChannel
      * @param channel
      */
-    protected abstract void processChannelAfterSendRequest(Channel channel);
+    protected abstract void processChannelAfterSendRequest(RpcChannel rpcChannel, Channel channel);
+
+    protected void closeRpcChannel() {
+        if (rpcChannel != null) {
+            rpcChannel.close();
+        }
+    }
 
     public Protocol getProtocol() {
         return protocol;
@@ -108,7 +331,7 @@ public abstract class AbstractRpcClient {
     public void shutdown() {
         if (isStop.compareAndSet(false, true)) {
             //关闭连接
-            rpcChannel.close();
+            closeRpcChannel();
             if (!clientOptions.isGlobalThreadPoolSharing()) {
                 //优雅退出，释放 NIO 线程组
                 workerGroup.shutdownGracefully().awaitUninterruptibly();
@@ -0,0 +1,227 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.protocol.PacketType;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.protocol.RpcMeta;
+import com.jsj.rpc.util.SerialExecutor;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 客户端一次流式调用的接收端
+ * <p>
+ * io线程收到的消息与结束响应按到达顺序在业务线程池中串行交给用户的StreamObserver；
+ * 每处理完窗口一半的消息，向服务端授予相应的额度。调用超时、被取消或连接断开时，通知服务端取消并以异常结束流。
+ * 双向流式调用中，客户端发送的消息由关联的{@link ClientRequestStream}负责
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class ClientCallStream<T> implements StreamObserver<T> {
+    private final RpcClient rpcClient;
+    private final long streamId;
+    private final StreamObserver<T> observer;
+    private final Class<? extends Message> messageType;
+    private final int windowSize;
+    /**
+     * 用户的observer为RpcStream时，额度在消息被取走时授予
+     */
+    private final boolean consumedByIterator;
+    private final SerialExecutor serialExecutor;
+    private volatile Channel channel;
+    private volatile RpcFuture<?> rpcFuture;
+    /**
+     * 双向流式调用中客户端的发送端，服务端流式调用为null
+     */
+    private volatile ClientRequestStream<?> requestStream;
+    /**
+     * 服务端已结束流，之后rpcFuture的完成不再视为异常结束
+     */
+    private volatile boolean closedByServer = false;
+    private boolean closed = false;
+    private int consumed = 0;
+
+    ClientCallStream(RpcClient rpcClient, long streamId, StreamObserver<T> observer, Class<?> messageType
+            , int windowSize) {
+        this.rpcClient = rpcClient;
+        this.streamId = streamId;
+        this.observer = observer;
+        this.messageType = (Class<? extends Message>) messageType;
+        this.windowSize = windowSize;
+        this.serialExecutor = new SerialExecutor(rpcClient.getWorkerThreadPool());
+        this.consumedByIterator = observer instanceof RpcStream;
+        if (consumedByIterator) {
+            ((RpcStream<T>) observer).bind(this);
+        }
+    }
+
+    /**
+     * 绑定调用的RpcFuture，它未经服务端结束流而完成(超时、取消、发送失败、连接断开)时，以异常结束流
+     *
+     * @param rpcFuture
+     */
+    void bind(RpcFuture<?> rpcFuture) {
+        this.rpcFuture = rpcFuture;
+        rpcFuture.addListener(future -> {
+            closeRequestStream();
+            if (closedByServer) {
+                return;
+            }
+            Exception e = future.isCancelled() ? new RpcException("rpc task cancelled.")
+                    : future.getResponse().getException();
+            sendFrame(RpcMeta.StreamMeta.newBuilder(), PacketType.STREAM_CANCEL);
+            onError(e != null ? e : new RpcException("Stream closed unexpectedly."));
+        });
+    }
+
+    void setRequestStream(ClientRequestStream<?> requestStream) {
+        this.requestStream = requestStream;
+    }
+
+    /**
+     * io线程收到一条消息
+     *
+     * @param message
+     * @param channel
+     */
+    void onMessage(Any message, Channel channel) {
+        this.channel = channel;
+        try {
+            onNext((T) message.unpack(messageType));
+        } catch (InvalidProtocolBufferException e) {
+            log.warn("Decode stream message failed, cancel the call.", e);
+            cancel();
+        }
+    }
+
+    /**
+     * io线程收到服务端授予的发送额度
+     *
+     * @param credits
+     */
+    void onCredits(int credits) {
+        ClientRequestStream<?> stream = requestStream;
+        if (stream != null) {
+            stream.addCredits(credits);
+        }
+    }
+
+    /**
+     * io线程收到结束流的响应
+     *
+     * @param response
+     */
+    void onClose(Response response) {
+        closedByServer = true;
+        closeRequestStream();
+        serialExecutor.execute(() -> {
+            finish(response.getException());
+            response.getRpcFuture().handleResponse(response);
+        });
+    }
+
+    @Override
+    public void onNext(T message) {
+        serialExecutor.execute(() -> {
+            if (closed) {
+                return;
+            }
+            try {
+                observer.onNext(message);
+            } catch (Exception e) {
+                log.warn("Exception caught in stream observer, cancel the call.", e);
+                cancel();
+                return;
+            }
+            if (!consumedByIterator) {
+                consumed(1);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        serialExecutor.execute(() -> finish(t));
+    }
+
+    @Override
+    public void onCompleted() {
+        serialExecutor.execute(() -> finish(null));
+    }
+
+    /**
+     * 用户处理完n条消息，累计达到窗口一半时授予服务端额度
+     *
+     * @param n
+     */
+    void consumed(int n) {
+        int credits;
+        synchronized (this) {
+            consumed += n;
+            if (consumed < Math.max(1, windowSize / 2)) {
+                return;
+            }
+            credits = consumed;
+            consumed = 0;
+        }
+        sendFrame(RpcMeta.StreamMeta.newBuilder().setCredits(credits), PacketType.STREAM_CREDIT);
+    }
+
+    void cancel() {
+        RpcFuture<?> future = rpcFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    boolean isClosedByServer() {
+        return closedByServer;
+    }
+
+    private void closeRequestStream() {
+        ClientRequestStream<?> stream = requestStream;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void finish(Throwable t) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (t == null) {
+                observer.onCompleted();
+            } else {
+                observer.onError(t);
+            }
+        } catch (Exception e) {
+            log.warn("Exception caught in stream observer.", e);
+        }
+    }
+
+    /**
+     * @param builder 除streamId外的内容
+     * @param type
+     * @return 连接不可用时返回false
+     */
+    boolean sendFrame(RpcMeta.StreamMeta.Builder builder, PacketType type) {
+        Channel ch = channel;
+        RpcFuture<?> future = rpcFuture;
+        if (ch == null && future != null && future.getChannelInfo() != null) {
+            ch = future.getChannelInfo().getChannel();
+        }
+        if (ch == null || !ch.isActive()) {
+            return false;
+        }
+        ch.writeAndFlush(rpcClient.getProtocol().encodeStreamFrame(type, builder.setStreamId(streamId).build()));
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.PacketType;
+import com.jsj.rpc.protocol.RpcMeta;
+
+/**
+ * 客户端流式与双向流式调用中客户端的发送端，调用方通过它向服务端逐条发送消息
+ * <p>
+ * 服务端开始接收消息后才授予初始额度，每发送一条消息消耗一个额度；额度用尽时onNext阻塞，
+ * 直到服务端授予新的额度、调用结束或超过调用的超时时间。onCompleted为半关闭，之后仍可接收服务端的消息，
+ * onError取消整个调用
+ *
+ * @author jiangshenjie
+ */
+class ClientRequestStream<T> implements StreamObserver<T> {
+    private final ClientCallStream<?> callStream;
+    /**
+     * 调用超时的时间点(ms)
+     */
+    private final long deadline;
+    private int credits = 0;
+    /**
+     * 服务端已授予过额度，即已开始接收消息
+     */
+    private boolean started = false;
+    private boolean halfClosePending = false;
+    private boolean halfClosed = false;
+    private boolean closed = false;
+
+    ClientRequestStream(ClientCallStream<?> callStream, long deadline) {
+        this.callStream = callStream;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void onNext(T message) {
+        synchronized (this) {
+            while (credits <= 0 && !closed && !halfClosed) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new RpcCallException(RpcExceptionType.TIMEOUT_EXCEPTION.getCode()
+                            , "Timed out waiting for stream credits.");
+                }
+                try {
+                    this.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RpcCallException("Interrupted while waiting for stream credits.");
+                }
+            }
+            if (halfClosed || halfClosePending) {
+                throw new IllegalStateException("Stream already half closed.");
+            }
+            if (closed) {
+                throw new RpcCallException("Stream already closed.");
+            }
+            credits--;
+        }
+        RpcMeta.StreamMeta.Builder builder = RpcMeta.StreamMeta.newBuilder().setMessage(Any.pack((Message) message));
+        if (!callStream.sendFrame(builder, PacketType.STREAM_MESSAGE)) {
+            throw new RpcCallException(RpcExceptionType.NETWORK_EXCEPTION.getCode()
+                    , "Connection of the stream is not available.");
+        }
+    }
+
+    /**
+     * 半关闭；服务端尚未开始接收消息时，在收到初始额度后发送
+     */
+    @Override
+    public void onCompleted() {
+        synchronized (this) {
+            if (closed || halfClosed || halfClosePending) {
+                return;
+            }
+            if (!started) {
+                halfClosePending = true;
+                return;
+            }
+            halfClosed = true;
+            this.notifyAll();
+        }
+        callStream.sendFrame(RpcMeta.StreamMeta.newBuilder(), PacketType.STREAM_HALF_CLOSE);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        callStream.cancel();
+    }
+
+    /**
+     * io线程收到服务端授予的额度
+     *
+     * @param n
+     */
+    void addCredits(int n) {
+        boolean sendHalfClose = false;
+        synchronized (this) {
+            started = true;
+            credits += n;
+            if (halfClosePending) {
+                halfClosePending = false;
+                halfClosed = true;
+                sendHalfClose = true;
+            }
+            this.notifyAll();
+        }
+        if (sendHalfClose) {
+            callStream.sendFrame(RpcMeta.StreamMeta.newBuilder(), PacketType.STREAM_HALF_CLOSE);
+        }
+    }
+
+    /**
+     * 调用结束，之后的onNext抛出异常
+     */
+    synchronized void close() {
+        closed = true;
+        this.notifyAll();
+    }
+}
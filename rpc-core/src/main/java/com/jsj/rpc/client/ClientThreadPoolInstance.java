@@ -1,8 +1,11 @@
 package com.jsj.rpc.client;
 
+import com.jsj.rpc.util.BoundedForkJoinPool;
 import com.jsj.rpc.util.NamedThreadFactory;
+import com.jsj.rpc.util.WorkerExecutorType;
 import io.netty.channel.nio.NioEventLoopGroup;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -14,7 +17,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * @author jiangshenjie
  */
 public class ClientThreadPoolInstance {
-    private static ThreadPoolExecutor workThreadPool;
+    private static ExecutorService workThreadPool;
     private static String workThreadPoolName = "rpc-client-work-thread";
     private static Lock workThreadPoolLock = new ReentrantLock();
 
@@ -26,15 +29,18 @@ public class ClientThreadPoolInstance {
     private static String scheduledThreadPoolName = "rpc-client-scheduled-thread";
     private static Lock scheduledThreadPoolLock = new ReentrantLock();
 
-    public static ThreadPoolExecutor getOrCreateWorkThreadPool(int threadNumber, int blockingQueueSize) {
+    public static ExecutorService getOrCreateWorkThreadPool(int threadNumber, int blockingQueueSize) {
+        return getOrCreateWorkThreadPool(WorkerExecutorType.THREAD_POOL, threadNumber, blockingQueueSize);
+    }
+
+    public static ExecutorService getOrCreateWorkThreadPool(WorkerExecutorType executorType
+            , int threadNumber, int blockingQueueSize) {
         if (workThreadPool == null || workThreadPool.isShutdown()) {
             workThreadPoolLock.lock();
             try {
                 if (workThreadPool == null || workThreadPool.isShutdown()) {
-                    workThreadPool = new ThreadPoolExecutor(threadNumber
-                            , threadNumber, 0L, TimeUnit.MILLISECONDS
-                            , new LinkedBlockingDeque<>(blockingQueueSize)
-                            , new NamedThreadFactory(workThreadPoolName, false));
+                    workThreadPool = createWorkThreadPool(executorType, threadNumber
+                            , blockingQueueSize, workThreadPoolName);
                 }
             } finally {
                 workThreadPoolLock.unlock();
@@ -43,6 +49,17 @@ public class ClientThreadPoolInstance {
         return workThreadPool;
     }
 
+    public static ExecutorService createWorkThreadPool(WorkerExecutorType executorType
+            , int threadNumber, int blockingQueueSize, String threadNamePrefix) {
+        if (executorType == WorkerExecutorType.FORK_JOIN) {
+            return new BoundedForkJoinPool(threadNumber, blockingQueueSize, threadNamePrefix);
+        }
+        return new ThreadPoolExecutor(threadNumber
+                , threadNumber, 0L, TimeUnit.MILLISECONDS
+                , new LinkedBlockingDeque<>(blockingQueueSize)
+                , new NamedThreadFactory(threadNamePrefix, false));
+    }
+
     public static NioEventLoopGroup getOrCreateIoThreadPool(int threadNumber) {
         if (ioEventLoopGroup == null || ioEventLoopGroup.isShutdown()) {
             ioEventLoopGroupLock.lock();
@@ -65,6 +82,8 @@ public class ClientThreadPoolInstance {
                 if (scheduledThreadPool == null || scheduledThreadPool.isShutdown()) {
                     scheduledThreadPool = new ScheduledThreadPoolExecutor(threadNumber
                             , new NamedThreadFactory(scheduledThreadPoolName, false));
+                    //请求完成后会取消超时任务，及时从队列中移除
+                    scheduledThreadPool.setRemoveOnCancelPolicy(true);
                 }
             } finally {
                 scheduledThreadPoolLock.unlock();
@@ -0,0 +1,165 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.RpcFile;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.util.SerialExecutor;
+import io.netty.buffer.ByteBuf;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 接收返回RpcFile的调用随响应而来的FILE_DATA报文，写入本地临时文件，不在堆中拼接整个文件
+ * <p>
+ * io线程只负责计数，文件的创建与写入在业务线程池中串行执行；全部写入后以RpcFile完成调用，
+ * 调用在此之前结束(超时、取消)或连接断开时删除临时文件
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class FileReceiver {
+    private final RpcClient rpcClient;
+    private final Response response;
+    private final RpcFuture<?> rpcFuture;
+    private final long length;
+    private final SerialExecutor serialExecutor;
+    /**
+     * 只在io线程访问
+     */
+    private long received = 0L;
+
+    private Path path;
+    private FileChannel fileChannel;
+    /**
+     * 已结束(完成或失败)，之后的数据直接丢弃
+     */
+    private volatile boolean finished = false;
+
+    FileReceiver(RpcClient rpcClient, Response response) {
+        this.rpcClient = rpcClient;
+        this.response = response;
+        this.rpcFuture = response.getRpcFuture();
+        this.length = response.getFileLength();
+        this.serialExecutor = new SerialExecutor(rpcClient.getWorkerThreadPool());
+        serialExecutor.execute(this::open);
+        rpcFuture.addListener(future -> {
+            if (!finished) {
+                fail(new RpcException("Rpc task finished before file received."));
+            }
+        });
+    }
+
+    /**
+     * io线程收到一个FILE_DATA报文的数据
+     *
+     * @param data
+     * @return 已收到全部数据或已失败
+     */
+    boolean onData(ByteBuf data) {
+        received += data.readableBytes();
+        ByteBuf retained = data.retain();
+        serialExecutor.execute(() -> {
+            try {
+                write(retained);
+            } finally {
+                retained.release();
+            }
+        });
+        return received >= length || finished;
+    }
+
+    /**
+     * @param e
+     */
+    void fail(Exception e) {
+        serialExecutor.execute(() -> {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            closeFile();
+            deleteFile();
+            rpcClient.handleErrorResponse(rpcFuture, e);
+        });
+    }
+
+    private void open() {
+        try {
+            String directory = rpcClient.getClientOptions().getFileDirectory();
+            path = Files.createTempFile(Paths.get(directory), "rpc-", ".tmp");
+            fileChannel = FileChannel.open(path, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            log.warn("Create file for request: {} failed.", response.getRequestId(), e);
+            finished = true;
+            deleteFile();
+            rpcClient.handleErrorResponse(rpcFuture, new RpcException("Create file failed: " + e.getMessage()));
+            return;
+        }
+        if (length == 0) {
+            complete();
+        }
+    }
+
+    private void write(ByteBuf data) {
+        if (finished) {
+            return;
+        }
+        try {
+            for (ByteBuffer buffer : data.nioBuffers()) {
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
+            }
+            if (fileChannel.position() >= length) {
+                complete();
+            }
+        } catch (IOException e) {
+            log.warn("Write file for request: {} failed.", response.getRequestId(), e);
+            finished = true;
+            closeFile();
+            deleteFile();
+            rpcClient.handleErrorResponse(rpcFuture, new RpcException("Write file failed: " + e.getMessage()));
+        }
+    }
+
+    private void complete() {
+        finished = true;
+        closeFile();
+        response.setResult(new RpcFile(path.toFile(), 0L, length));
+        rpcFuture.handleResponse(response);
+        if (rpcFuture.getResponse() != response) {
+            //调用已被其他结果完成
+            deleteFile();
+        }
+    }
+
+    private void closeFile() {
+        if (fileChannel == null) {
+            return;
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            log.warn("Close file: {} failed.", path, e);
+        }
+    }
+
+    private void deleteFile() {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Delete file: {} failed.", path, e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcFutureListener;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.util.LatencyPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次对冲调用：原始请求在对冲延迟内未返回时，向其他节点发送副本，
+ * 以最先返回的成功响应作为结果，其余请求被取消。
+ * 对冲请求在worker线程池中发送，发送时可能阻塞于建立连接与写出，不占用定时线程；
+ * 被取消的落后请求按取消时已等待的时间计入延迟统计，慢请求因此不会从p95中消失
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class HedgedCall<T> implements RpcFutureListener {
+    private static final double HEDGE_QUANTILE = 0.95D;
+
+    private final RpcClient rpcClient;
+    private final Request request;
+    private final RpcMethodOptions methodOptions;
+    private final LatencyPercentile latencies;
+    private final RpcFuture<T> result;
+    private final long deadline;
+
+    private final List<RpcFuture<?>> attempts = new ArrayList<>();
+    private int attemptCount = 0;
+    private int outstanding = 0;
+    private boolean finished = false;
+    private ScheduledFuture<?> hedgeTask;
+
+    HedgedCall(RpcClient rpcClient, Request request, RpcMethodOptions methodOptions, LatencyPercentile latencies) {
+        this.rpcClient = rpcClient;
+        this.request = request;
+        this.methodOptions = methodOptions;
+        this.latencies = latencies;
+        this.result = RpcFuture.createRpcFuture(request);
+        this.deadline = System.currentTimeMillis() + request.getTaskTimeoutMills();
+    }
+
+    RpcFuture<T> start() {
+        result.addListener(future -> {
+            if (future.isCancelled()) {
+                finish(null);
+            }
+        });
+        sendAttempt();
+        scheduleHedge();
+        return result;
+    }
+
+    private void scheduleHedge() {
+        long delayNanos = methodOptions.getHedgeDelayMillis() > 0
+                ? TimeUnit.MILLISECONDS.toNanos(methodOptions.getHedgeDelayMillis())
+                : latencies.getPercentile(HEDGE_QUANTILE);
+        synchronized (this) {
+            //延迟统计样本不足，或剩余时间不足以等待对冲请求时，不再对冲
+            if (finished || delayNanos < 0L || attemptCount >= methodOptions.getMaxHedgedAttempts()
+                    || System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(delayNanos) >= deadline) {
+                return;
+            }
+            hedgeTask = rpcClient.getScheduledThreadPool()
+                    .schedule(this::submitHedge, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void submitHedge() {
+        try {
+            rpcClient.getWorkerThreadPool().execute(this::hedge);
+        } catch (RejectedExecutionException e) {
+            log.debug("Worker thread pool is busy, skip hedging request: {}.", request.getRequestId());
+        }
+    }
+
+    private void hedge() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+        }
+        if (!rpcClient.getHedgeBudget().tryAcquire()) {
+            log.debug("Hedge budget exhausted, skip hedging request: {}.", request.getRequestId());
+            return;
+        }
+        sendAttempt();
+        scheduleHedge();
+    }
+
+    private void sendAttempt() {
+        int remainingMillis = (int) (deadline - System.currentTimeMillis());
+        List<RpcChannel> excluded = new ArrayList<>();
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            for (RpcFuture<?> attempt : attempts) {
+                if (attempt.getRpcChannel() != null) {
+                    excluded.add(attempt.getRpcChannel());
+                }
+            }
+            attemptCount++;
+            outstanding++;
+        }
+        Request attemptRequest = rpcClient.copyRequest(request).setTaskTimeoutMills(Math.max(1, remainingMillis));
+        RpcFuture<?> attempt = rpcClient.sendRequest(attemptRequest, excluded);
+        boolean cancel;
+        synchronized (this) {
+            attempts.add(attempt);
+            cancel = finished;
+        }
+        if (cancel) {
+            attempt.cancel(false);
+        }
+        attempt.addListener(this);
+    }
+
+    @Override
+    public void operationComplete(RpcFuture<?> attempt) {
+        if (attempt.isCancelled()) {
+            return;
+        }
+        Response response = attempt.getResponse();
+        boolean success = response.getException() == null;
+        if (success) {
+            latencies.record(System.nanoTime() - attempt.getStartNanos());
+        }
+        synchronized (this) {
+            outstanding--;
+            //失败时若仍有请求未返回，等待其结果
+            if (finished || (!success && outstanding > 0)) {
+                return;
+            }
+        }
+        finish(attempt);
+    }
+
+    /**
+     * 结束本次调用，取消其余请求
+     *
+     * @param winner 作为结果的请求，调用方取消时为null
+     */
+    private void finish(RpcFuture<?> winner) {
+        List<RpcFuture<?>> losers = new ArrayList<>();
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (hedgeTask != null) {
+                hedgeTask.cancel(false);
+            }
+            for (RpcFuture<?> attempt : attempts) {
+                if (attempt != winner) {
+                    losers.add(attempt);
+                }
+            }
+        }
+        long now = System.nanoTime();
+        for (RpcFuture<?> loser : losers) {
+            //落后的请求至少需要这么久，不计入会使延迟统计偏低
+            if (loser.cancel(false) && winner != null) {
+                latencies.record(now - loser.getStartNanos());
+            }
+        }
+        if (winner == null) {
+            return;
+        }
+        rpcClient.forwardResponse(result, winner.getResponse());
+    }
+}
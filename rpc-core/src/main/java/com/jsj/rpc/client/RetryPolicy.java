@@ -0,0 +1,71 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 单个rpc方法的重试策略
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class RetryPolicy {
+    /**
+     * max attempts of one call including the original request
+     */
+    private int maxAttempts = 3;
+    /**
+     * (ms) timeout of each attempt, 0 to let one attempt use up the whole rpcTaskTimeoutMillis,
+     * must be set to retry timed out requests
+     */
+    private int perAttemptTimeoutMillis = 0;
+    /**
+     * only failures of these types are retried, add TIMEOUT_EXCEPTION or SERVICE_EXCEPTION for idempotent methods
+     */
+    private Set<RpcExceptionType> retriableExceptionTypes
+            = EnumSet.of(RpcExceptionType.NETWORK_EXCEPTION, RpcExceptionType.OVERLOAD_EXCEPTION);
+    /**
+     * backoff before the first retry, multiplied on each retry
+     */
+    private int initialBackoffMillis = 20;
+    private int maxBackoffMillis = 1000;
+    private double backoffMultiplier = 2.0D;
+    /**
+     * retry on endpoints other than the failed ones if possible
+     */
+    private boolean retryOnDifferentEndpoint = true;
+
+    public boolean isRetriable(Exception e) {
+        if (!(e instanceof RpcException)) {
+            return false;
+        }
+        return retriableExceptionTypes.contains(RpcExceptionType.valueOf(((RpcException) e).getCode()));
+    }
+
+    /**
+     * 指数退避加全随机抖动，服务端给出retryAfterMillis时至少等待该时间
+     *
+     * @param retryCount 第几次重试，从1开始
+     * @param e          上次请求的异常
+     * @return
+     */
+    public long getBackoffMillis(int retryCount, Exception e) {
+        double ceiling = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(backoffMultiplier, retryCount - 1));
+        long backoff = (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+        if (e instanceof RpcException) {
+            backoff = Math.max(backoff, ((RpcException) e).getRetryAfterMillis());
+        }
+        return backoff;
+    }
+}
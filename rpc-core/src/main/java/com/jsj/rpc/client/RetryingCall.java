@@ -0,0 +1,102 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcFutureListener;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次带重试的调用：请求失败且异常可重试时，退避后重新发送，所有尝试共享原始请求的超时时间
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class RetryingCall<T> implements RpcFutureListener {
+    private final RpcClient rpcClient;
+    private final Request request;
+    private final RetryPolicy retryPolicy;
+    private final RpcFuture<T> result;
+    private final long deadline;
+    /**
+     * 已失败的节点，重试时尽量避开
+     */
+    private final List<RpcChannel> failedChannels = new ArrayList<>();
+    private int attemptCount = 0;
+    private volatile RpcFuture<?> currentAttempt;
+
+    RetryingCall(RpcClient rpcClient, Request request, RetryPolicy retryPolicy) {
+        this.rpcClient = rpcClient;
+        this.request = request;
+        this.retryPolicy = retryPolicy;
+        this.result = RpcFuture.createRpcFuture(request);
+        this.deadline = System.currentTimeMillis() + request.getTaskTimeoutMills();
+    }
+
+    RpcFuture<T> start() {
+        result.addListener(future -> {
+            RpcFuture<?> attempt = currentAttempt;
+            if (future.isCancelled() && attempt != null) {
+                attempt.cancel(false);
+            }
+        });
+        sendAttempt();
+        return result;
+    }
+
+    private void sendAttempt() {
+        if (result.isDone()) {
+            return;
+        }
+        int timeoutMillis = Math.max(1, (int) (deadline - System.currentTimeMillis()));
+        if (retryPolicy.getPerAttemptTimeoutMillis() > 0) {
+            timeoutMillis = Math.min(timeoutMillis, retryPolicy.getPerAttemptTimeoutMillis());
+        }
+        Request attemptRequest = rpcClient.copyRequest(request).setTaskTimeoutMills(timeoutMillis);
+        attemptCount++;
+        RpcFuture<?> attempt = rpcClient.sendRequest(attemptRequest, failedChannels);
+        currentAttempt = attempt;
+        if (result.isCancelled()) {
+            attempt.cancel(false);
+        }
+        attempt.addListener(this);
+    }
+
+    @Override
+    public void operationComplete(RpcFuture<?> attempt) {
+        if (attempt.isCancelled()) {
+            return;
+        }
+        Response response = attempt.getResponse();
+        Exception exception = response.getException();
+        if (exception == null || !shouldRetry(exception)) {
+            rpcClient.forwardResponse(result, response);
+            return;
+        }
+        long backoffMillis = retryPolicy.getBackoffMillis(attemptCount, exception);
+        if (System.currentTimeMillis() + backoffMillis >= deadline) {
+            rpcClient.forwardResponse(result, response);
+            return;
+        }
+        if (!rpcClient.getRetryBudget().tryAcquire()) {
+            log.debug("Retry budget exhausted, give up retrying request: {}.", request.getRequestId());
+            rpcClient.forwardResponse(result, response);
+            return;
+        }
+        if (retryPolicy.isRetryOnDifferentEndpoint() && attempt.getRpcChannel() != null) {
+            failedChannels.add(attempt.getRpcChannel());
+        }
+        log.debug("Retry request: {} after {}ms, attempt: {}, cause: {}."
+                , request.getRequestId(), backoffMillis, attemptCount + 1, exception.getMessage());
+        rpcClient.getScheduledThreadPool().schedule(this::sendAttempt, backoffMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean shouldRetry(Exception exception) {
+        return attemptCount < retryPolicy.getMaxAttempts() && retryPolicy.isRetriable(exception);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcMethodDetail;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量调用：多个调用(可以是不同方法)作为一个报文发送，在服务端并行执行后一次返回，
+ * 整批只占用一个未完成请求数许可、一个超时任务。各调用的结果通过add返回的RpcFuture获取
+ * <pre>
+ *     RpcBatch batch = rpcClient.newBatch();
+ *     RpcFuture&lt;HelloResponse&gt; f1 = batch.add("sayHello", request1);
+ *     RpcFuture&lt;HelloResponse&gt; f2 = batch.add("sayHello", request2);
+ *     batch.send();
+ *     f1.get();
+ * </pre>
+ *
+ * @author jiangshenjie
+ */
+public class RpcBatch {
+    private final RpcClient rpcClient;
+    private final List<Request> requests = new ArrayList<>();
+    private final List<RpcFuture<?>> rpcFutures = new ArrayList<>();
+    private boolean sent = false;
+
+    RpcBatch(RpcClient rpcClient) {
+        this.rpcClient = rpcClient;
+    }
+
+    /**
+     * @param methodName 服务接口中的同步方法名，不能是流式方法
+     * @param params
+     * @return 批量请求完成后完成
+     */
+    public <T> RpcFuture<T> add(String methodName, Object... params) {
+        if (sent) {
+            throw new RpcCallException("batch has been sent");
+        }
+        Method method = rpcClient.getServiceMethod(methodName);
+        if (method == null) {
+            throw new RpcCallException(String.format("method %s not found in service interface", methodName));
+        }
+        if (RpcMethodDetail.isStreaming(method)) {
+            throw new RpcCallException(String.format("streaming method %s is not supported in batch", methodName));
+        }
+        Request request = rpcClient.buildRequest(method, null, params);
+        RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+        requests.add(request);
+        rpcFutures.add(rpcFuture);
+        return rpcFuture;
+    }
+
+    /**
+     * 发送批量请求，不阻塞
+     *
+     * @return 批量请求的RpcFuture，结果为各调用的Response列表
+     */
+    public RpcFuture<List<Response>> send() {
+        if (sent) {
+            throw new RpcCallException("batch has been sent");
+        }
+        sent = true;
+        return rpcClient.sendBatch(requests, rpcFutures);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+}
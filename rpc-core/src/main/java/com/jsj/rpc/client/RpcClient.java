@@ -1,30 +1,52 @@
 package com.jsj.rpc.client;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
 import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcMethodDetail;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.client.cache.ResponseCacheOptions;
 import com.jsj.rpc.client.channel.RpcChannel;
-import com.jsj.rpc.client.channel.RpcPooledChannel;
+import com.jsj.rpc.client.channel.RpcMultiplexedChannel;
 import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.limiter.InflightLimiter;
 import com.jsj.rpc.codec.BaseDecoder;
 import com.jsj.rpc.codec.BaseEncoder;
+import com.jsj.rpc.codec.ChunkedPacketWriter;
 import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.BatchRequest;
 import com.jsj.rpc.protocol.ProtocolManager;
 import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.RequestPriority;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.util.LatencyPercentile;
+import com.jsj.rpc.util.LruCache;
 import com.jsj.rpc.util.NamedThreadFactory;
+import com.jsj.rpc.util.ParamsKey;
+import com.jsj.rpc.util.TokenBudget;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -35,11 +57,45 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 @Getter
 public class RpcClient extends AbstractRpcClient {
+    /**
+     * 计算对冲延迟时保留的最近样本数，样本不足时不对冲
+     */
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    /**
+     * 批量请求的方法名，用于统计与熔断，不对应服务接口中的方法
+     */
+    public static final String BATCH_METHOD_NAME = "$batch";
+
     protected Bootstrap bootstrap;
 
     protected Class<?> serviceInterface;
 
     private AtomicLong requestIdCounter;
+    /**
+     * 限制对冲请求占总请求的比例
+     */
+    private TokenBudget hedgeBudget;
+    /**
+     * 限制重试请求占总请求的比例
+     */
+    private TokenBudget retryBudget;
+    /**
+     * 未设置maxInflightRequests时为null
+     */
+    private InflightLimiter inflightLimiter;
+    /**
+     * 开启对冲的方法的延迟统计，key为方法名
+     */
+    private final Map<String, LatencyPercentile> methodLatencies = new ConcurrentHashMap<>();
+    /**
+     * 开启响应缓存的方法的缓存，key为方法名，可从中获取命中率等统计
+     */
+    private final Map<String, LruCache<ByteString, Object>> responseCaches = new ConcurrentHashMap<>();
+    /**
+     * 开启请求合并的方法正在进行的请求，key为方法名，value的key为参数序列化后的字节
+     */
+    private final Map<String, ConcurrentMap<ByteString, RpcFuture<Object>>> coalescedCalls = new ConcurrentHashMap<>();
 
     public RpcClient(Endpoint endpoint) {
         this(endpoint, new RpcClientOptions());
@@ -53,15 +109,386 @@ public class RpcClient extends AbstractRpcClient {
         return RpcProxy.getProxy(rpcClient, clazz);
     }
 
+    /**
+     * 创建批量调用，需先通过getProxy设置服务接口
+     *
+     * @return
+     */
+    public RpcBatch newBatch() {
+        if (serviceInterface == null) {
+            throw new RpcCallException("serviceInterface is not set, please call getProxy first");
+        }
+        return new RpcBatch(this);
+    }
+
+    /**
+     * @param methodName
+     * @return 服务接口中的同名方法，不存在时返回null
+     */
+    protected Method getServiceMethod(String methodName) {
+        for (Method method : serviceInterface.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将多个请求合并为一个批量请求发送，以各请求的响应完成对应的RpcFuture
+     *
+     * @param requests
+     * @param rpcFutures 与requests一一对应
+     * @return 批量请求的RpcFuture
+     */
+    protected RpcFuture<List<Response>> sendBatch(List<Request> requests, List<RpcFuture<?>> rpcFutures) {
+        //空的批量请求没有可取的超时时间，使用默认值
+        int taskTimeoutMillis = requests.isEmpty() ? clientOptions.getRpcTaskTimeoutMillis() : 0;
+        for (Request request : requests) {
+            taskTimeoutMillis = Math.max(taskTimeoutMillis, request.getTaskTimeoutMills());
+        }
+        BatchRequest batchRequest = protocol.createBatchRequest(requests);
+        batchRequest.setRequestId(requestIdCounter.getAndIncrement())
+                .setServiceName(serviceInterface.getName())
+                .setMethodName(BATCH_METHOD_NAME)
+                .setWriteTimeoutMillis(clientOptions.getWriteTimeoutMillis())
+                .setTaskTimeoutMills(taskTimeoutMillis);
+        RpcFuture<List<Response>> batchFuture = sendRequestWithinLimit(batchRequest);
+        batchFuture.addListener(future -> {
+            Response batchResponse = future.getResponse();
+            Exception exception = future.isCancelled() ? new RpcException("rpc task cancelled.")
+                    : batchResponse.getException();
+            Map<Long, Response> responses = new HashMap<>(requests.size());
+            if (exception == null) {
+                for (Response response : (List<Response>) batchResponse.getResult()) {
+                    responses.put(response.getRequestId(), response);
+                }
+            }
+            for (RpcFuture<?> rpcFuture : rpcFutures) {
+                Response response = responses.get(rpcFuture.getRequest().getRequestId());
+                if (response != null) {
+                    forwardResponse(rpcFuture, response);
+                } else {
+                    handleErrorResponse(rpcFuture, exception != null ? exception
+                            : new RpcException("Response not found in batch response."));
+                }
+            }
+        });
+        return batchFuture;
+    }
+
+    /**
+     * 发起服务端流式调用，消息按序交给observer，返回的RpcFuture在流结束时完成
+     * <p>
+     * 流式调用是长连接上的长时间调用，不占用未完成请求数许可，也不参与缓存、合并、对冲与重试；
+     * 整个流的时长受方法的streamTimeoutMillis限制，未配置时使用rpcTaskTimeoutMillis
+     *
+     * @param request
+     * @param observer
+     * @return
+     */
+    protected <T> RpcFuture<Void> sendStreamingRequest(Request request, StreamObserver<T> observer) {
+        Class<?> messageType = RpcMethodDetail.getStreamMessageType(request.getMethod());
+        int windowSize = Math.max(1, clientOptions.getStreamWindowSize());
+        ClientCallStream<T> stream = new ClientCallStream<>(this, request.getRequestId(), observer
+                , messageType, windowSize);
+        request.setStreamObserver(stream).setStreamCredits(windowSize);
+        RpcFuture<Void> rpcFuture = super.sendRequest(request);
+        stream.bind(rpcFuture);
+        return rpcFuture;
+    }
+
+    /**
+     * 发起客户端流式或双向流式调用，返回用于发送消息的observer，服务端的消息按序交给responseObserver
+     * <p>
+     * 与服务端流式调用相同，不经过未完成请求数限制、缓存、合并、对冲与重试，整个流的时长受streamTimeoutMillis限制
+     *
+     * @param request
+     * @param responseObserver
+     * @return
+     */
+    protected <Req, Resp> StreamObserver<Req> sendBidiStreamingRequest(Request request
+            , StreamObserver<Resp> responseObserver) {
+        Class<?> messageType = RpcMethodDetail.getStreamMessageType(request.getMethod());
+        int windowSize = Math.max(1, clientOptions.getStreamWindowSize());
+        ClientCallStream<Resp> stream = new ClientCallStream<>(this, request.getRequestId(), responseObserver
+                , messageType, windowSize);
+        long deadline = request.getTaskTimeoutMills() > 0
+                ? System.currentTimeMillis() + request.getTaskTimeoutMills() : Long.MAX_VALUE;
+        ClientRequestStream<Req> requestStream = new ClientRequestStream<>(stream, deadline);
+        stream.setRequestStream(requestStream);
+        request.setStreamObserver(stream).setStreamCredits(windowSize);
+        stream.bind(super.sendRequest(request));
+        return requestStream;
+    }
+
     protected <T> Request buildRequest(Method method
             , RpcCallback<T> callback, Object[] args) {
+        RpcMethodOptions methodOptions = clientOptions.getMethodOptions(method.getName());
+        int priority = methodOptions == null
+                ? RequestPriority.NORMAL.getValue() : methodOptions.getPriority();
+        int taskTimeoutMillis = clientOptions.getRpcTaskTimeoutMillis();
+        if (methodOptions != null && methodOptions.getStreamTimeoutMillis() > 0
+                && RpcMethodDetail.isStreaming(method)) {
+            taskTimeoutMillis = methodOptions.getStreamTimeoutMillis();
+        }
+        //调用级别的配置优先于方法级别，且只对本次调用生效
+        RpcContext context = RpcContext.getContext();
+        if (context.getPriority() != null) {
+            priority = context.getPriority();
+        }
+        RpcContext.removeContext();
         return protocol.createRequest()
                 .setRequestId(requestIdCounter.getAndIncrement())
                 .setServiceName(serviceInterface.getName())
                 .setCallback(callback)
                 .setMethod(method)
                 .setMethodName(method.getName())
-                .setParams(args);
+                .setParams(args)
+                .setWriteTimeoutMillis(clientOptions.getWriteTimeoutMillis())
+                .setTaskTimeoutMills(taskTimeoutMillis)
+                .setPriority(priority);
+    }
+
+    /**
+     * 复制请求，分配新的requestId，用于对冲、重试等需要重新发送的场景
+     *
+     * @param origin
+     * @return 不带回调的新请求
+     */
+    protected Request copyRequest(Request origin) {
+        return protocol.createRequest()
+                .setRequestId(requestIdCounter.getAndIncrement())
+                .setServiceName(origin.getServiceName())
+                .setMethod(origin.getMethod())
+                .setMethodName(origin.getMethodName())
+                .setParams(origin.getParams())
+                .setWriteTimeoutMillis(origin.getWriteTimeoutMillis())
+                .setTaskTimeoutMills(origin.getTaskTimeoutMills())
+                .setPriority(origin.getPriority());
+    }
+
+    @Override
+    public <T> RpcFuture<T> sendRequest(Request request) {
+        RpcMethodOptions methodOptions = clientOptions.getMethodOptions(request.getMethodName());
+        if (methodOptions == null) {
+            return sendRequestWithinLimit(request);
+        }
+        if (methodOptions.getResponseCacheOptions() != null) {
+            return sendRequestWithCache(request, methodOptions);
+        }
+        if (methodOptions.isCoalesceEnabled()) {
+            return sendRequestCoalesced(request, ParamsKey.of(request.getParams()));
+        }
+        return sendRequestWithinLimit(request);
+    }
+
+    /**
+     * 命中缓存时直接返回已完成的RpcFuture，不发出请求；未命中时发送请求并缓存成功的结果。
+     * 缓存按结果的序列化大小计算占用，只支持返回protobuf消息的方法
+     *
+     * @param request
+     * @param methodOptions
+     * @return
+     */
+    private <T> RpcFuture<T> sendRequestWithCache(Request request, RpcMethodOptions methodOptions) {
+        Method method = request.getMethod();
+        if (method != null && !Message.class.isAssignableFrom(method.getReturnType())) {
+            throw new RpcCallException(String.format("Response cache only supports methods returning protobuf message"
+                    + ", method: %s returns %s.", method.getName(), method.getReturnType().getName()));
+        }
+        ResponseCacheOptions cacheOptions = methodOptions.getResponseCacheOptions();
+        LruCache<ByteString, Object> cache = responseCaches.computeIfAbsent(request.getMethodName()
+                , name -> new LruCache<>(cacheOptions.getMaxEntries(), cacheOptions.getMaxBytes()
+                        , cacheOptions.getTtlMillis(), (key, value) -> key.size() + ((Message) value).getSerializedSize()));
+        ByteString key = ParamsKey.of(request.getParams());
+        Object cached = cache.get(key);
+        if (cached != null) {
+            RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+            Response response = protocol.createResponse();
+            response.setRequestId(request.getRequestId());
+            response.setRpcFuture(rpcFuture);
+            response.setResult(cached);
+            rpcFuture.handleResponse(response);
+            return rpcFuture;
+        }
+        RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+        Request actualRequest = copyRequest(request);
+        RpcFuture<Object> actual = methodOptions.isCoalesceEnabled()
+                ? sendRequestCoalesced(actualRequest, key) : sendRequestWithinLimit(actualRequest);
+        //先写缓存再完成调用方的RpcFuture，调用方拿到结果之后的相同调用一定命中
+        actual.addListener(future -> {
+            if (future.isCancelled()) {
+                handleErrorResponse(rpcFuture, new RpcException("rpc task cancelled."));
+                return;
+            }
+            Response response = future.getResponse();
+            if (response.getException() == null && response.getResult() != null) {
+                cache.put(key, response.getResult());
+            }
+            forwardResponse(rpcFuture, response);
+        });
+        rpcFuture.addListener(future -> {
+            if (future.isCancelled()) {
+                actual.cancel(false);
+            }
+        });
+        return rpcFuture;
+    }
+
+    /**
+     * 同一方法参数字节完全相同的并发调用共用一个请求：第一个调用发出请求，之后的调用加入等待，
+     * 各调用方的RpcFuture由该请求的响应完成。调用方取消自己的RpcFuture不影响共用的请求
+     *
+     * @param request
+     * @param key     参数序列化后的字节
+     * @return
+     */
+    private <T> RpcFuture<T> sendRequestCoalesced(Request request, ByteString key) {
+        ConcurrentMap<ByteString, RpcFuture<Object>> calls = coalescedCalls.computeIfAbsent(request.getMethodName()
+                , name -> new ConcurrentHashMap<>());
+        RpcFuture<Object> shared;
+        while (true) {
+            RpcFuture<Object> created = RpcFuture.createRpcFuture(copyRequest(request));
+            shared = calls.computeIfAbsent(key, k -> {
+                //发出请求前挂上移除监听，完成时只移除自身，之后到达的调用发出新的请求
+                created.addListener(future -> calls.remove(key, future));
+                return created;
+            });
+            if (shared == created) {
+                sendSharedRequest(shared);
+                break;
+            }
+            if (!shared.isDone()) {
+                log.debug("Rpc request: {} joined outstanding request: {}."
+                        , request.getRequestId(), shared.getRequest().getRequestId());
+                break;
+            }
+            //已完成但尚未移除的请求不再加入，避免拿到发起于本次调用之前的结果
+            calls.remove(key, shared);
+        }
+        RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+        shared.addListener(future -> forwardResponse(rpcFuture, future.getResponse()));
+        return rpcFuture;
+    }
+
+    private void sendSharedRequest(RpcFuture<Object> shared) {
+        RpcFuture<?> actual = sendRequestWithinLimit(shared.getRequest());
+        actual.addListener(future -> {
+            if (future.isCancelled()) {
+                handleErrorResponse(shared, new RpcException("rpc task cancelled."));
+            } else {
+                forwardResponse(shared, future.getResponse());
+            }
+        });
+    }
+
+    /**
+     * 按inflightLimitMode获取未完成请求数许可后发送
+     *
+     * @param request
+     * @return
+     */
+    private <T> RpcFuture<T> sendRequestWithinLimit(Request request) {
+        if (inflightLimiter == null) {
+            return dispatchRequest(request);
+        }
+        try {
+            switch (clientOptions.getInflightLimitMode()) {
+                case ASYNC:
+                    return sendRequestAsync(request);
+                case FAIL_FAST:
+                    if (!inflightLimiter.tryAcquire()) {
+                        return failedRpcFuture(request, inflightLimitExceeded());
+                    }
+                    break;
+                case BLOCK:
+                default:
+                    if (!inflightLimiter.acquire(request.getTaskTimeoutMills())) {
+                        return failedRpcFuture(request, inflightLimitExceeded());
+                    }
+                    break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failedRpcFuture(request, new RpcException("Interrupted while waiting for inflight permit.", e));
+        }
+        RpcFuture<T> rpcFuture = dispatchRequest(request);
+        rpcFuture.addListener(future -> inflightLimiter.release());
+        return rpcFuture;
+    }
+
+    /**
+     * 请求在队列中等待许可，调用线程不阻塞；排队时间计入请求超时
+     *
+     * @param request
+     * @return
+     */
+    private <T> RpcFuture<T> sendRequestAsync(Request request) {
+        RpcFuture<T> result = RpcFuture.createRpcFuture(request);
+        long deadline = System.currentTimeMillis() + request.getTaskTimeoutMills();
+        boolean accepted = inflightLimiter.acquireAsync(() -> {
+            int remainingMillis = (int) (deadline - System.currentTimeMillis());
+            if (result.isDone() || remainingMillis <= 0) {
+                inflightLimiter.release();
+                return;
+            }
+            RpcFuture<?> actual = dispatchRequest(copyRequest(request).setTaskTimeoutMills(remainingMillis));
+            actual.addListener(future -> {
+                inflightLimiter.release();
+                if (!future.isCancelled()) {
+                    forwardResponse(result, future.getResponse());
+                }
+            });
+            result.addListener(future -> {
+                if (future.isCancelled()) {
+                    actual.cancel(false);
+                }
+            });
+        }, e -> handleErrorResponse(result, new RpcException("Inflight request task rejected.", e
+                , RpcExceptionType.INFLIGHT_LIMIT_EXCEPTION.getCode())));
+        if (!accepted) {
+            handleErrorResponse(result, inflightLimitExceeded());
+        } else if (!result.isDone()) {
+            scheduleTimeoutTask(result);
+        }
+        return result;
+    }
+
+    private <T> RpcFuture<T> failedRpcFuture(Request request, Exception e) {
+        RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+        handleErrorResponse(rpcFuture, e);
+        return rpcFuture;
+    }
+
+    private RpcException inflightLimitExceeded() {
+        return new RpcException(String.format("Too many inflight requests, max: %d."
+                , clientOptions.getMaxInflightRequests()), RpcExceptionType.INFLIGHT_LIMIT_EXCEPTION.getCode());
+    }
+
+    /**
+     * 按方法配置以对冲、重试或单次方式发送
+     *
+     * @param request
+     * @return
+     */
+    private <T> RpcFuture<T> dispatchRequest(Request request) {
+        hedgeBudget.deposit();
+        retryBudget.deposit();
+        RpcMethodOptions methodOptions = clientOptions.getMethodOptions(request.getMethodName());
+        if (methodOptions == null) {
+            return super.sendRequest(request);
+        }
+        if (methodOptions.isHedgeEnabled()) {
+            LatencyPercentile latencies = methodLatencies.computeIfAbsent(request.getMethodName()
+                    , name -> new LatencyPercentile(LATENCY_WINDOW_SIZE, MIN_LATENCY_SAMPLES));
+            return new HedgedCall<T>(this, request, methodOptions, latencies).start();
+        }
+        RetryPolicy retryPolicy = methodOptions.getRetryPolicy();
+        if (retryPolicy != null && retryPolicy.getMaxAttempts() > 1) {
+            return new RetryingCall<T>(this, request, retryPolicy).start();
+        }
+        return super.sendRequest(request);
     }
 
     protected void setServiceInterface(Class<?> clazz) {
@@ -77,7 +504,7 @@ public class RpcClient extends AbstractRpcClient {
     }
 
     @Override
-    protected void processChannelAfterSendRequest(Channel channel) {
+    protected void processChannelAfterSendRequest(RpcChannel rpcChannel, Channel channel) {
         rpcChannel.returnChannel(channel);
     }
 
@@ -85,6 +512,8 @@ public class RpcClient extends AbstractRpcClient {
     protected void init() {
         isStop = new AtomicBoolean(false);
         requestIdCounter = new AtomicLong(0L);
+        hedgeBudget = new TokenBudget(clientOptions.getHedgeBudgetPercent(), clientOptions.getHedgeBudgetMaxTokens());
+        retryBudget = new TokenBudget(clientOptions.getRetryBudgetPercent(), clientOptions.getRetryBudgetMaxTokens());
         protocol = ProtocolManager.getInstance().getProtocol(clientOptions.getProtocolType());
         if (clientOptions.isGlobalThreadPoolSharing()) {
             workerGroup = ClientThreadPoolInstance
@@ -92,17 +521,23 @@ public class RpcClient extends AbstractRpcClient {
             scheduledThreadPool = ClientThreadPoolInstance
                     .getOrCreateScheduledThreadPool(clientOptions.getWorkerThreadNumber());
             workerThreadPool = ClientThreadPoolInstance
-                    .getOrCreateWorkThreadPool(clientOptions.getWorkerThreadNumber()
-                    , clientOptions.getWorkerThreadPoolQueueSize());
+                    .getOrCreateWorkThreadPool(clientOptions.getWorkerExecutorType()
+                            , clientOptions.getWorkerThreadNumber()
+                            , clientOptions.getWorkerThreadPoolQueueSize());
         } else {
             workerGroup = new NioEventLoopGroup(clientOptions.getIoThreadNumber()
                     , new NamedThreadFactory("rpc-client-io-thread", false));
-            workerThreadPool = new ThreadPoolExecutor(clientOptions.getWorkerThreadNumber()
-                    , clientOptions.getWorkerThreadNumber(), 0L, TimeUnit.MILLISECONDS
-                    , new LinkedBlockingDeque<>(clientOptions.getWorkerThreadPoolQueueSize())
-                    , new NamedThreadFactory("rpc-client-work-thread", false));
+            workerThreadPool = ClientThreadPoolInstance
+                    .createWorkThreadPool(clientOptions.getWorkerExecutorType()
+                            , clientOptions.getWorkerThreadNumber()
+                            , clientOptions.getWorkerThreadPoolQueueSize(), "rpc-client-work-thread");
             scheduledThreadPool = new ScheduledThreadPoolExecutor(clientOptions.getWorkerThreadNumber()
                     , new NamedThreadFactory("rpc-client-scheduled-thread", false));
+            scheduledThreadPool.setRemoveOnCancelPolicy(true);
+        }
+        if (clientOptions.getMaxInflightRequests() > 0) {
+            inflightLimiter = new InflightLimiter(clientOptions.getMaxInflightRequests()
+                    , clientOptions.getMaxPendingRequests(), workerThreadPool);
         }
         final RpcClient rpcClient = this;
         // init netty bootstrap
@@ -120,21 +555,40 @@ public class RpcClient extends AbstractRpcClient {
                 .option(ChannelOption.SO_LINGER, clientOptions.getSoLinger())
                 .option(ChannelOption.SO_SNDBUF, clientOptions.getSendBufferSize())
                 .option(ChannelOption.SO_RCVBUF, clientOptions.getReceiveBufferSize())
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                        clientOptions.getWriteBufferLowWaterMark(), clientOptions.getWriteBufferHighWaterMark()))
                 //ChannelHandlerInitializer
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
                         socketChannel.pipeline()
                                 //出方向编码
-                                .addLast(new BaseEncoder(protocol))
+                                .addLast(new BaseEncoder(protocol));
+                        if (clientOptions.getChunkSize() > 0) {
+                            //出方向大报文分片
+                            socketChannel.pipeline().addLast(new ChunkedPacketWriter(clientOptions.getChunkSize()));
+                        }
+                        socketChannel.pipeline()
                                 //入方向解码
-                                .addLast(new BaseDecoder(protocol))
-                                //业务处理
-                                .addLast(new RpcClientHandler(rpcClient));
+                                .addLast(new BaseDecoder(protocol, clientOptions.getMaxPartialPackets()
+                                        , clientOptions.getMaxReassemblyBytes()));
+                        int heartbeatInterval = clientOptions.getHeartbeatIntervalMillis();
+                        if (heartbeatInterval > 0) {
+                            socketChannel.pipeline()
+                                    .addLast(new IdleStateHandler(heartbeatInterval * 3L, heartbeatInterval
+                                            , 0L, TimeUnit.MILLISECONDS))
+                                    .addLast(new RpcClientChannelIdleHandler(heartbeatInterval));
+                        }
+                        //业务处理
+                        socketChannel.pipeline().addLast(new RpcClientHandler(rpcClient));
                     }
                 });
         //初始化RpcChannel
-        rpcChannel = new RpcPooledChannel(this);
+        initRpcChannel();
+    }
+
+    protected void initRpcChannel() {
+        rpcChannel = new RpcMultiplexedChannel(this);
     }
 
 }
@@ -0,0 +1,84 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 写空闲时发送心跳保持连接；读空闲时先发送PING探测，超时仍未收到任何报文才关闭连接。
+ * 长时间发送中的调用(如分片写出大请求)会持续写入，写空闲的心跳不会触发，读空闲因此不能直接视为连接失效
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class RpcClientChannelIdleHandler extends ChannelDuplexHandler {
+    /**
+     * 心跳的探测id，客户端不等待心跳的应答
+     */
+    private static final long HEARTBEAT_PING_ID = 0L;
+
+    private final long pingTimeoutMillis;
+    /**
+     * 读空闲后发出的探测的超时任务，收到任何报文即取消
+     */
+    private ScheduledFuture<?> pingTimeoutTask;
+
+    /**
+     * @param pingTimeoutMillis 读空闲后发出的探测等待应答的时间
+     */
+    public RpcClientChannelIdleHandler(long pingTimeoutMillis) {
+        this.pingTimeoutMillis = pingTimeoutMillis;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        cancelPingTimeout();
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        cancelPingTimeout();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (!(evt instanceof IdleStateEvent)) {
+            ctx.fireUserEventTriggered(evt);
+            return;
+        }
+        IdleState state = ((IdleStateEvent) evt).state();
+        if (state == IdleState.WRITER_IDLE) {
+            sendPing(ctx);
+        } else if (state == IdleState.READER_IDLE && pingTimeoutTask == null) {
+            log.debug("Channel {} received nothing within read idle time, send ping.", ctx.channel());
+            sendPing(ctx);
+            pingTimeoutTask = ctx.executor().schedule(() -> {
+                log.info("Channel {} missed ping response, close now.", ctx.channel());
+                ctx.close();
+            }, pingTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void sendPing(ChannelHandlerContext ctx) {
+        ctx.writeAndFlush(new Packet(PacketType.PING, Unpooled.buffer(8).writeLong(HEARTBEAT_PING_ID)))
+                .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+
+    private void cancelPingTimeout() {
+        if (pingTimeoutTask != null) {
+            pingTimeoutTask.cancel(false);
+            pingTimeoutTask = null;
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package com.jsj.rpc.client;
 
 import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.RpcFile;
 import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.exception.RpcException;
 import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.protocol.RpcMeta;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author jiangshenjie
  */
 @Slf4j
 public class RpcClientHandler extends SimpleChannelInboundHandler<Packet> {
     private final RpcClient rpcClient;
+    /**
+     * 连接上正在接收文件内容的调用，key为requestId，只在io线程访问
+     */
+    private final Map<Long, FileReceiver> fileReceivers = new HashMap<>();
 
     public RpcClientHandler(RpcClient rpcClient) {
         this.rpcClient = rpcClient;
@@ -26,10 +41,57 @@ public class RpcClientHandler extends SimpleChannelInboundHandler<Packet> {
         try {
             Channel channel = ctx.channel();
             ChannelInfo channelInfo = ChannelInfo.getOrCreateClientChannelInfo(channel);
+            if (packet.getType() == PacketType.PONG) {
+                CompletableFuture<Void> pingFuture = channelInfo.getAndRemovePingFuture(packet.getBody().readLong());
+                if (pingFuture != null) {
+                    pingFuture.complete(null);
+                }
+                return;
+            }
             Protocol protocol = channelInfo.getProtocol();
+            if (packet.getType() == PacketType.STREAM_MESSAGE || packet.getType() == PacketType.STREAM_CREDIT) {
+                RpcMeta.StreamMeta streamMeta = protocol.decodeAsStreamFrame(packet);
+                ClientCallStream<?> stream = getClientStream(channelInfo.getRpcFuture(streamMeta.getStreamId()));
+                if (stream == null) {
+                    return;
+                }
+                if (packet.getType() == PacketType.STREAM_MESSAGE) {
+                    stream.onMessage(streamMeta.getMessage(), channel);
+                } else {
+                    stream.onCredits(streamMeta.getCredits());
+                }
+                return;
+            }
+            if (packet.getType() == PacketType.FILE_DATA) {
+                ByteBuf body = packet.getBody();
+                long requestId = body.readLong();
+                FileReceiver receiver = fileReceivers.get(requestId);
+                if (receiver != null && receiver.onData(body)) {
+                    fileReceivers.remove(requestId);
+                }
+                return;
+            }
             Response response = protocol.decodeAsResponse(packet, channelInfo);
+            if (response == null) {
+                log.debug("Rpc future not found, the request may be timeout or cancelled.");
+                return;
+            }
             RpcFuture<?> rpcFuture = response.getRpcFuture();
             log.debug("Get new rpc response: {}.", response);
+            ClientCallStream<?> stream = getClientStream(rpcFuture);
+            if (stream != null) {
+                //流的结束需排在已收到的消息之后
+                stream.onClose(response);
+                return;
+            }
+            if (response.getException() == null && isFileResult(rpcFuture)) {
+                //文件内容随后以FILE_DATA报文到达，全部写入本地文件后完成调用
+                FileReceiver receiver = new FileReceiver(rpcClient, response);
+                if (response.getFileLength() > 0) {
+                    fileReceivers.put(response.getRequestId(), receiver);
+                }
+                return;
+            }
             //在业务线程处理结果
             final Response rpcResponse = response;
             rpcClient.getWorkerThreadPool().submit(() -> {
@@ -40,6 +102,18 @@ public class RpcClientHandler extends SimpleChannelInboundHandler<Packet> {
         }
     }
 
+    private static boolean isFileResult(RpcFuture<?> rpcFuture) {
+        Method method = rpcFuture.getRequest().getMethod();
+        return method != null && method.getReturnType() == RpcFile.class;
+    }
+
+    private ClientCallStream<?> getClientStream(RpcFuture<?> rpcFuture) {
+        if (rpcFuture == null || !(rpcFuture.getRequest().getStreamObserver() instanceof ClientCallStream)) {
+            return null;
+        }
+        return (ClientCallStream<?>) rpcFuture.getRequest().getStreamObserver();
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         ChannelInfo channelInfo = ChannelInfo.getOrCreateClientChannelInfo(ctx.channel());
@@ -50,8 +124,30 @@ public class RpcClientHandler extends SimpleChannelInboundHandler<Packet> {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         log.info("Channel {} is inactive.", ctx.channel());
+        ChannelInfo channelInfo = ChannelInfo.getOrCreateClientChannelInfo(ctx.channel());
         //注销channel
-        rpcClient.getRpcChannel().removeChannel(ctx.channel());
+        RpcChannel rpcChannel = channelInfo.getRpcChannel();
+        if (rpcChannel != null) {
+            rpcChannel.removeChannel(ctx.channel());
+        }
+        for (FileReceiver receiver : fileReceivers.values()) {
+            receiver.fail(new RpcException("Connection closed before file received."));
+        }
+        fileReceivers.clear();
+        //连接上的请求不会再收到响应，立即失败而不是等到超时
+        for (RpcFuture<?> rpcFuture : channelInfo.removeAllRpcFutures()) {
+            rpcClient.getWorkerThreadPool().submit(() -> rpcClient.handleErrorResponse(rpcFuture
+                    , new RpcException("Connection closed before response received.")));
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        RpcChannel rpcChannel = ChannelInfo.getOrCreateClientChannelInfo(ctx.channel()).getRpcChannel();
+        if (rpcChannel != null) {
+            rpcChannel.channelWritabilityChanged(ctx.channel());
+        }
+        super.channelWritabilityChanged(ctx);
     }
 
     @Override
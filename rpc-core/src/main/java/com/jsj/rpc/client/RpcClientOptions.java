@@ -1,10 +1,18 @@
 package com.jsj.rpc.client;
 
+import com.jsj.rpc.client.breaker.CircuitBreakerConfig;
+import com.jsj.rpc.client.limiter.InflightLimitMode;
+import com.jsj.rpc.client.loadbalance.LoadBalancerType;
+import com.jsj.rpc.codec.BaseDecoder;
 import com.jsj.rpc.protocol.ProtocolType;
+import com.jsj.rpc.util.WorkerExecutorType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author jiangshenjie
  */
@@ -44,13 +52,68 @@ public class RpcClientOptions {
      */
     private int sendBufferSize = 1024 * 64;
     /**
-     * keep alive time in ms
+     * (ms) send a heartbeat when channel has not written for the interval, 0 to disable,
+     * a ping is sent if nothing received within three intervals, and channel is closed
+     * if still nothing received within one more interval
      */
-    private long keepAliveTime = 5 * 60 * 1000L;
+    private int heartbeatIntervalMillis = 5000;
     /**
-     * max channel number with one endpoint
+     * number of connections kept with one endpoint, requests are multiplexed on them
      */
     private int maxChannelNumber = 3;
+    /**
+     * first reconnect delay after a failed connect, doubled on each failure
+     */
+    private int reconnectBaseDelayMillis = 100;
+    private int reconnectMaxDelayMillis = 10000;
+    /**
+     * fail requests immediately if no writable connection, otherwise wait up to connectTimeoutMillis
+     */
+    private boolean failFastWithoutConnection = false;
+    /**
+     * connection becomes unwritable when pending outbound bytes exceed the high water mark,
+     * and writable again after falling below the low water mark
+     */
+    private int writeBufferLowWaterMark = 32 * 1024;
+    private int writeBufferHighWaterMark = 64 * 1024;
+    /**
+     * max uncompleted calls of the client, 0 for unlimited
+     */
+    private int maxInflightRequests = 0;
+    /**
+     * max uncompleted requests sent to one endpoint, saturated endpoints are skipped by load balancer, 0 for unlimited
+     */
+    private int maxInflightRequestsPerEndpoint = 0;
+    /**
+     * behavior when maxInflightRequests is reached
+     */
+    private InflightLimitMode inflightLimitMode = InflightLimitMode.BLOCK;
+    /**
+     * max calls waiting for inflight permits in ASYNC mode
+     */
+    private int maxPendingRequests = 1024;
+    /**
+     * stream messages buffered by the receiver of a streaming call, credits are granted back
+     * each time half of the window is consumed
+     */
+    private int streamWindowSize = 32;
+    /**
+     * packets with body larger than this (bytes) are sent as interleaved chunks, 0 means never chunk
+     */
+    private int chunkSize = 64 * 1024;
+    /**
+     * max number of chunked packets being reassembled at the same time on a connection
+     */
+    private int maxPartialPackets = BaseDecoder.DEFAULT_MAX_PARTIAL_PACKETS;
+    /**
+     * max bytes buffered by the chunked packets being reassembled on a connection,
+     * the connection is closed when either limit is exceeded
+     */
+    private long maxReassemblyBytes = BaseDecoder.DEFAULT_MAX_REASSEMBLY_BYTES;
+    /**
+     * directory of the local files holding contents returned by methods returning RpcFile
+     */
+    private String fileDirectory = System.getProperty("java.io.tmpdir");
     /**
      * io threads, default use Netty default value
      */
@@ -59,6 +122,10 @@ public class RpcClientOptions {
      * threads used for deserialize com.jsj.rpc response and execute the callback
      */
     private int workerThreadNumber = Runtime.getRuntime().availableProcessors();
+    /**
+     * implementation of worker thread pool
+     */
+    private WorkerExecutorType workerExecutorType = WorkerExecutorType.THREAD_POOL;
     /**
      * blocking queue size of worker thread pool
      */
@@ -68,4 +135,82 @@ public class RpcClientOptions {
      * share worker thread poll and event thread pool between multi RpcClients
      */
     private boolean globalThreadPoolSharing = true;
+
+    /**
+     * load balance strategy used by RpcClusterClient
+     */
+    private LoadBalancerType loadBalancerType = LoadBalancerType.ROUND_ROBIN;
+
+    /**
+     * enable outlier ejection and active health check in RpcClusterClient
+     */
+    private boolean healthCheckEnabled = false;
+    /**
+     * interval of outlier detection and ping probes
+     */
+    private int healthCheckIntervalMillis = 1000;
+    /**
+     * ping probe fails if no pong received within the timeout
+     */
+    private int pingTimeoutMillis = 500;
+    /**
+     * endpoint is ejected after so many consecutive failed requests
+     */
+    private int consecutiveErrorsToEject = 5;
+    /**
+     * endpoint whose peak EWMA latency exceeds factor times the cluster median is ejected
+     */
+    private double latencyOutlierFactor = 3.0D;
+    /**
+     * latency below this value is never regarded as an outlier
+     */
+    private int minOutlierLatencyMillis = 10;
+    /**
+     * ejection time of the first ejection, doubled on each consecutive ejection
+     */
+    private int baseEjectionTimeMillis = 5000;
+    private int maxEjectionTimeMillis = 60000;
+    /**
+     * at most this percent of endpoints can be ejected at the same time
+     */
+    private int maxEjectionPercent = 50;
+    /**
+     * readmitted endpoint receives gradually increasing traffic within the window
+     */
+    private int recoveryWindowMillis = 10000;
+
+    /**
+     * hedged requests never exceed the percent of all requests
+     */
+    private int hedgeBudgetPercent = 10;
+    /**
+     * max hedged requests in a burst
+     */
+    private int hedgeBudgetMaxTokens = 10;
+    /**
+     * retries never exceed the percent of all requests, avoid amplifying an overload
+     */
+    private int retryBudgetPercent = 10;
+    /**
+     * max retries in a burst
+     */
+    private int retryBudgetMaxTokens = 10;
+
+    /**
+     * circuit breaker of each method on each endpoint, null to disable
+     */
+    private CircuitBreakerConfig circuitBreakerConfig;
+
+    /**
+     * options of each method, key is method name
+     */
+    private Map<String, RpcMethodOptions> methodOptionsMap = new HashMap<>();
+
+    public RpcMethodOptions getMethodOptions(String methodName) {
+        return methodOptionsMap.get(methodName);
+    }
+
+    public RpcMethodOptions getOrCreateMethodOptions(String methodName) {
+        return methodOptionsMap.computeIfAbsent(methodName, name -> new RpcMethodOptions());
+    }
 }
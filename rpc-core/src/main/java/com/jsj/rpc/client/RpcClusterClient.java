@@ -0,0 +1,187 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.channel.RpcMultiplexedChannel;
+import com.jsj.rpc.client.health.HealthChecker;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.loadbalance.LoadBalancer;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.registry.ServiceDiscovery;
+import com.jsj.rpc.registry.ServiceListener;
+import com.jsj.rpc.registry.SubscribeInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 持有同一服务的多个节点，每次调用通过LoadBalancer选择其中一个
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class RpcClusterClient extends RpcClient {
+    /**
+     * 当前服务节点，写时复制，读取无需加锁
+     */
+    private volatile List<RpcChannel> rpcChannels = Collections.emptyList();
+    private volatile LoadBalancer loadBalancer;
+    /**
+     * 通过服务发现构造时的订阅信息
+     */
+    private ServiceDiscovery serviceDiscovery;
+    private SubscribeInfo subscribeInfo;
+    private ServiceListener serviceListener;
+    /**
+     * 未开启健康检查时为null
+     */
+    private HealthChecker healthChecker;
+
+    public RpcClusterClient(List<? extends Endpoint> endpoints) {
+        this(endpoints, new RpcClientOptions());
+    }
+
+    public RpcClusterClient(List<? extends Endpoint> endpoints, RpcClientOptions clientOptions) {
+        super(null, clientOptions);
+        this.loadBalancer = clientOptions.getLoadBalancerType().create();
+        updateEndpoints(endpoints);
+        if (clientOptions.isHealthCheckEnabled()) {
+            healthChecker = new HealthChecker(this::getRpcChannels, clientOptions, scheduledThreadPool);
+            healthChecker.start();
+        }
+    }
+
+    /**
+     * 订阅服务节点变化，节点列表随注册中心推送自动更新
+     *
+     * @param serviceDiscovery
+     * @param subscribeInfo
+     * @param clientOptions
+     */
+    public RpcClusterClient(ServiceDiscovery serviceDiscovery, SubscribeInfo subscribeInfo
+            , RpcClientOptions clientOptions) {
+        this(Collections.emptyList(), clientOptions);
+        this.serviceDiscovery = serviceDiscovery;
+        this.subscribeInfo = subscribeInfo;
+        this.serviceListener = event -> updateEndpoints(event.getInstances());
+        serviceDiscovery.subscribe(subscribeInfo, serviceListener);
+    }
+
+    @Override
+    protected void initRpcChannel() {
+        //节点在构造完成后通过updateEndpoints初始化
+    }
+
+    /**
+     * 以给定节点集合替换当前节点，已有节点的连接保持不变，被移除节点的连接将被关闭
+     *
+     * @param endpoints
+     */
+    public synchronized void updateEndpoints(Collection<? extends Endpoint> endpoints) {
+        if (isStop.get()) {
+            return;
+        }
+        Map<Endpoint, RpcChannel> current = new LinkedHashMap<>();
+        for (RpcChannel rpcChannel : rpcChannels) {
+            current.put(rpcChannel.getEndpoint(), rpcChannel);
+        }
+        List<RpcChannel> newRpcChannels = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            RpcChannel rpcChannel = current.remove(endpoint);
+            if (rpcChannel == null) {
+                rpcChannel = new RpcMultiplexedChannel(endpoint, this);
+                log.info("Add endpoint: {}.", endpoint);
+            }
+            newRpcChannels.add(rpcChannel);
+        }
+        rpcChannels = Collections.unmodifiableList(newRpcChannels);
+        loadBalancer.updateEndpoints(rpcChannels);
+        for (RpcChannel removed : current.values()) {
+            log.info("Remove endpoint: {}.", removed.getEndpoint());
+            removed.close();
+        }
+    }
+
+    @Override
+    public List<RpcChannel> getRpcChannels() {
+        return rpcChannels;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * 使用自定义的负载均衡策略
+     *
+     * @param loadBalancer
+     */
+    public synchronized void setLoadBalancer(LoadBalancer loadBalancer) {
+        loadBalancer.updateEndpoints(rpcChannels);
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    protected RpcChannel selectRpcChannel(Request request, Collection<RpcChannel> excluded) throws RpcException {
+        List<RpcChannel> candidates = rpcChannels;
+        if (healthChecker != null) {
+            candidates = healthChecker.filterAvailable(candidates);
+        }
+        if (!excluded.isEmpty()) {
+            List<RpcChannel> remaining = new ArrayList<>(candidates);
+            remaining.removeAll(excluded);
+            if (!remaining.isEmpty()) {
+                candidates = remaining;
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new RpcException(String.format("No available endpoint for service: %s.", request.getServiceName())
+                    , RpcExceptionType.NETWORK_EXCEPTION.getCode());
+        }
+        if (clientOptions.getMaxInflightRequestsPerEndpoint() > 0) {
+            List<RpcChannel> unsaturated = new ArrayList<>(candidates.size());
+            for (RpcChannel candidate : candidates) {
+                if (!isSaturated(candidate)) {
+                    unsaturated.add(candidate);
+                }
+            }
+            if (unsaturated.isEmpty()) {
+                throw endpointSaturated(request);
+            }
+            candidates = unsaturated;
+        }
+        return loadBalancer.select(candidates, request);
+    }
+
+    @Override
+    protected void onRequestComplete(RpcChannel rpcChannel, long latencyNanos, boolean success) {
+        super.onRequestComplete(rpcChannel, latencyNanos, success);
+        if (healthChecker != null) {
+            healthChecker.onRequestComplete(rpcChannel, success);
+        }
+    }
+
+    public HealthChecker getHealthChecker() {
+        return healthChecker;
+    }
+
+    @Override
+    protected synchronized void closeRpcChannel() {
+        if (healthChecker != null) {
+            healthChecker.stop();
+        }
+        if (serviceDiscovery != null) {
+            serviceDiscovery.unsubscribe(subscribeInfo, serviceListener);
+        }
+        for (RpcChannel rpcChannel : rpcChannels) {
+            rpcChannel.close();
+        }
+        rpcChannels = Collections.emptyList();
+    }
+}
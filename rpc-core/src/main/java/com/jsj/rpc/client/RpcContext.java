@@ -0,0 +1,35 @@
+package com.jsj.rpc.client;
+
+/**
+ * 当前线程下一次rpc调用的上下文，仅对紧接着的一次调用生效
+ *
+ * @author jiangshenjie
+ */
+public class RpcContext {
+    private static final ThreadLocal<RpcContext> CONTEXT = ThreadLocal.withInitial(RpcContext::new);
+
+    /**
+     * 覆盖方法级配置的调度优先级，null表示未设置
+     */
+    private Integer priority;
+
+    private RpcContext() {
+    }
+
+    public static RpcContext getContext() {
+        return CONTEXT.get();
+    }
+
+    public static void removeContext() {
+        CONTEXT.remove();
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public RpcContext setPriority(Integer priority) {
+        this.priority = priority;
+        return this;
+    }
+}
@@ -0,0 +1,60 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.client.breaker.CircuitBreakerConfig;
+import com.jsj.rpc.client.cache.ResponseCacheOptions;
+import com.jsj.rpc.protocol.RequestPriority;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 单个rpc方法的客户端调用配置
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class RpcMethodOptions {
+    /**
+     * scheduling priority on server, see {@link RequestPriority}
+     */
+    private int priority = RequestPriority.NORMAL.getValue();
+    /**
+     * send a duplicate request to another endpoint if no response within the hedge delay,
+     * the first response wins, only enable it for idempotent methods
+     */
+    private boolean hedgeEnabled = false;
+    /**
+     * (ms) delay before sending a hedged request, 0 to use the p95 latency of the method
+     */
+    private int hedgeDelayMillis = 0;
+    /**
+     * max attempts of one call including the original request
+     */
+    private int maxHedgedAttempts = 2;
+    /**
+     * retry failed requests according to the policy, null to disable, ignored if hedging is enabled
+     */
+    private RetryPolicy retryPolicy;
+    /**
+     * circuit breaker of the method on each endpoint, overrides the one in RpcClientOptions
+     */
+    private CircuitBreakerConfig circuitBreakerConfig;
+    /**
+     * cache successful results on client keyed by serialized params, null to disable,
+     * only enable it for idempotent methods whose result depends only on the params
+     */
+    private ResponseCacheOptions responseCacheOptions;
+    /**
+     * concurrent calls with byte-identical params share one outstanding request, only enable it for idempotent methods
+     */
+    private boolean coalesceEnabled = false;
+    /**
+     * (ms) deadline of a whole streaming call of this method, 0 to use rpcTaskTimeoutMillis,
+     * lets a long upload or subscription run without raising the timeout of every unary call
+     */
+    private int streamTimeoutMillis = 0;
+}
@@ -3,6 +3,7 @@ package com.jsj.rpc.client;
 import com.jsj.rpc.RpcCallback;
 import com.jsj.rpc.RpcFuture;
 import com.jsj.rpc.RpcMethodDetail;
+import com.jsj.rpc.StreamObserver;
 import com.jsj.rpc.protocol.Request;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.cglib.proxy.Enhancer;
@@ -97,6 +98,20 @@ public class RpcProxy<T> implements MethodInterceptor {
                 args = realArgs;
             }
         }
+        if (RpcMethodDetail.isServerStreaming(rpcMethodDetail.getMethod())) {
+            //流式调用立即返回，消息由observer接收
+            StreamObserver<?> observer = (StreamObserver<?>) args[args.length - 1];
+            Object[] realArgs = new Object[args.length - 1];
+            System.arraycopy(args, 0, realArgs, 0, realArgs.length);
+            Request request = rpcClient.buildRequest(rpcMethodDetail.getMethod(), null, realArgs);
+            RpcFuture<?> rpcFuture = rpcClient.sendStreamingRequest(request, observer);
+            return shouldReturnFuture(method) ? rpcFuture : null;
+        }
+        if (RpcMethodDetail.isBidiStreaming(rpcMethodDetail.getMethod())) {
+            //返回发送消息的observer，服务端的消息由参数中的observer接收
+            Request request = rpcClient.buildRequest(rpcMethodDetail.getMethod(), null, new Object[0]);
+            return rpcClient.sendBidiStreamingRequest(request, (StreamObserver<?>) args[0]);
+        }
         Request request = rpcClient.buildRequest(rpcMethodDetail.getMethod(), callback, args);
         RpcFuture<?> rpcFuture = rpcClient.sendRequest(request);
         return shouldReturnFuture(method) ? rpcFuture : rpcFuture.get();
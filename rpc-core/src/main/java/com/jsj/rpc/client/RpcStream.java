@@ -0,0 +1,107 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 以阻塞迭代器的方式消费服务端流，作为StreamObserver参数传给流式方法：
+ * <pre>
+ *     RpcStream&lt;User&gt; stream = new RpcStream&lt;&gt;();
+ *     userService.listUsers(request, stream);
+ *     while (stream.hasNext()) {
+ *         User user = stream.next();
+ *     }
+ * </pre>
+ * 消息被next取走后才向服务端授予额度，缓冲的消息数不超过streamWindowSize
+ *
+ * @author jiangshenjie
+ */
+public class RpcStream<T> implements StreamObserver<T>, Iterator<T> {
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> messages = new LinkedBlockingQueue<>();
+    private volatile Throwable error;
+    private volatile ClientCallStream<T> callStream;
+    private Object next;
+
+    void bind(ClientCallStream<T> callStream) {
+        this.callStream = callStream;
+    }
+
+    @Override
+    public void onNext(T message) {
+        messages.add(message);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        messages.add(END);
+    }
+
+    @Override
+    public void onCompleted() {
+        messages.add(END);
+    }
+
+    /**
+     * 阻塞直到收到下一条消息或流结束
+     *
+     * @return
+     * @throws RpcCallException 流异常结束
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = messages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RpcCallException("Interrupted while waiting for stream message.", e);
+            }
+        }
+        if (next != END) {
+            return true;
+        }
+        if (error != null) {
+            throw new RpcCallException(error.getMessage(), error);
+        }
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T message = (T) next;
+        next = null;
+        ClientCallStream<T> stream = callStream;
+        if (stream != null) {
+            stream.consumed(1);
+        }
+        return message;
+    }
+
+    /**
+     * 不再消费剩余的消息，通知服务端取消
+     */
+    public void cancel() {
+        ClientCallStream<T> stream = callStream;
+        if (stream != null) {
+            stream.cancel();
+        }
+    }
+
+    /**
+     * @return 流异常结束的原因，正常结束或未结束时为null
+     */
+    public Throwable getError() {
+        return error;
+    }
+}
@@ -0,0 +1,232 @@
+package com.jsj.rpc.client.breaker;
+
+import com.jsj.rpc.client.instance.Endpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个服务节点上单个方法的熔断器
+ * <p>
+ * CLOSED状态下按时间分桶的滑动窗口统计错误率与慢调用率，任一超过阈值即进入OPEN；
+ * OPEN状态持续openDurationMillis后进入HALF_OPEN，放行halfOpenPermittedCalls个探测请求，
+ * 全部成功则回到CLOSED，出现失败或慢调用则重新进入OPEN。
+ * 每次状态变化生成新的许可，请求完成时只有许可仍是当前许可才计入统计，
+ * 因此熔断前发出、在HALF_OPEN期间才完成的请求不会被当作探测请求
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class CircuitBreaker {
+    private final Endpoint endpoint;
+    private final String methodName;
+    private final CircuitBreakerConfig config;
+    private final long bucketMillis;
+    private final long slowCallNanos;
+
+    private final long[] bucketStartMillis;
+    private final int[] totalCalls;
+    private final int[] failedCalls;
+    private final int[] slowCalls;
+
+    /**
+     * 当前状态下发放的许可
+     */
+    private volatile Permit permit = new Permit(CircuitBreakerState.CLOSED);
+    private long openedAtMillis;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    private final AtomicLong rejectedCalls = new AtomicLong(0L);
+    private long openedCount = 0L;
+
+    public CircuitBreaker(Endpoint endpoint, String methodName, CircuitBreakerConfig config) {
+        this.endpoint = endpoint;
+        this.methodName = methodName;
+        this.config = config;
+        int buckets = Math.max(1, config.getWindowBuckets());
+        this.bucketMillis = Math.max(1, config.getWindowMillis() / buckets);
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMillis());
+        this.bucketStartMillis = new long[buckets];
+        this.totalCalls = new int[buckets];
+        this.failedCalls = new int[buckets];
+        this.slowCalls = new int[buckets];
+    }
+
+    /**
+     * 请求发送前调用
+     *
+     * @return 请求完成时需交回的许可，null表示熔断中，请求应直接失败
+     */
+    public Permit tryAcquirePermission() {
+        Permit current = permit;
+        if (current.state == CircuitBreakerState.CLOSED) {
+            return current;
+        }
+        synchronized (this) {
+            if (permit.state == CircuitBreakerState.OPEN
+                    && System.currentTimeMillis() - openedAtMillis >= config.getOpenDurationMillis()) {
+                transitionTo(CircuitBreakerState.HALF_OPEN);
+            }
+            switch (permit.state) {
+                case CLOSED:
+                    return permit;
+                case HALF_OPEN:
+                    if (halfOpenPermits > 0) {
+                        halfOpenPermits--;
+                        return permit;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        rejectedCalls.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 获得许可的请求完成后调用
+     *
+     * @param acquired     请求获得的许可
+     * @param latencyNanos
+     * @param failed
+     */
+    public synchronized void onComplete(Permit acquired, long latencyNanos, boolean failed) {
+        if (acquired != permit) {
+            //许可发放后状态已变化，如熔断前发出的请求，结果不再影响状态
+            return;
+        }
+        boolean slow = latencyNanos >= slowCallNanos;
+        switch (permit.state) {
+            case HALF_OPEN:
+                if (failed || slow) {
+                    transitionTo(CircuitBreakerState.OPEN);
+                } else if (++halfOpenSucceeded >= config.getHalfOpenPermittedCalls()) {
+                    transitionTo(CircuitBreakerState.CLOSED);
+                }
+                break;
+            case CLOSED:
+                int index = currentBucket(System.currentTimeMillis());
+                totalCalls[index]++;
+                if (failed) {
+                    failedCalls[index]++;
+                }
+                if (slow) {
+                    slowCalls[index]++;
+                }
+                if (shouldOpen()) {
+                    transitionTo(CircuitBreakerState.OPEN);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 获得许可的请求被取消，归还半开状态下的探测名额
+     *
+     * @param acquired 请求获得的许可，只有当前半开状态发放的许可才归还名额
+     */
+    public synchronized void onCancelled(Permit acquired) {
+        if (acquired == permit && permit.state == CircuitBreakerState.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    public CircuitBreakerState getState() {
+        return permit.state;
+    }
+
+    public synchronized CircuitBreakerMetrics getMetrics() {
+        long now = System.currentTimeMillis();
+        int total = sum(totalCalls, now);
+        double errorRate = total == 0 ? 0D : sum(failedCalls, now) * 100D / total;
+        double slowRate = total == 0 ? 0D : sum(slowCalls, now) * 100D / total;
+        return new CircuitBreakerMetrics(endpoint, methodName, permit.state, total, errorRate, slowRate
+                , rejectedCalls.get(), openedCount);
+    }
+
+    private boolean shouldOpen() {
+        long now = System.currentTimeMillis();
+        int total = sum(totalCalls, now);
+        if (total < config.getMinimumCalls()) {
+            return false;
+        }
+        return sum(failedCalls, now) * 100L >= (long) config.getErrorRateThresholdPercent() * total
+                || sum(slowCalls, now) * 100L >= (long) config.getSlowCallRateThresholdPercent() * total;
+    }
+
+    private void transitionTo(CircuitBreakerState newState) {
+        CircuitBreakerState oldState = permit.state;
+        switch (newState) {
+            case OPEN:
+                openedAtMillis = System.currentTimeMillis();
+                openedCount++;
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = config.getHalfOpenPermittedCalls();
+                halfOpenSucceeded = 0;
+                break;
+            case CLOSED:
+            default:
+                resetWindow();
+                break;
+        }
+        permit = new Permit(newState);
+        log.warn("Circuit breaker of {}:{} method: {} changed from {} to {}."
+                , endpoint.getIp(), endpoint.getPort(), methodName, oldState, newState);
+    }
+
+    private int currentBucket(long now) {
+        long start = now - now % bucketMillis;
+        int index = (int) ((now / bucketMillis) % bucketStartMillis.length);
+        if (bucketStartMillis[index] != start) {
+            bucketStartMillis[index] = start;
+            totalCalls[index] = 0;
+            failedCalls[index] = 0;
+            slowCalls[index] = 0;
+        }
+        return index;
+    }
+
+    /**
+     * 只统计仍在窗口内的桶
+     */
+    private int sum(int[] counters, long now) {
+        long windowStart = now - bucketMillis * bucketStartMillis.length;
+        int sum = 0;
+        for (int i = 0; i < counters.length; i++) {
+            if (bucketStartMillis[i] > windowStart) {
+                sum += counters[i];
+            }
+        }
+        return sum;
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < bucketStartMillis.length; i++) {
+            bucketStartMillis[i] = 0L;
+            totalCalls[i] = 0;
+            failedCalls[i] = 0;
+            slowCalls[i] = 0;
+        }
+    }
+
+    /**
+     * 熔断器在某个状态下发放的许可，状态每次变化都生成新的实例
+     */
+    public static final class Permit {
+        private final CircuitBreakerState state;
+
+        private Permit(CircuitBreakerState state) {
+            this.state = state;
+        }
+
+        public CircuitBreakerState getState() {
+            return state;
+        }
+    }
+}
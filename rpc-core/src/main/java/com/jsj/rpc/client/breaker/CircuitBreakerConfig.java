@@ -0,0 +1,50 @@
+package com.jsj.rpc.client.breaker;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 熔断器配置
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class CircuitBreakerConfig {
+    /**
+     * length of the sliding window in which error rate and slow call rate are computed
+     */
+    private int windowMillis = 10000;
+    /**
+     * number of buckets the window is divided into
+     */
+    private int windowBuckets = 10;
+    /**
+     * rates are not evaluated until the window contains so many calls
+     */
+    private int minimumCalls = 20;
+    /**
+     * open the breaker if failed calls reach the percent
+     */
+    private int errorRateThresholdPercent = 50;
+    /**
+     * open the breaker if slow calls reach the percent
+     */
+    private int slowCallRateThresholdPercent = 80;
+    /**
+     * calls take longer than it are regarded as slow
+     */
+    private int slowCallDurationMillis = 1000;
+    /**
+     * time the breaker stays open before allowing probe calls
+     */
+    private int openDurationMillis = 5000;
+    /**
+     * number of probe calls permitted in half-open state, all must succeed to close the breaker
+     */
+    private int halfOpenPermittedCalls = 5;
+}
@@ -0,0 +1,34 @@
+package com.jsj.rpc.client.breaker;
+
+import com.jsj.rpc.client.instance.Endpoint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 熔断器某一时刻的状态快照
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CircuitBreakerMetrics {
+    private final Endpoint endpoint;
+    private final String methodName;
+    private final CircuitBreakerState state;
+    /**
+     * 滑动窗口内的调用数
+     */
+    private final int bufferedCalls;
+    private final double errorRatePercent;
+    private final double slowCallRatePercent;
+    /**
+     * 累计因熔断被拒绝的调用数
+     */
+    private final long rejectedCalls;
+    /**
+     * 累计进入OPEN状态的次数
+     */
+    private final long openedCount;
+}
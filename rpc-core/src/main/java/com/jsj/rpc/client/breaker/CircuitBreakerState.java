@@ -0,0 +1,19 @@
+package com.jsj.rpc.client.breaker;
+
+/**
+ * @author jiangshenjie
+ */
+public enum CircuitBreakerState {
+    /**
+     * 正常放行，统计滑动窗口内的错误率与慢调用率
+     */
+    CLOSED,
+    /**
+     * 熔断，请求直接失败
+     */
+    OPEN,
+    /**
+     * 熔断时间到期后放行少量探测请求，全部成功则关闭，否则重新熔断
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,30 @@
+package com.jsj.rpc.client.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 客户端单个方法的响应缓存配置，只应对幂等且结果仅由参数决定的方法开启
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ResponseCacheOptions {
+    /**
+     * (ms) time to live of a cached result
+     */
+    private long ttlMillis = 1000L;
+    /**
+     * max cached results, 0 for unlimited
+     */
+    private int maxEntries = 10000;
+    /**
+     * max total serialized bytes of cached params and results, 0 for unlimited
+     */
+    private long maxBytes = 64 * 1024 * 1024L;
+}
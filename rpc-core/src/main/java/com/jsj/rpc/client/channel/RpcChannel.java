@@ -1,8 +1,13 @@
 package com.jsj.rpc.client.channel;
 
+import com.jsj.rpc.client.breaker.CircuitBreaker;
+import com.jsj.rpc.client.health.EndpointHealth;
 import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.instance.EndpointStats;
 import io.netty.channel.Channel;
 
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * @author jiangshenjie
  */
@@ -14,6 +19,13 @@ public interface RpcChannel {
      */
     Channel getChannel() throws Exception;
 
+    /**
+     * 获取一个已建立的Channel，没有可用连接时立即返回null
+     *
+     * @return Channel
+     */
+    Channel tryGetChannel();
+
     /**
      * 返还Channel
      *
@@ -23,7 +35,35 @@ public interface RpcChannel {
 
     void removeChannel(Channel channel);
 
+    /**
+     * Channel的可写状态变化，写缓冲超过高水位时不可写，低于低水位后恢复
+     *
+     * @param channel
+     */
+    void channelWritabilityChanged(Channel channel);
+
     Endpoint getEndpoint();
 
+    /**
+     * 对该服务节点的调用统计
+     *
+     * @return
+     */
+    EndpointStats getStats();
+
+    /**
+     * 该服务节点的健康状态
+     *
+     * @return
+     */
+    EndpointHealth getHealth();
+
+    /**
+     * 该服务节点上各方法的熔断器，key为方法名
+     *
+     * @return
+     */
+    ConcurrentMap<String, CircuitBreaker> getCircuitBreakers();
+
     void close();
 }
@@ -0,0 +1,284 @@
+package com.jsj.rpc.client.channel;
+
+import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.breaker.CircuitBreaker;
+import com.jsj.rpc.client.health.EndpointHealth;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.instance.EndpointStats;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoopGroup;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 与一个服务节点保持固定数量的长连接，每个连接上可同时有多个未完成的请求，无需独占借还。
+ * 连接在构造时于后台异步建立，断开后按指数退避自动重连，调用线程不会阻塞在建立连接上
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class RpcMultiplexedChannel implements RpcChannel {
+    /**
+     * 存活不足该时间即断开的连接视为连接失败，重连需退避，避免对端持续拒绝时频繁重连
+     */
+    private static final long STABLE_CONNECTION_MILLIS = 1000L;
+
+    private final Endpoint endpoint;
+    private final Bootstrap bootstrap;
+    private final EventLoopGroup eventLoopGroup;
+    private final RpcClientOptions clientOptions;
+    private final ConnectionSlot[] slots;
+    private final AtomicInteger index = new AtomicInteger(0);
+    private final EndpointStats stats = new EndpointStats();
+    private final EndpointHealth health = new EndpointHealth();
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    public RpcMultiplexedChannel(RpcClient rpcClient) {
+        this(rpcClient.getEndpoint(), rpcClient);
+    }
+
+    public RpcMultiplexedChannel(Endpoint endpoint, RpcClient rpcClient) {
+        this.endpoint = endpoint;
+        this.bootstrap = rpcClient.getBootstrap();
+        this.eventLoopGroup = rpcClient.getWorkerGroup();
+        this.clientOptions = rpcClient.getClientOptions();
+        this.slots = new ConnectionSlot[Math.max(1, clientOptions.getMaxChannelNumber())];
+        //预热：后台建立全部连接
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new ConnectionSlot();
+            connect(slots[i]);
+        }
+    }
+
+    /**
+     * 轮询选择一个已建立且可写的连接；暂无可用连接或写缓冲超过高水位时，
+     * 按配置立即失败或等待至多connectTimeoutMillis，从而对调用方形成反压
+     *
+     * @return
+     * @throws Exception
+     */
+    @Override
+    public Channel getChannel() throws Exception {
+        Channel channel = tryGetWritableChannel();
+        if (channel != null) {
+            return channel;
+        }
+        if (!clientOptions.isFailFastWithoutConnection()) {
+            long deadline = System.currentTimeMillis() + clientOptions.getConnectTimeoutMillis();
+            synchronized (this) {
+                while ((channel = tryGetWritableChannel()) == null && !closed) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    this.wait(remaining);
+                }
+            }
+            if (channel != null) {
+                return channel;
+            }
+        }
+        if (tryGetChannel() != null) {
+            throw new RpcException(String.format("Connections to %s:%d are not writable, too many pending writes."
+                    , endpoint.getIp(), endpoint.getPort()), RpcExceptionType.NETWORK_EXCEPTION.getCode());
+        }
+        throw new RpcException(String.format("No available connection to %s:%d."
+                , endpoint.getIp(), endpoint.getPort()), RpcExceptionType.NETWORK_EXCEPTION.getCode());
+    }
+
+    @Override
+    public Channel tryGetChannel() {
+        int start = index.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < slots.length; i++) {
+            Channel channel = slots[(start + i) % slots.length].channel;
+            if (channel != null && channel.isActive()) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    private Channel tryGetWritableChannel() {
+        int start = index.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < slots.length; i++) {
+            Channel channel = slots[(start + i) % slots.length].channel;
+            if (channel != null && channel.isActive() && channel.isWritable()) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 连接恢复可写时唤醒等待的调用方
+     *
+     * @param channel
+     */
+    @Override
+    public void channelWritabilityChanged(Channel channel) {
+        if (channel.isWritable()) {
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 连接为多路复用，无需归还
+     *
+     * @param channel
+     */
+    @Override
+    public void returnChannel(Channel channel) {
+    }
+
+    /**
+     * 连接断开，稳定连接立即重连，否则退避后重连
+     *
+     * @param channel
+     */
+    @Override
+    public void removeChannel(Channel channel) {
+        for (ConnectionSlot slot : slots) {
+            boolean stable;
+            synchronized (slot) {
+                if (slot.channel != channel) {
+                    continue;
+                }
+                slot.channel = null;
+                stable = System.currentTimeMillis() - slot.connectedAtMillis >= STABLE_CONNECTION_MILLIS;
+                if (stable) {
+                    slot.failures = 0;
+                } else {
+                    slot.failures++;
+                }
+            }
+            if (closed) {
+                return;
+            }
+            if (stable) {
+                log.info("Connection {} lost, reconnect now.", channel);
+                connect(slot);
+            } else {
+                scheduleReconnect(slot, new RpcException("connection closed right after established"));
+            }
+            return;
+        }
+    }
+
+    @Override
+    public Endpoint getEndpoint() {
+        return this.endpoint;
+    }
+
+    @Override
+    public EndpointStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public EndpointHealth getHealth() {
+        return health;
+    }
+
+    @Override
+    public ConcurrentMap<String, CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    @Override
+    public void close() {
+        log.debug("try to close all channels of rpc client: {}.", this.endpoint);
+        closed = true;
+        for (ConnectionSlot slot : slots) {
+            Channel channel;
+            synchronized (slot) {
+                channel = slot.channel;
+                slot.channel = null;
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
+    private void connect(ConnectionSlot slot) {
+        synchronized (slot) {
+            if (closed || slot.connecting || slot.channel != null) {
+                return;
+            }
+            slot.connecting = true;
+        }
+        ChannelFuture future = bootstrap.connect(endpoint.getIp(), endpoint.getPort());
+        future.addListener(f -> onConnectComplete(slot, future));
+    }
+
+    private void onConnectComplete(ConnectionSlot slot, ChannelFuture future) {
+        Channel channel = future.channel();
+        synchronized (slot) {
+            slot.connecting = false;
+            if (future.isSuccess()) {
+                ChannelInfo.getOrCreateClientChannelInfo(channel).setRpcChannel(this);
+                slot.channel = channel;
+                slot.connectedAtMillis = System.currentTimeMillis();
+            } else {
+                slot.failures++;
+            }
+        }
+        if (future.isSuccess()) {
+            log.info("Created new connection: [local addr: {}, remote addr: {}].", channel.localAddress(), channel.remoteAddress());
+            if (closed) {
+                channel.close();
+                return;
+            }
+            //连接可能在监听器执行前已断开
+            if (!channel.isActive()) {
+                removeChannel(channel);
+            }
+            synchronized (this) {
+                this.notifyAll();
+            }
+        } else {
+            scheduleReconnect(slot, future.cause());
+        }
+    }
+
+    private void scheduleReconnect(ConnectionSlot slot, Throwable cause) {
+        if (closed) {
+            return;
+        }
+        int failures;
+        synchronized (slot) {
+            failures = slot.failures;
+        }
+        long delay = Math.min((long) clientOptions.getReconnectBaseDelayMillis() << Math.min(failures - 1, 20)
+                , clientOptions.getReconnectMaxDelayMillis());
+        //加入随机抖动，避免大量客户端同时重连
+        delay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        log.warn("Create connection to {}:{} failed, retry in {}ms, cause: {}."
+                , endpoint.getIp(), endpoint.getPort(), delay, cause == null ? null : cause.getMessage());
+        eventLoopGroup.schedule(() -> connect(slot), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static class ConnectionSlot {
+        private volatile Channel channel;
+        private boolean connecting = false;
+        private int failures = 0;
+        private long connectedAtMillis = 0L;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jsj.rpc.client.health;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个服务节点的健康状态：被剔除的节点不再接收请求，恢复后在recovery窗口内逐步放量
+ *
+ * @author jiangshenjie
+ */
+public class EndpointHealth {
+    /**
+     * 恢复窗口开始时的放量比例
+     */
+    private static final double MIN_ADMISSION_RATIO = 0.1D;
+
+    private final AtomicInteger consecutiveErrors = new AtomicInteger(0);
+    private volatile boolean ejected = false;
+    private volatile long ejectedUntilMillis = 0L;
+    /**
+     * 最近一次恢复的时间，0表示未被剔除过
+     */
+    private volatile long readmittedAtMillis = 0L;
+    /**
+     * 连续被剔除的次数，用于计算退避时间
+     */
+    private int ejectionCount = 0;
+
+    public void onRequestComplete(boolean success) {
+        if (success) {
+            consecutiveErrors.set(0);
+        } else {
+            consecutiveErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * 剔除节点，剔除时长随连续剔除次数指数增长
+     *
+     * @param now
+     * @param baseEjectionMillis
+     * @param maxEjectionMillis
+     */
+    public synchronized void eject(long now, long baseEjectionMillis, long maxEjectionMillis) {
+        ejectionCount++;
+        long ejectionMillis = baseEjectionMillis << Math.min(ejectionCount - 1, 20);
+        ejectedUntilMillis = now + Math.min(ejectionMillis, maxEjectionMillis);
+        ejected = true;
+    }
+
+    public synchronized void readmit(long now) {
+        ejected = false;
+        readmittedAtMillis = now;
+        consecutiveErrors.set(0);
+    }
+
+    /**
+     * 恢复后长时间保持健康，重置退避
+     *
+     * @param now
+     * @param maxEjectionMillis
+     */
+    public synchronized void decayEjectionCount(long now, long maxEjectionMillis) {
+        if (!ejected && ejectionCount > 0 && now - readmittedAtMillis > maxEjectionMillis) {
+            ejectionCount = 0;
+        }
+    }
+
+    /**
+     * 当前应放行的请求比例，恢复窗口内从10%线性增长到100%
+     *
+     * @param now
+     * @param recoveryWindowMillis
+     * @return
+     */
+    public double getAdmissionRatio(long now, long recoveryWindowMillis) {
+        if (ejected) {
+            return 0D;
+        }
+        long elapsed = now - readmittedAtMillis;
+        if (readmittedAtMillis == 0L || elapsed >= recoveryWindowMillis) {
+            return 1D;
+        }
+        return MIN_ADMISSION_RATIO + (1 - MIN_ADMISSION_RATIO) * elapsed / recoveryWindowMillis;
+    }
+
+    public boolean isRecovering(long now, long recoveryWindowMillis) {
+        return !ejected && readmittedAtMillis != 0L && now - readmittedAtMillis < recoveryWindowMillis;
+    }
+
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    public boolean isEjectionExpired(long now) {
+        return ejected && now >= ejectedUntilMillis;
+    }
+
+    public int getConsecutiveErrors() {
+        return consecutiveErrors.get();
+    }
+
+    public synchronized int getEjectionCount() {
+        return ejectionCount;
+    }
+}
@@ -0,0 +1,228 @@
+package com.jsj.rpc.client.health;
+
+import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 服务节点健康检查：
+ * 被动检测连续失败和延迟离群的节点并剔除，主动通过PING探测节点存活，
+ * 剔除到期的节点探测成功后恢复，并在恢复窗口内逐步放量
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class HealthChecker {
+    private static final AtomicLong PING_ID_GENERATOR = new AtomicLong(0L);
+
+    private final Supplier<List<RpcChannel>> rpcChannelsSupplier;
+    private final RpcClientOptions options;
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> checkTask;
+
+    public HealthChecker(Supplier<List<RpcChannel>> rpcChannelsSupplier, RpcClientOptions options
+            , ScheduledExecutorService scheduler) {
+        this.rpcChannelsSupplier = rpcChannelsSupplier;
+        this.options = options;
+        this.scheduler = scheduler;
+    }
+
+    public void start() {
+        long interval = options.getHealthCheckIntervalMillis();
+        checkTask = scheduler.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (checkTask != null) {
+            checkTask.cancel(false);
+        }
+    }
+
+    /**
+     * 请求失败时立即检查连续失败次数，达到阈值马上剔除
+     *
+     * @param rpcChannel
+     * @param success
+     */
+    public void onRequestComplete(RpcChannel rpcChannel, boolean success) {
+        EndpointHealth health = rpcChannel.getHealth();
+        if (!success && !health.isEjected()
+                && health.getConsecutiveErrors() >= options.getConsecutiveErrorsToEject()) {
+            tryEject(rpcChannel, "consecutive errors: " + health.getConsecutiveErrors());
+        }
+    }
+
+    /**
+     * 过滤掉被剔除的节点，恢复中的节点按放量比例随机放行；
+     * 全部节点都不可用时返回原列表，避免无节点可用
+     *
+     * @param rpcChannels
+     * @return
+     */
+    public List<RpcChannel> filterAvailable(List<RpcChannel> rpcChannels) {
+        long now = System.currentTimeMillis();
+        List<RpcChannel> available = null;
+        for (int i = 0; i < rpcChannels.size(); i++) {
+            RpcChannel rpcChannel = rpcChannels.get(i);
+            double ratio = rpcChannel.getHealth().getAdmissionRatio(now, options.getRecoveryWindowMillis());
+            boolean admitted = ratio >= 1D || (ratio > 0D && ThreadLocalRandom.current().nextDouble() < ratio);
+            if (!admitted && available == null) {
+                available = new ArrayList<>(rpcChannels.subList(0, i));
+            } else if (admitted && available != null) {
+                available.add(rpcChannel);
+            }
+        }
+        if (available == null || available.isEmpty()) {
+            return rpcChannels;
+        }
+        return available;
+    }
+
+    void check() {
+        try {
+            List<RpcChannel> rpcChannels = rpcChannelsSupplier.get();
+            long now = System.currentTimeMillis();
+            detectLatencyOutliers(rpcChannels, now);
+            for (RpcChannel rpcChannel : rpcChannels) {
+                EndpointHealth health = rpcChannel.getHealth();
+                health.decayEjectionCount(now, options.getMaxEjectionTimeMillis());
+                if (!health.isEjected() || health.isEjectionExpired(now)) {
+                    probe(rpcChannel);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Health check failed.", e);
+        }
+    }
+
+    /**
+     * peak EWMA延迟超过集群中位数一定倍数的节点视为离群
+     *
+     * @param rpcChannels
+     * @param now
+     */
+    private void detectLatencyOutliers(List<RpcChannel> rpcChannels, long now) {
+        List<RpcChannel> sampled = new ArrayList<>(rpcChannels.size());
+        for (RpcChannel rpcChannel : rpcChannels) {
+            EndpointHealth health = rpcChannel.getHealth();
+            if (!health.isEjected() && !health.isRecovering(now, options.getRecoveryWindowMillis())
+                    && rpcChannel.getStats().getPeakEwmaNanos() > 0D) {
+                sampled.add(rpcChannel);
+            }
+        }
+        //节点过少时中位数没有参考意义
+        if (sampled.size() < 3) {
+            return;
+        }
+        double[] latencies = new double[sampled.size()];
+        for (int i = 0; i < sampled.size(); i++) {
+            latencies[i] = sampled.get(i).getStats().getPeakEwmaNanos();
+        }
+        Arrays.sort(latencies);
+        double median = latencies[latencies.length / 2];
+        double threshold = Math.max(median * options.getLatencyOutlierFactor()
+                , TimeUnit.MILLISECONDS.toNanos(options.getMinOutlierLatencyMillis()));
+        for (RpcChannel rpcChannel : sampled) {
+            double latency = rpcChannel.getStats().getPeakEwmaNanos();
+            if (latency > threshold) {
+                tryEject(rpcChannel, String.format("latency %.1fms, cluster median %.1fms"
+                        , latency / 1e6, median / 1e6));
+            }
+        }
+    }
+
+    private void probe(RpcChannel rpcChannel) {
+        ping(rpcChannel).whenComplete((result, cause) -> {
+            EndpointHealth health = rpcChannel.getHealth();
+            long now = System.currentTimeMillis();
+            if (health.isEjected()) {
+                if (cause == null) {
+                    rpcChannel.getStats().resetLatency();
+                    health.readmit(now);
+                    log.info("Endpoint {} readmitted.", rpcChannel.getEndpoint());
+                } else {
+                    health.eject(now, options.getBaseEjectionTimeMillis(), options.getMaxEjectionTimeMillis());
+                    log.info("Endpoint {} still unhealthy, ejection extended.", rpcChannel.getEndpoint());
+                }
+            } else if (cause != null) {
+                health.onRequestComplete(false);
+                onRequestComplete(rpcChannel, false);
+            }
+        });
+    }
+
+    /**
+     * 在节点的一个连接上发送PING并等待PONG，收到PONG或写出失败时取消超时任务
+     *
+     * @param rpcChannel
+     * @return
+     */
+    CompletableFuture<Void> ping(RpcChannel rpcChannel) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            //不等待建立连接，无可用连接即视为探测失败
+            Channel channel = rpcChannel.tryGetChannel();
+            if (channel == null) {
+                throw new RpcException("No available connection.");
+            }
+            long pingId = PING_ID_GENERATOR.incrementAndGet();
+            ChannelInfo channelInfo = ChannelInfo.getOrCreateClientChannelInfo(channel);
+            channelInfo.addPingFuture(pingId, future);
+            ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
+                channelInfo.getAndRemovePingFuture(pingId);
+                future.completeExceptionally(new TimeoutException("ping timeout"));
+            }, options.getPingTimeoutMillis(), TimeUnit.MILLISECONDS);
+            future.whenComplete((result, cause) -> timeoutTask.cancel(false));
+            channel.writeAndFlush(new Packet(PacketType.PING, Unpooled.buffer(8).writeLong(pingId)))
+                    .addListener(writeFuture -> {
+                        if (!writeFuture.isSuccess()) {
+                            channelInfo.getAndRemovePingFuture(pingId);
+                            future.completeExceptionally(writeFuture.cause());
+                        }
+                    });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private synchronized void tryEject(RpcChannel rpcChannel, String reason) {
+        EndpointHealth health = rpcChannel.getHealth();
+        if (health.isEjected()) {
+            return;
+        }
+        List<RpcChannel> rpcChannels = rpcChannelsSupplier.get();
+        int ejected = 0;
+        for (RpcChannel other : rpcChannels) {
+            if (other.getHealth().isEjected()) {
+                ejected++;
+            }
+        }
+        if ((ejected + 1) * 100 > rpcChannels.size() * options.getMaxEjectionPercent()) {
+            log.debug("Skip ejecting endpoint {}, too many endpoints ejected.", rpcChannel.getEndpoint());
+            return;
+        }
+        health.eject(System.currentTimeMillis(), options.getBaseEjectionTimeMillis()
+                , options.getMaxEjectionTimeMillis());
+        log.warn("Endpoint {} ejected, reason: {}, ejection count: {}."
+                , rpcChannel.getEndpoint(), reason, health.getEjectionCount());
+    }
+}
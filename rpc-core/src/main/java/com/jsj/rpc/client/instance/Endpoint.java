@@ -17,12 +17,21 @@ import java.util.Objects;
 public class Endpoint {
     private String ip;
     private int port;
+    /**
+     * weight used by weighted load balancer
+     */
+    private int weight = 1;
 
     public Endpoint(String ip, int port) {
         this.ip = ip;
         this.port = port;
     }
 
+    public Endpoint(String ip, int port, int weight) {
+        this(ip, port);
+        this.weight = weight;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,110 @@
+package com.jsj.rpc.client.instance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 客户端对单个服务节点的调用统计，供负载均衡使用
+ *
+ * @author jiangshenjie
+ */
+public class EndpointStats {
+    /**
+     * peak EWMA默认的衰减时间窗口
+     */
+    private static final long DEFAULT_DECAY_MILLIS = 10 * 1000L;
+
+    private final long decayNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger(0);
+    private final AtomicLong requestCount = new AtomicLong(0L);
+    private final AtomicLong errorCount = new AtomicLong(0L);
+
+    private double peakEwmaNanos = 0D;
+    private long lastUpdateNanos = System.nanoTime();
+
+    public EndpointStats() {
+        this(DEFAULT_DECAY_MILLIS);
+    }
+
+    /**
+     * @param decayMillis peak EWMA的衰减时间窗口
+     */
+    public EndpointStats(long decayMillis) {
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+    }
+
+    public void onRequestStart() {
+        inflight.incrementAndGet();
+        requestCount.incrementAndGet();
+    }
+
+    public void onRequestComplete(long latencyNanos, boolean success) {
+        inflight.decrementAndGet();
+        if (!success) {
+            errorCount.incrementAndGet();
+        }
+        updatePeakEwma(latencyNanos);
+    }
+
+    /**
+     * 请求被主动取消(如对冲请求中落后的一方)，不计入错误与延迟
+     */
+    public void onRequestCancelled() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * 延迟升高时立即采用新值，降低时按时间指数衰减，对慢节点更敏感
+     *
+     * @param latencyNanos
+     */
+    private synchronized void updatePeakEwma(long latencyNanos) {
+        long now = System.nanoTime();
+        if (latencyNanos > peakEwmaNanos) {
+            peakEwmaNanos = latencyNanos;
+        } else {
+            double weight = decayWeight(now);
+            peakEwmaNanos = peakEwmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdateNanos = now;
+    }
+
+    private double decayWeight(long now) {
+        return Math.exp(-(double) Math.max(0L, now - lastUpdateNanos) / decayNanos);
+    }
+
+    /**
+     * 清除历史延迟，节点恢复后重新采样
+     */
+    public synchronized void resetLatency() {
+        peakEwmaNanos = 0D;
+        lastUpdateNanos = System.nanoTime();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * 读取时同样按距上次更新的时间衰减(相当于观测到0延迟)，
+     * 被避开而不再有请求完成的慢节点因此能逐渐恢复，重新被选中
+     *
+     * @return
+     */
+    public synchronized double getPeakEwmaNanos() {
+        long now = System.nanoTime();
+        peakEwmaNanos *= decayWeight(now);
+        lastUpdateNanos = now;
+        return peakEwmaNanos;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jsj.rpc.client.limiter;
+
+/**
+ * 客户端未完成请求数达到上限时的处理方式
+ *
+ * @author jiangshenjie
+ */
+public enum InflightLimitMode {
+    /**
+     * 阻塞调用线程直到有请求完成，最多等待请求的超时时间
+     */
+    BLOCK,
+    /**
+     * 立即失败
+     */
+    FAIL_FAST,
+    /**
+     * 不阻塞调用线程，请求进入有界队列，有请求完成时按序发出，队列满时失败
+     */
+    ASYNC
+}
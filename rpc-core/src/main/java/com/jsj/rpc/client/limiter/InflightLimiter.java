@@ -0,0 +1,123 @@
+package com.jsj.rpc.client.limiter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 限制客户端未完成的请求数
+ * <p>
+ * 异步获取时，许可不足的任务进入有界队列，许可释放时直接转交给队首任务；
+ * 获得许可的任务都由executor执行，发送可能阻塞于建立连接与写出，不能占用调用线程或释放许可的线程
+ *
+ * @author jiangshenjie
+ */
+public class InflightLimiter {
+    private final int maxInflight;
+    private final int maxPending;
+    private final Executor executor;
+    private final Deque<PendingTask> pending = new ArrayDeque<>();
+    private int inflight = 0;
+
+    public InflightLimiter(int maxInflight, int maxPending, Executor executor) {
+        this.maxInflight = maxInflight;
+        this.maxPending = maxPending;
+        this.executor = executor;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inflight < maxInflight && pending.isEmpty()) {
+            inflight++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 阻塞获取许可
+     *
+     * @param timeoutMillis
+     * @return 超时返回false
+     * @throws InterruptedException
+     */
+    public synchronized boolean acquire(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (inflight >= maxInflight || !pending.isEmpty()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            this.wait(remaining);
+        }
+        inflight++;
+        return true;
+    }
+
+    /**
+     * 异步获取许可，获取后由executor执行task，task负责在请求完成后调用release
+     *
+     * @param task
+     * @param onRejected task被executor拒绝时调用，此时task不会被执行，也不占用许可
+     * @return 等待队列已满时返回false，task不会被执行
+     */
+    public boolean acquireAsync(Runnable task, Consumer<RejectedExecutionException> onRejected) {
+        synchronized (this) {
+            if (inflight >= maxInflight || !pending.isEmpty()) {
+                if (pending.size() >= maxPending) {
+                    return false;
+                }
+                pending.offer(new PendingTask(task, onRejected));
+                return true;
+            }
+            inflight++;
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            release();
+            onRejected.accept(e);
+        }
+        return true;
+    }
+
+    public void release() {
+        while (true) {
+            PendingTask next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    inflight--;
+                    this.notifyAll();
+                    return;
+                }
+            }
+            //许可直接转交给等待中的任务，被拒绝时转交给下一个
+            try {
+                executor.execute(next.task);
+                return;
+            } catch (RejectedExecutionException e) {
+                next.onRejected.accept(e);
+            }
+        }
+    }
+
+    public synchronized int getInflight() {
+        return inflight;
+    }
+
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    private static class PendingTask {
+        private final Runnable task;
+        private final Consumer<RejectedExecutionException> onRejected;
+
+        private PendingTask(Runnable task, Consumer<RejectedExecutionException> onRejected) {
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+    }
+}
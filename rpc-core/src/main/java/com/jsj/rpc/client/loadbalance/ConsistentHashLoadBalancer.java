@@ -0,0 +1,151 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * ketama一致性哈希，相同key的请求总是路由到同一节点，
+ * 节点增减时只有落在该节点上的key会迁移
+ * <p>
+ * 哈希环只在节点成员变化时按全部节点构建；节点不可用或被排除(不在候选列表中)时，
+ * 沿环顺时针跳过它的虚拟节点，其余key的映射保持不变
+ *
+ * @author jiangshenjie
+ */
+public class ConsistentHashLoadBalancer implements LoadBalancer {
+    /**
+     * 每个节点在哈希环上的虚拟节点数(单位权重)，须为4的倍数
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final Function<Request, Object> keyExtractor;
+    private final int virtualNodes;
+
+    /**
+     * 按全部节点构建的哈希环，成员变化时重建
+     */
+    private volatile HashRing hashRing;
+
+    /**
+     * 以第一个请求参数作为哈希key
+     */
+    public ConsistentHashLoadBalancer() {
+        this(request -> {
+            Object[] params = request.getParams();
+            return params == null || params.length == 0 ? null : params[0];
+        });
+    }
+
+    public ConsistentHashLoadBalancer(Function<Request, Object> keyExtractor) {
+        this(keyExtractor, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashLoadBalancer(Function<Request, Object> keyExtractor, int virtualNodes) {
+        if (virtualNodes <= 0 || virtualNodes % 4 != 0) {
+            throw new IllegalArgumentException("virtualNodes must be a positive multiple of 4.");
+        }
+        this.keyExtractor = keyExtractor;
+        this.virtualNodes = virtualNodes;
+    }
+
+    @Override
+    public RpcChannel select(List<RpcChannel> rpcChannels, Request request) {
+        Object key = keyExtractor.apply(request);
+        if (key == null) {
+            return rpcChannels.get(ThreadLocalRandom.current().nextInt(rpcChannels.size()));
+        }
+        HashRing ring = hashRing;
+        if (ring == null) {
+            //未经updateEndpoints设置成员时，以首次的候选节点构建
+            ring = new HashRing(rpcChannels, virtualNodes);
+            hashRing = ring;
+        }
+        RpcChannel selected = ring.locate(hash(digest(key.toString()), 0), rpcChannels);
+        return selected != null ? selected
+                : rpcChannels.get(ThreadLocalRandom.current().nextInt(rpcChannels.size()));
+    }
+
+    @Override
+    public void updateEndpoints(List<RpcChannel> rpcChannels) {
+        hashRing = rpcChannels.isEmpty() ? null : new HashRing(rpcChannels, virtualNodes);
+    }
+
+    private static class HashRing {
+        private final List<RpcChannel> rpcChannels;
+        private final TreeMap<Long, RpcChannel> ring = new TreeMap<>();
+
+        HashRing(List<RpcChannel> rpcChannels, int virtualNodes) {
+            this.rpcChannels = new ArrayList<>(rpcChannels);
+            for (RpcChannel rpcChannel : rpcChannels) {
+                String address = rpcChannel.getEndpoint().getIp() + ":" + rpcChannel.getEndpoint().getPort();
+                int weight = Math.max(1, rpcChannel.getEndpoint().getWeight());
+                //每个md5摘要可切分出4个虚拟节点
+                for (int i = 0; i < virtualNodes * weight / 4; i++) {
+                    byte[] digest = digest(address + "-" + i);
+                    for (int h = 0; h < 4; h++) {
+                        ring.put(hash(digest, h), rpcChannel);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 从hash处顺时针查找第一个属于候选节点的虚拟节点
+         *
+         * @param hash
+         * @param candidates
+         * @return 候选节点都不在环上时返回null
+         */
+        RpcChannel locate(long hash, List<RpcChannel> candidates) {
+            Map.Entry<Long, RpcChannel> entry = ring.ceilingEntry(hash);
+            if (entry == null) {
+                entry = ring.firstEntry();
+            }
+            if (candidates.equals(rpcChannels)) {
+                return entry.getValue();
+            }
+            Set<RpcChannel> candidateSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidateSet.addAll(candidates);
+            for (int i = ring.size(); i > 0; i--) {
+                if (candidateSet.contains(entry.getValue())) {
+                    return entry.getValue();
+                }
+                entry = ring.higherEntry(entry.getKey());
+                if (entry == null) {
+                    entry = ring.firstEntry();
+                }
+            }
+            return null;
+        }
+    }
+
+    private static long hash(byte[] digest, int number) {
+        return (((long) (digest[3 + number * 4] & 0xFF) << 24)
+                | ((long) (digest[2 + number * 4] & 0xFF) << 16)
+                | ((long) (digest[1 + number * 4] & 0xFF) << 8)
+                | (digest[number * 4] & 0xFF))
+                & 0xFFFFFFFFL;
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            return md5.digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not supported", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+
+import java.util.List;
+
+/**
+ * 客户端负载均衡策略
+ *
+ * @author jiangshenjie
+ */
+public interface LoadBalancer {
+    /**
+     * 从候选服务节点中为请求选择一个
+     *
+     * @param rpcChannels 候选服务节点，非空
+     * @param request
+     * @return
+     */
+    RpcChannel select(List<RpcChannel> rpcChannels, Request request);
+
+    /**
+     * 服务节点成员变化时调用，参数为全部节点(不论是否可用)，需要按成员预先构建状态的策略可覆盖
+     *
+     * @param rpcChannels
+     */
+    default void updateEndpoints(List<RpcChannel> rpcChannels) {
+    }
+}
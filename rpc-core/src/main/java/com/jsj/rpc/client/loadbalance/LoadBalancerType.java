@@ -0,0 +1,44 @@
+package com.jsj.rpc.client.loadbalance;
+
+/**
+ * @author jiangshenjie
+ */
+public enum LoadBalancerType {
+    /**
+     * 轮询
+     */
+    ROUND_ROBIN,
+    /**
+     * 按Endpoint权重随机
+     */
+    WEIGHTED_RANDOM,
+    /**
+     * 随机选取两个节点，取inflight请求数较少者
+     */
+    POWER_OF_TWO_CHOICES,
+    /**
+     * 随机选取两个节点，取peak EWMA延迟与inflight乘积较小者
+     */
+    PEAK_EWMA,
+    /**
+     * 一致性哈希，默认以第一个请求参数为key，
+     * 自定义key需通过RpcClusterClient#setLoadBalancer设置ConsistentHashLoadBalancer
+     */
+    CONSISTENT_HASH;
+
+    public LoadBalancer create() {
+        switch (this) {
+            case WEIGHTED_RANDOM:
+                return new WeightedRandomLoadBalancer();
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesLoadBalancer();
+            case PEAK_EWMA:
+                return new PeakEwmaLoadBalancer();
+            case CONSISTENT_HASH:
+                return new ConsistentHashLoadBalancer();
+            case ROUND_ROBIN:
+            default:
+                return new RoundRobinLoadBalancer();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.instance.EndpointStats;
+
+/**
+ * 以peak EWMA延迟乘以(inflight + 1)作为节点负载，延迟升高的节点会被迅速绕开
+ *
+ * @author jiangshenjie
+ */
+public class PeakEwmaLoadBalancer extends PowerOfTwoChoicesLoadBalancer {
+
+    @Override
+    protected double load(RpcChannel rpcChannel) {
+        EndpointStats stats = rpcChannel.getStats();
+        //尚无延迟数据的节点视为最快，使其尽快获得采样
+        return stats.getPeakEwmaNanos() * (stats.getInflight() + 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 随机选取两个不同节点，返回负载较低者
+ *
+ * @author jiangshenjie
+ */
+public class PowerOfTwoChoicesLoadBalancer implements LoadBalancer {
+
+    @Override
+    public RpcChannel select(List<RpcChannel> rpcChannels, Request request) {
+        int size = rpcChannels.size();
+        if (size == 1) {
+            return rpcChannels.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        RpcChannel a = rpcChannels.get(first);
+        RpcChannel b = rpcChannels.get(second);
+        return load(b) < load(a) ? b : a;
+    }
+
+    /**
+     * 节点负载，默认为inflight请求数
+     *
+     * @param rpcChannel
+     * @return
+     */
+    protected double load(RpcChannel rpcChannel) {
+        return rpcChannel.getStats().getInflight();
+    }
+}
@@ -0,0 +1,20 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class RoundRobinLoadBalancer implements LoadBalancer {
+    private final AtomicInteger index = new AtomicInteger(0);
+
+    @Override
+    public RpcChannel select(List<RpcChannel> rpcChannels, Request request) {
+        int i = index.getAndIncrement() & Integer.MAX_VALUE;
+        return rpcChannels.get(i % rpcChannels.size());
+    }
+}
@@ -0,0 +1,34 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.protocol.Request;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 按Endpoint权重随机选择，权重不大于0的节点不参与选择
+ *
+ * @author jiangshenjie
+ */
+public class WeightedRandomLoadBalancer implements LoadBalancer {
+
+    @Override
+    public RpcChannel select(List<RpcChannel> rpcChannels, Request request) {
+        int totalWeight = 0;
+        for (RpcChannel rpcChannel : rpcChannels) {
+            totalWeight += Math.max(0, rpcChannel.getEndpoint().getWeight());
+        }
+        if (totalWeight <= 0) {
+            return rpcChannels.get(ThreadLocalRandom.current().nextInt(rpcChannels.size()));
+        }
+        int offset = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (RpcChannel rpcChannel : rpcChannels) {
+            offset -= Math.max(0, rpcChannel.getEndpoint().getWeight());
+            if (offset < 0) {
+                return rpcChannel;
+            }
+        }
+        return rpcChannels.get(rpcChannels.size() - 1);
+    }
+}
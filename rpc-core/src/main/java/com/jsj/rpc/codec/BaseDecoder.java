@@ -1,36 +1,130 @@
 package com.jsj.rpc.codec;
 
 
+import com.jsj.rpc.exception.BadSchemaException;
 import com.jsj.rpc.exception.NotEnoughDataException;
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
 import com.jsj.rpc.protocol.Protocol;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * RPC 解码器
+ * <p>
+ * CHUNK分片按chunk_id重组为原报文后再交给后续handler，重组的body由各分片组成，不拷贝为连续内存；
+ * 同时重组的报文数与已缓存的分片总字节数有上限，超过时抛出BadSchemaException，避免对端占用无限的内存
  *
  * @author jsj
  * @date 2018-11-6
  */
 @Slf4j
 public class BaseDecoder extends ByteToMessageDecoder {
+    public static final int DEFAULT_MAX_PARTIAL_PACKETS = 1024;
+    public static final long DEFAULT_MAX_REASSEMBLY_BYTES = 256 * 1024 * 1024L;
+
     private final Protocol protocol;
+    private final int maxPartialPackets;
+    private final long maxReassemblyBytes;
+    /**
+     * 正在重组的分片，key为chunk_id
+     */
+    private final Map<Long, Packet> partialPackets = new HashMap<>();
+    /**
+     * 正在重组的报文已缓存的字节数
+     */
+    private long reassemblyBytes = 0L;
 
     public BaseDecoder(Protocol protocol) {
+        this(protocol, DEFAULT_MAX_PARTIAL_PACKETS, DEFAULT_MAX_REASSEMBLY_BYTES);
+    }
+
+    /**
+     * @param protocol
+     * @param maxPartialPackets  同时重组的报文数上限
+     * @param maxReassemblyBytes 正在重组的报文已缓存的总字节数上限
+     */
+    public BaseDecoder(Protocol protocol, int maxPartialPackets, long maxReassemblyBytes) {
         this.protocol = protocol;
+        this.maxPartialPackets = maxPartialPackets;
+        this.maxReassemblyBytes = maxReassemblyBytes;
     }
 
     @Override
     public void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
         in.markReaderIndex();
+        Packet packet;
         try {
-            out.add(protocol.parseHeaderAndPackage(in));
+            packet = protocol.parseHeaderAndPackage(in);
         } catch (NotEnoughDataException e) {
             in.resetReaderIndex();
+            return;
+        }
+        if (packet.getType() != PacketType.CHUNK) {
+            out.add(packet);
+            return;
+        }
+        Packet assembled = assembleChunk(ctx, packet);
+        if (assembled != null) {
+            out.add(assembled);
+        }
+    }
+
+    /**
+     * @param ctx
+     * @param chunk
+     * @return 收到最后一个分片时返回重组后的报文
+     * @throws BadSchemaException
+     */
+    private Packet assembleChunk(ChannelHandlerContext ctx, Packet chunk) throws BadSchemaException {
+        ByteBuf body = chunk.getBody();
+        if (body.readableBytes() < ChunkedPacketWriter.CHUNK_HEADER_LEN) {
+            chunk.release();
+            throw new BadSchemaException();
+        }
+        long chunkId = body.readLong();
+        PacketType packetType = PacketType.valueOf(body.readByte());
+        boolean last = body.readByte() == ChunkedPacketWriter.FLAG_LAST_CHUNK;
+        if (packetType == null) {
+            chunk.release();
+            throw new BadSchemaException();
+        }
+        if (reassemblyBytes + body.readableBytes() > maxReassemblyBytes) {
+            chunk.release();
+            throw new BadSchemaException(String.format("Reassembly bytes exceed limit: %d.", maxReassemblyBytes));
+        }
+        Packet packet = partialPackets.get(chunkId);
+        if (packet == null) {
+            if (partialPackets.size() >= maxPartialPackets) {
+                chunk.release();
+                throw new BadSchemaException(String.format("Partial packets exceed limit: %d.", maxPartialPackets));
+            }
+            packet = new Packet(packetType, ctx.alloc().compositeBuffer(Integer.MAX_VALUE));
+            partialPackets.put(chunkId, packet);
+        }
+        reassemblyBytes += body.readableBytes();
+        ((CompositeByteBuf) packet.getBody()).addComponent(true, body);
+        if (!last) {
+            return null;
+        }
+        partialPackets.remove(chunkId);
+        reassemblyBytes -= packet.getBody().readableBytes();
+        return packet;
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        for (Packet packet : partialPackets.values()) {
+            packet.release();
         }
+        partialPackets.clear();
+        reassemblyBytes = 0L;
     }
 }
@@ -0,0 +1,255 @@
+package com.jsj.rpc.codec;
+
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 大报文分片发送
+ * <p>
+ * body超过chunkSize的报文被拆分为CHUNK分片，多个大报文之间按轮转每次各写出一个分片，
+ * 每轮之后让出io线程，其间写入的小报文可以插队，大报文因此不会长时间独占连接；
+ * 已写出但尚未写入socket的分片超过连接的写缓冲高水位时暂停，待分片写完后继续。
+ * 同一orderKey(所属的请求或流)的报文保持写入顺序：排在未写完的大报文之后的报文等待其写完再写出。
+ * 等待中的报文超过写缓冲高水位时将连接置为不可写，低于低水位后恢复，连接的可写状态因此仍能反映真实的积压。
+ * 大报文写出第一个分片后其promise不可再取消，取消成功即说明报文一个字节也未写出
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class ChunkedPacketWriter extends ChannelDuplexHandler {
+    /**
+     * chunk_id(8 byte) | packet_type(1 byte) | flags(1 byte)
+     */
+    static final int CHUNK_HEADER_LEN = 10;
+    static final byte FLAG_LAST_CHUNK = 1;
+    /**
+     * ChannelOutboundBuffer中用户自定义可写状态的下标
+     */
+    private static final int WRITABILITY_INDEX = 1;
+
+    private final int chunkSize;
+    /**
+     * 有报文等待写出的队列，按轮转顺序排列
+     */
+    private final Queue<PendingQueue> activeQueues = new ArrayDeque<>();
+    /**
+     * 带orderKey的等待队列，用于让同一key的后续报文排队
+     */
+    private final Map<Long, PendingQueue> queuesByKey = new HashMap<>();
+    private long nextChunkId = 0L;
+    private boolean writeScheduled = false;
+    /**
+     * 已交给下游但尚未写入socket的分片字节数
+     */
+    private long inflightChunkBytes = 0L;
+    /**
+     * 等待写出的字节数
+     */
+    private long pendingBytes = 0L;
+
+    /**
+     * @param chunkSize 分片大小(byte)
+     */
+    public ChunkedPacketWriter(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof Packet)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        Packet packet = (Packet) msg;
+        long key = packet.getOrderKey();
+        PendingQueue queue = key == Packet.NO_ORDER_KEY ? null : queuesByKey.get(key);
+        boolean large = packet.getBody() != null && packet.getBody().readableBytes() > chunkSize;
+        if (queue == null && !large) {
+            ctx.write(msg, promise);
+            return;
+        }
+        if (queue == null) {
+            queue = new PendingQueue(key);
+            if (key != Packet.NO_ORDER_KEY) {
+                queuesByKey.put(key, queue);
+            }
+            activeQueues.add(queue);
+        }
+        PendingWrite pendingWrite = new PendingWrite(packet, promise, large ? nextChunkId++ : -1L);
+        queue.writes.add(pendingWrite);
+        incrementPendingBytes(ctx, pendingWrite.size);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        writeChunks(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        failPendingWrites(ctx, new ClosedChannelException());
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        failPendingWrites(ctx, new ClosedChannelException());
+    }
+
+    /**
+     * 每个等待队列写出队首报文或队首大报文的一个分片
+     *
+     * @param ctx
+     */
+    private void writeChunks(ChannelHandlerContext ctx) {
+        long maxInflightBytes = Math.max(chunkSize, ctx.channel().config().getWriteBufferHighWaterMark());
+        for (int i = activeQueues.size(); i > 0; i--) {
+            PendingQueue queue = activeQueues.poll();
+            PendingWrite head = queue.writes.peek();
+            if (head.chunkId < 0) {
+                decrementPendingBytes(ctx, head.size);
+                ctx.write(head.packet, head.promise);
+                queue.writes.poll();
+            } else if (inflightChunkBytes < maxInflightBytes && writeChunk(ctx, head)) {
+                queue.writes.poll();
+            }
+            if (!queue.writes.isEmpty()) {
+                activeQueues.add(queue);
+            } else if (queue.key != Packet.NO_ORDER_KEY) {
+                queuesByKey.remove(queue.key);
+            }
+        }
+        if (inflightChunkBytes < maxInflightBytes) {
+            scheduleWrite(ctx);
+        }
+    }
+
+    /**
+     * @param ctx
+     * @param pendingWrite
+     * @return 是否已写出最后一个分片或已丢弃报文
+     */
+    private boolean writeChunk(ChannelHandlerContext ctx, PendingWrite pendingWrite) {
+        if (!pendingWrite.promise.setUncancellable()) {
+            //发送方已取消，且尚未写出任何分片，整个报文丢弃
+            decrementPendingBytes(ctx, pendingWrite.remainingSize());
+            pendingWrite.packet.release();
+            return true;
+        }
+        ByteBuf body = pendingWrite.packet.getBody();
+        int length = Math.min(chunkSize, body.readableBytes());
+        boolean last = length == body.readableBytes();
+        ByteBuf header = ctx.alloc().buffer(CHUNK_HEADER_LEN);
+        header.writeLong(pendingWrite.chunkId);
+        header.writeByte(pendingWrite.packet.getType().getValue());
+        header.writeByte(last ? FLAG_LAST_CHUNK : 0);
+        Packet chunk = new Packet(PacketType.CHUNK, Unpooled.wrappedBuffer(header, body.readRetainedSlice(length)));
+        decrementPendingBytes(ctx, length);
+        ChannelPromise promise = last ? pendingWrite.promise.unvoid() : ctx.newPromise();
+        if (last) {
+            pendingWrite.packet.release();
+        }
+        inflightChunkBytes += length;
+        promise.addListener(future -> {
+            inflightChunkBytes -= length;
+            scheduleWrite(ctx);
+        });
+        ctx.write(chunk, promise);
+        return last;
+    }
+
+    /**
+     * 让出io线程，其间提交的写入先于下一轮分片执行
+     *
+     * @param ctx
+     */
+    private void scheduleWrite(ChannelHandlerContext ctx) {
+        if (writeScheduled || activeQueues.isEmpty()) {
+            return;
+        }
+        writeScheduled = true;
+        ctx.executor().execute(() -> {
+            writeScheduled = false;
+            writeChunks(ctx);
+            ctx.flush();
+        });
+    }
+
+    private void failPendingWrites(ChannelHandlerContext ctx, Throwable cause) {
+        PendingQueue queue;
+        while ((queue = activeQueues.poll()) != null) {
+            PendingWrite pendingWrite;
+            while ((pendingWrite = queue.writes.poll()) != null) {
+                decrementPendingBytes(ctx, pendingWrite.remainingSize());
+                pendingWrite.packet.release();
+                pendingWrite.promise.tryFailure(cause);
+            }
+        }
+        queuesByKey.clear();
+    }
+
+    private void incrementPendingBytes(ChannelHandlerContext ctx, long size) {
+        pendingBytes += size;
+        if (pendingBytes > ctx.channel().config().getWriteBufferHighWaterMark()) {
+            setWritable(ctx, false);
+        }
+    }
+
+    private void decrementPendingBytes(ChannelHandlerContext ctx, long size) {
+        pendingBytes -= size;
+        if (pendingBytes < ctx.channel().config().getWriteBufferLowWaterMark()) {
+            setWritable(ctx, true);
+        }
+    }
+
+    private static void setWritable(ChannelHandlerContext ctx, boolean writable) {
+        ChannelOutboundBuffer buffer = ctx.channel().unsafe().outboundBuffer();
+        if (buffer != null && buffer.getUserDefinedWritability(WRITABILITY_INDEX) != writable) {
+            buffer.setUserDefinedWritability(WRITABILITY_INDEX, writable);
+        }
+    }
+
+    private static class PendingQueue {
+        private final long key;
+        private final Queue<PendingWrite> writes = new ArrayDeque<>();
+
+        private PendingQueue(long key) {
+            this.key = key;
+        }
+    }
+
+    private static class PendingWrite {
+        private final Packet packet;
+        private final ChannelPromise promise;
+        /**
+         * 需要分片时为分片id，否则为-1
+         */
+        private final long chunkId;
+        private final int size;
+
+        private PendingWrite(Packet packet, ChannelPromise promise, long chunkId) {
+            this.packet = packet;
+            this.promise = promise;
+            this.chunkId = chunkId;
+            this.size = packet.getBody() == null ? 0 : packet.getBody().readableBytes();
+        }
+
+        private int remainingSize() {
+            return packet.getBody() == null ? 0 : packet.getBody().readableBytes();
+        }
+    }
+}
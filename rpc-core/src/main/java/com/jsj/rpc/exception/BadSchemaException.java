@@ -4,4 +4,10 @@ package com.jsj.rpc.exception;
  * @author jiangshenjie
  */
 public class BadSchemaException extends Exception {
+    public BadSchemaException() {
+    }
+
+    public BadSchemaException(String message) {
+        super(message);
+    }
 }
@@ -20,4 +20,8 @@ public class RpcCallException extends RuntimeException {
     public RpcCallException(String message) {
         super(message);
     }
+
+    public RpcCallException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -7,6 +7,10 @@ package com.jsj.rpc.exception;
  */
 public class RpcException extends Exception {
     private int code;
+    /**
+     * 服务端建议的重试等待时间(ms)，0表示未给出
+     */
+    private long retryAfterMillis;
 
     public RpcException(RpcExceptionType rpcExceptionType) {
         this(rpcExceptionType.getMessage(), rpcExceptionType.getCode());
@@ -41,4 +45,13 @@ public class RpcException extends Exception {
     public int getCode() {
         return code;
     }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    public RpcException setRetryAfterMillis(long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+        return this;
+    }
 }
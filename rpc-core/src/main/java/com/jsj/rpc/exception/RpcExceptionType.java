@@ -8,7 +8,20 @@ public enum RpcExceptionType {
     UNKNOWN_EXCEPTION(0, "unknown"),
     REQUEST_EXCEPTION(1, "bad request"),
     TIMEOUT_EXCEPTION(2, "timeout"),
-    SERVICE_EXCEPTION(3, "service exception");
+    SERVICE_EXCEPTION(3, "service exception"),
+    OVERLOAD_EXCEPTION(4, "server overload"),
+    /**
+     * 请求未能发出(无可用节点或连接、写入失败)，服务端未处理
+     */
+    NETWORK_EXCEPTION(5, "network exception"),
+    /**
+     * 节点熔断中，请求未发出
+     */
+    CIRCUIT_BREAKER_OPEN_EXCEPTION(6, "circuit breaker open"),
+    /**
+     * 客户端未完成请求数达到上限，请求未发出
+     */
+    INFLIGHT_LIMIT_EXCEPTION(7, "too many inflight requests");
 
     private int code;
     private String message;
@@ -25,4 +38,13 @@ public enum RpcExceptionType {
     public String getMessage() {
         return message;
     }
+
+    public static RpcExceptionType valueOf(int code) {
+        for (RpcExceptionType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return UNKNOWN_EXCEPTION;
+    }
 }
@@ -0,0 +1,16 @@
+package com.jsj.rpc.protocol;
+
+import java.util.List;
+
+/**
+ * 批量请求，多个请求合并为一个报文发送，共用一个RpcFuture和超时任务，
+ * 自身的requestId作为批量id用于匹配批量响应
+ *
+ * @author jiangshenjie
+ */
+public interface BatchRequest extends Request {
+    /**
+     * @return 批量请求中的各个请求
+     */
+    List<Request> getRequests();
+}
@@ -6,7 +6,17 @@ import io.netty.buffer.ByteBuf;
  * @author jiangshenjie
  */
 public class Packet {
+    /**
+     * 不属于任何请求或流的报文，如PING/PONG
+     */
+    public static final long NO_ORDER_KEY = -1L;
+
+    PacketType type = PacketType.DATA;
     ByteBuf body;
+    /**
+     * 报文所属的请求或流的id；大报文分片发送时会被其他报文插队，同一key的报文之间保持写入顺序
+     */
+    long orderKey = NO_ORDER_KEY;
 
     public Packet() {
     }
@@ -15,8 +25,32 @@ public class Packet {
         this.body = body;
     }
 
+    public Packet(PacketType type, ByteBuf body) {
+        this.type = type;
+        this.body = body;
+    }
+
     public void release() {
-        this.body.release();
+        if (this.body != null) {
+            this.body.release();
+        }
+    }
+
+    public PacketType getType() {
+        return type;
+    }
+
+    public void setType(PacketType type) {
+        this.type = type;
+    }
+
+    public long getOrderKey() {
+        return orderKey;
+    }
+
+    public Packet setOrderKey(long orderKey) {
+        this.orderKey = orderKey;
+        return this;
     }
 
     public ByteBuf getBody() {
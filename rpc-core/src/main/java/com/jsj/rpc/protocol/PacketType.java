@@ -0,0 +1,74 @@
+package com.jsj.rpc.protocol;
+
+/**
+ * 报文类型，位于header中
+ *
+ * @author jiangshenjie
+ */
+public enum PacketType {
+    /**
+     * rpc请求或响应
+     */
+    DATA((byte) 0),
+    /**
+     * 探活请求，body为8字节的探测id
+     */
+    PING((byte) 1),
+    /**
+     * 探活响应，原样返回PING的body
+     */
+    PONG((byte) 2),
+    /**
+     * 批量请求，body为BatchRequestMeta，其中的请求在服务端并行执行
+     */
+    BATCH_REQUEST((byte) 3),
+    /**
+     * 批量响应，body为BatchResponseMeta，批量请求中的全部请求完成后一次返回
+     */
+    BATCH_RESPONSE((byte) 4),
+    /**
+     * 流式调用中的一条消息，body为StreamMeta，流以requestId等于streamId的DATA响应结束；
+     * 客户端流式与双向流式调用中客户端也以该报文发送消息
+     */
+    STREAM_MESSAGE((byte) 5),
+    /**
+     * 流量控制，接收方处理完消息后授予发送方更多的额度，body为StreamMeta
+     */
+    STREAM_CREDIT((byte) 6),
+    /**
+     * 取消流式调用，body为StreamMeta
+     */
+    STREAM_CANCEL((byte) 7),
+    /**
+     * 客户端流式与双向流式调用中，客户端不再发送消息，body为StreamMeta
+     */
+    STREAM_HALF_CLOSE((byte) 8),
+    /**
+     * 超过chunkSize的报文被拆分成的分片，由编解码层透明地拆分与重组，
+     * body：chunk_id(8 byte) | 原报文的packet_type(1 byte) | flags(1 byte，最后一片为1) | 分片数据
+     */
+    CHUNK((byte) 9),
+    /**
+     * 返回RpcFile的方法在响应之后发送的文件内容，body：request_id(8 byte) | 文件数据，服务端以FileRegion零拷贝写出
+     */
+    FILE_DATA((byte) 10);
+
+    private final byte value;
+
+    PacketType(byte value) {
+        this.value = value;
+    }
+
+    public byte getValue() {
+        return value;
+    }
+
+    public static PacketType valueOf(byte value) {
+        for (PacketType type : values()) {
+            if (type.value == value) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
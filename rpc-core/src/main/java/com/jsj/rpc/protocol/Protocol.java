@@ -6,6 +6,8 @@ import com.jsj.rpc.exception.DecodeException;
 import com.jsj.rpc.exception.NotEnoughDataException;
 import io.netty.buffer.ByteBuf;
 
+import java.util.List;
+
 /**
  * @author jiangshenjie
  */
@@ -19,6 +21,14 @@ public interface Protocol {
 
     Response createResponse();
 
+    /**
+     * 将多个请求合并为一个批量请求，作为一个报文发送
+     *
+     * @param requests
+     * @return
+     */
+    BatchRequest createBatchRequest(List<Request> requests);
+
     /**
      * 将Packet编码成协议报文
      *
@@ -38,6 +48,33 @@ public interface Protocol {
      */
     Packet parseHeaderAndPackage(ByteBuf in) throws BadSchemaException, NotEnoughDataException;
 
+    /**
+     * 将流式调用的消息、额度或取消编码为报文
+     *
+     * @param type       STREAM_MESSAGE、STREAM_CREDIT、STREAM_CANCEL或STREAM_HALF_CLOSE
+     * @param streamMeta
+     * @return
+     */
+    Packet encodeStreamFrame(PacketType type, RpcMeta.StreamMeta streamMeta);
+
+    /**
+     * 解析流式调用的报文
+     *
+     * @param packet
+     * @return
+     * @throws DecodeException
+     */
+    RpcMeta.StreamMeta decodeAsStreamFrame(Packet packet) throws DecodeException;
+
+    /**
+     * FILE_DATA报文的header与request_id，文件数据紧随其后以FileRegion写出
+     *
+     * @param requestId
+     * @param dataLength 随后写出的文件数据长度
+     * @return
+     */
+    ByteBuf encodeFileDataHeader(long requestId, int dataLength);
+
     /**************** 仅Rpc Server需要实现的函数 *******************/
 
     /**
@@ -49,14 +86,33 @@ public interface Protocol {
      */
     Request decodeAsRequest(Packet packet) throws DecodeException;
 
+    /**
+     * 从BATCH_REQUEST类型的packet中获取批量请求
+     *
+     * @param packet
+     * @return
+     * @throws DecodeException
+     */
+    BatchRequest decodeAsBatchRequest(Packet packet) throws DecodeException;
+
+    /**
+     * 将批量请求中各请求的响应编码为一个BATCH_RESPONSE报文
+     *
+     * @param batchId   批量请求的requestId
+     * @param responses 顺序与批量请求中的请求一致
+     * @return
+     */
+    Packet encodeBatchResponse(long batchId, List<Response> responses);
+
     /**************** 仅Rpc Client需要实现的函数 *******************/
 
     /**
-     * 从Packet反序列化出RpcResponse对象
+     * 从Packet反序列化出RpcResponse对象，BATCH_RESPONSE类型的packet返回批量请求的Response，
+     * 其result为各请求的Response列表
      *
      * @param packet
      * @param channelInfo
-     * @return
+     * @return 请求已超时或被取消时返回null
      * @throws DecodeException
      */
     Response decodeAsResponse(Packet packet, ChannelInfo channelInfo) throws DecodeException;
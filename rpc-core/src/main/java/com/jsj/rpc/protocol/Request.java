@@ -1,8 +1,11 @@
 package com.jsj.rpc.protocol;
 
+import com.google.protobuf.ByteString;
 import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.StreamObserver;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * @author jiangshenjie
@@ -36,6 +39,55 @@ public interface Request {
 
     Request setCallback(RpcCallback<?> callback);
 
+    int getWriteTimeoutMillis();
+
+    Request setWriteTimeoutMillis(int writeTimeoutMillis);
+
+    /**
+     * rpc任务的超时时间(ms)，随请求传递给服务端，0表示不限制
+     *
+     * @return
+     */
+    int getTaskTimeoutMills();
+
+    Request setTaskTimeoutMills(int taskTimeoutMills);
+
+    /**
+     * 服务端调度优先级，见{@link RequestPriority}
+     *
+     * @return
+     */
+    int getPriority();
+
+    Request setPriority(int priority);
+
+    /**
+     * 流式调用中接收服务端消息的observer，非流式调用为null
+     *
+     * @return
+     */
+    StreamObserver<?> getStreamObserver();
+
+    Request setStreamObserver(StreamObserver<?> streamObserver);
+
+    /**
+     * 流式调用中客户端授予服务端的初始额度，即服务端无需等待即可发送的消息数
+     *
+     * @return
+     */
+    int getStreamCredits();
+
+    Request setStreamCredits(int streamCredits);
+
+    /**
+     * 服务端解码时保留的各参数序列化后的字节，用作结果缓存的key
+     *
+     * @return 客户端创建的请求返回null
+     */
+    List<ByteString> getSerializedParams();
+
+    Request setSerializedParams(List<ByteString> serializedParams);
+
     RpcMeta.RequestMeta transToRequestMeta();
 
     Packet transToPacket();
@@ -0,0 +1,35 @@
+package com.jsj.rpc.protocol;
+
+/**
+ * 请求在服务端的调度优先级
+ *
+ * @author jiangshenjie
+ */
+public enum RequestPriority {
+    /**
+     * 延迟敏感的交互式请求
+     */
+    HIGH(1),
+    NORMAL(0),
+    /**
+     * 批量任务等可延后处理的请求
+     */
+    LOW(-1);
+
+    private int value;
+
+    RequestPriority(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public static RequestPriority valueOf(int value) {
+        if (value > 0) {
+            return HIGH;
+        }
+        return value < 0 ? LOW : NORMAL;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jsj.rpc.protocol;
 
+import com.google.protobuf.Any;
 import com.jsj.rpc.RpcFuture;
 
 /**
@@ -22,6 +23,24 @@ public interface Response {
 
     void setResult(Object object);
 
+    /**
+     * 已序列化的结果，设置后编码时直接使用，不再序列化result
+     *
+     * @return
+     */
+    Any getSerializedResult();
+
+    void setSerializedResult(Any serializedResult);
+
+    /**
+     * 返回RpcFile的方法，响应之后以FILE_DATA报文发送的文件长度
+     *
+     * @return
+     */
+    long getFileLength();
+
+    void setFileLength(long fileLength);
+
     RpcMeta.ResponseMeta transToResponseMeta();
 
     Packet transToPacket();
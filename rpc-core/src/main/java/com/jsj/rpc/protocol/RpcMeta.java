@@ -4,305 +4,185 @@
 package com.jsj.rpc.protocol;
 
 public final class RpcMeta {
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_RequestMeta_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_RequestMeta_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-          internal_static_ResponseMeta_descriptor;
-  private static final
-  com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internal_static_ResponseMeta_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.FileDescriptor
-          descriptor;
-
-  static {
-    String[] descriptorData = {
-            "\n\tRpc.proto\032\031google/protobuf/any.proto\"o" +
-                    "\n\013RequestMeta\022\021\n\trequestId\030\001 \001(\004\022\023\n\013serv" +
-                    "iceName\030\002 \001(\t\022\022\n\nmethodName\030\003 \001(\t\022$\n\006par" +
-                    "ams\030\004 \003(\0132\024.google.protobuf.Any\"W\n\014Respo" +
-                    "nseMeta\022\021\n\trequestId\030\001 \001(\004\022$\n\006result\030\002 \001" +
-                    "(\0132\024.google.protobuf.Any\022\016\n\006errMsg\030\003 \001(\t" +
-                    "B\037\n\024com.jsj.rpc.protocolB\007RpcMetab\006proto" +
-                    "3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-            .internalBuildGeneratedFileFrom(descriptorData,
-                    new com.google.protobuf.Descriptors.FileDescriptor[]{
-                            com.google.protobuf.AnyProto.getDescriptor(),
-                    });
-    internal_static_RequestMeta_descriptor =
-            getDescriptor().getMessageTypes().get(0);
-    internal_static_RequestMeta_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_RequestMeta_descriptor,
-            new String[]{"RequestId", "ServiceName", "MethodName", "Params",});
-    internal_static_ResponseMeta_descriptor =
-            getDescriptor().getMessageTypes().get(1);
-    internal_static_ResponseMeta_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-            internal_static_ResponseMeta_descriptor,
-            new String[]{"RequestId", "Result", "ErrMsg",});
-    com.google.protobuf.AnyProto.getDescriptor();
-  }
-
-  private RpcMeta() {
-  }
-
+  private RpcMeta() {}
   public static void registerAllExtensions(
-          com.google.protobuf.ExtensionRegistryLite registry) {
+      com.google.protobuf.ExtensionRegistryLite registry) {
   }
 
   public static void registerAllExtensions(
-          com.google.protobuf.ExtensionRegistry registry) {
+      com.google.protobuf.ExtensionRegistry registry) {
     registerAllExtensions(
-            (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-  getDescriptor() {
-    return descriptor;
+        (com.google.protobuf.ExtensionRegistryLite) registry);
   }
-
   public interface RequestMetaOrBuilder extends
-          // @@protoc_insertion_point(interface_extends:RequestMeta)
-          com.google.protobuf.MessageOrBuilder {
+      // @@protoc_insertion_point(interface_extends:RequestMeta)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * request id
+     *request id
      * </pre>
      *
      * <code>uint64 requestId = 1;</code>
-     *
      * @return The requestId.
      */
     long getRequestId();
 
     /**
      * <pre>
-     * interface name
+     *interface name
      * </pre>
      *
      * <code>string serviceName = 2;</code>
-     *
      * @return The serviceName.
      */
-    String getServiceName();
-
+    java.lang.String getServiceName();
     /**
      * <pre>
-     * interface name
+     *interface name
      * </pre>
      *
      * <code>string serviceName = 2;</code>
-     *
      * @return The bytes for serviceName.
      */
     com.google.protobuf.ByteString
-    getServiceNameBytes();
+        getServiceNameBytes();
 
     /**
      * <pre>
-     * method name
+     *method name
      * </pre>
      *
      * <code>string methodName = 3;</code>
-     *
      * @return The methodName.
      */
-    String getMethodName();
-
+    java.lang.String getMethodName();
     /**
      * <pre>
-     * method name
+     *method name
      * </pre>
      *
      * <code>string methodName = 3;</code>
-     *
      * @return The bytes for methodName.
      */
     com.google.protobuf.ByteString
-    getMethodNameBytes();
+        getMethodNameBytes();
 
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
-    java.util.List<com.google.protobuf.Any>
-    getParamsList();
-
+    java.util.List<com.google.protobuf.Any> 
+        getParamsList();
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
     com.google.protobuf.Any getParams(int index);
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
     int getParamsCount();
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
-    java.util.List<? extends com.google.protobuf.AnyOrBuilder>
-    getParamsOrBuilderList();
-
+    java.util.List<? extends com.google.protobuf.AnyOrBuilder> 
+        getParamsOrBuilderList();
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
     com.google.protobuf.AnyOrBuilder getParamsOrBuilder(
-            int index);
-  }
-
-  public interface ResponseMetaOrBuilder extends
-          // @@protoc_insertion_point(interface_extends:ResponseMeta)
-          com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * request id
-     * </pre>
-     *
-     * <code>uint64 requestId = 1;</code>
-     *
-     * @return The requestId.
-     */
-    long getRequestId();
-
-    /**
-     * <pre>
-     * invoke result
-     * </pre>
-     *
-     * <code>.google.protobuf.Any result = 2;</code>
-     *
-     * @return Whether the result field is set.
-     */
-    boolean hasResult();
-
-    /**
-     * <pre>
-     * invoke result
-     * </pre>
-     *
-     * <code>.google.protobuf.Any result = 2;</code>
-     *
-     * @return The result.
-     */
-    com.google.protobuf.Any getResult();
+        int index);
 
     /**
      * <pre>
-     * invoke result
+     *client deadline, relative to the time request sent
      * </pre>
      *
-     * <code>.google.protobuf.Any result = 2;</code>
+     * <code>uint32 timeoutMillis = 5;</code>
+     * @return The timeoutMillis.
      */
-    com.google.protobuf.AnyOrBuilder getResultOrBuilder();
+    int getTimeoutMillis();
 
     /**
      * <pre>
-     * error msg when exception.
+     *scheduling priority on server, higher value is scheduled first
      * </pre>
      *
-     * <code>string errMsg = 3;</code>
-     *
-     * @return The errMsg.
+     * <code>int32 priority = 6;</code>
+     * @return The priority.
      */
-    String getErrMsg();
+    int getPriority();
 
     /**
      * <pre>
-     * error msg when exception.
+     *stream messages the client is ready to accept before granting more credits
      * </pre>
      *
-     * <code>string errMsg = 3;</code>
-     *
-     * @return The bytes for errMsg.
+     * <code>uint32 streamCredits = 7;</code>
+     * @return The streamCredits.
      */
-    com.google.protobuf.ByteString
-    getErrMsgBytes();
+    int getStreamCredits();
   }
-
   /**
    * Protobuf type {@code RequestMeta}
    */
-  public static final class RequestMeta extends
-          com.google.protobuf.GeneratedMessageV3 implements
-          // @@protoc_insertion_point(message_implements:RequestMeta)
-          RequestMetaOrBuilder {
-    public static final int REQUESTID_FIELD_NUMBER = 1;
-    public static final int SERVICENAME_FIELD_NUMBER = 2;
-    public static final int METHODNAME_FIELD_NUMBER = 3;
-    public static final int PARAMS_FIELD_NUMBER = 4;
-    private static final long serialVersionUID = 0L;
-    // @@protoc_insertion_point(class_scope:RequestMeta)
-    private static final RequestMeta DEFAULT_INSTANCE;
-    private static final com.google.protobuf.Parser<RequestMeta>
-            PARSER = new com.google.protobuf.AbstractParser<RequestMeta>() {
-      @Override
-      public RequestMeta parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RequestMeta(input, extensionRegistry);
-      }
-    };
-
-    static {
-      DEFAULT_INSTANCE = new RequestMeta();
-    }
-
-    private long requestId_;
-    private volatile Object serviceName_;
-    private volatile Object methodName_;
-    private java.util.List<com.google.protobuf.Any> params_;
-    private byte memoizedIsInitialized = -1;
-
+  public  static final class RequestMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RequestMeta)
+      RequestMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
     // Use RequestMeta.newBuilder() to construct.
     private RequestMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-
     private RequestMeta() {
       serviceName_ = "";
       methodName_ = "";
       params_ = java.util.Collections.emptyList();
     }
 
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RequestMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
     private RequestMeta(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       this();
       if (extensionRegistry == null) {
-        throw new NullPointerException();
+        throw new java.lang.NullPointerException();
       }
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-              com.google.protobuf.UnknownFieldSet.newBuilder();
+          com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
         boolean done = false;
         while (!done) {
@@ -317,13 +197,13 @@ public final class RpcMeta {
               break;
             }
             case 18: {
-              String s = input.readStringRequireUtf8();
+              java.lang.String s = input.readStringRequireUtf8();
 
               serviceName_ = s;
               break;
             }
             case 26: {
-              String s = input.readStringRequireUtf8();
+              java.lang.String s = input.readStringRequireUtf8();
 
               methodName_ = s;
               break;
@@ -334,12 +214,27 @@ public final class RpcMeta {
                 mutable_bitField0_ |= 0x00000001;
               }
               params_.add(
-                      input.readMessage(com.google.protobuf.Any.parser(), extensionRegistry));
+                  input.readMessage(com.google.protobuf.Any.parser(), extensionRegistry));
+              break;
+            }
+            case 40: {
+
+              timeoutMillis_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+
+              priority_ = input.readInt32();
+              break;
+            }
+            case 56: {
+
+              streamCredits_ = input.readUInt32();
               break;
             }
             default: {
               if (!parseUnknownField(
-                      input, unknownFields, extensionRegistry, tag)) {
+                  input, unknownFields, extensionRegistry, tag)) {
                 done = true;
               }
               break;
@@ -350,7 +245,7 @@ public final class RpcMeta {
         throw e.setUnfinishedMessage(this);
       } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-                e).setUnfinishedMessage(this);
+            e).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000001) != 0)) {
           params_ = java.util.Collections.unmodifiableList(params_);
@@ -359,181 +254,70 @@ public final class RpcMeta {
         makeExtensionsImmutable();
       }
     }
-
     public static final com.google.protobuf.Descriptors.Descriptor
-    getDescriptor() {
-      return RpcMeta.internal_static_RequestMeta_descriptor;
-    }
-
-    public static RequestMeta parseFrom(
-            java.nio.ByteBuffer data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static RequestMeta parseFrom(
-            java.nio.ByteBuffer data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static RequestMeta parseFrom(
-            com.google.protobuf.ByteString data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static RequestMeta parseFrom(
-            com.google.protobuf.ByteString data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static RequestMeta parseFrom(byte[] data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static RequestMeta parseFrom(
-            byte[] data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static RequestMeta parseFrom(java.io.InputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-
-    public static RequestMeta parseFrom(
-            java.io.InputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static RequestMeta parseDelimitedFrom(java.io.InputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static RequestMeta parseDelimitedFrom(
-            java.io.InputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static RequestMeta parseFrom(
-            com.google.protobuf.CodedInputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-
-    public static RequestMeta parseFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-
-    public static Builder newBuilder(RequestMeta prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-
-    public static RequestMeta getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    public static com.google.protobuf.Parser<RequestMeta> parser() {
-      return PARSER;
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-            UnusedPrivateParameter unused) {
-      return new RequestMeta();
-    }
-
-    @Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
+        getDescriptor() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_RequestMeta_descriptor;
     }
 
-    @Override
-    protected FieldAccessorTable
-    internalGetFieldAccessorTable() {
-      return RpcMeta.internal_static_RequestMeta_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                      RequestMeta.class, Builder.class);
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_RequestMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.protocol.RpcMeta.RequestMeta.class, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder.class);
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
     /**
      * <pre>
-     * request id
+     *request id
      * </pre>
      *
      * <code>uint64 requestId = 1;</code>
-     *
      * @return The requestId.
      */
     public long getRequestId() {
       return requestId_;
     }
 
+    public static final int SERVICENAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object serviceName_;
     /**
      * <pre>
-     * interface name
+     *interface name
      * </pre>
      *
      * <code>string serviceName = 2;</code>
-     *
      * @return The serviceName.
      */
-    public String getServiceName() {
-      Object ref = serviceName_;
-      if (ref instanceof String) {
-        return (String) ref;
+    public java.lang.String getServiceName() {
+      java.lang.Object ref = serviceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
         serviceName_ = s;
         return s;
       }
     }
-
     /**
      * <pre>
-     * interface name
+     *interface name
      * </pre>
      *
      * <code>string serviceName = 2;</code>
-     *
      * @return The bytes for serviceName.
      */
     public com.google.protobuf.ByteString
-    getServiceNameBytes() {
-      Object ref = serviceName_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                        (String) ref);
+        getServiceNameBytes() {
+      java.lang.Object ref = serviceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         serviceName_ = b;
         return b;
       } else {
@@ -541,44 +325,43 @@ public final class RpcMeta {
       }
     }
 
+    public static final int METHODNAME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object methodName_;
     /**
      * <pre>
-     * method name
+     *method name
      * </pre>
      *
      * <code>string methodName = 3;</code>
-     *
      * @return The methodName.
      */
-    public String getMethodName() {
-      Object ref = methodName_;
-      if (ref instanceof String) {
-        return (String) ref;
+    public java.lang.String getMethodName() {
+      java.lang.Object ref = methodName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
         methodName_ = s;
         return s;
       }
     }
-
     /**
      * <pre>
-     * method name
+     *method name
      * </pre>
      *
      * <code>string methodName = 3;</code>
-     *
      * @return The bytes for methodName.
      */
     public com.google.protobuf.ByteString
-    getMethodNameBytes() {
-      Object ref = methodName_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                        (String) ref);
+        getMethodNameBytes() {
+      java.lang.Object ref = methodName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         methodName_ = b;
         return b;
       } else {
@@ -586,9 +369,11 @@ public final class RpcMeta {
       }
     }
 
+    public static final int PARAMS_FIELD_NUMBER = 4;
+    private java.util.List<com.google.protobuf.Any> params_;
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -596,22 +381,20 @@ public final class RpcMeta {
     public java.util.List<com.google.protobuf.Any> getParamsList() {
       return params_;
     }
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
-    public java.util.List<? extends com.google.protobuf.AnyOrBuilder>
-    getParamsOrBuilderList() {
+    public java.util.List<? extends com.google.protobuf.AnyOrBuilder> 
+        getParamsOrBuilderList() {
       return params_;
     }
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -619,10 +402,9 @@ public final class RpcMeta {
     public int getParamsCount() {
       return params_.size();
     }
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -630,20 +412,62 @@ public final class RpcMeta {
     public com.google.protobuf.Any getParams(int index) {
       return params_.get(index);
     }
-
     /**
      * <pre>
-     * method params
+     *method params
      * </pre>
      *
      * <code>repeated .google.protobuf.Any params = 4;</code>
      */
     public com.google.protobuf.AnyOrBuilder getParamsOrBuilder(
-            int index) {
+        int index) {
       return params_.get(index);
     }
 
-    @Override
+    public static final int TIMEOUTMILLIS_FIELD_NUMBER = 5;
+    private int timeoutMillis_;
+    /**
+     * <pre>
+     *client deadline, relative to the time request sent
+     * </pre>
+     *
+     * <code>uint32 timeoutMillis = 5;</code>
+     * @return The timeoutMillis.
+     */
+    public int getTimeoutMillis() {
+      return timeoutMillis_;
+    }
+
+    public static final int PRIORITY_FIELD_NUMBER = 6;
+    private int priority_;
+    /**
+     * <pre>
+     *scheduling priority on server, higher value is scheduled first
+     * </pre>
+     *
+     * <code>int32 priority = 6;</code>
+     * @return The priority.
+     */
+    public int getPriority() {
+      return priority_;
+    }
+
+    public static final int STREAMCREDITS_FIELD_NUMBER = 7;
+    private int streamCredits_;
+    /**
+     * <pre>
+     *stream messages the client is ready to accept before granting more credits
+     * </pre>
+     *
+     * <code>uint32 streamCredits = 7;</code>
+     * @return The streamCredits.
+     */
+    public int getStreamCredits() {
+      return streamCredits_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
@@ -653,9 +477,9 @@ public final class RpcMeta {
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
-            throws java.io.IOException {
+                        throws java.io.IOException {
       if (requestId_ != 0L) {
         output.writeUInt64(1, requestId_);
       }
@@ -668,10 +492,19 @@ public final class RpcMeta {
       for (int i = 0; i < params_.size(); i++) {
         output.writeMessage(4, params_.get(i));
       }
+      if (timeoutMillis_ != 0) {
+        output.writeUInt32(5, timeoutMillis_);
+      }
+      if (priority_ != 0) {
+        output.writeInt32(6, priority_);
+      }
+      if (streamCredits_ != 0) {
+        output.writeUInt32(7, streamCredits_);
+      }
       unknownFields.writeTo(output);
     }
 
-    @Override
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
@@ -679,7 +512,7 @@ public final class RpcMeta {
       size = 0;
       if (requestId_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-                .computeUInt64Size(1, requestId_);
+          .computeUInt64Size(1, requestId_);
       }
       if (!getServiceNameBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, serviceName_);
@@ -689,36 +522,54 @@ public final class RpcMeta {
       }
       for (int i = 0; i < params_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-                .computeMessageSize(4, params_.get(i));
+          .computeMessageSize(4, params_.get(i));
+      }
+      if (timeoutMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, timeoutMillis_);
+      }
+      if (priority_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, priority_);
+      }
+      if (streamCredits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, streamCredits_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    @Override
-    public boolean equals(final Object obj) {
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof RequestMeta)) {
+      if (!(obj instanceof com.jsj.rpc.protocol.RpcMeta.RequestMeta)) {
         return super.equals(obj);
       }
-      RequestMeta other = (RequestMeta) obj;
+      com.jsj.rpc.protocol.RpcMeta.RequestMeta other = (com.jsj.rpc.protocol.RpcMeta.RequestMeta) obj;
 
       if (getRequestId()
-              != other.getRequestId()) return false;
+          != other.getRequestId()) return false;
       if (!getServiceName()
-              .equals(other.getServiceName())) return false;
+          .equals(other.getServiceName())) return false;
       if (!getMethodName()
-              .equals(other.getMethodName())) return false;
+          .equals(other.getMethodName())) return false;
       if (!getParamsList()
-              .equals(other.getParamsList())) return false;
+          .equals(other.getParamsList())) return false;
+      if (getTimeoutMillis()
+          != other.getTimeoutMillis()) return false;
+      if (getPriority()
+          != other.getPriority()) return false;
+      if (getStreamCredits()
+          != other.getStreamCredits()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public int hashCode() {
       if (memoizedHashCode != 0) {
         return memoizedHashCode;
@@ -727,7 +578,7 @@ public final class RpcMeta {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-              getRequestId());
+          getRequestId());
       hash = (37 * hash) + SERVICENAME_FIELD_NUMBER;
       hash = (53 * hash) + getServiceName().hashCode();
       hash = (37 * hash) + METHODNAME_FIELD_NUMBER;
@@ -736,54 +587,126 @@ public final class RpcMeta {
         hash = (37 * hash) + PARAMS_FIELD_NUMBER;
         hash = (53 * hash) + getParamsList().hashCode();
       }
+      hash = (37 * hash) + TIMEOUTMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getTimeoutMillis();
+      hash = (37 * hash) + PRIORITY_FIELD_NUMBER;
+      hash = (53 * hash) + getPriority();
+      hash = (37 * hash) + STREAMCREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getStreamCredits();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    @Override
-    public Builder newBuilderForType() {
-      return newBuilder();
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    @Override
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.protocol.RpcMeta.RequestMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
     public Builder toBuilder() {
       return this == DEFAULT_INSTANCE
-              ? new Builder() : new Builder().mergeFrom(this);
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
-    @Override
+    @java.lang.Override
     protected Builder newBuilderForType(
-            BuilderParent parent) {
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
+    /**
+     * Protobuf type {@code RequestMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RequestMeta)
+        com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_RequestMeta_descriptor;
+      }
 
-    @Override
-    public com.google.protobuf.Parser<RequestMeta> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public RequestMeta getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-    /**
-     * Protobuf type {@code RequestMeta}
-     */
-    public static final class Builder extends
-            com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-            // @@protoc_insertion_point(builder_implements:RequestMeta)
-            RequestMetaOrBuilder {
-      private int bitField0_;
-      private long requestId_;
-      private Object serviceName_ = "";
-      private Object methodName_ = "";
-      private java.util.List<com.google.protobuf.Any> params_ =
-              java.util.Collections.emptyList();
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> paramsBuilder_;
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_RequestMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.protocol.RpcMeta.RequestMeta.class, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder.class);
+      }
 
       // Construct using com.jsj.rpc.protocol.RpcMeta.RequestMeta.newBuilder()
       private Builder() {
@@ -791,32 +714,17 @@ public final class RpcMeta {
       }
 
       private Builder(
-              BuilderParent parent) {
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
-      public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-        return RpcMeta.internal_static_RequestMeta_descriptor;
-      }
-
-      @Override
-      protected FieldAccessorTable
-      internalGetFieldAccessorTable() {
-        return RpcMeta.internal_static_RequestMeta_fieldAccessorTable
-                .ensureFieldAccessorsInitialized(
-                        RequestMeta.class, Builder.class);
-      }
-
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
           getParamsFieldBuilder();
         }
       }
-
-      @Override
+      @java.lang.Override
       public Builder clear() {
         super.clear();
         requestId_ = 0L;
@@ -831,32 +739,38 @@ public final class RpcMeta {
         } else {
           paramsBuilder_.clear();
         }
+        timeoutMillis_ = 0;
+
+        priority_ = 0;
+
+        streamCredits_ = 0;
+
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
-      getDescriptorForType() {
-        return RpcMeta.internal_static_RequestMeta_descriptor;
+          getDescriptorForType() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_RequestMeta_descriptor;
       }
 
-      @Override
-      public RequestMeta getDefaultInstanceForType() {
-        return RequestMeta.getDefaultInstance();
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta getDefaultInstanceForType() {
+        return com.jsj.rpc.protocol.RpcMeta.RequestMeta.getDefaultInstance();
       }
 
-      @Override
-      public RequestMeta build() {
-        RequestMeta result = buildPartial();
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta build() {
+        com.jsj.rpc.protocol.RpcMeta.RequestMeta result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override
-      public RequestMeta buildPartial() {
-        RequestMeta result = new RequestMeta(this);
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta buildPartial() {
+        com.jsj.rpc.protocol.RpcMeta.RequestMeta result = new com.jsj.rpc.protocol.RpcMeta.RequestMeta(this);
         int from_bitField0_ = bitField0_;
         result.requestId_ = requestId_;
         result.serviceName_ = serviceName_;
@@ -870,60 +784,57 @@ public final class RpcMeta {
         } else {
           result.params_ = paramsBuilder_.build();
         }
+        result.timeoutMillis_ = timeoutMillis_;
+        result.priority_ = priority_;
+        result.streamCredits_ = streamCredits_;
         onBuilt();
         return result;
       }
 
-      @Override
+      @java.lang.Override
       public Builder clone() {
         return super.clone();
       }
-
-      @Override
+      @java.lang.Override
       public Builder setField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
         return super.setField(field, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder clearField(
-              com.google.protobuf.Descriptors.FieldDescriptor field) {
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
         return super.clearField(field);
       }
-
-      @Override
+      @java.lang.Override
       public Builder clearOneof(
-              com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
         return super.clearOneof(oneof);
       }
-
-      @Override
+      @java.lang.Override
       public Builder setRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              int index, Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
         return super.setRepeatedField(field, index, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder addRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
         return super.addRepeatedField(field, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof RequestMeta) {
-          return mergeFrom((RequestMeta) other);
+        if (other instanceof com.jsj.rpc.protocol.RpcMeta.RequestMeta) {
+          return mergeFrom((com.jsj.rpc.protocol.RpcMeta.RequestMeta)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(RequestMeta other) {
-        if (other == RequestMeta.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.jsj.rpc.protocol.RpcMeta.RequestMeta other) {
+        if (other == com.jsj.rpc.protocol.RpcMeta.RequestMeta.getDefaultInstance()) return this;
         if (other.getRequestId() != 0L) {
           setRequestId(other.getRequestId());
         }
@@ -953,34 +864,43 @@ public final class RpcMeta {
               paramsBuilder_ = null;
               params_ = other.params_;
               bitField0_ = (bitField0_ & ~0x00000001);
-              paramsBuilder_ =
-                      com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                              getParamsFieldBuilder() : null;
+              paramsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getParamsFieldBuilder() : null;
             } else {
               paramsBuilder_.addAllMessages(other.params_);
             }
           }
         }
+        if (other.getTimeoutMillis() != 0) {
+          setTimeoutMillis(other.getTimeoutMillis());
+        }
+        if (other.getPriority() != 0) {
+          setPriority(other.getPriority());
+        }
+        if (other.getStreamCredits() != 0) {
+          setStreamCredits(other.getStreamCredits());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public final boolean isInitialized() {
         return true;
       }
 
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws java.io.IOException {
-        RequestMeta parsedMessage = null;
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.protocol.RpcMeta.RequestMeta parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (RequestMeta) e.getUnfinishedMessage();
+          parsedMessage = (com.jsj.rpc.protocol.RpcMeta.RequestMeta) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -989,271 +909,257 @@ public final class RpcMeta {
         }
         return this;
       }
+      private int bitField0_;
 
+      private long requestId_ ;
       /**
        * <pre>
-       * request id
+       *request id
        * </pre>
        *
        * <code>uint64 requestId = 1;</code>
-       *
        * @return The requestId.
        */
       public long getRequestId() {
         return requestId_;
       }
-
       /**
        * <pre>
-       * request id
+       *request id
        * </pre>
        *
        * <code>uint64 requestId = 1;</code>
-       *
        * @param value The requestId to set.
        * @return This builder for chaining.
        */
       public Builder setRequestId(long value) {
-
+        
         requestId_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       * request id
+       *request id
        * </pre>
        *
        * <code>uint64 requestId = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearRequestId() {
-
+        
         requestId_ = 0L;
         onChanged();
         return this;
       }
 
+      private java.lang.Object serviceName_ = "";
       /**
        * <pre>
-       * interface name
+       *interface name
        * </pre>
        *
        * <code>string serviceName = 2;</code>
-       *
        * @return The serviceName.
        */
-      public String getServiceName() {
-        Object ref = serviceName_;
-        if (!(ref instanceof String)) {
+      public java.lang.String getServiceName() {
+        java.lang.Object ref = serviceName_;
+        if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
           serviceName_ = s;
           return s;
         } else {
-          return (String) ref;
-        }
-      }
-
-      /**
-       * <pre>
-       * interface name
-       * </pre>
-       *
-       * <code>string serviceName = 2;</code>
-       *
-       * @param value The serviceName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setServiceName(
-              String value) {
-        if (value == null) {
-          throw new NullPointerException();
+          return (java.lang.String) ref;
         }
-
-        serviceName_ = value;
-        onChanged();
-        return this;
       }
-
       /**
        * <pre>
-       * interface name
+       *interface name
        * </pre>
        *
        * <code>string serviceName = 2;</code>
-       *
        * @return The bytes for serviceName.
        */
       public com.google.protobuf.ByteString
-      getServiceNameBytes() {
-        Object ref = serviceName_;
+          getServiceNameBytes() {
+        java.lang.Object ref = serviceName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                          (String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           serviceName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <pre>
-       * interface name
+       *interface name
        * </pre>
        *
        * <code>string serviceName = 2;</code>
-       *
-       * @param value The bytes for serviceName to set.
+       * @param value The serviceName to set.
        * @return This builder for chaining.
        */
-      public Builder setServiceNameBytes(
-              com.google.protobuf.ByteString value) {
+      public Builder setServiceName(
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        checkByteStringIsUtf8(value);
-
+    throw new NullPointerException();
+  }
+  
         serviceName_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       * interface name
+       *interface name
        * </pre>
        *
        * <code>string serviceName = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearServiceName() {
-
+        
         serviceName_ = getDefaultInstance().getServiceName();
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       * method name
+       *interface name
        * </pre>
        *
-       * <code>string methodName = 3;</code>
-       *
-       * @return The methodName.
+       * <code>string serviceName = 2;</code>
+       * @param value The bytes for serviceName to set.
+       * @return This builder for chaining.
        */
-      public String getMethodName() {
-        Object ref = methodName_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          methodName_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
+      public Builder setServiceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        serviceName_ = value;
+        onChanged();
+        return this;
       }
 
+      private java.lang.Object methodName_ = "";
       /**
        * <pre>
-       * method name
+       *method name
        * </pre>
        *
        * <code>string methodName = 3;</code>
-       *
-       * @param value The methodName to set.
-       * @return This builder for chaining.
+       * @return The methodName.
        */
-      public Builder setMethodName(
-              String value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public java.lang.String getMethodName() {
+        java.lang.Object ref = methodName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          methodName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-
-        methodName_ = value;
-        onChanged();
-        return this;
       }
-
       /**
        * <pre>
-       * method name
+       *method name
        * </pre>
        *
        * <code>string methodName = 3;</code>
-       *
        * @return The bytes for methodName.
        */
       public com.google.protobuf.ByteString
-      getMethodNameBytes() {
-        Object ref = methodName_;
+          getMethodNameBytes() {
+        java.lang.Object ref = methodName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                          (String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           methodName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <pre>
-       * method name
+       *method name
        * </pre>
        *
        * <code>string methodName = 3;</code>
-       *
-       * @param value The bytes for methodName to set.
+       * @param value The methodName to set.
        * @return This builder for chaining.
        */
-      public Builder setMethodNameBytes(
-              com.google.protobuf.ByteString value) {
+      public Builder setMethodName(
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        checkByteStringIsUtf8(value);
-
+    throw new NullPointerException();
+  }
+  
         methodName_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       * method name
+       *method name
        * </pre>
        *
        * <code>string methodName = 3;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearMethodName() {
-
+        
         methodName_ = getDefaultInstance().getMethodName();
         onChanged();
         return this;
       }
+      /**
+       * <pre>
+       *method name
+       * </pre>
+       *
+       * <code>string methodName = 3;</code>
+       * @param value The bytes for methodName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMethodNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        methodName_ = value;
+        onChanged();
+        return this;
+      }
 
+      private java.util.List<com.google.protobuf.Any> params_ =
+        java.util.Collections.emptyList();
       private void ensureParamsIsMutable() {
         if (!((bitField0_ & 0x00000001) != 0)) {
           params_ = new java.util.ArrayList<com.google.protobuf.Any>(params_);
           bitField0_ |= 0x00000001;
-        }
+         }
       }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> paramsBuilder_;
+
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1265,10 +1171,9 @@ public final class RpcMeta {
           return paramsBuilder_.getMessageList();
         }
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1280,10 +1185,9 @@ public final class RpcMeta {
           return paramsBuilder_.getCount();
         }
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1295,16 +1199,15 @@ public final class RpcMeta {
           return paramsBuilder_.getMessage(index);
         }
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder setParams(
-              int index, com.google.protobuf.Any value) {
+          int index, com.google.protobuf.Any value) {
         if (paramsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -1317,16 +1220,15 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder setParams(
-              int index, com.google.protobuf.Any.Builder builderForValue) {
+          int index, com.google.protobuf.Any.Builder builderForValue) {
         if (paramsBuilder_ == null) {
           ensureParamsIsMutable();
           params_.set(index, builderForValue.build());
@@ -1336,10 +1238,9 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1357,16 +1258,15 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder addParams(
-              int index, com.google.protobuf.Any value) {
+          int index, com.google.protobuf.Any value) {
         if (paramsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -1379,16 +1279,15 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder addParams(
-              com.google.protobuf.Any.Builder builderForValue) {
+          com.google.protobuf.Any.Builder builderForValue) {
         if (paramsBuilder_ == null) {
           ensureParamsIsMutable();
           params_.add(builderForValue.build());
@@ -1398,16 +1297,15 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder addParams(
-              int index, com.google.protobuf.Any.Builder builderForValue) {
+          int index, com.google.protobuf.Any.Builder builderForValue) {
         if (paramsBuilder_ == null) {
           ensureParamsIsMutable();
           params_.add(index, builderForValue.build());
@@ -1417,30 +1315,28 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public Builder addAllParams(
-              Iterable<? extends com.google.protobuf.Any> values) {
+          java.lang.Iterable<? extends com.google.protobuf.Any> values) {
         if (paramsBuilder_ == null) {
           ensureParamsIsMutable();
           com.google.protobuf.AbstractMessageLite.Builder.addAll(
-                  values, params_);
+              values, params_);
           onChanged();
         } else {
           paramsBuilder_.addAllMessages(values);
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1455,10 +1351,9 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
@@ -1473,94 +1368,86 @@ public final class RpcMeta {
         }
         return this;
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public com.google.protobuf.Any.Builder getParamsBuilder(
-              int index) {
+          int index) {
         return getParamsFieldBuilder().getBuilder(index);
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public com.google.protobuf.AnyOrBuilder getParamsOrBuilder(
-              int index) {
+          int index) {
         if (paramsBuilder_ == null) {
-          return params_.get(index);
-        } else {
+          return params_.get(index);  } else {
           return paramsBuilder_.getMessageOrBuilder(index);
         }
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
-      public java.util.List<? extends com.google.protobuf.AnyOrBuilder>
-      getParamsOrBuilderList() {
+      public java.util.List<? extends com.google.protobuf.AnyOrBuilder> 
+           getParamsOrBuilderList() {
         if (paramsBuilder_ != null) {
           return paramsBuilder_.getMessageOrBuilderList();
         } else {
           return java.util.Collections.unmodifiableList(params_);
         }
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public com.google.protobuf.Any.Builder addParamsBuilder() {
         return getParamsFieldBuilder().addBuilder(
-                com.google.protobuf.Any.getDefaultInstance());
+            com.google.protobuf.Any.getDefaultInstance());
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
       public com.google.protobuf.Any.Builder addParamsBuilder(
-              int index) {
+          int index) {
         return getParamsFieldBuilder().addBuilder(
-                index, com.google.protobuf.Any.getDefaultInstance());
+            index, com.google.protobuf.Any.getDefaultInstance());
       }
-
       /**
        * <pre>
-       * method params
+       *method params
        * </pre>
        *
        * <code>repeated .google.protobuf.Any params = 4;</code>
        */
-      public java.util.List<com.google.protobuf.Any.Builder>
-      getParamsBuilderList() {
+      public java.util.List<com.google.protobuf.Any.Builder> 
+           getParamsBuilderList() {
         return getParamsFieldBuilder().getBuilderList();
       }
-
       private com.google.protobuf.RepeatedFieldBuilderV3<
-              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>
-      getParamsFieldBuilder() {
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> 
+          getParamsFieldBuilder() {
         if (paramsBuilder_ == null) {
           paramsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-                  com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
+              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
                   params_,
                   ((bitField0_ & 0x00000001) != 0),
                   getParentForChildren(),
@@ -1570,15 +1457,140 @@ public final class RpcMeta {
         return paramsBuilder_;
       }
 
-      @Override
+      private int timeoutMillis_ ;
+      /**
+       * <pre>
+       *client deadline, relative to the time request sent
+       * </pre>
+       *
+       * <code>uint32 timeoutMillis = 5;</code>
+       * @return The timeoutMillis.
+       */
+      public int getTimeoutMillis() {
+        return timeoutMillis_;
+      }
+      /**
+       * <pre>
+       *client deadline, relative to the time request sent
+       * </pre>
+       *
+       * <code>uint32 timeoutMillis = 5;</code>
+       * @param value The timeoutMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeoutMillis(int value) {
+        
+        timeoutMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *client deadline, relative to the time request sent
+       * </pre>
+       *
+       * <code>uint32 timeoutMillis = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeoutMillis() {
+        
+        timeoutMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int priority_ ;
+      /**
+       * <pre>
+       *scheduling priority on server, higher value is scheduled first
+       * </pre>
+       *
+       * <code>int32 priority = 6;</code>
+       * @return The priority.
+       */
+      public int getPriority() {
+        return priority_;
+      }
+      /**
+       * <pre>
+       *scheduling priority on server, higher value is scheduled first
+       * </pre>
+       *
+       * <code>int32 priority = 6;</code>
+       * @param value The priority to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPriority(int value) {
+        
+        priority_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *scheduling priority on server, higher value is scheduled first
+       * </pre>
+       *
+       * <code>int32 priority = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPriority() {
+        
+        priority_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int streamCredits_ ;
+      /**
+       * <pre>
+       *stream messages the client is ready to accept before granting more credits
+       * </pre>
+       *
+       * <code>uint32 streamCredits = 7;</code>
+       * @return The streamCredits.
+       */
+      public int getStreamCredits() {
+        return streamCredits_;
+      }
+      /**
+       * <pre>
+       *stream messages the client is ready to accept before granting more credits
+       * </pre>
+       *
+       * <code>uint32 streamCredits = 7;</code>
+       * @param value The streamCredits to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStreamCredits(int value) {
+        
+        streamCredits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *stream messages the client is ready to accept before granting more credits
+       * </pre>
+       *
+       * <code>uint32 streamCredits = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStreamCredits() {
+        
+        streamCredits_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
       public final Builder setUnknownFields(
-              final com.google.protobuf.UnknownFieldSet unknownFields) {
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
 
-      @Override
+      @java.lang.Override
       public final Builder mergeUnknownFields(
-              final com.google.protobuf.UnknownFieldSet unknownFields) {
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.mergeUnknownFields(unknownFields);
       }
 
@@ -1586,60 +1598,172 @@ public final class RpcMeta {
       // @@protoc_insertion_point(builder_scope:RequestMeta)
     }
 
-  }
-
-  /**
-   * Protobuf type {@code ResponseMeta}
-   */
-  public static final class ResponseMeta extends
-          com.google.protobuf.GeneratedMessageV3 implements
-          // @@protoc_insertion_point(message_implements:ResponseMeta)
-          ResponseMetaOrBuilder {
-    public static final int REQUESTID_FIELD_NUMBER = 1;
-    public static final int RESULT_FIELD_NUMBER = 2;
-    public static final int ERRMSG_FIELD_NUMBER = 3;
-    private static final long serialVersionUID = 0L;
-    // @@protoc_insertion_point(class_scope:ResponseMeta)
-    private static final ResponseMeta DEFAULT_INSTANCE;
-    private static final com.google.protobuf.Parser<ResponseMeta>
-            PARSER = new com.google.protobuf.AbstractParser<ResponseMeta>() {
-      @Override
-      public ResponseMeta parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ResponseMeta(input, extensionRegistry);
-      }
-    };
-
+    // @@protoc_insertion_point(class_scope:RequestMeta)
+    private static final com.jsj.rpc.protocol.RpcMeta.RequestMeta DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ResponseMeta();
+      DEFAULT_INSTANCE = new com.jsj.rpc.protocol.RpcMeta.RequestMeta();
     }
 
-    private long requestId_;
-    private com.google.protobuf.Any result_;
-    private volatile Object errMsg_;
-    private byte memoizedIsInitialized = -1;
+    public static com.jsj.rpc.protocol.RpcMeta.RequestMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RequestMeta>
+        PARSER = new com.google.protobuf.AbstractParser<RequestMeta>() {
+      @java.lang.Override
+      public RequestMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RequestMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RequestMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RequestMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.protocol.RpcMeta.RequestMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResponseMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ResponseMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *request id
+     * </pre>
+     *
+     * <code>uint64 requestId = 1;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+
+    /**
+     * <pre>
+     *invoke result
+     * </pre>
+     *
+     * <code>.google.protobuf.Any result = 2;</code>
+     * @return Whether the result field is set.
+     */
+    boolean hasResult();
+    /**
+     * <pre>
+     *invoke result
+     * </pre>
+     *
+     * <code>.google.protobuf.Any result = 2;</code>
+     * @return The result.
+     */
+    com.google.protobuf.Any getResult();
+    /**
+     * <pre>
+     *invoke result
+     * </pre>
+     *
+     * <code>.google.protobuf.Any result = 2;</code>
+     */
+    com.google.protobuf.AnyOrBuilder getResultOrBuilder();
+
+    /**
+     * <pre>
+     *error msg when exception.
+     * </pre>
+     *
+     * <code>string errMsg = 3;</code>
+     * @return The errMsg.
+     */
+    java.lang.String getErrMsg();
+    /**
+     * <pre>
+     *error msg when exception.
+     * </pre>
+     *
+     * <code>string errMsg = 3;</code>
+     * @return The bytes for errMsg.
+     */
+    com.google.protobuf.ByteString
+        getErrMsgBytes();
+
+    /**
+     * <pre>
+     *RpcExceptionType code when exception.
+     * </pre>
+     *
+     * <code>int32 errCode = 4;</code>
+     * @return The errCode.
+     */
+    int getErrCode();
+
+    /**
+     * <pre>
+     *hint for client backoff when server overload
+     * </pre>
+     *
+     * <code>uint32 retryAfterMillis = 5;</code>
+     * @return The retryAfterMillis.
+     */
+    int getRetryAfterMillis();
 
+    /**
+     * <pre>
+     *length of the file sent in FILE_DATA frames following this response
+     * </pre>
+     *
+     * <code>uint64 fileLength = 6;</code>
+     * @return The fileLength.
+     */
+    long getFileLength();
+  }
+  /**
+   * Protobuf type {@code ResponseMeta}
+   */
+  public  static final class ResponseMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ResponseMeta)
+      ResponseMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
     // Use ResponseMeta.newBuilder() to construct.
     private ResponseMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-
     private ResponseMeta() {
       errMsg_ = "";
     }
 
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ResponseMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
     private ResponseMeta(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       this();
       if (extensionRegistry == null) {
-        throw new NullPointerException();
+        throw new java.lang.NullPointerException();
       }
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-              com.google.protobuf.UnknownFieldSet.newBuilder();
+          com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
         boolean done = false;
         while (!done) {
@@ -1667,14 +1791,29 @@ public final class RpcMeta {
               break;
             }
             case 26: {
-              String s = input.readStringRequireUtf8();
+              java.lang.String s = input.readStringRequireUtf8();
 
               errMsg_ = s;
               break;
             }
+            case 32: {
+
+              errCode_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              retryAfterMillis_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+
+              fileLength_ = input.readUInt64();
+              break;
+            }
             default: {
               if (!parseUnknownField(
-                      input, unknownFields, extensionRegistry, tag)) {
+                  input, unknownFields, extensionRegistry, tag)) {
                 done = true;
               }
               break;
@@ -1685,136 +1824,27 @@ public final class RpcMeta {
         throw e.setUnfinishedMessage(this);
       } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-                e).setUnfinishedMessage(this);
+            e).setUnfinishedMessage(this);
       } finally {
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
-
     public static final com.google.protobuf.Descriptors.Descriptor
-    getDescriptor() {
-      return RpcMeta.internal_static_ResponseMeta_descriptor;
-    }
-
-    public static ResponseMeta parseFrom(
-            java.nio.ByteBuffer data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static ResponseMeta parseFrom(
-            java.nio.ByteBuffer data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static ResponseMeta parseFrom(
-            com.google.protobuf.ByteString data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static ResponseMeta parseFrom(
-            com.google.protobuf.ByteString data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static ResponseMeta parseFrom(byte[] data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-
-    public static ResponseMeta parseFrom(
-            byte[] data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-
-    public static ResponseMeta parseFrom(java.io.InputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-
-    public static ResponseMeta parseFrom(
-            java.io.InputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static ResponseMeta parseDelimitedFrom(java.io.InputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static ResponseMeta parseDelimitedFrom(
-            java.io.InputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static ResponseMeta parseFrom(
-            com.google.protobuf.CodedInputStream input)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input);
-    }
-
-    public static ResponseMeta parseFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-              .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-
-    public static Builder newBuilder(ResponseMeta prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-
-    public static ResponseMeta getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    public static com.google.protobuf.Parser<ResponseMeta> parser() {
-      return PARSER;
-    }
-
-    @Override
-    @SuppressWarnings({"unused"})
-    protected Object newInstance(
-            UnusedPrivateParameter unused) {
-      return new ResponseMeta();
-    }
-
-    @Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
+        getDescriptor() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_ResponseMeta_descriptor;
     }
 
-    @Override
-    protected FieldAccessorTable
-    internalGetFieldAccessorTable() {
-      return RpcMeta.internal_static_ResponseMeta_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                      ResponseMeta.class, Builder.class);
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_ResponseMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.protocol.RpcMeta.ResponseMeta.class, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder.class);
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestId_;
     /**
      * <pre>
      *request id
@@ -1827,6 +1857,8 @@ public final class RpcMeta {
       return requestId_;
     }
 
+    public static final int RESULT_FIELD_NUMBER = 2;
+    private com.google.protobuf.Any result_;
     /**
      * <pre>
      *invoke result
@@ -1838,7 +1870,6 @@ public final class RpcMeta {
     public boolean hasResult() {
       return result_ != null;
     }
-
     /**
      * <pre>
      *invoke result
@@ -1850,7 +1881,6 @@ public final class RpcMeta {
     public com.google.protobuf.Any getResult() {
       return result_ == null ? com.google.protobuf.Any.getDefaultInstance() : result_;
     }
-
     /**
      * <pre>
      *invoke result
@@ -1862,6 +1892,8 @@ public final class RpcMeta {
       return getResult();
     }
 
+    public static final int ERRMSG_FIELD_NUMBER = 3;
+    private volatile java.lang.Object errMsg_;
     /**
      * <pre>
      *error msg when exception.
@@ -1870,19 +1902,18 @@ public final class RpcMeta {
      * <code>string errMsg = 3;</code>
      * @return The errMsg.
      */
-    public String getErrMsg() {
-      Object ref = errMsg_;
-      if (ref instanceof String) {
-        return (String) ref;
+    public java.lang.String getErrMsg() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-        String s = bs.toStringUtf8();
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
         errMsg_ = s;
         return s;
       }
     }
-
     /**
      * <pre>
      *error msg when exception.
@@ -1892,12 +1923,12 @@ public final class RpcMeta {
      * @return The bytes for errMsg.
      */
     public com.google.protobuf.ByteString
-    getErrMsgBytes() {
-      Object ref = errMsg_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b =
-                com.google.protobuf.ByteString.copyFromUtf8(
-                        (String) ref);
+        getErrMsgBytes() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         errMsg_ = b;
         return b;
       } else {
@@ -1905,7 +1936,50 @@ public final class RpcMeta {
       }
     }
 
-    @Override
+    public static final int ERRCODE_FIELD_NUMBER = 4;
+    private int errCode_;
+    /**
+     * <pre>
+     *RpcExceptionType code when exception.
+     * </pre>
+     *
+     * <code>int32 errCode = 4;</code>
+     * @return The errCode.
+     */
+    public int getErrCode() {
+      return errCode_;
+    }
+
+    public static final int RETRYAFTERMILLIS_FIELD_NUMBER = 5;
+    private int retryAfterMillis_;
+    /**
+     * <pre>
+     *hint for client backoff when server overload
+     * </pre>
+     *
+     * <code>uint32 retryAfterMillis = 5;</code>
+     * @return The retryAfterMillis.
+     */
+    public int getRetryAfterMillis() {
+      return retryAfterMillis_;
+    }
+
+    public static final int FILELENGTH_FIELD_NUMBER = 6;
+    private long fileLength_;
+    /**
+     * <pre>
+     *length of the file sent in FILE_DATA frames following this response
+     * </pre>
+     *
+     * <code>uint64 fileLength = 6;</code>
+     * @return The fileLength.
+     */
+    public long getFileLength() {
+      return fileLength_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
@@ -1915,9 +1989,9 @@ public final class RpcMeta {
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
-            throws java.io.IOException {
+                        throws java.io.IOException {
       if (requestId_ != 0L) {
         output.writeUInt64(1, requestId_);
       }
@@ -1927,10 +2001,19 @@ public final class RpcMeta {
       if (!getErrMsgBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errMsg_);
       }
+      if (errCode_ != 0) {
+        output.writeInt32(4, errCode_);
+      }
+      if (retryAfterMillis_ != 0) {
+        output.writeUInt32(5, retryAfterMillis_);
+      }
+      if (fileLength_ != 0L) {
+        output.writeUInt64(6, fileLength_);
+      }
       unknownFields.writeTo(output);
     }
 
-    @Override
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
@@ -1938,265 +2021,3369 @@ public final class RpcMeta {
       size = 0;
       if (requestId_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-                .computeUInt64Size(1, requestId_);
+          .computeUInt64Size(1, requestId_);
       }
       if (result_ != null) {
         size += com.google.protobuf.CodedOutputStream
-                .computeMessageSize(2, getResult());
+          .computeMessageSize(2, getResult());
       }
       if (!getErrMsgBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errMsg_);
       }
+      if (errCode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, errCode_);
+      }
+      if (retryAfterMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, retryAfterMillis_);
+      }
+      if (fileLength_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, fileLength_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    @Override
-    public boolean equals(final Object obj) {
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof ResponseMeta)) {
+      if (!(obj instanceof com.jsj.rpc.protocol.RpcMeta.ResponseMeta)) {
         return super.equals(obj);
       }
-      ResponseMeta other = (ResponseMeta) obj;
+      com.jsj.rpc.protocol.RpcMeta.ResponseMeta other = (com.jsj.rpc.protocol.RpcMeta.ResponseMeta) obj;
 
       if (getRequestId()
-              != other.getRequestId()) return false;
+          != other.getRequestId()) return false;
       if (hasResult() != other.hasResult()) return false;
       if (hasResult()) {
         if (!getResult()
-                .equals(other.getResult())) return false;
+            .equals(other.getResult())) return false;
       }
       if (!getErrMsg()
-              .equals(other.getErrMsg())) return false;
+          .equals(other.getErrMsg())) return false;
+      if (getErrCode()
+          != other.getErrCode()) return false;
+      if (getRetryAfterMillis()
+          != other.getRetryAfterMillis()) return false;
+      if (getFileLength()
+          != other.getFileLength()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
-
-    @Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-              getRequestId());
-      if (hasResult()) {
-        hash = (37 * hash) + RESULT_FIELD_NUMBER;
-        hash = (53 * hash) + getResult().hashCode();
-      }
-      hash = (37 * hash) + ERRMSG_FIELD_NUMBER;
-      hash = (53 * hash) + getErrMsg().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      if (hasResult()) {
+        hash = (37 * hash) + RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getResult().hashCode();
+      }
+      hash = (37 * hash) + ERRMSG_FIELD_NUMBER;
+      hash = (53 * hash) + getErrMsg().hashCode();
+      hash = (37 * hash) + ERRCODE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrCode();
+      hash = (37 * hash) + RETRYAFTERMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getRetryAfterMillis();
+      hash = (37 * hash) + FILELENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFileLength());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.protocol.RpcMeta.ResponseMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ResponseMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ResponseMeta)
+        com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_ResponseMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_ResponseMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.protocol.RpcMeta.ResponseMeta.class, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.protocol.RpcMeta.ResponseMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+
+        if (resultBuilder_ == null) {
+          result_ = null;
+        } else {
+          result_ = null;
+          resultBuilder_ = null;
+        }
+        errMsg_ = "";
+
+        errCode_ = 0;
+
+        retryAfterMillis_ = 0;
+
+        fileLength_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_ResponseMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta getDefaultInstanceForType() {
+        return com.jsj.rpc.protocol.RpcMeta.ResponseMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta build() {
+        com.jsj.rpc.protocol.RpcMeta.ResponseMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta buildPartial() {
+        com.jsj.rpc.protocol.RpcMeta.ResponseMeta result = new com.jsj.rpc.protocol.RpcMeta.ResponseMeta(this);
+        result.requestId_ = requestId_;
+        if (resultBuilder_ == null) {
+          result.result_ = result_;
+        } else {
+          result.result_ = resultBuilder_.build();
+        }
+        result.errMsg_ = errMsg_;
+        result.errCode_ = errCode_;
+        result.retryAfterMillis_ = retryAfterMillis_;
+        result.fileLength_ = fileLength_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.protocol.RpcMeta.ResponseMeta) {
+          return mergeFrom((com.jsj.rpc.protocol.RpcMeta.ResponseMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.protocol.RpcMeta.ResponseMeta other) {
+        if (other == com.jsj.rpc.protocol.RpcMeta.ResponseMeta.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasResult()) {
+          mergeResult(other.getResult());
+        }
+        if (!other.getErrMsg().isEmpty()) {
+          errMsg_ = other.errMsg_;
+          onChanged();
+        }
+        if (other.getErrCode() != 0) {
+          setErrCode(other.getErrCode());
+        }
+        if (other.getRetryAfterMillis() != 0) {
+          setRetryAfterMillis(other.getRetryAfterMillis());
+        }
+        if (other.getFileLength() != 0L) {
+          setFileLength(other.getFileLength());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.protocol.RpcMeta.ResponseMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.protocol.RpcMeta.ResponseMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *request id
+       * </pre>
+       *
+       * <code>uint64 requestId = 1;</code>
+       * @return The requestId.
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *request id
+       * </pre>
+       *
+       * <code>uint64 requestId = 1;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *request id
+       * </pre>
+       *
+       * <code>uint64 requestId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Any result_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> resultBuilder_;
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       * @return Whether the result field is set.
+       */
+      public boolean hasResult() {
+        return resultBuilder_ != null || result_ != null;
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       * @return The result.
+       */
+      public com.google.protobuf.Any getResult() {
+        if (resultBuilder_ == null) {
+          return result_ == null ? com.google.protobuf.Any.getDefaultInstance() : result_;
+        } else {
+          return resultBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public Builder setResult(com.google.protobuf.Any value) {
+        if (resultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          result_ = value;
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public Builder setResult(
+          com.google.protobuf.Any.Builder builderForValue) {
+        if (resultBuilder_ == null) {
+          result_ = builderForValue.build();
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public Builder mergeResult(com.google.protobuf.Any value) {
+        if (resultBuilder_ == null) {
+          if (result_ != null) {
+            result_ =
+              com.google.protobuf.Any.newBuilder(result_).mergeFrom(value).buildPartial();
+          } else {
+            result_ = value;
+          }
+          onChanged();
+        } else {
+          resultBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public Builder clearResult() {
+        if (resultBuilder_ == null) {
+          result_ = null;
+          onChanged();
+        } else {
+          result_ = null;
+          resultBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public com.google.protobuf.Any.Builder getResultBuilder() {
+        
+        onChanged();
+        return getResultFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      public com.google.protobuf.AnyOrBuilder getResultOrBuilder() {
+        if (resultBuilder_ != null) {
+          return resultBuilder_.getMessageOrBuilder();
+        } else {
+          return result_ == null ?
+              com.google.protobuf.Any.getDefaultInstance() : result_;
+        }
+      }
+      /**
+       * <pre>
+       *invoke result
+       * </pre>
+       *
+       * <code>.google.protobuf.Any result = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> 
+          getResultFieldBuilder() {
+        if (resultBuilder_ == null) {
+          resultBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
+                  getResult(),
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        return resultBuilder_;
+      }
+
+      private java.lang.Object errMsg_ = "";
+      /**
+       * <pre>
+       *error msg when exception.
+       * </pre>
+       *
+       * <code>string errMsg = 3;</code>
+       * @return The errMsg.
+       */
+      public java.lang.String getErrMsg() {
+        java.lang.Object ref = errMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       *error msg when exception.
+       * </pre>
+       *
+       * <code>string errMsg = 3;</code>
+       * @return The bytes for errMsg.
+       */
+      public com.google.protobuf.ByteString
+          getErrMsgBytes() {
+        java.lang.Object ref = errMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       *error msg when exception.
+       * </pre>
+       *
+       * <code>string errMsg = 3;</code>
+       * @param value The errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsg(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        errMsg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *error msg when exception.
+       * </pre>
+       *
+       * <code>string errMsg = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrMsg() {
+        
+        errMsg_ = getDefaultInstance().getErrMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *error msg when exception.
+       * </pre>
+       *
+       * <code>string errMsg = 3;</code>
+       * @param value The bytes for errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        errMsg_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int errCode_ ;
+      /**
+       * <pre>
+       *RpcExceptionType code when exception.
+       * </pre>
+       *
+       * <code>int32 errCode = 4;</code>
+       * @return The errCode.
+       */
+      public int getErrCode() {
+        return errCode_;
+      }
+      /**
+       * <pre>
+       *RpcExceptionType code when exception.
+       * </pre>
+       *
+       * <code>int32 errCode = 4;</code>
+       * @param value The errCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrCode(int value) {
+        
+        errCode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *RpcExceptionType code when exception.
+       * </pre>
+       *
+       * <code>int32 errCode = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrCode() {
+        
+        errCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int retryAfterMillis_ ;
+      /**
+       * <pre>
+       *hint for client backoff when server overload
+       * </pre>
+       *
+       * <code>uint32 retryAfterMillis = 5;</code>
+       * @return The retryAfterMillis.
+       */
+      public int getRetryAfterMillis() {
+        return retryAfterMillis_;
+      }
+      /**
+       * <pre>
+       *hint for client backoff when server overload
+       * </pre>
+       *
+       * <code>uint32 retryAfterMillis = 5;</code>
+       * @param value The retryAfterMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRetryAfterMillis(int value) {
+        
+        retryAfterMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *hint for client backoff when server overload
+       * </pre>
+       *
+       * <code>uint32 retryAfterMillis = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRetryAfterMillis() {
+        
+        retryAfterMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long fileLength_ ;
+      /**
+       * <pre>
+       *length of the file sent in FILE_DATA frames following this response
+       * </pre>
+       *
+       * <code>uint64 fileLength = 6;</code>
+       * @return The fileLength.
+       */
+      public long getFileLength() {
+        return fileLength_;
+      }
+      /**
+       * <pre>
+       *length of the file sent in FILE_DATA frames following this response
+       * </pre>
+       *
+       * <code>uint64 fileLength = 6;</code>
+       * @param value The fileLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFileLength(long value) {
+        
+        fileLength_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *length of the file sent in FILE_DATA frames following this response
+       * </pre>
+       *
+       * <code>uint64 fileLength = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFileLength() {
+        
+        fileLength_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ResponseMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:ResponseMeta)
+    private static final com.jsj.rpc.protocol.RpcMeta.ResponseMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.protocol.RpcMeta.ResponseMeta();
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.ResponseMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ResponseMeta>
+        PARSER = new com.google.protobuf.AbstractParser<ResponseMeta>() {
+      @java.lang.Override
+      public ResponseMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ResponseMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ResponseMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ResponseMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.protocol.RpcMeta.ResponseMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchRequestMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchRequestMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *batch id, used to match the batch response
+     * </pre>
+     *
+     * <code>uint64 batchId = 1;</code>
+     * @return The batchId.
+     */
+    long getBatchId();
+
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta> 
+        getRequestsList();
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    com.jsj.rpc.protocol.RpcMeta.RequestMeta getRequests(int index);
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    int getRequestsCount();
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder getRequestsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code BatchRequestMeta}
+   */
+  public  static final class BatchRequestMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchRequestMeta)
+      BatchRequestMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchRequestMeta.newBuilder() to construct.
+    private BatchRequestMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchRequestMeta() {
+      requests_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchRequestMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchRequestMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              batchId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                requests_ = new java.util.ArrayList<com.jsj.rpc.protocol.RpcMeta.RequestMeta>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(
+                  input.readMessage(com.jsj.rpc.protocol.RpcMeta.RequestMeta.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchRequestMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchRequestMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.class, com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.Builder.class);
+    }
+
+    public static final int BATCHID_FIELD_NUMBER = 1;
+    private long batchId_;
+    /**
+     * <pre>
+     *batch id, used to match the batch response
+     * </pre>
+     *
+     * <code>uint64 batchId = 1;</code>
+     * @return The batchId.
+     */
+    public long getBatchId() {
+      return batchId_;
+    }
+
+    public static final int REQUESTS_FIELD_NUMBER = 2;
+    private java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta> requests_;
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    public java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta> getRequestsList() {
+      return requests_;
+    }
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    public java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
+    }
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    public int getRequestsCount() {
+      return requests_.size();
+    }
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    public com.jsj.rpc.protocol.RpcMeta.RequestMeta getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <pre>
+     *calls executed in parallel on server
+     * </pre>
+     *
+     * <code>repeated .RequestMeta requests = 2;</code>
+     */
+    public com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (batchId_ != 0L) {
+        output.writeUInt64(1, batchId_);
+      }
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(2, requests_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (batchId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, batchId_);
+      }
+      for (int i = 0; i < requests_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, requests_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta other = (com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta) obj;
+
+      if (getBatchId()
+          != other.getBatchId()) return false;
+      if (!getRequestsList()
+          .equals(other.getRequestsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BATCHID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBatchId());
+      if (getRequestsCount() > 0) {
+        hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+        hash = (53 * hash) + getRequestsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchRequestMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchRequestMeta)
+        com.jsj.rpc.protocol.RpcMeta.BatchRequestMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchRequestMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchRequestMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.class, com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        batchId_ = 0L;
+
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchRequestMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta getDefaultInstanceForType() {
+        return com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta build() {
+        com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta buildPartial() {
+        com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta result = new com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta(this);
+        int from_bitField0_ = bitField0_;
+        result.batchId_ = batchId_;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta) {
+          return mergeFrom((com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta other) {
+        if (other == com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta.getDefaultInstance()) return this;
+        if (other.getBatchId() != 0L) {
+          setBatchId(other.getBatchId());
+        }
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long batchId_ ;
+      /**
+       * <pre>
+       *batch id, used to match the batch response
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @return The batchId.
+       */
+      public long getBatchId() {
+        return batchId_;
+      }
+      /**
+       * <pre>
+       *batch id, used to match the batch response
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @param value The batchId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchId(long value) {
+        
+        batchId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *batch id, used to match the batch response
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatchId() {
+        
+        batchId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          requests_ = new java.util.ArrayList<com.jsj.rpc.protocol.RpcMeta.RequestMeta>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.protocol.RpcMeta.RequestMeta, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder, com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder> requestsBuilder_;
+
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder setRequests(
+          int index, com.jsj.rpc.protocol.RpcMeta.RequestMeta value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder setRequests(
+          int index, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder addRequests(com.jsj.rpc.protocol.RpcMeta.RequestMeta value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder addRequests(
+          int index, com.jsj.rpc.protocol.RpcMeta.RequestMeta value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder addRequests(
+          com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder addRequests(
+          int index, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends com.jsj.rpc.protocol.RpcMeta.RequestMeta> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            com.jsj.rpc.protocol.RpcMeta.RequestMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, com.jsj.rpc.protocol.RpcMeta.RequestMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *calls executed in parallel on server
+       * </pre>
+       *
+       * <code>repeated .RequestMeta requests = 2;</code>
+       */
+      public java.util.List<com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.protocol.RpcMeta.RequestMeta, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder, com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jsj.rpc.protocol.RpcMeta.RequestMeta, com.jsj.rpc.protocol.RpcMeta.RequestMeta.Builder, com.jsj.rpc.protocol.RpcMeta.RequestMetaOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchRequestMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchRequestMeta)
+    private static final com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta();
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchRequestMeta>
+        PARSER = new com.google.protobuf.AbstractParser<BatchRequestMeta>() {
+      @java.lang.Override
+      public BatchRequestMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchRequestMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchRequestMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchRequestMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.protocol.RpcMeta.BatchRequestMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchResponseMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchResponseMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *batch id
+     * </pre>
+     *
+     * <code>uint64 batchId = 1;</code>
+     * @return The batchId.
+     */
+    long getBatchId();
+
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta> 
+        getResponsesList();
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    com.jsj.rpc.protocol.RpcMeta.ResponseMeta getResponses(int index);
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    int getResponsesCount();
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder getResponsesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code BatchResponseMeta}
+   */
+  public  static final class BatchResponseMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchResponseMeta)
+      BatchResponseMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchResponseMeta.newBuilder() to construct.
+    private BatchResponseMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchResponseMeta() {
+      responses_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchResponseMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchResponseMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              batchId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                responses_ = new java.util.ArrayList<com.jsj.rpc.protocol.RpcMeta.ResponseMeta>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              responses_.add(
+                  input.readMessage(com.jsj.rpc.protocol.RpcMeta.ResponseMeta.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          responses_ = java.util.Collections.unmodifiableList(responses_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchResponseMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchResponseMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.class, com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.Builder.class);
+    }
+
+    public static final int BATCHID_FIELD_NUMBER = 1;
+    private long batchId_;
+    /**
+     * <pre>
+     *batch id
+     * </pre>
+     *
+     * <code>uint64 batchId = 1;</code>
+     * @return The batchId.
+     */
+    public long getBatchId() {
+      return batchId_;
+    }
+
+    public static final int RESPONSES_FIELD_NUMBER = 2;
+    private java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta> responses_;
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    public java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    public java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    public com.jsj.rpc.protocol.RpcMeta.ResponseMeta getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <pre>
+     *responses of all calls in the batch
+     * </pre>
+     *
+     * <code>repeated .ResponseMeta responses = 2;</code>
+     */
+    public com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (batchId_ != 0L) {
+        output.writeUInt64(1, batchId_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(2, responses_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (batchId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, batchId_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, responses_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta other = (com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta) obj;
+
+      if (getBatchId()
+          != other.getBatchId()) return false;
+      if (!getResponsesList()
+          .equals(other.getResponsesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BATCHID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBatchId());
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchResponseMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchResponseMeta)
+        com.jsj.rpc.protocol.RpcMeta.BatchResponseMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchResponseMeta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchResponseMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.class, com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResponsesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        batchId_ = 0L;
+
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_BatchResponseMeta_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta getDefaultInstanceForType() {
+        return com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta build() {
+        com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta buildPartial() {
+        com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta result = new com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta(this);
+        int from_bitField0_ = bitField0_;
+        result.batchId_ = batchId_;
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta) {
+          return mergeFrom((com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta other) {
+        if (other == com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta.getDefaultInstance()) return this;
+        if (other.getBatchId() != 0L) {
+          setBatchId(other.getBatchId());
+        }
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long batchId_ ;
+      /**
+       * <pre>
+       *batch id
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @return The batchId.
+       */
+      public long getBatchId() {
+        return batchId_;
+      }
+      /**
+       * <pre>
+       *batch id
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @param value The batchId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchId(long value) {
+        
+        batchId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *batch id
+       * </pre>
+       *
+       * <code>uint64 batchId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatchId() {
+        
+        batchId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          responses_ = new java.util.ArrayList<com.jsj.rpc.protocol.RpcMeta.ResponseMeta>(responses_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.protocol.RpcMeta.ResponseMeta, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder, com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder> responsesBuilder_;
+
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, com.jsj.rpc.protocol.RpcMeta.ResponseMeta value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder addResponses(com.jsj.rpc.protocol.RpcMeta.ResponseMeta value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, com.jsj.rpc.protocol.RpcMeta.ResponseMeta value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder addResponses(
+          com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends com.jsj.rpc.protocol.RpcMeta.ResponseMeta> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public java.util.List<? extends com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            com.jsj.rpc.protocol.RpcMeta.ResponseMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *responses of all calls in the batch
+       * </pre>
+       *
+       * <code>repeated .ResponseMeta responses = 2;</code>
+       */
+      public java.util.List<com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.protocol.RpcMeta.ResponseMeta, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder, com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jsj.rpc.protocol.RpcMeta.ResponseMeta, com.jsj.rpc.protocol.RpcMeta.ResponseMeta.Builder, com.jsj.rpc.protocol.RpcMeta.ResponseMetaOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchResponseMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchResponseMeta)
+    private static final com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta();
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchResponseMeta>
+        PARSER = new com.google.protobuf.AbstractParser<BatchResponseMeta>() {
+      @java.lang.Override
+      public BatchResponseMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchResponseMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchResponseMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchResponseMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.protocol.RpcMeta.BatchResponseMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamMetaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StreamMeta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *request id of the streaming call
+     * </pre>
+     *
+     * <code>uint64 streamId = 1;</code>
+     * @return The streamId.
+     */
+    long getStreamId();
+
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     * @return Whether the message field is set.
+     */
+    boolean hasMessage();
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     * @return The message.
+     */
+    com.google.protobuf.Any getMessage();
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     */
+    com.google.protobuf.AnyOrBuilder getMessageOrBuilder();
+
+    /**
+     * <pre>
+     *additional messages the receiver is ready to accept, for STREAM_CREDIT
+     * </pre>
+     *
+     * <code>uint32 credits = 3;</code>
+     * @return The credits.
+     */
+    int getCredits();
+  }
+  /**
+   * Protobuf type {@code StreamMeta}
+   */
+  public  static final class StreamMeta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StreamMeta)
+      StreamMetaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StreamMeta.newBuilder() to construct.
+    private StreamMeta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamMeta() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StreamMeta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StreamMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              streamId_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.Any.Builder subBuilder = null;
+              if (message_ != null) {
+                subBuilder = message_.toBuilder();
+              }
+              message_ = input.readMessage(com.google.protobuf.Any.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(message_);
+                message_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 24: {
+
+              credits_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_StreamMeta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.protocol.RpcMeta.internal_static_StreamMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.protocol.RpcMeta.StreamMeta.class, com.jsj.rpc.protocol.RpcMeta.StreamMeta.Builder.class);
+    }
+
+    public static final int STREAMID_FIELD_NUMBER = 1;
+    private long streamId_;
+    /**
+     * <pre>
+     *request id of the streaming call
+     * </pre>
+     *
+     * <code>uint64 streamId = 1;</code>
+     * @return The streamId.
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    private com.google.protobuf.Any message_;
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     * @return Whether the message field is set.
+     */
+    public boolean hasMessage() {
+      return message_ != null;
+    }
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     * @return The message.
+     */
+    public com.google.protobuf.Any getMessage() {
+      return message_ == null ? com.google.protobuf.Any.getDefaultInstance() : message_;
+    }
+    /**
+     * <pre>
+     *stream message, for STREAM_MESSAGE
+     * </pre>
+     *
+     * <code>.google.protobuf.Any message = 2;</code>
+     */
+    public com.google.protobuf.AnyOrBuilder getMessageOrBuilder() {
+      return getMessage();
+    }
+
+    public static final int CREDITS_FIELD_NUMBER = 3;
+    private int credits_;
+    /**
+     * <pre>
+     *additional messages the receiver is ready to accept, for STREAM_CREDIT
+     * </pre>
+     *
+     * <code>uint32 credits = 3;</code>
+     * @return The credits.
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (streamId_ != 0L) {
+        output.writeUInt64(1, streamId_);
+      }
+      if (message_ != null) {
+        output.writeMessage(2, getMessage());
+      }
+      if (credits_ != 0) {
+        output.writeUInt32(3, credits_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (streamId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, streamId_);
+      }
+      if (message_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getMessage());
+      }
+      if (credits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, credits_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.protocol.RpcMeta.StreamMeta)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.protocol.RpcMeta.StreamMeta other = (com.jsj.rpc.protocol.RpcMeta.StreamMeta) obj;
+
+      if (getStreamId()
+          != other.getStreamId()) return false;
+      if (hasMessage() != other.hasMessage()) return false;
+      if (hasMessage()) {
+        if (!getMessage()
+            .equals(other.getMessage())) return false;
+      }
+      if (getCredits()
+          != other.getCredits()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STREAMID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStreamId());
+      if (hasMessage()) {
+        hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getMessage().hashCode();
+      }
+      hash = (37 * hash) + CREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCredits();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
     }
-
-    @Override
-    public Builder newBuilderForType() {
-      return newBuilder();
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    @Override
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.protocol.RpcMeta.StreamMeta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
     public Builder toBuilder() {
       return this == DEFAULT_INSTANCE
-              ? new Builder() : new Builder().mergeFrom(this);
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
-    @Override
+    @java.lang.Override
     protected Builder newBuilderForType(
-            BuilderParent parent) {
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    @Override
-    public com.google.protobuf.Parser<ResponseMeta> getParserForType() {
-      return PARSER;
-    }
-
-    @Override
-    public ResponseMeta getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
     /**
-     * Protobuf type {@code ResponseMeta}
+     * Protobuf type {@code StreamMeta}
      */
     public static final class Builder extends
-            com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-            // @@protoc_insertion_point(builder_implements:ResponseMeta)
-            ResponseMetaOrBuilder {
-      private long requestId_;
-      private com.google.protobuf.Any result_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> resultBuilder_;
-      private Object errMsg_ = "";
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StreamMeta)
+        com.jsj.rpc.protocol.RpcMeta.StreamMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_StreamMeta_descriptor;
+      }
 
-      // Construct using com.jsj.rpc.protocol.RpcMeta.ResponseMeta.newBuilder()
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_StreamMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.protocol.RpcMeta.StreamMeta.class, com.jsj.rpc.protocol.RpcMeta.StreamMeta.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.protocol.RpcMeta.StreamMeta.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
 
       private Builder(
-              BuilderParent parent) {
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
-      public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-        return RpcMeta.internal_static_ResponseMeta_descriptor;
-      }
-
-      @Override
-      protected FieldAccessorTable
-      internalGetFieldAccessorTable() {
-        return RpcMeta.internal_static_ResponseMeta_fieldAccessorTable
-                .ensureFieldAccessorsInitialized(
-                        ResponseMeta.class, Builder.class);
-      }
-
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
         }
       }
-
-      @Override
+      @java.lang.Override
       public Builder clear() {
         super.clear();
-        requestId_ = 0L;
+        streamId_ = 0L;
 
-        if (resultBuilder_ == null) {
-          result_ = null;
+        if (messageBuilder_ == null) {
+          message_ = null;
         } else {
-          result_ = null;
-          resultBuilder_ = null;
+          message_ = null;
+          messageBuilder_ = null;
         }
-        errMsg_ = "";
+        credits_ = 0;
 
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
-      getDescriptorForType() {
-        return RpcMeta.internal_static_ResponseMeta_descriptor;
+          getDescriptorForType() {
+        return com.jsj.rpc.protocol.RpcMeta.internal_static_StreamMeta_descriptor;
       }
 
-      @Override
-      public ResponseMeta getDefaultInstanceForType() {
-        return ResponseMeta.getDefaultInstance();
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.StreamMeta getDefaultInstanceForType() {
+        return com.jsj.rpc.protocol.RpcMeta.StreamMeta.getDefaultInstance();
       }
 
-      @Override
-      public ResponseMeta build() {
-        ResponseMeta result = buildPartial();
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.StreamMeta build() {
+        com.jsj.rpc.protocol.RpcMeta.StreamMeta result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override
-      public ResponseMeta buildPartial() {
-        ResponseMeta result = new ResponseMeta(this);
-        result.requestId_ = requestId_;
-        if (resultBuilder_ == null) {
-          result.result_ = result_;
+      @java.lang.Override
+      public com.jsj.rpc.protocol.RpcMeta.StreamMeta buildPartial() {
+        com.jsj.rpc.protocol.RpcMeta.StreamMeta result = new com.jsj.rpc.protocol.RpcMeta.StreamMeta(this);
+        result.streamId_ = streamId_;
+        if (messageBuilder_ == null) {
+          result.message_ = message_;
         } else {
-          result.result_ = resultBuilder_.build();
+          result.message_ = messageBuilder_.build();
         }
-        result.errMsg_ = errMsg_;
+        result.credits_ = credits_;
         onBuilt();
         return result;
       }
 
-      @Override
+      @java.lang.Override
       public Builder clone() {
         return super.clone();
       }
-
-      @Override
+      @java.lang.Override
       public Builder setField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
         return super.setField(field, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder clearField(
-              com.google.protobuf.Descriptors.FieldDescriptor field) {
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
         return super.clearField(field);
       }
-
-      @Override
+      @java.lang.Override
       public Builder clearOneof(
-              com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
         return super.clearOneof(oneof);
       }
-
-      @Override
+      @java.lang.Override
       public Builder setRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              int index, Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
         return super.setRepeatedField(field, index, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder addRepeatedField(
-              com.google.protobuf.Descriptors.FieldDescriptor field,
-              Object value) {
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
         return super.addRepeatedField(field, value);
       }
-
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ResponseMeta) {
-          return mergeFrom((ResponseMeta) other);
+        if (other instanceof com.jsj.rpc.protocol.RpcMeta.StreamMeta) {
+          return mergeFrom((com.jsj.rpc.protocol.RpcMeta.StreamMeta)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ResponseMeta other) {
-        if (other == ResponseMeta.getDefaultInstance()) return this;
-        if (other.getRequestId() != 0L) {
-          setRequestId(other.getRequestId());
+      public Builder mergeFrom(com.jsj.rpc.protocol.RpcMeta.StreamMeta other) {
+        if (other == com.jsj.rpc.protocol.RpcMeta.StreamMeta.getDefaultInstance()) return this;
+        if (other.getStreamId() != 0L) {
+          setStreamId(other.getStreamId());
         }
-        if (other.hasResult()) {
-          mergeResult(other.getResult());
+        if (other.hasMessage()) {
+          mergeMessage(other.getMessage());
         }
-        if (!other.getErrMsg().isEmpty()) {
-          errMsg_ = other.errMsg_;
-          onChanged();
+        if (other.getCredits() != 0) {
+          setCredits(other.getCredits());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public final boolean isInitialized() {
         return true;
       }
 
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws java.io.IOException {
-        ResponseMeta parsedMessage = null;
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.protocol.RpcMeta.StreamMeta parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ResponseMeta) e.getUnfinishedMessage();
+          parsedMessage = (com.jsj.rpc.protocol.RpcMeta.StreamMeta) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2206,324 +5393,384 @@ public final class RpcMeta {
         return this;
       }
 
+      private long streamId_ ;
       /**
        * <pre>
-       *request id
+       *request id of the streaming call
        * </pre>
        *
-       * <code>uint64 requestId = 1;</code>
-       * @return The requestId.
+       * <code>uint64 streamId = 1;</code>
+       * @return The streamId.
        */
-      public long getRequestId() {
-        return requestId_;
+      public long getStreamId() {
+        return streamId_;
       }
-
       /**
        * <pre>
-       *request id
+       *request id of the streaming call
        * </pre>
        *
-       * <code>uint64 requestId = 1;</code>
-       * @param value The requestId to set.
+       * <code>uint64 streamId = 1;</code>
+       * @param value The streamId to set.
        * @return This builder for chaining.
        */
-      public Builder setRequestId(long value) {
-
-        requestId_ = value;
+      public Builder setStreamId(long value) {
+        
+        streamId_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       *request id
+       *request id of the streaming call
        * </pre>
        *
-       * <code>uint64 requestId = 1;</code>
+       * <code>uint64 streamId = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRequestId() {
-
-        requestId_ = 0L;
+      public Builder clearStreamId() {
+        
+        streamId_ = 0L;
         onChanged();
         return this;
       }
 
+      private com.google.protobuf.Any message_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> messageBuilder_;
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
-       * @return Whether the result field is set.
+       * <code>.google.protobuf.Any message = 2;</code>
+       * @return Whether the message field is set.
        */
-      public boolean hasResult() {
-        return resultBuilder_ != null || result_ != null;
+      public boolean hasMessage() {
+        return messageBuilder_ != null || message_ != null;
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
-       * @return The result.
+       * <code>.google.protobuf.Any message = 2;</code>
+       * @return The message.
        */
-      public com.google.protobuf.Any getResult() {
-        if (resultBuilder_ == null) {
-          return result_ == null ? com.google.protobuf.Any.getDefaultInstance() : result_;
+      public com.google.protobuf.Any getMessage() {
+        if (messageBuilder_ == null) {
+          return message_ == null ? com.google.protobuf.Any.getDefaultInstance() : message_;
         } else {
-          return resultBuilder_.getMessage();
+          return messageBuilder_.getMessage();
         }
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public Builder setResult(com.google.protobuf.Any value) {
-        if (resultBuilder_ == null) {
+      public Builder setMessage(com.google.protobuf.Any value) {
+        if (messageBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          result_ = value;
+          message_ = value;
           onChanged();
         } else {
-          resultBuilder_.setMessage(value);
+          messageBuilder_.setMessage(value);
         }
 
         return this;
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public Builder setResult(
-              com.google.protobuf.Any.Builder builderForValue) {
-        if (resultBuilder_ == null) {
-          result_ = builderForValue.build();
+      public Builder setMessage(
+          com.google.protobuf.Any.Builder builderForValue) {
+        if (messageBuilder_ == null) {
+          message_ = builderForValue.build();
           onChanged();
         } else {
-          resultBuilder_.setMessage(builderForValue.build());
+          messageBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public Builder mergeResult(com.google.protobuf.Any value) {
-        if (resultBuilder_ == null) {
-          if (result_ != null) {
-            result_ =
-                    com.google.protobuf.Any.newBuilder(result_).mergeFrom(value).buildPartial();
+      public Builder mergeMessage(com.google.protobuf.Any value) {
+        if (messageBuilder_ == null) {
+          if (message_ != null) {
+            message_ =
+              com.google.protobuf.Any.newBuilder(message_).mergeFrom(value).buildPartial();
           } else {
-            result_ = value;
+            message_ = value;
           }
           onChanged();
         } else {
-          resultBuilder_.mergeFrom(value);
+          messageBuilder_.mergeFrom(value);
         }
 
         return this;
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public Builder clearResult() {
-        if (resultBuilder_ == null) {
-          result_ = null;
+      public Builder clearMessage() {
+        if (messageBuilder_ == null) {
+          message_ = null;
           onChanged();
         } else {
-          result_ = null;
-          resultBuilder_ = null;
+          message_ = null;
+          messageBuilder_ = null;
         }
 
         return this;
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public com.google.protobuf.Any.Builder getResultBuilder() {
-
+      public com.google.protobuf.Any.Builder getMessageBuilder() {
+        
         onChanged();
-        return getResultFieldBuilder().getBuilder();
+        return getMessageFieldBuilder().getBuilder();
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
-      public com.google.protobuf.AnyOrBuilder getResultOrBuilder() {
-        if (resultBuilder_ != null) {
-          return resultBuilder_.getMessageOrBuilder();
+      public com.google.protobuf.AnyOrBuilder getMessageOrBuilder() {
+        if (messageBuilder_ != null) {
+          return messageBuilder_.getMessageOrBuilder();
         } else {
-          return result_ == null ?
-                  com.google.protobuf.Any.getDefaultInstance() : result_;
+          return message_ == null ?
+              com.google.protobuf.Any.getDefaultInstance() : message_;
         }
       }
-
       /**
        * <pre>
-       *invoke result
+       *stream message, for STREAM_MESSAGE
        * </pre>
        *
-       * <code>.google.protobuf.Any result = 2;</code>
+       * <code>.google.protobuf.Any message = 2;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>
-      getResultFieldBuilder() {
-        if (resultBuilder_ == null) {
-          resultBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-                  com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
-                  getResult(),
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> 
+          getMessageFieldBuilder() {
+        if (messageBuilder_ == null) {
+          messageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
+                  getMessage(),
                   getParentForChildren(),
                   isClean());
-          result_ = null;
-        }
-        return resultBuilder_;
-      }
-
-      /**
-       * <pre>
-       *error msg when exception.
-       * </pre>
-       *
-       * <code>string errMsg = 3;</code>
-       * @return The errMsg.
-       */
-      public String getErrMsg() {
-        Object ref = errMsg_;
-        if (!(ref instanceof String)) {
-          com.google.protobuf.ByteString bs =
-                  (com.google.protobuf.ByteString) ref;
-          String s = bs.toStringUtf8();
-          errMsg_ = s;
-          return s;
-        } else {
-          return (String) ref;
-        }
-      }
-
-      /**
-       * <pre>
-       *error msg when exception.
-       * </pre>
-       *
-       * <code>string errMsg = 3;</code>
-       * @param value The errMsg to set.
-       * @return This builder for chaining.
-       */
-      public Builder setErrMsg(
-              String value) {
-        if (value == null) {
-          throw new NullPointerException();
+          message_ = null;
         }
-
-        errMsg_ = value;
-        onChanged();
-        return this;
+        return messageBuilder_;
       }
 
+      private int credits_ ;
       /**
        * <pre>
-       *error msg when exception.
+       *additional messages the receiver is ready to accept, for STREAM_CREDIT
        * </pre>
        *
-       * <code>string errMsg = 3;</code>
-       * @return The bytes for errMsg.
+       * <code>uint32 credits = 3;</code>
+       * @return The credits.
        */
-      public com.google.protobuf.ByteString
-      getErrMsgBytes() {
-        Object ref = errMsg_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-                  com.google.protobuf.ByteString.copyFromUtf8(
-                          (String) ref);
-          errMsg_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public int getCredits() {
+        return credits_;
       }
-
       /**
        * <pre>
-       *error msg when exception.
+       *additional messages the receiver is ready to accept, for STREAM_CREDIT
        * </pre>
        *
-       * <code>string errMsg = 3;</code>
-       * @param value The bytes for errMsg to set.
+       * <code>uint32 credits = 3;</code>
+       * @param value The credits to set.
        * @return This builder for chaining.
        */
-      public Builder setErrMsgBytes(
-              com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        checkByteStringIsUtf8(value);
-
-        errMsg_ = value;
+      public Builder setCredits(int value) {
+        
+        credits_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <pre>
-       *error msg when exception.
+       *additional messages the receiver is ready to accept, for STREAM_CREDIT
        * </pre>
        *
-       * <code>string errMsg = 3;</code>
+       * <code>uint32 credits = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearErrMsg() {
-
-        errMsg_ = getDefaultInstance().getErrMsg();
+      public Builder clearCredits() {
+        
+        credits_ = 0;
         onChanged();
         return this;
       }
-
-      @Override
+      @java.lang.Override
       public final Builder setUnknownFields(
-              final com.google.protobuf.UnknownFieldSet unknownFields) {
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
 
-      @Override
+      @java.lang.Override
       public final Builder mergeUnknownFields(
-              final com.google.protobuf.UnknownFieldSet unknownFields) {
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.mergeUnknownFields(unknownFields);
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ResponseMeta)
+      // @@protoc_insertion_point(builder_scope:StreamMeta)
+    }
+
+    // @@protoc_insertion_point(class_scope:StreamMeta)
+    private static final com.jsj.rpc.protocol.RpcMeta.StreamMeta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.protocol.RpcMeta.StreamMeta();
+    }
+
+    public static com.jsj.rpc.protocol.RpcMeta.StreamMeta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
     }
 
+    private static final com.google.protobuf.Parser<StreamMeta>
+        PARSER = new com.google.protobuf.AbstractParser<StreamMeta>() {
+      @java.lang.Override
+      public StreamMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StreamMeta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StreamMeta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamMeta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.protocol.RpcMeta.StreamMeta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RequestMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RequestMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ResponseMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ResponseMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchRequestMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchRequestMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchResponseMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchResponseMeta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamMeta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StreamMeta_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\tRpc.proto\032\031google/protobuf/any.proto\"\257" +
+      "\001\n\013RequestMeta\022\021\n\trequestId\030\001 \001(\004\022\023\n\013ser" +
+      "viceName\030\002 \001(\t\022\022\n\nmethodName\030\003 \001(\t\022$\n\006pa" +
+      "rams\030\004 \003(\0132\024.google.protobuf.Any\022\025\n\rtime" +
+      "outMillis\030\005 \001(\r\022\020\n\010priority\030\006 \001(\005\022\025\n\rstr" +
+      "eamCredits\030\007 \001(\r\"\226\001\n\014ResponseMeta\022\021\n\treq" +
+      "uestId\030\001 \001(\004\022$\n\006result\030\002 \001(\0132\024.google.pr" +
+      "otobuf.Any\022\016\n\006errMsg\030\003 \001(\t\022\017\n\007errCode\030\004 " +
+      "\001(\005\022\030\n\020retryAfterMillis\030\005 \001(\r\022\022\n\nfileLen" +
+      "gth\030\006 \001(\004\"C\n\020BatchRequestMeta\022\017\n\007batchId" +
+      "\030\001 \001(\004\022\036\n\010requests\030\002 \003(\0132\014.RequestMeta\"F" +
+      "\n\021BatchResponseMeta\022\017\n\007batchId\030\001 \001(\004\022 \n\t" +
+      "responses\030\002 \003(\0132\r.ResponseMeta\"V\n\nStream" +
+      "Meta\022\020\n\010streamId\030\001 \001(\004\022%\n\007message\030\002 \001(\0132" +
+      "\024.google.protobuf.Any\022\017\n\007credits\030\003 \001(\rB\037" +
+      "\n\024com.jsj.rpc.protocolB\007RpcMetab\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.AnyProto.getDescriptor(),
+        });
+    internal_static_RequestMeta_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_RequestMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RequestMeta_descriptor,
+        new java.lang.String[] { "RequestId", "ServiceName", "MethodName", "Params", "TimeoutMillis", "Priority", "StreamCredits", });
+    internal_static_ResponseMeta_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_ResponseMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ResponseMeta_descriptor,
+        new java.lang.String[] { "RequestId", "Result", "ErrMsg", "ErrCode", "RetryAfterMillis", "FileLength", });
+    internal_static_BatchRequestMeta_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_BatchRequestMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchRequestMeta_descriptor,
+        new java.lang.String[] { "BatchId", "Requests", });
+    internal_static_BatchResponseMeta_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_BatchResponseMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchResponseMeta_descriptor,
+        new java.lang.String[] { "BatchId", "Responses", });
+    internal_static_StreamMeta_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_StreamMeta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StreamMeta_descriptor,
+        new java.lang.String[] { "StreamId", "Message", "Credits", });
+    com.google.protobuf.AnyProto.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
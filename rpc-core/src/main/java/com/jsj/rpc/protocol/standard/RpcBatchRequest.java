@@ -0,0 +1,42 @@
+package com.jsj.rpc.protocol.standard;
+
+import com.jsj.rpc.protocol.BatchRequest;
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.RpcMeta;
+import io.netty.buffer.Unpooled;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author jiangshenjie
+ */
+@ToString(callSuper = true)
+public class RpcBatchRequest extends RpcRequest implements BatchRequest {
+    private final List<Request> requests;
+
+    public RpcBatchRequest(Protocol protocol, List<Request> requests) {
+        super(protocol);
+        this.requests = requests;
+        setParams();
+    }
+
+    @Override
+    public List<Request> getRequests() {
+        return requests;
+    }
+
+    @Override
+    public Packet transToPacket() {
+        RpcMeta.BatchRequestMeta.Builder metaBuilder = RpcMeta.BatchRequestMeta.newBuilder();
+        metaBuilder.setBatchId(getRequestId());
+        for (Request request : requests) {
+            metaBuilder.addRequests(request.transToRequestMeta());
+        }
+        return new Packet(PacketType.BATCH_REQUEST, Unpooled.wrappedBuffer(metaBuilder.build().toByteArray()))
+                .setOrderKey(getRequestId());
+    }
+}
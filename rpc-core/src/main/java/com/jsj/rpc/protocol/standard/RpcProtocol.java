@@ -1,5 +1,8 @@
 package com.jsj.rpc.protocol.standard;
 
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.jsj.rpc.ChannelInfo;
 import com.jsj.rpc.RpcFuture;
@@ -11,13 +14,17 @@ import com.jsj.rpc.exception.RpcException;
 import com.jsj.rpc.protocol.*;
 import com.jsj.rpc.server.ServiceManager;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * header：magic_num(1 byte)  | body_length(4 byte)
+ * header：magic_num(1 byte) | packet_type(1 byte) | body_length(4 byte)
  * body: msg content
  *
  * @author jiangshenjie
@@ -25,11 +32,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Setter
 public class RpcProtocol implements Protocol {
-    private static int FIXED_HEADER_LEN = 5;
+    private static int FIXED_HEADER_LEN = 6;
     /**
-     * 默认协议版本号(1 byte)
+     * 默认协议版本号(1 byte)，header中加入packet_type后升级为1
      */
-    private static byte MAGIC_NUM = (byte) 0x00;
+    private static byte MAGIC_NUM = (byte) 0x01;
     private final ServiceManager serviceManager;
 
     public RpcProtocol(ServiceManager serviceManager) {
@@ -64,12 +71,19 @@ public class RpcProtocol implements Protocol {
             throw new NotEnoughDataException();
         }
         byte magicNumber = in.readByte();
+        if (magicNumber != MAGIC_NUM) {
+            throw new BadSchemaException();
+        }
+        PacketType packetType = PacketType.valueOf(in.readByte());
+        if (packetType == null) {
+            throw new BadSchemaException();
+        }
         int bodyLength = in.readInt();
         if (in.readableBytes() < bodyLength) {
             throw new NotEnoughDataException();
         }
         ByteBuf bodyBuf = in.readRetainedSlice(bodyLength);
-        return new Packet(bodyBuf);
+        return new Packet(packetType, bodyBuf);
     }
 
     @Override
@@ -78,76 +92,189 @@ public class RpcProtocol implements Protocol {
         int bodyLength = bodyBuf == null ? 0 : bodyBuf.readableBytes();
         CompositeByteBuf compositeByteBuf = Unpooled.compositeBuffer(2);
         compositeByteBuf.addComponent(true
-                , createHeaderBuf(bodyLength));
+                , createHeaderBuf(packet.getType(), bodyLength));
         if (bodyBuf != null) {
             compositeByteBuf.addComponent(true, bodyBuf);
         }
         return compositeByteBuf;
     }
 
-    private ByteBuf createHeaderBuf(int bodyLength) {
+    private ByteBuf createHeaderBuf(PacketType packetType, int bodyLength) {
         ByteBuf headBuf = Unpooled.buffer(FIXED_HEADER_LEN);
         //protocol version
         headBuf.writeByte(MAGIC_NUM);
+        //packet type
+        headBuf.writeByte(packetType.getValue());
         //body length
         headBuf.writeInt(bodyLength);
         return headBuf;
     }
 
+    /**
+     * 分片重组后的body由多个不连续的buffer组成，直接从中解析，避免再拷贝为一整块连续内存
+     *
+     * @param packet
+     * @return
+     */
+    private static CodedInputStream bodyInput(Packet packet) {
+        ByteBuf body = packet.getBody();
+        if (body.nioBufferCount() == 1) {
+            return CodedInputStream.newInstance(body.nioBuffer());
+        }
+        return CodedInputStream.newInstance(new ByteBufInputStream(body));
+    }
+
+    @Override
+    public BatchRequest createBatchRequest(List<Request> requests) {
+        return new RpcBatchRequest(this, requests);
+    }
+
     @Override
     public Request decodeAsRequest(Packet packet) throws DecodeException {
         try {
-            RpcMeta.RequestMeta requestMeta = RpcMeta.RequestMeta
-                    .parseFrom(packet.getBody().nioBuffer());
-            RpcMethodDetail methodDetail =
-                    serviceManager.getService(requestMeta.getServiceName(), requestMeta.getMethodName());
-            if (methodDetail == null) {
-                String errMsg = String.format("rpc interface name: %s, method name: %s"
-                        , requestMeta.getServiceName(), requestMeta.getMethodName());
-                throw new NoSuchMethodException(errMsg);
-            }
+            return decodeRequestMeta(RpcMeta.RequestMeta.parser().parseFrom(bodyInput(packet)));
+        } catch (InvalidProtocolBufferException | NoSuchMethodException e) {
+            throw new DecodeException(e);
+        }
+    }
 
-            //参数类型转换
-            Class[] paramTypes = methodDetail.getParamTypes();
-            Object[] params = new Object[paramTypes.length];
-            for (int i = 0; i < paramTypes.length; i++) {
-                Object param = requestMeta.getParams(i).unpack(paramTypes[i]);
-                params[i] = param;
+    @Override
+    public BatchRequest decodeAsBatchRequest(Packet packet) throws DecodeException {
+        try {
+            RpcMeta.BatchRequestMeta batchMeta = RpcMeta.BatchRequestMeta.parser().parseFrom(bodyInput(packet));
+            List<Request> requests = new ArrayList<>(batchMeta.getRequestsCount());
+            for (RpcMeta.RequestMeta requestMeta : batchMeta.getRequestsList()) {
+                requests.add(decodeRequestMeta(requestMeta));
             }
-            Request request = createRequest();
-            request.setRequestId(requestMeta.getRequestId());
-            request.setServiceName(requestMeta.getServiceName());
-            request.setMethodName(requestMeta.getMethodName());
-            request.setParams(params);
-            request.setMethod(methodDetail.getMethod());
-            request.setTarget(methodDetail.getTarget());
-            return request;
+            BatchRequest batchRequest = createBatchRequest(requests);
+            batchRequest.setRequestId(batchMeta.getBatchId());
+            return batchRequest;
         } catch (InvalidProtocolBufferException | NoSuchMethodException e) {
             throw new DecodeException(e);
         }
     }
 
+    private Request decodeRequestMeta(RpcMeta.RequestMeta requestMeta)
+            throws InvalidProtocolBufferException, NoSuchMethodException {
+        RpcMethodDetail methodDetail =
+                serviceManager.getService(requestMeta.getServiceName(), requestMeta.getMethodName());
+        if (methodDetail == null) {
+            String errMsg = String.format("rpc interface name: %s, method name: %s"
+                    , requestMeta.getServiceName(), requestMeta.getMethodName());
+            throw new NoSuchMethodException(errMsg);
+        }
+
+        //参数类型转换
+        Class[] paramTypes = methodDetail.getRequestParamTypes();
+        Object[] params = new Object[paramTypes.length];
+        List<ByteString> serializedParams = new ArrayList<>(paramTypes.length);
+        for (int i = 0; i < paramTypes.length; i++) {
+            Any any = requestMeta.getParams(i);
+            params[i] = any.unpack(paramTypes[i]);
+            serializedParams.add(any.getValue());
+        }
+        Request request = createRequest();
+        request.setRequestId(requestMeta.getRequestId());
+        request.setServiceName(requestMeta.getServiceName());
+        request.setMethodName(requestMeta.getMethodName());
+        request.setTaskTimeoutMills(requestMeta.getTimeoutMillis());
+        request.setPriority(requestMeta.getPriority());
+        request.setStreamCredits(requestMeta.getStreamCredits());
+        request.setParams(params);
+        request.setSerializedParams(serializedParams);
+        request.setMethod(methodDetail.getMethod());
+        request.setTarget(methodDetail.getTarget());
+        return request;
+    }
+
+    @Override
+    public Packet encodeBatchResponse(long batchId, List<Response> responses) {
+        RpcMeta.BatchResponseMeta.Builder metaBuilder = RpcMeta.BatchResponseMeta.newBuilder();
+        metaBuilder.setBatchId(batchId);
+        for (Response response : responses) {
+            metaBuilder.addResponses(response.transToResponseMeta());
+        }
+        return new Packet(PacketType.BATCH_RESPONSE, Unpooled.wrappedBuffer(metaBuilder.build().toByteArray()))
+                .setOrderKey(batchId);
+    }
+
     @Override
     public Response decodeAsResponse(Packet packet, ChannelInfo channelInfo) throws DecodeException {
         try {
+            if (packet.getType() == PacketType.BATCH_RESPONSE) {
+                return decodeAsBatchResponse(packet, channelInfo);
+            }
             RpcMeta.ResponseMeta responseMeta = RpcMeta.ResponseMeta
-                    .parseFrom(packet.getBody().nioBuffer());
+                    .parser().parseFrom(bodyInput(packet));
             RpcFuture<?> rpcFuture = channelInfo.getAndRemoveRpcFuture(responseMeta.getRequestId());
-            Request request = rpcFuture.getRequest();
-            Class returnType = request.getMethod().getReturnType();
-
-            Response response = createResponse();
-            response.setRequestId(responseMeta.getRequestId());
-            response.setRpcFuture(rpcFuture);
-            if (responseMeta.getResult() != null) {
-                response.setResult(responseMeta.getResult().unpack(returnType));
-            }
-            if (responseMeta.getErrMsg() != null && !"".equals(responseMeta.getErrMsg())) {
-                response.setException(new RpcException(responseMeta.getErrMsg()));
+            if (rpcFuture == null) {
+                //请求已超时或被取消
+                return null;
             }
+            Response response = decodeResponseMeta(responseMeta, rpcFuture.getRequest());
+            response.setRpcFuture(rpcFuture);
             return response;
         } catch (InvalidProtocolBufferException e) {
             throw new DecodeException(e);
         }
     }
+
+    /**
+     * 批量响应的结果为各请求的Response列表，顺序与批量请求中的请求一致
+     */
+    private Response decodeAsBatchResponse(Packet packet, ChannelInfo channelInfo)
+            throws InvalidProtocolBufferException {
+        RpcMeta.BatchResponseMeta batchMeta = RpcMeta.BatchResponseMeta.parser().parseFrom(bodyInput(packet));
+        RpcFuture<?> rpcFuture = channelInfo.getAndRemoveRpcFuture(batchMeta.getBatchId());
+        if (rpcFuture == null) {
+            return null;
+        }
+        List<Request> requests = ((BatchRequest) rpcFuture.getRequest()).getRequests();
+        List<Response> responses = new ArrayList<>(batchMeta.getResponsesCount());
+        for (int i = 0; i < batchMeta.getResponsesCount() && i < requests.size(); i++) {
+            responses.add(decodeResponseMeta(batchMeta.getResponses(i), requests.get(i)));
+        }
+        Response response = createResponse();
+        response.setRequestId(batchMeta.getBatchId());
+        response.setRpcFuture(rpcFuture);
+        response.setResult(responses);
+        return response;
+    }
+
+    private Response decodeResponseMeta(RpcMeta.ResponseMeta responseMeta, Request request)
+            throws InvalidProtocolBufferException {
+        Class returnType = request.getMethod().getReturnType();
+        Response response = createResponse();
+        response.setRequestId(responseMeta.getRequestId());
+        response.setFileLength(responseMeta.getFileLength());
+        if (responseMeta.hasResult()) {
+            response.setResult(responseMeta.getResult().unpack(returnType));
+        }
+        if (responseMeta.getErrMsg() != null && !"".equals(responseMeta.getErrMsg())) {
+            response.setException(new RpcException(responseMeta.getErrMsg(), responseMeta.getErrCode())
+                    .setRetryAfterMillis(Integer.toUnsignedLong(responseMeta.getRetryAfterMillis())));
+        }
+        return response;
+    }
+
+    @Override
+    public Packet encodeStreamFrame(PacketType type, RpcMeta.StreamMeta streamMeta) {
+        return new Packet(type, Unpooled.wrappedBuffer(streamMeta.toByteArray())).setOrderKey(streamMeta.getStreamId());
+    }
+
+    @Override
+    public ByteBuf encodeFileDataHeader(long requestId, int dataLength) {
+        ByteBuf headerBuf = createHeaderBuf(PacketType.FILE_DATA, Long.BYTES + dataLength);
+        headerBuf.writeLong(requestId);
+        return headerBuf;
+    }
+
+    @Override
+    public RpcMeta.StreamMeta decodeAsStreamFrame(Packet packet) throws DecodeException {
+        try {
+            return RpcMeta.StreamMeta.parser().parseFrom(bodyInput(packet));
+        } catch (InvalidProtocolBufferException e) {
+            throw new DecodeException(e);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package com.jsj.rpc.protocol.standard;
 
 import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
 import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.StreamObserver;
 import com.jsj.rpc.protocol.Packet;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Request;
@@ -10,6 +12,7 @@ import com.jsj.rpc.protocol.RpcMeta;
 import lombok.ToString;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * @author jiangshenjie
@@ -26,6 +29,12 @@ public class RpcRequest implements Request {
     private RpcCallback callback;
     private int writeTimeoutMillis;
     private int taskTimeoutMillis;
+    private int priority;
+    @ToString.Exclude
+    private List<ByteString> serializedParams;
+    @ToString.Exclude
+    private StreamObserver<?> streamObserver;
+    private int streamCredits;
 
     public RpcRequest(Protocol protocol) {
         this.protocol = protocol;
@@ -37,6 +46,9 @@ public class RpcRequest implements Request {
         metaBuilder.setRequestId(getRequestId());
         metaBuilder.setServiceName(getServiceName());
         metaBuilder.setMethodName(getMethodName());
+        metaBuilder.setTimeoutMillis(getTaskTimeoutMills());
+        metaBuilder.setPriority(getPriority());
+        metaBuilder.setStreamCredits(getStreamCredits());
         for (Object param : getParams()) {
             metaBuilder.addParams(Any.pack((Message) param));
         }
@@ -142,8 +154,52 @@ public class RpcRequest implements Request {
         return this;
     }
 
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public Request setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public StreamObserver<?> getStreamObserver() {
+        return streamObserver;
+    }
+
+    @Override
+    public Request setStreamObserver(StreamObserver<?> streamObserver) {
+        this.streamObserver = streamObserver;
+        return this;
+    }
+
+    @Override
+    public int getStreamCredits() {
+        return streamCredits;
+    }
+
+    @Override
+    public Request setStreamCredits(int streamCredits) {
+        this.streamCredits = streamCredits;
+        return this;
+    }
+
+    @Override
+    public List<ByteString> getSerializedParams() {
+        return serializedParams;
+    }
+
+    @Override
+    public Request setSerializedParams(List<ByteString> serializedParams) {
+        this.serializedParams = serializedParams;
+        return this;
+    }
+
     @Override
     public Packet transToPacket() {
-        return protocol.createPacket(transToRequestMeta().toByteArray());
+        return protocol.createPacket(transToRequestMeta().toByteArray()).setOrderKey(getRequestId());
     }
 }
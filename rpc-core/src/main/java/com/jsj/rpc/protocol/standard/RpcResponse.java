@@ -2,7 +2,9 @@ package com.jsj.rpc.protocol.standard;
 
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
+import com.jsj.rpc.RpcFile;
 import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.exception.RpcException;
 import com.jsj.rpc.protocol.Packet;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Response;
@@ -21,6 +23,9 @@ public class RpcResponse implements Response {
     private Object result;
     private Exception exception;
     private RpcFuture<?> rpcFuture;
+    @ToString.Exclude
+    private Any serializedResult;
+    private long fileLength;
 
     public RpcResponse(Protocol protocol) {
         this.protocol = protocol;
@@ -46,21 +51,43 @@ public class RpcResponse implements Response {
         return this.result;
     }
 
+    @Override
+    public Any getSerializedResult() {
+        return this.serializedResult;
+    }
+
+    @Override
+    public long getFileLength() {
+        return this.fileLength;
+    }
+
     @Override
     public RpcMeta.ResponseMeta transToResponseMeta() {
         RpcMeta.ResponseMeta.Builder responseMetaBuilder = RpcMeta.ResponseMeta.newBuilder();
         responseMetaBuilder.setRequestId(getRequestId());
-        if (result != null) {
+        if (serializedResult != null) {
+            responseMetaBuilder.setResult(serializedResult);
+        } else if (result instanceof RpcFile) {
+            //文件内容随后以FILE_DATA报文发送
+            responseMetaBuilder.setFileLength(((RpcFile) result).getLength());
+        } else if (result != null) {
             responseMetaBuilder.setResult(Any.pack((Message) result));
         }
         if (exception != null) {
             responseMetaBuilder.setErrMsg(exception.getMessage());
+            if (exception instanceof RpcException) {
+                RpcException rpcException = (RpcException) exception;
+                responseMetaBuilder.setErrCode(rpcException.getCode());
+                //uint32字段，超出范围时截断，避免强转溢出为负数或错误的小值
+                responseMetaBuilder.setRetryAfterMillis((int) Math.min(Math.max(rpcException.getRetryAfterMillis(), 0L)
+                        , Integer.MAX_VALUE));
+            }
         }
         return responseMetaBuilder.build();
     }
 
     @Override
     public Packet transToPacket() {
-        return protocol.createPacket(transToResponseMeta().toByteArray());
+        return protocol.createPacket(transToResponseMeta().toByteArray()).setOrderKey(getRequestId());
     }
 }
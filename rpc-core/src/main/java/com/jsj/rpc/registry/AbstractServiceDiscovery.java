@@ -0,0 +1,150 @@
+package com.jsj.rpc.registry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 维护各服务节点的本地快照并向订阅者推送变化，
+ * 子类在感知到注册中心变化时调用{@link #updateInstances(String, Collection)}
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public abstract class AbstractServiceDiscovery implements ServiceDiscovery {
+    private final Map<String, ServiceHolder> serviceHolders = new ConcurrentHashMap<>();
+
+    @Override
+    public ServiceInstance discover(SubscribeInfo subscribeInfo) {
+        List<ServiceInstance> instances = discoverAll(subscribeInfo);
+        if (instances.isEmpty()) {
+            return null;
+        }
+        return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+    }
+
+    /**
+     * 读取本地快照，无锁
+     *
+     * @param subscribeInfo
+     * @return
+     */
+    @Override
+    public List<ServiceInstance> discoverAll(SubscribeInfo subscribeInfo) {
+        return getOrCreateHolder(subscribeInfo.getInterfaceName()).instances;
+    }
+
+    @Override
+    public void subscribe(SubscribeInfo subscribeInfo, ServiceListener listener) {
+        String interfaceName = subscribeInfo.getInterfaceName();
+        ServiceHolder holder = getOrCreateHolder(interfaceName);
+        synchronized (holder) {
+            holder.listeners.add(listener);
+            List<ServiceInstance> instances = holder.instances;
+            notifyListener(listener, new ServiceChangeEvent(interfaceName, instances
+                    , instances, Collections.emptyList()));
+        }
+    }
+
+    @Override
+    public void unsubscribe(SubscribeInfo subscribeInfo, ServiceListener listener) {
+        ServiceHolder holder = serviceHolders.get(subscribeInfo.getInterfaceName());
+        if (holder != null) {
+            holder.listeners.remove(listener);
+        }
+    }
+
+    /**
+     * 以全量节点更新本地快照，有变化时通知订阅者
+     *
+     * @param interfaceName
+     * @param instances
+     */
+    protected void updateInstances(String interfaceName, Collection<ServiceInstance> instances) {
+        //doSubscribe中也会调用，不能等待订阅完成
+        ServiceHolder holder = serviceHolders.computeIfAbsent(interfaceName, name -> new ServiceHolder());
+        synchronized (holder) {
+            Set<ServiceInstance> oldSet = new LinkedHashSet<>(holder.instances);
+            Set<ServiceInstance> newSet = new LinkedHashSet<>(instances);
+            List<ServiceInstance> added = new ArrayList<>();
+            for (ServiceInstance instance : newSet) {
+                if (!oldSet.remove(instance)) {
+                    added.add(instance);
+                }
+            }
+            if (added.isEmpty() && oldSet.isEmpty()) {
+                return;
+            }
+            holder.instances = Collections.unmodifiableList(new ArrayList<>(newSet));
+            ServiceChangeEvent event = new ServiceChangeEvent(interfaceName, holder.instances
+                    , Collections.unmodifiableList(added)
+                    , Collections.unmodifiableList(new ArrayList<>(oldSet)));
+            log.info("Service instances changed, interface: {}, added: {}, removed: {}."
+                    , interfaceName, event.getAdded(), event.getRemoved());
+            for (ServiceListener listener : holder.listeners) {
+                notifyListener(listener, event);
+            }
+        }
+    }
+
+    /**
+     * 首次发现或订阅某个服务时调用，子类可在此拉取初始节点并开始监听变化
+     *
+     * @param interfaceName
+     */
+    protected void doSubscribe(String interfaceName) {
+    }
+
+    /**
+     * 首个调用方在锁外执行doSubscribe，同一服务的其他调用方等待其完成，不同服务的订阅互不阻塞
+     *
+     * @param interfaceName
+     * @return
+     */
+    private ServiceHolder getOrCreateHolder(String interfaceName) {
+        ServiceHolder holder = serviceHolders.computeIfAbsent(interfaceName, name -> new ServiceHolder());
+        if (holder.subscribed.isDone()) {
+            return holder;
+        }
+        if (holder.subscribing.compareAndSet(false, true)) {
+            try {
+                doSubscribe(interfaceName);
+            } catch (RuntimeException e) {
+                //订阅失败时移除，下次发现或订阅时重试
+                serviceHolders.remove(interfaceName, holder);
+                throw e;
+            } finally {
+                holder.subscribed.complete(null);
+            }
+        } else {
+            holder.subscribed.join();
+        }
+        return holder;
+    }
+
+    private void notifyListener(ServiceListener listener, ServiceChangeEvent event) {
+        try {
+            listener.onChange(event);
+        } catch (Exception e) {
+            log.warn("Exception caught when notify service listener, event: {}.", event, e);
+        }
+    }
+
+    private static class ServiceHolder {
+        private volatile List<ServiceInstance> instances = Collections.emptyList();
+        private final List<ServiceListener> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean subscribing = new AtomicBoolean(false);
+        private final CompletableFuture<Void> subscribed = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,31 @@
+package com.jsj.rpc.registry;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 服务节点变化事件，同时携带全量节点和本次增减的节点
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@ToString
+public class ServiceChangeEvent {
+    private final String interfaceName;
+    /**
+     * 变化后的全部节点
+     */
+    private final List<ServiceInstance> instances;
+    private final List<ServiceInstance> added;
+    private final List<ServiceInstance> removed;
+
+    public ServiceChangeEvent(String interfaceName, List<ServiceInstance> instances
+            , List<ServiceInstance> added, List<ServiceInstance> removed) {
+        this.interfaceName = interfaceName;
+        this.instances = instances;
+        this.added = added;
+        this.removed = removed;
+    }
+}
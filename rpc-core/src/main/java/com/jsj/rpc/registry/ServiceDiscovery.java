@@ -1,5 +1,7 @@
 package com.jsj.rpc.registry;
 
+import java.util.List;
+
 /**
  * 服务发现中心
  *
@@ -15,4 +17,28 @@ public interface ServiceDiscovery {
      * @return
      */
     ServiceInstance discover(SubscribeInfo subscribeInfo);
-}
\ No newline at end of file
+
+    /**
+     * 发现服务的全部节点
+     *
+     * @param subscribeInfo
+     * @return
+     */
+    List<ServiceInstance> discoverAll(SubscribeInfo subscribeInfo);
+
+    /**
+     * 订阅服务节点变化
+     *
+     * @param subscribeInfo
+     * @param listener
+     */
+    void subscribe(SubscribeInfo subscribeInfo, ServiceListener listener);
+
+    /**
+     * 取消订阅
+     *
+     * @param subscribeInfo
+     * @param listener
+     */
+    void unsubscribe(SubscribeInfo subscribeInfo, ServiceListener listener);
+}
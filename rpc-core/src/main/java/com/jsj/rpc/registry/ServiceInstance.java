@@ -1,9 +1,19 @@
 package com.jsj.rpc.registry;
 
 import com.jsj.rpc.client.instance.Endpoint;
+import lombok.NoArgsConstructor;
 
 /**
  * @author jiangshenjie
  */
+@NoArgsConstructor
 public class ServiceInstance extends Endpoint {
+
+    public ServiceInstance(String ip, int port) {
+        super(ip, port);
+    }
+
+    public ServiceInstance(String ip, int port, int weight) {
+        super(ip, port, weight);
+    }
 }
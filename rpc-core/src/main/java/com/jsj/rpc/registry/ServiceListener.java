@@ -0,0 +1,16 @@
+package com.jsj.rpc.registry;
+
+/**
+ * 服务节点变化监听器
+ *
+ * @author jiangshenjie
+ */
+public interface ServiceListener {
+
+    /**
+     * 订阅的服务节点发生变化，订阅时会以当前全部节点作为added立即回调一次
+     *
+     * @param event
+     */
+    void onChange(ServiceChangeEvent event);
+}
@@ -15,4 +15,12 @@ public interface ServiceRegistry {
      * @throws Exception
      */
     void register(RegisterInfo registerInfo) throws Exception;
+
+    /**
+     * 服务注销
+     *
+     * @param registerInfo
+     * @throws Exception
+     */
+    void unregister(RegisterInfo registerInfo) throws Exception;
 }
@@ -14,4 +14,8 @@ import lombok.ToString;
 @NoArgsConstructor
 public class SubscribeInfo {
     private String interfaceName;
+
+    public SubscribeInfo(String interfaceName) {
+        this.interfaceName = interfaceName;
+    }
 }
@@ -0,0 +1,43 @@
+package com.jsj.rpc.registry.local;
+
+import com.jsj.rpc.registry.AbstractServiceDiscovery;
+import com.jsj.rpc.registry.RegisterInfo;
+import com.jsj.rpc.registry.ServiceInstance;
+import com.jsj.rpc.registry.ServiceRegistry;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 进程内的注册中心实现，同时提供注册与发现，无需依赖外部组件
+ *
+ * @author jiangshenjie
+ */
+public class LocalServiceRegistry extends AbstractServiceDiscovery implements ServiceRegistry {
+    private final Map<String, Set<ServiceInstance>> registeredServices = new HashMap<>();
+
+    @Override
+    public void register(RegisterInfo registerInfo) {
+        String interfaceName = registerInfo.getInterfaceName();
+        synchronized (registeredServices) {
+            Set<ServiceInstance> instances = registeredServices
+                    .computeIfAbsent(interfaceName, name -> new LinkedHashSet<>());
+            instances.add(new ServiceInstance(registerInfo.getHost(), registerInfo.getPort()));
+            updateInstances(interfaceName, instances);
+        }
+    }
+
+    @Override
+    public void unregister(RegisterInfo registerInfo) {
+        String interfaceName = registerInfo.getInterfaceName();
+        synchronized (registeredServices) {
+            Set<ServiceInstance> instances = registeredServices.get(interfaceName);
+            if (instances != null
+                    && instances.remove(new ServiceInstance(registerInfo.getHost(), registerInfo.getPort()))) {
+                updateInstances(interfaceName, instances);
+            }
+        }
+    }
+}
@@ -0,0 +1,7957 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: Registry.proto
+
+package com.jsj.rpc.registry.remote;
+
+public final class RegistryMeta {
+  private RegistryMeta() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ServiceNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServiceNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    java.lang.String getInterfaceName();
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceNameBytes();
+
+    /**
+     * <code>string host = 2;</code>
+     * @return The host.
+     */
+    java.lang.String getHost();
+    /**
+     * <code>string host = 2;</code>
+     * @return The bytes for host.
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <code>uint32 port = 3;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <code>uint32 weight = 4;</code>
+     * @return The weight.
+     */
+    int getWeight();
+  }
+  /**
+   * Protobuf type {@code ServiceNode}
+   */
+  public  static final class ServiceNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ServiceNode)
+      ServiceNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServiceNode.newBuilder() to construct.
+    private ServiceNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServiceNode() {
+      interfaceName_ = "";
+      host_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ServiceNode();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServiceNode(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              interfaceName_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              host_ = s;
+              break;
+            }
+            case 24: {
+
+              port_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+
+              weight_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.class, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder.class);
+    }
+
+    public static final int INTERFACENAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object interfaceName_;
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    public java.lang.String getInterfaceName() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        interfaceName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    public com.google.protobuf.ByteString
+        getInterfaceNameBytes() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interfaceName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HOST_FIELD_NUMBER = 2;
+    private volatile java.lang.Object host_;
+    /**
+     * <code>string host = 2;</code>
+     * @return The host.
+     */
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string host = 2;</code>
+     * @return The bytes for host.
+     */
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 3;
+    private int port_;
+    /**
+     * <code>uint32 port = 3;</code>
+     * @return The port.
+     */
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int WEIGHT_FIELD_NUMBER = 4;
+    private int weight_;
+    /**
+     * <code>uint32 weight = 4;</code>
+     * @return The weight.
+     */
+    public int getWeight() {
+      return weight_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getInterfaceNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, interfaceName_);
+      }
+      if (!getHostBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, host_);
+      }
+      if (port_ != 0) {
+        output.writeUInt32(3, port_);
+      }
+      if (weight_ != 0) {
+        output.writeUInt32(4, weight_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getInterfaceNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, interfaceName_);
+      }
+      if (!getHostBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, host_);
+      }
+      if (port_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, port_);
+      }
+      if (weight_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, weight_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode other = (com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode) obj;
+
+      if (!getInterfaceName()
+          .equals(other.getInterfaceName())) return false;
+      if (!getHost()
+          .equals(other.getHost())) return false;
+      if (getPort()
+          != other.getPort()) return false;
+      if (getWeight()
+          != other.getWeight()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INTERFACENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getInterfaceName().hashCode();
+      hash = (37 * hash) + HOST_FIELD_NUMBER;
+      hash = (53 * hash) + getHost().hashCode();
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort();
+      hash = (37 * hash) + WEIGHT_FIELD_NUMBER;
+      hash = (53 * hash) + getWeight();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ServiceNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServiceNode)
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceNode_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.class, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        interfaceName_ = "";
+
+        host_ = "";
+
+        port_ = 0;
+
+        weight_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceNode_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode result = new com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode(this);
+        result.interfaceName_ = interfaceName_;
+        result.host_ = host_;
+        result.port_ = port_;
+        result.weight_ = weight_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance()) return this;
+        if (!other.getInterfaceName().isEmpty()) {
+          interfaceName_ = other.interfaceName_;
+          onChanged();
+        }
+        if (!other.getHost().isEmpty()) {
+          host_ = other.host_;
+          onChanged();
+        }
+        if (other.getPort() != 0) {
+          setPort(other.getPort());
+        }
+        if (other.getWeight() != 0) {
+          setWeight(other.getWeight());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object interfaceName_ = "";
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The interfaceName.
+       */
+      public java.lang.String getInterfaceName() {
+        java.lang.Object ref = interfaceName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          interfaceName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The bytes for interfaceName.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceNameBytes() {
+        java.lang.Object ref = interfaceName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interfaceName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceName() {
+        
+        interfaceName_ = getDefaultInstance().getInterfaceName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The bytes for interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object host_ = "";
+      /**
+       * <code>string host = 2;</code>
+       * @return The host.
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string host = 2;</code>
+       * @return The bytes for host.
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string host = 2;</code>
+       * @param value The host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        host_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHost() {
+        
+        host_ = getDefaultInstance().getHost();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 2;</code>
+       * @param value The bytes for host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        host_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>uint32 port = 3;</code>
+       * @return The port.
+       */
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>uint32 port = 3;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+        
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 port = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int weight_ ;
+      /**
+       * <code>uint32 weight = 4;</code>
+       * @return The weight.
+       */
+      public int getWeight() {
+        return weight_;
+      }
+      /**
+       * <code>uint32 weight = 4;</code>
+       * @param value The weight to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWeight(int value) {
+        
+        weight_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 weight = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWeight() {
+        
+        weight_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ServiceNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:ServiceNode)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServiceNode>
+        PARSER = new com.google.protobuf.AbstractParser<ServiceNode>() {
+      @java.lang.Override
+      public ServiceNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServiceNode(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServiceNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServiceNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RegisterRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RegisterRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    boolean hasNode();
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     * @return The node.
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNode();
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodeOrBuilder();
+
+    /**
+     * <pre>
+     *lease expires if not renewed within ttl
+     * </pre>
+     *
+     * <code>uint32 ttlMillis = 2;</code>
+     * @return The ttlMillis.
+     */
+    int getTtlMillis();
+  }
+  /**
+   * Protobuf type {@code RegisterRequest}
+   */
+  public  static final class RegisterRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RegisterRequest)
+      RegisterRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RegisterRequest.newBuilder() to construct.
+    private RegisterRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RegisterRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RegisterRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegisterRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder subBuilder = null;
+              if (node_ != null) {
+                subBuilder = node_.toBuilder();
+              }
+              node_ = input.readMessage(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(node_);
+                node_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              ttlMillis_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.Builder.class);
+    }
+
+    public static final int NODE_FIELD_NUMBER = 1;
+    private com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode node_;
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    public boolean hasNode() {
+      return node_ != null;
+    }
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     * @return The node.
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNode() {
+      return node_ == null ? com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance() : node_;
+    }
+    /**
+     * <code>.ServiceNode node = 1;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodeOrBuilder() {
+      return getNode();
+    }
+
+    public static final int TTLMILLIS_FIELD_NUMBER = 2;
+    private int ttlMillis_;
+    /**
+     * <pre>
+     *lease expires if not renewed within ttl
+     * </pre>
+     *
+     * <code>uint32 ttlMillis = 2;</code>
+     * @return The ttlMillis.
+     */
+    public int getTtlMillis() {
+      return ttlMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (node_ != null) {
+        output.writeMessage(1, getNode());
+      }
+      if (ttlMillis_ != 0) {
+        output.writeUInt32(2, ttlMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (node_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getNode());
+      }
+      if (ttlMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, ttlMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest other = (com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest) obj;
+
+      if (hasNode() != other.hasNode()) return false;
+      if (hasNode()) {
+        if (!getNode()
+            .equals(other.getNode())) return false;
+      }
+      if (getTtlMillis()
+          != other.getTtlMillis()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasNode()) {
+        hash = (37 * hash) + NODE_FIELD_NUMBER;
+        hash = (53 * hash) + getNode().hashCode();
+      }
+      hash = (37 * hash) + TTLMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getTtlMillis();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RegisterRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RegisterRequest)
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (nodeBuilder_ == null) {
+          node_ = null;
+        } else {
+          node_ = null;
+          nodeBuilder_ = null;
+        }
+        ttlMillis_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest result = new com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest(this);
+        if (nodeBuilder_ == null) {
+          result.node_ = node_;
+        } else {
+          result.node_ = nodeBuilder_.build();
+        }
+        result.ttlMillis_ = ttlMillis_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest.getDefaultInstance()) return this;
+        if (other.hasNode()) {
+          mergeNode(other.getNode());
+        }
+        if (other.getTtlMillis() != 0) {
+          setTtlMillis(other.getTtlMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode node_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> nodeBuilder_;
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       * @return Whether the node field is set.
+       */
+      public boolean hasNode() {
+        return nodeBuilder_ != null || node_ != null;
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       * @return The node.
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNode() {
+        if (nodeBuilder_ == null) {
+          return node_ == null ? com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance() : node_;
+        } else {
+          return nodeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public Builder setNode(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          node_ = value;
+          onChanged();
+        } else {
+          nodeBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public Builder setNode(
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          node_ = builderForValue.build();
+          onChanged();
+        } else {
+          nodeBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public Builder mergeNode(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode value) {
+        if (nodeBuilder_ == null) {
+          if (node_ != null) {
+            node_ =
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.newBuilder(node_).mergeFrom(value).buildPartial();
+          } else {
+            node_ = value;
+          }
+          onChanged();
+        } else {
+          nodeBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public Builder clearNode() {
+        if (nodeBuilder_ == null) {
+          node_ = null;
+          onChanged();
+        } else {
+          node_ = null;
+          nodeBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder getNodeBuilder() {
+        
+        onChanged();
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodeOrBuilder() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilder();
+        } else {
+          return node_ == null ?
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance() : node_;
+        }
+      }
+      /**
+       * <code>.ServiceNode node = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder>(
+                  getNode(),
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        return nodeBuilder_;
+      }
+
+      private int ttlMillis_ ;
+      /**
+       * <pre>
+       *lease expires if not renewed within ttl
+       * </pre>
+       *
+       * <code>uint32 ttlMillis = 2;</code>
+       * @return The ttlMillis.
+       */
+      public int getTtlMillis() {
+        return ttlMillis_;
+      }
+      /**
+       * <pre>
+       *lease expires if not renewed within ttl
+       * </pre>
+       *
+       * <code>uint32 ttlMillis = 2;</code>
+       * @param value The ttlMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTtlMillis(int value) {
+        
+        ttlMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *lease expires if not renewed within ttl
+       * </pre>
+       *
+       * <code>uint32 ttlMillis = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTtlMillis() {
+        
+        ttlMillis_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RegisterRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:RegisterRequest)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RegisterRequest>
+        PARSER = new com.google.protobuf.AbstractParser<RegisterRequest>() {
+      @java.lang.Override
+      public RegisterRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegisterRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RegisterRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegisterRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RegisterResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RegisterResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 leaseId = 1;</code>
+     * @return The leaseId.
+     */
+    long getLeaseId();
+  }
+  /**
+   * Protobuf type {@code RegisterResponse}
+   */
+  public  static final class RegisterResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RegisterResponse)
+      RegisterResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RegisterResponse.newBuilder() to construct.
+    private RegisterResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RegisterResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RegisterResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegisterResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              leaseId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.Builder.class);
+    }
+
+    public static final int LEASEID_FIELD_NUMBER = 1;
+    private long leaseId_;
+    /**
+     * <code>uint64 leaseId = 1;</code>
+     * @return The leaseId.
+     */
+    public long getLeaseId() {
+      return leaseId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (leaseId_ != 0L) {
+        output.writeUInt64(1, leaseId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (leaseId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, leaseId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse other = (com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse) obj;
+
+      if (getLeaseId()
+          != other.getLeaseId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LEASEID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLeaseId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RegisterResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RegisterResponse)
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        leaseId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RegisterResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse result = new com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse(this);
+        result.leaseId_ = leaseId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse.getDefaultInstance()) return this;
+        if (other.getLeaseId() != 0L) {
+          setLeaseId(other.getLeaseId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long leaseId_ ;
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @return The leaseId.
+       */
+      public long getLeaseId() {
+        return leaseId_;
+      }
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @param value The leaseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaseId(long value) {
+        
+        leaseId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaseId() {
+        
+        leaseId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RegisterResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:RegisterResponse)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RegisterResponse>
+        PARSER = new com.google.protobuf.AbstractParser<RegisterResponse>() {
+      @java.lang.Override
+      public RegisterResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegisterResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RegisterResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegisterResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RenewRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RenewRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @return A list containing the leaseIds.
+     */
+    java.util.List<java.lang.Long> getLeaseIdsList();
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @return The count of leaseIds.
+     */
+    int getLeaseIdsCount();
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The leaseIds at the given index.
+     */
+    long getLeaseIds(int index);
+  }
+  /**
+   * Protobuf type {@code RenewRequest}
+   */
+  public  static final class RenewRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RenewRequest)
+      RenewRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RenewRequest.newBuilder() to construct.
+    private RenewRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RenewRequest() {
+      leaseIds_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RenewRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RenewRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                leaseIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              leaseIds_.addLong(input.readUInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                leaseIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                leaseIds_.addLong(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          leaseIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.Builder.class);
+    }
+
+    public static final int LEASEIDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList leaseIds_;
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @return A list containing the leaseIds.
+     */
+    public java.util.List<java.lang.Long>
+        getLeaseIdsList() {
+      return leaseIds_;
+    }
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @return The count of leaseIds.
+     */
+    public int getLeaseIdsCount() {
+      return leaseIds_.size();
+    }
+    /**
+     * <pre>
+     *all leases of one client are renewed in one request
+     * </pre>
+     *
+     * <code>repeated uint64 leaseIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The leaseIds at the given index.
+     */
+    public long getLeaseIds(int index) {
+      return leaseIds_.getLong(index);
+    }
+    private int leaseIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getLeaseIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(leaseIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < leaseIds_.size(); i++) {
+        output.writeUInt64NoTag(leaseIds_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < leaseIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(leaseIds_.getLong(i));
+        }
+        size += dataSize;
+        if (!getLeaseIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        leaseIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest other = (com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest) obj;
+
+      if (!getLeaseIdsList()
+          .equals(other.getLeaseIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getLeaseIdsCount() > 0) {
+        hash = (37 * hash) + LEASEIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getLeaseIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RenewRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RenewRequest)
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        leaseIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest result = new com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          leaseIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.leaseIds_ = leaseIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest.getDefaultInstance()) return this;
+        if (!other.leaseIds_.isEmpty()) {
+          if (leaseIds_.isEmpty()) {
+            leaseIds_ = other.leaseIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureLeaseIdsIsMutable();
+            leaseIds_.addAll(other.leaseIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList leaseIds_ = emptyLongList();
+      private void ensureLeaseIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          leaseIds_ = mutableCopy(leaseIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @return A list containing the leaseIds.
+       */
+      public java.util.List<java.lang.Long>
+          getLeaseIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(leaseIds_) : leaseIds_;
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @return The count of leaseIds.
+       */
+      public int getLeaseIdsCount() {
+        return leaseIds_.size();
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @param index The index of the element to return.
+       * @return The leaseIds at the given index.
+       */
+      public long getLeaseIds(int index) {
+        return leaseIds_.getLong(index);
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The leaseIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaseIds(
+          int index, long value) {
+        ensureLeaseIdsIsMutable();
+        leaseIds_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @param value The leaseIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLeaseIds(long value) {
+        ensureLeaseIdsIsMutable();
+        leaseIds_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @param values The leaseIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLeaseIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLeaseIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, leaseIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *all leases of one client are renewed in one request
+       * </pre>
+       *
+       * <code>repeated uint64 leaseIds = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaseIds() {
+        leaseIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RenewRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:RenewRequest)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RenewRequest>
+        PARSER = new com.google.protobuf.AbstractParser<RenewRequest>() {
+      @java.lang.Override
+      public RenewRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RenewRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RenewRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RenewRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RenewResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RenewResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @return A list containing the expiredLeaseIds.
+     */
+    java.util.List<java.lang.Long> getExpiredLeaseIdsList();
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @return The count of expiredLeaseIds.
+     */
+    int getExpiredLeaseIdsCount();
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The expiredLeaseIds at the given index.
+     */
+    long getExpiredLeaseIds(int index);
+  }
+  /**
+   * Protobuf type {@code RenewResponse}
+   */
+  public  static final class RenewResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:RenewResponse)
+      RenewResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RenewResponse.newBuilder() to construct.
+    private RenewResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RenewResponse() {
+      expiredLeaseIds_ = emptyLongList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RenewResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RenewResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                expiredLeaseIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              expiredLeaseIds_.addLong(input.readUInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                expiredLeaseIds_ = newLongList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                expiredLeaseIds_.addLong(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          expiredLeaseIds_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.Builder.class);
+    }
+
+    public static final int EXPIREDLEASEIDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.Internal.LongList expiredLeaseIds_;
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @return A list containing the expiredLeaseIds.
+     */
+    public java.util.List<java.lang.Long>
+        getExpiredLeaseIdsList() {
+      return expiredLeaseIds_;
+    }
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @return The count of expiredLeaseIds.
+     */
+    public int getExpiredLeaseIdsCount() {
+      return expiredLeaseIds_.size();
+    }
+    /**
+     * <pre>
+     *leases already expired, need register again
+     * </pre>
+     *
+     * <code>repeated uint64 expiredLeaseIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The expiredLeaseIds at the given index.
+     */
+    public long getExpiredLeaseIds(int index) {
+      return expiredLeaseIds_.getLong(index);
+    }
+    private int expiredLeaseIdsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getExpiredLeaseIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(expiredLeaseIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < expiredLeaseIds_.size(); i++) {
+        output.writeUInt64NoTag(expiredLeaseIds_.getLong(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < expiredLeaseIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(expiredLeaseIds_.getLong(i));
+        }
+        size += dataSize;
+        if (!getExpiredLeaseIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        expiredLeaseIdsMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse other = (com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse) obj;
+
+      if (!getExpiredLeaseIdsList()
+          .equals(other.getExpiredLeaseIdsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getExpiredLeaseIdsCount() > 0) {
+        hash = (37 * hash) + EXPIREDLEASEIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getExpiredLeaseIdsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RenewResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RenewResponse)
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        expiredLeaseIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_RenewResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse result = new com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          expiredLeaseIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.expiredLeaseIds_ = expiredLeaseIds_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse.getDefaultInstance()) return this;
+        if (!other.expiredLeaseIds_.isEmpty()) {
+          if (expiredLeaseIds_.isEmpty()) {
+            expiredLeaseIds_ = other.expiredLeaseIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureExpiredLeaseIdsIsMutable();
+            expiredLeaseIds_.addAll(other.expiredLeaseIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList expiredLeaseIds_ = emptyLongList();
+      private void ensureExpiredLeaseIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          expiredLeaseIds_ = mutableCopy(expiredLeaseIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @return A list containing the expiredLeaseIds.
+       */
+      public java.util.List<java.lang.Long>
+          getExpiredLeaseIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(expiredLeaseIds_) : expiredLeaseIds_;
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @return The count of expiredLeaseIds.
+       */
+      public int getExpiredLeaseIdsCount() {
+        return expiredLeaseIds_.size();
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @param index The index of the element to return.
+       * @return The expiredLeaseIds at the given index.
+       */
+      public long getExpiredLeaseIds(int index) {
+        return expiredLeaseIds_.getLong(index);
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The expiredLeaseIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setExpiredLeaseIds(
+          int index, long value) {
+        ensureExpiredLeaseIdsIsMutable();
+        expiredLeaseIds_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @param value The expiredLeaseIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addExpiredLeaseIds(long value) {
+        ensureExpiredLeaseIdsIsMutable();
+        expiredLeaseIds_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @param values The expiredLeaseIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllExpiredLeaseIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureExpiredLeaseIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, expiredLeaseIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *leases already expired, need register again
+       * </pre>
+       *
+       * <code>repeated uint64 expiredLeaseIds = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearExpiredLeaseIds() {
+        expiredLeaseIds_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:RenewResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:RenewResponse)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RenewResponse>
+        PARSER = new com.google.protobuf.AbstractParser<RenewResponse>() {
+      @java.lang.Override
+      public RenewResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RenewResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RenewResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RenewResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UnregisterRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UnregisterRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 leaseId = 1;</code>
+     * @return The leaseId.
+     */
+    long getLeaseId();
+  }
+  /**
+   * Protobuf type {@code UnregisterRequest}
+   */
+  public  static final class UnregisterRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:UnregisterRequest)
+      UnregisterRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UnregisterRequest.newBuilder() to construct.
+    private UnregisterRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UnregisterRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UnregisterRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UnregisterRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              leaseId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.Builder.class);
+    }
+
+    public static final int LEASEID_FIELD_NUMBER = 1;
+    private long leaseId_;
+    /**
+     * <code>uint64 leaseId = 1;</code>
+     * @return The leaseId.
+     */
+    public long getLeaseId() {
+      return leaseId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (leaseId_ != 0L) {
+        output.writeUInt64(1, leaseId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (leaseId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, leaseId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest other = (com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest) obj;
+
+      if (getLeaseId()
+          != other.getLeaseId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LEASEID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLeaseId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code UnregisterRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:UnregisterRequest)
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        leaseId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest result = new com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest(this);
+        result.leaseId_ = leaseId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest.getDefaultInstance()) return this;
+        if (other.getLeaseId() != 0L) {
+          setLeaseId(other.getLeaseId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long leaseId_ ;
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @return The leaseId.
+       */
+      public long getLeaseId() {
+        return leaseId_;
+      }
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @param value The leaseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeaseId(long value) {
+        
+        leaseId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 leaseId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeaseId() {
+        
+        leaseId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:UnregisterRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:UnregisterRequest)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UnregisterRequest>
+        PARSER = new com.google.protobuf.AbstractParser<UnregisterRequest>() {
+      @java.lang.Override
+      public UnregisterRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UnregisterRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UnregisterRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UnregisterRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UnregisterResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UnregisterResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool removed = 1;</code>
+     * @return The removed.
+     */
+    boolean getRemoved();
+  }
+  /**
+   * Protobuf type {@code UnregisterResponse}
+   */
+  public  static final class UnregisterResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:UnregisterResponse)
+      UnregisterResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UnregisterResponse.newBuilder() to construct.
+    private UnregisterResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UnregisterResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UnregisterResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UnregisterResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              removed_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.Builder.class);
+    }
+
+    public static final int REMOVED_FIELD_NUMBER = 1;
+    private boolean removed_;
+    /**
+     * <code>bool removed = 1;</code>
+     * @return The removed.
+     */
+    public boolean getRemoved() {
+      return removed_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (removed_ != false) {
+        output.writeBool(1, removed_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (removed_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, removed_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse other = (com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse) obj;
+
+      if (getRemoved()
+          != other.getRemoved()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REMOVED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRemoved());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code UnregisterResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:UnregisterResponse)
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        removed_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_UnregisterResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse result = new com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse(this);
+        result.removed_ = removed_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse.getDefaultInstance()) return this;
+        if (other.getRemoved() != false) {
+          setRemoved(other.getRemoved());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private boolean removed_ ;
+      /**
+       * <code>bool removed = 1;</code>
+       * @return The removed.
+       */
+      public boolean getRemoved() {
+        return removed_;
+      }
+      /**
+       * <code>bool removed = 1;</code>
+       * @param value The removed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoved(boolean value) {
+        
+        removed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool removed = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoved() {
+        
+        removed_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:UnregisterResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:UnregisterResponse)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UnregisterResponse>
+        PARSER = new com.google.protobuf.AbstractParser<UnregisterResponse>() {
+      @java.lang.Override
+      public UnregisterResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UnregisterResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UnregisterResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UnregisterResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WatchEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    java.lang.String getInterfaceName();
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceNameBytes();
+
+    /**
+     * <pre>
+     *latest revision known by client
+     * </pre>
+     *
+     * <code>uint64 revision = 2;</code>
+     * @return The revision.
+     */
+    long getRevision();
+  }
+  /**
+   * Protobuf type {@code WatchEntry}
+   */
+  public  static final class WatchEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WatchEntry)
+      WatchEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchEntry.newBuilder() to construct.
+    private WatchEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchEntry() {
+      interfaceName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchEntry();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WatchEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              interfaceName_ = s;
+              break;
+            }
+            case 16: {
+
+              revision_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder.class);
+    }
+
+    public static final int INTERFACENAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object interfaceName_;
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    public java.lang.String getInterfaceName() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        interfaceName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    public com.google.protobuf.ByteString
+        getInterfaceNameBytes() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interfaceName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REVISION_FIELD_NUMBER = 2;
+    private long revision_;
+    /**
+     * <pre>
+     *latest revision known by client
+     * </pre>
+     *
+     * <code>uint64 revision = 2;</code>
+     * @return The revision.
+     */
+    public long getRevision() {
+      return revision_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getInterfaceNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, interfaceName_);
+      }
+      if (revision_ != 0L) {
+        output.writeUInt64(2, revision_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getInterfaceNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, interfaceName_);
+      }
+      if (revision_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, revision_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry other = (com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry) obj;
+
+      if (!getInterfaceName()
+          .equals(other.getInterfaceName())) return false;
+      if (getRevision()
+          != other.getRevision()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INTERFACENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getInterfaceName().hashCode();
+      hash = (37 * hash) + REVISION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRevision());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WatchEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WatchEntry)
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        interfaceName_ = "";
+
+        revision_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry result = new com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry(this);
+        result.interfaceName_ = interfaceName_;
+        result.revision_ = revision_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.getDefaultInstance()) return this;
+        if (!other.getInterfaceName().isEmpty()) {
+          interfaceName_ = other.interfaceName_;
+          onChanged();
+        }
+        if (other.getRevision() != 0L) {
+          setRevision(other.getRevision());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object interfaceName_ = "";
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The interfaceName.
+       */
+      public java.lang.String getInterfaceName() {
+        java.lang.Object ref = interfaceName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          interfaceName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The bytes for interfaceName.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceNameBytes() {
+        java.lang.Object ref = interfaceName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interfaceName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceName() {
+        
+        interfaceName_ = getDefaultInstance().getInterfaceName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The bytes for interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long revision_ ;
+      /**
+       * <pre>
+       *latest revision known by client
+       * </pre>
+       *
+       * <code>uint64 revision = 2;</code>
+       * @return The revision.
+       */
+      public long getRevision() {
+        return revision_;
+      }
+      /**
+       * <pre>
+       *latest revision known by client
+       * </pre>
+       *
+       * <code>uint64 revision = 2;</code>
+       * @param value The revision to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRevision(long value) {
+        
+        revision_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *latest revision known by client
+       * </pre>
+       *
+       * <code>uint64 revision = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRevision() {
+        
+        revision_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WatchEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:WatchEntry)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchEntry>
+        PARSER = new com.google.protobuf.AbstractParser<WatchEntry>() {
+      @java.lang.Override
+      public WatchEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WatchEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WatchRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> 
+        getEntriesList();
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getEntries(int index);
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder getEntriesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     *max time server holds the request when nothing changed
+     * </pre>
+     *
+     * <code>uint32 waitMillis = 2;</code>
+     * @return The waitMillis.
+     */
+    int getWaitMillis();
+  }
+  /**
+   * Protobuf type {@code WatchRequest}
+   */
+  public  static final class WatchRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WatchRequest)
+      WatchRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchRequest.newBuilder() to construct.
+    private WatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchRequest() {
+      entries_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WatchRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entries_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              waitMillis_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.Builder.class);
+    }
+
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> entries_;
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .WatchEntry entries = 1;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    public static final int WAITMILLIS_FIELD_NUMBER = 2;
+    private int waitMillis_;
+    /**
+     * <pre>
+     *max time server holds the request when nothing changed
+     * </pre>
+     *
+     * <code>uint32 waitMillis = 2;</code>
+     * @return The waitMillis.
+     */
+    public int getWaitMillis() {
+      return waitMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
+      }
+      if (waitMillis_ != 0) {
+        output.writeUInt32(2, waitMillis_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entries_.get(i));
+      }
+      if (waitMillis_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, waitMillis_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest other = (com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest) obj;
+
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
+      if (getWaitMillis()
+          != other.getWaitMillis()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      hash = (37 * hash) + WAITMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + getWaitMillis();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WatchRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WatchRequest)
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        waitMillis_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest result = new com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        result.waitMillis_ = waitMillis_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        if (other.getWaitMillis() != 0) {
+          setWaitMillis(other.getWaitMillis());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entries_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder addEntries(com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .WatchEntry entries = 1;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry.Builder, com.jsj.rpc.registry.remote.RegistryMeta.WatchEntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+
+      private int waitMillis_ ;
+      /**
+       * <pre>
+       *max time server holds the request when nothing changed
+       * </pre>
+       *
+       * <code>uint32 waitMillis = 2;</code>
+       * @return The waitMillis.
+       */
+      public int getWaitMillis() {
+        return waitMillis_;
+      }
+      /**
+       * <pre>
+       *max time server holds the request when nothing changed
+       * </pre>
+       *
+       * <code>uint32 waitMillis = 2;</code>
+       * @param value The waitMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWaitMillis(int value) {
+        
+        waitMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *max time server holds the request when nothing changed
+       * </pre>
+       *
+       * <code>uint32 waitMillis = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWaitMillis() {
+        
+        waitMillis_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WatchRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:WatchRequest)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<WatchRequest>() {
+      @java.lang.Override
+      public WatchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WatchRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ServiceSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServiceSnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    java.lang.String getInterfaceName();
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    com.google.protobuf.ByteString
+        getInterfaceNameBytes();
+
+    /**
+     * <code>uint64 revision = 2;</code>
+     * @return The revision.
+     */
+    long getRevision();
+
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> 
+        getNodesList();
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNodes(int index);
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    int getNodesCount();
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> 
+        getNodesOrBuilderList();
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ServiceSnapshot}
+   */
+  public  static final class ServiceSnapshot extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ServiceSnapshot)
+      ServiceSnapshotOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServiceSnapshot.newBuilder() to construct.
+    private ServiceSnapshot(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServiceSnapshot() {
+      interfaceName_ = "";
+      nodes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ServiceSnapshot();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServiceSnapshot(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              interfaceName_ = s;
+              break;
+            }
+            case 16: {
+
+              revision_ = input.readUInt64();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                nodes_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              nodes_.add(
+                  input.readMessage(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          nodes_ = java.util.Collections.unmodifiableList(nodes_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceSnapshot_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceSnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.class, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder.class);
+    }
+
+    public static final int INTERFACENAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object interfaceName_;
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The interfaceName.
+     */
+    public java.lang.String getInterfaceName() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        interfaceName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string interfaceName = 1;</code>
+     * @return The bytes for interfaceName.
+     */
+    public com.google.protobuf.ByteString
+        getInterfaceNameBytes() {
+      java.lang.Object ref = interfaceName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interfaceName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REVISION_FIELD_NUMBER = 2;
+    private long revision_;
+    /**
+     * <code>uint64 revision = 2;</code>
+     * @return The revision.
+     */
+    public long getRevision() {
+      return revision_;
+    }
+
+    public static final int NODES_FIELD_NUMBER = 3;
+    private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> nodes_;
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> getNodesList() {
+      return nodes_;
+    }
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> 
+        getNodesOrBuilderList() {
+      return nodes_;
+    }
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    public int getNodesCount() {
+      return nodes_.size();
+    }
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNodes(int index) {
+      return nodes_.get(index);
+    }
+    /**
+     * <code>repeated .ServiceNode nodes = 3;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodesOrBuilder(
+        int index) {
+      return nodes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getInterfaceNameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, interfaceName_);
+      }
+      if (revision_ != 0L) {
+        output.writeUInt64(2, revision_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        output.writeMessage(3, nodes_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getInterfaceNameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, interfaceName_);
+      }
+      if (revision_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, revision_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, nodes_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot other = (com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot) obj;
+
+      if (!getInterfaceName()
+          .equals(other.getInterfaceName())) return false;
+      if (getRevision()
+          != other.getRevision()) return false;
+      if (!getNodesList()
+          .equals(other.getNodesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INTERFACENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getInterfaceName().hashCode();
+      hash = (37 * hash) + REVISION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRevision());
+      if (getNodesCount() > 0) {
+        hash = (37 * hash) + NODES_FIELD_NUMBER;
+        hash = (53 * hash) + getNodesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ServiceSnapshot}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServiceSnapshot)
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceSnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.class, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getNodesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        interfaceName_ = "";
+
+        revision_ = 0L;
+
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          nodesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_ServiceSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot result = new com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot(this);
+        int from_bitField0_ = bitField0_;
+        result.interfaceName_ = interfaceName_;
+        result.revision_ = revision_;
+        if (nodesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            nodes_ = java.util.Collections.unmodifiableList(nodes_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.nodes_ = nodes_;
+        } else {
+          result.nodes_ = nodesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.getDefaultInstance()) return this;
+        if (!other.getInterfaceName().isEmpty()) {
+          interfaceName_ = other.interfaceName_;
+          onChanged();
+        }
+        if (other.getRevision() != 0L) {
+          setRevision(other.getRevision());
+        }
+        if (nodesBuilder_ == null) {
+          if (!other.nodes_.isEmpty()) {
+            if (nodes_.isEmpty()) {
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureNodesIsMutable();
+              nodes_.addAll(other.nodes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodes_.isEmpty()) {
+            if (nodesBuilder_.isEmpty()) {
+              nodesBuilder_.dispose();
+              nodesBuilder_ = null;
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              nodesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodesFieldBuilder() : null;
+            } else {
+              nodesBuilder_.addAllMessages(other.nodes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object interfaceName_ = "";
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The interfaceName.
+       */
+      public java.lang.String getInterfaceName() {
+        java.lang.Object ref = interfaceName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          interfaceName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return The bytes for interfaceName.
+       */
+      public com.google.protobuf.ByteString
+          getInterfaceNameBytes() {
+        java.lang.Object ref = interfaceName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interfaceName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceName() {
+        
+        interfaceName_ = getDefaultInstance().getInterfaceName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string interfaceName = 1;</code>
+       * @param value The bytes for interfaceName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        interfaceName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long revision_ ;
+      /**
+       * <code>uint64 revision = 2;</code>
+       * @return The revision.
+       */
+      public long getRevision() {
+        return revision_;
+      }
+      /**
+       * <code>uint64 revision = 2;</code>
+       * @param value The revision to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRevision(long value) {
+        
+        revision_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 revision = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRevision() {
+        
+        revision_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> nodes_ =
+        java.util.Collections.emptyList();
+      private void ensureNodesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          nodes_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode>(nodes_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> nodesBuilder_;
+
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> getNodesList() {
+        if (nodesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodes_);
+        } else {
+          return nodesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public int getNodesCount() {
+        if (nodesBuilder_ == null) {
+          return nodes_.size();
+        } else {
+          return nodesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode getNodes(int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);
+        } else {
+          return nodesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder setNodes(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.set(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder setNodes(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder addNodes(com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder addNodes(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder addNodes(
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder addNodes(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder addAllNodes(
+          java.lang.Iterable<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode> values) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodes_);
+          onChanged();
+        } else {
+          nodesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder clearNodes() {
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          nodesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public Builder removeNodes(int index) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.remove(index);
+          onChanged();
+        } else {
+          nodesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder getNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder getNodesOrBuilder(
+          int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);  } else {
+          return nodesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> 
+           getNodesOrBuilderList() {
+        if (nodesBuilder_ != null) {
+          return nodesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nodes_);
+        }
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder addNodesBuilder() {
+        return getNodesFieldBuilder().addBuilder(
+            com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder addNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().addBuilder(
+            index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServiceNode nodes = 3;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder> 
+           getNodesBuilderList() {
+        return getNodesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder> 
+          getNodesFieldBuilder() {
+        if (nodesBuilder_ == null) {
+          nodesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceNodeOrBuilder>(
+                  nodes_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          nodes_ = null;
+        }
+        return nodesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ServiceSnapshot)
+    }
+
+    // @@protoc_insertion_point(class_scope:ServiceSnapshot)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServiceSnapshot>
+        PARSER = new com.google.protobuf.AbstractParser<ServiceSnapshot>() {
+      @java.lang.Override
+      public ServiceSnapshot parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServiceSnapshot(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServiceSnapshot> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServiceSnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> 
+        getSnapshotsList();
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getSnapshots(int index);
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    int getSnapshotsCount();
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder> 
+        getSnapshotsOrBuilderList();
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder getSnapshotsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code WatchResponse}
+   */
+  public  static final class WatchResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WatchResponse)
+      WatchResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchResponse.newBuilder() to construct.
+    private WatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchResponse() {
+      snapshots_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                snapshots_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              snapshots_.add(
+                  input.readMessage(com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          snapshots_ = java.util.Collections.unmodifiableList(snapshots_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.Builder.class);
+    }
+
+    public static final int SNAPSHOTS_FIELD_NUMBER = 1;
+    private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> snapshots_;
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> getSnapshotsList() {
+      return snapshots_;
+    }
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder> 
+        getSnapshotsOrBuilderList() {
+      return snapshots_;
+    }
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    public int getSnapshotsCount() {
+      return snapshots_.size();
+    }
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getSnapshots(int index) {
+      return snapshots_.get(index);
+    }
+    /**
+     * <pre>
+     *only services changed after the requested revision
+     * </pre>
+     *
+     * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+     */
+    public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder getSnapshotsOrBuilder(
+        int index) {
+      return snapshots_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < snapshots_.size(); i++) {
+        output.writeMessage(1, snapshots_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < snapshots_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, snapshots_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse)) {
+        return super.equals(obj);
+      }
+      com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse other = (com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse) obj;
+
+      if (!getSnapshotsList()
+          .equals(other.getSnapshotsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSnapshotsCount() > 0) {
+        hash = (37 * hash) + SNAPSHOTS_FIELD_NUMBER;
+        hash = (53 * hash) + getSnapshotsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WatchResponse)
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.class, com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.Builder.class);
+      }
+
+      // Construct using com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSnapshotsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (snapshotsBuilder_ == null) {
+          snapshots_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          snapshotsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.internal_static_WatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse getDefaultInstanceForType() {
+        return com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse build() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse buildPartial() {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse result = new com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (snapshotsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            snapshots_ = java.util.Collections.unmodifiableList(snapshots_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.snapshots_ = snapshots_;
+        } else {
+          result.snapshots_ = snapshotsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse) {
+          return mergeFrom((com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse other) {
+        if (other == com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse.getDefaultInstance()) return this;
+        if (snapshotsBuilder_ == null) {
+          if (!other.snapshots_.isEmpty()) {
+            if (snapshots_.isEmpty()) {
+              snapshots_ = other.snapshots_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSnapshotsIsMutable();
+              snapshots_.addAll(other.snapshots_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.snapshots_.isEmpty()) {
+            if (snapshotsBuilder_.isEmpty()) {
+              snapshotsBuilder_.dispose();
+              snapshotsBuilder_ = null;
+              snapshots_ = other.snapshots_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              snapshotsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSnapshotsFieldBuilder() : null;
+            } else {
+              snapshotsBuilder_.addAllMessages(other.snapshots_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> snapshots_ =
+        java.util.Collections.emptyList();
+      private void ensureSnapshotsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          snapshots_ = new java.util.ArrayList<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot>(snapshots_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder> snapshotsBuilder_;
+
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> getSnapshotsList() {
+        if (snapshotsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(snapshots_);
+        } else {
+          return snapshotsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public int getSnapshotsCount() {
+        if (snapshotsBuilder_ == null) {
+          return snapshots_.size();
+        } else {
+          return snapshotsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot getSnapshots(int index) {
+        if (snapshotsBuilder_ == null) {
+          return snapshots_.get(index);
+        } else {
+          return snapshotsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder setSnapshots(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot value) {
+        if (snapshotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnapshotsIsMutable();
+          snapshots_.set(index, value);
+          onChanged();
+        } else {
+          snapshotsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder setSnapshots(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder builderForValue) {
+        if (snapshotsBuilder_ == null) {
+          ensureSnapshotsIsMutable();
+          snapshots_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          snapshotsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder addSnapshots(com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot value) {
+        if (snapshotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnapshotsIsMutable();
+          snapshots_.add(value);
+          onChanged();
+        } else {
+          snapshotsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder addSnapshots(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot value) {
+        if (snapshotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnapshotsIsMutable();
+          snapshots_.add(index, value);
+          onChanged();
+        } else {
+          snapshotsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder addSnapshots(
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder builderForValue) {
+        if (snapshotsBuilder_ == null) {
+          ensureSnapshotsIsMutable();
+          snapshots_.add(builderForValue.build());
+          onChanged();
+        } else {
+          snapshotsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder addSnapshots(
+          int index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder builderForValue) {
+        if (snapshotsBuilder_ == null) {
+          ensureSnapshotsIsMutable();
+          snapshots_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          snapshotsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder addAllSnapshots(
+          java.lang.Iterable<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot> values) {
+        if (snapshotsBuilder_ == null) {
+          ensureSnapshotsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, snapshots_);
+          onChanged();
+        } else {
+          snapshotsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder clearSnapshots() {
+        if (snapshotsBuilder_ == null) {
+          snapshots_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          snapshotsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public Builder removeSnapshots(int index) {
+        if (snapshotsBuilder_ == null) {
+          ensureSnapshotsIsMutable();
+          snapshots_.remove(index);
+          onChanged();
+        } else {
+          snapshotsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder getSnapshotsBuilder(
+          int index) {
+        return getSnapshotsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder getSnapshotsOrBuilder(
+          int index) {
+        if (snapshotsBuilder_ == null) {
+          return snapshots_.get(index);  } else {
+          return snapshotsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public java.util.List<? extends com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder> 
+           getSnapshotsOrBuilderList() {
+        if (snapshotsBuilder_ != null) {
+          return snapshotsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(snapshots_);
+        }
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder addSnapshotsBuilder() {
+        return getSnapshotsFieldBuilder().addBuilder(
+            com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder addSnapshotsBuilder(
+          int index) {
+        return getSnapshotsFieldBuilder().addBuilder(
+            index, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *only services changed after the requested revision
+       * </pre>
+       *
+       * <code>repeated .ServiceSnapshot snapshots = 1;</code>
+       */
+      public java.util.List<com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder> 
+           getSnapshotsBuilderList() {
+        return getSnapshotsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder> 
+          getSnapshotsFieldBuilder() {
+        if (snapshotsBuilder_ == null) {
+          snapshotsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot.Builder, com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshotOrBuilder>(
+                  snapshots_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          snapshots_ = null;
+        }
+        return snapshotsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WatchResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:WatchResponse)
+    private static final com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse();
+    }
+
+    public static com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchResponse>
+        PARSER = new com.google.protobuf.AbstractParser<WatchResponse>() {
+      @java.lang.Override
+      public WatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WatchResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServiceNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServiceNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RegisterRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RegisterRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RegisterResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RegisterResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RenewRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RenewRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RenewResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_RenewResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UnregisterRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UnregisterRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UnregisterResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UnregisterResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WatchEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WatchEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WatchRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WatchRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServiceSnapshot_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServiceSnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WatchResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WatchResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\016Registry.proto\"P\n\013ServiceNode\022\025\n\rinter" +
+      "faceName\030\001 \001(\t\022\014\n\004host\030\002 \001(\t\022\014\n\004port\030\003 \001" +
+      "(\r\022\016\n\006weight\030\004 \001(\r\"@\n\017RegisterRequest\022\032\n" +
+      "\004node\030\001 \001(\0132\014.ServiceNode\022\021\n\tttlMillis\030\002" +
+      " \001(\r\"#\n\020RegisterResponse\022\017\n\007leaseId\030\001 \001(" +
+      "\004\" \n\014RenewRequest\022\020\n\010leaseIds\030\001 \003(\004\"(\n\rR" +
+      "enewResponse\022\027\n\017expiredLeaseIds\030\001 \003(\004\"$\n" +
+      "\021UnregisterRequest\022\017\n\007leaseId\030\001 \001(\004\"%\n\022U" +
+      "nregisterResponse\022\017\n\007removed\030\001 \001(\010\"5\n\nWa" +
+      "tchEntry\022\025\n\rinterfaceName\030\001 \001(\t\022\020\n\010revis" +
+      "ion\030\002 \001(\004\"@\n\014WatchRequest\022\034\n\007entries\030\001 \003" +
+      "(\0132\013.WatchEntry\022\022\n\nwaitMillis\030\002 \001(\r\"W\n\017S" +
+      "erviceSnapshot\022\025\n\rinterfaceName\030\001 \001(\t\022\020\n" +
+      "\010revision\030\002 \001(\004\022\033\n\005nodes\030\003 \003(\0132\014.Service" +
+      "Node\"4\n\rWatchResponse\022#\n\tsnapshots\030\001 \003(\013" +
+      "2\020.ServiceSnapshotB+\n\033com.jsj.rpc.regist" +
+      "ry.remoteB\014RegistryMetab\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_ServiceNode_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_ServiceNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServiceNode_descriptor,
+        new java.lang.String[] { "InterfaceName", "Host", "Port", "Weight", });
+    internal_static_RegisterRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_RegisterRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RegisterRequest_descriptor,
+        new java.lang.String[] { "Node", "TtlMillis", });
+    internal_static_RegisterResponse_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_RegisterResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RegisterResponse_descriptor,
+        new java.lang.String[] { "LeaseId", });
+    internal_static_RenewRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_RenewRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RenewRequest_descriptor,
+        new java.lang.String[] { "LeaseIds", });
+    internal_static_RenewResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_RenewResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_RenewResponse_descriptor,
+        new java.lang.String[] { "ExpiredLeaseIds", });
+    internal_static_UnregisterRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_UnregisterRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UnregisterRequest_descriptor,
+        new java.lang.String[] { "LeaseId", });
+    internal_static_UnregisterResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_UnregisterResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UnregisterResponse_descriptor,
+        new java.lang.String[] { "Removed", });
+    internal_static_WatchEntry_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_WatchEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WatchEntry_descriptor,
+        new java.lang.String[] { "InterfaceName", "Revision", });
+    internal_static_WatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_WatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WatchRequest_descriptor,
+        new java.lang.String[] { "Entries", "WaitMillis", });
+    internal_static_ServiceSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_ServiceSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServiceSnapshot_descriptor,
+        new java.lang.String[] { "InterfaceName", "Revision", "Nodes", });
+    internal_static_WatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_WatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WatchResponse_descriptor,
+        new java.lang.String[] { "Snapshots", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,50 @@
+package com.jsj.rpc.registry.remote;
+
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse;
+
+/**
+ * 基于rpc框架自身实现的注册中心服务
+ *
+ * @author jiangshenjie
+ */
+public interface RegistryService {
+
+    /**
+     * 注册服务节点，返回租约id，租约需在ttl内续约
+     *
+     * @param request
+     * @return
+     */
+    RegisterResponse register(RegisterRequest request);
+
+    /**
+     * 批量续约
+     *
+     * @param request
+     * @return 已过期的租约
+     */
+    RenewResponse renew(RenewRequest request);
+
+    /**
+     * 注销租约对应的服务节点
+     *
+     * @param request
+     * @return
+     */
+    UnregisterResponse unregister(UnregisterRequest request);
+
+    /**
+     * 长轮询监听服务变化，无变化时最多等待waitMillis后返回
+     *
+     * @param request
+     * @return 版本号大于客户端已知版本的服务快照
+     */
+    WatchResponse watch(WatchRequest request);
+}
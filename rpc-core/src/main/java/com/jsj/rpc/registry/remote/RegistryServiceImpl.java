@@ -0,0 +1,203 @@
+package com.jsj.rpc.registry.remote;
+
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode;
+import com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot;
+import com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.UnregisterResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse;
+import com.jsj.rpc.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册中心服务端实现，注册到RpcServer后即可对外提供服务。
+ * watch请求在无变化时会占用一个业务线程等待，同时等待的watch数超过maxWatchers时立即返回，
+ * 避免业务线程被长轮询耗尽，RpcServer的业务线程数应大于maxWatchers
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class RegistryServiceImpl implements RegistryService {
+    public static final int DEFAULT_MAX_WATCHERS = 64;
+    public static final long DEFAULT_EXPIRE_CHECK_INTERVAL_MILLIS = 500L;
+
+    private final Map<Long, Lease> leases = new HashMap<>();
+    private final Map<String, ServiceEntry> services = new HashMap<>();
+    private long leaseIdGenerator = 0L;
+    /**
+     * 全局版本号，任一服务变化时递增
+     */
+    private long revision = 0L;
+
+    private final Semaphore watchPermits;
+    private final ScheduledExecutorService expireScheduler;
+
+    public RegistryServiceImpl() {
+        this(DEFAULT_MAX_WATCHERS, DEFAULT_EXPIRE_CHECK_INTERVAL_MILLIS);
+    }
+
+    public RegistryServiceImpl(int maxWatchers, long expireCheckIntervalMillis) {
+        this.watchPermits = new Semaphore(maxWatchers);
+        this.expireScheduler = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory("rpc-registry-expire-thread", true));
+        expireScheduler.scheduleWithFixedDelay(this::expireLeases
+                , expireCheckIntervalMillis, expireCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized RegisterResponse register(RegisterRequest request) {
+        ServiceNode node = request.getNode();
+        long leaseId = ++leaseIdGenerator;
+        leases.put(leaseId, new Lease(node, request.getTtlMillis()));
+        services.computeIfAbsent(node.getInterfaceName(), name -> new ServiceEntry())
+                .nodes.put(leaseId, node);
+        onServiceChanged(node.getInterfaceName());
+        log.info("Register service node: [{}:{}] of {}, lease id: {}."
+                , node.getHost(), node.getPort(), node.getInterfaceName(), leaseId);
+        return RegisterResponse.newBuilder().setLeaseId(leaseId).build();
+    }
+
+    @Override
+    public synchronized RenewResponse renew(RenewRequest request) {
+        RenewResponse.Builder builder = RenewResponse.newBuilder();
+        long now = System.currentTimeMillis();
+        for (long leaseId : request.getLeaseIdsList()) {
+            Lease lease = leases.get(leaseId);
+            if (lease == null) {
+                builder.addExpiredLeaseIds(leaseId);
+            } else {
+                lease.renew(now);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public synchronized UnregisterResponse unregister(UnregisterRequest request) {
+        Lease lease = removeLease(request.getLeaseId());
+        if (lease != null) {
+            log.info("Unregister service node: [{}:{}] of {}, lease id: {}.", lease.node.getHost()
+                    , lease.node.getPort(), lease.node.getInterfaceName(), request.getLeaseId());
+        }
+        return UnregisterResponse.newBuilder().setRemoved(lease != null).build();
+    }
+
+    @Override
+    public WatchResponse watch(WatchRequest request) {
+        long waitMillis = request.getWaitMillis();
+        boolean acquired = waitMillis > 0 && watchPermits.tryAcquire();
+        try {
+            long deadline = System.currentTimeMillis() + (acquired ? waitMillis : 0L);
+            synchronized (this) {
+                while (true) {
+                    WatchResponse response = collectChanges(request);
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (response.getSnapshotsCount() > 0 || remaining <= 0) {
+                        return response;
+                    }
+                    this.wait(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return WatchResponse.getDefaultInstance();
+        } finally {
+            if (acquired) {
+                watchPermits.release();
+            }
+        }
+    }
+
+    public void close() {
+        expireScheduler.shutdownNow();
+    }
+
+    private WatchResponse collectChanges(WatchRequest request) {
+        WatchResponse.Builder builder = WatchResponse.newBuilder();
+        for (WatchEntry entry : request.getEntriesList()) {
+            ServiceEntry serviceEntry = services.get(entry.getInterfaceName());
+            if (serviceEntry != null && serviceEntry.revision > entry.getRevision()) {
+                builder.addSnapshots(ServiceSnapshot.newBuilder()
+                        .setInterfaceName(entry.getInterfaceName())
+                        .setRevision(serviceEntry.revision)
+                        .addAllNodes(serviceEntry.nodes.values()));
+            }
+        }
+        return builder.build();
+    }
+
+    private synchronized void expireLeases() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Long, Lease>> iterator = leases.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Lease> entry = iterator.next();
+            Lease lease = entry.getValue();
+            if (lease.isExpired(now)) {
+                iterator.remove();
+                removeNode(entry.getKey(), lease.node);
+                log.info("Lease {} expired, remove service node: [{}:{}] of {}.", entry.getKey()
+                        , lease.node.getHost(), lease.node.getPort(), lease.node.getInterfaceName());
+            }
+        }
+    }
+
+    private Lease removeLease(long leaseId) {
+        Lease lease = leases.remove(leaseId);
+        if (lease != null) {
+            removeNode(leaseId, lease.node);
+        }
+        return lease;
+    }
+
+    private void removeNode(long leaseId, ServiceNode node) {
+        ServiceEntry serviceEntry = services.get(node.getInterfaceName());
+        if (serviceEntry != null && serviceEntry.nodes.remove(leaseId) != null) {
+            onServiceChanged(node.getInterfaceName());
+        }
+    }
+
+    private void onServiceChanged(String interfaceName) {
+        services.get(interfaceName).revision = ++revision;
+        //唤醒等待中的watch请求
+        this.notifyAll();
+    }
+
+    private static class ServiceEntry {
+        private long revision;
+        private final Map<Long, ServiceNode> nodes = new LinkedHashMap<>();
+    }
+
+    private static class Lease {
+        private final ServiceNode node;
+        private final long ttlMillis;
+        private long expireTime;
+
+        Lease(ServiceNode node, long ttlMillis) {
+            this.node = node;
+            this.ttlMillis = ttlMillis;
+            renew(System.currentTimeMillis());
+        }
+
+        void renew(long now) {
+            expireTime = now + ttlMillis;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expireTime;
+        }
+    }
+}
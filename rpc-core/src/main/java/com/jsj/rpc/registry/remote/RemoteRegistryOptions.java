@@ -0,0 +1,34 @@
+package com.jsj.rpc.registry.remote;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RemoteRegistryOptions {
+    /**
+     * lease expires if not renewed within ttl
+     */
+    private int leaseTtlMillis = 10000;
+    /**
+     * interval of batched lease renewal
+     */
+    private int heartbeatIntervalMillis = 3000;
+    /**
+     * max time the registry server holds a watch request when nothing changed
+     */
+    private int watchWaitMillis = 10000;
+    /**
+     * delay before watching again after a failed or rejected watch
+     */
+    private int watchRetryIntervalMillis = 1000;
+    /**
+     * timeout of register, renew and unregister requests
+     */
+    private int requestTimeoutMillis = 3000;
+}
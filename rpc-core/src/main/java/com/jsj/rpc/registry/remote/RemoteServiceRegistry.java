@@ -0,0 +1,229 @@
+package com.jsj.rpc.registry.remote;
+
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.registry.AbstractServiceDiscovery;
+import com.jsj.rpc.registry.RegisterInfo;
+import com.jsj.rpc.registry.ServiceInstance;
+import com.jsj.rpc.registry.ServiceRegistry;
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.RenewResponse;
+import com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode;
+import com.jsj.rpc.registry.remote.RegistryMeta.ServiceSnapshot;
+import com.jsj.rpc.registry.remote.RegistryMeta.UnregisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse;
+import com.jsj.rpc.util.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RegistryService的客户端适配，所有租约通过一个定时任务批量续约，
+ * 所有订阅的服务共用一个长轮询watch请求，服务变化时由注册中心推送
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class RemoteServiceRegistry extends AbstractServiceDiscovery implements ServiceRegistry {
+    private final RemoteRegistryOptions options;
+    private final RpcClient rpcClient;
+    private final RegistryService registryService;
+
+    /**
+     * 本客户端注册的服务，key为interfaceName@host:port
+     */
+    private final Map<String, RegisteredService> registeredServices = new ConcurrentHashMap<>();
+    /**
+     * 订阅的服务及已知的最新版本号
+     */
+    private final Map<String, Long> watchedRevisions = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService heartbeatScheduler;
+    private Thread watchThread;
+    private volatile boolean closed = false;
+
+    public RemoteServiceRegistry(Endpoint registryEndpoint) {
+        this(registryEndpoint, new RemoteRegistryOptions());
+    }
+
+    public RemoteServiceRegistry(Endpoint registryEndpoint, RemoteRegistryOptions options) {
+        this.options = options;
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setRpcTaskTimeoutMillis(options.getWatchWaitMillis() + options.getRequestTimeoutMillis());
+        this.rpcClient = new RpcClient(registryEndpoint, clientOptions);
+        this.registryService = RpcClient.getProxy(rpcClient, RegistryService.class);
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory("rpc-registry-heartbeat-thread", true));
+        heartbeatScheduler.scheduleWithFixedDelay(this::renewLeases, options.getHeartbeatIntervalMillis()
+                , options.getHeartbeatIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void register(RegisterInfo registerInfo) {
+        RegisteredService registeredService = new RegisteredService(registerInfo);
+        doRegister(registeredService);
+        registeredServices.put(buildKey(registerInfo), registeredService);
+    }
+
+    @Override
+    public void unregister(RegisterInfo registerInfo) {
+        RegisteredService registeredService = registeredServices.remove(buildKey(registerInfo));
+        if (registeredService != null) {
+            registryService.unregister(UnregisterRequest.newBuilder()
+                    .setLeaseId(registeredService.leaseId).build());
+        }
+    }
+
+    @Override
+    protected void doSubscribe(String interfaceName) {
+        watchedRevisions.put(interfaceName, 0L);
+        //同步拉取一次，保证订阅后立即可以读取到节点
+        try {
+            applyChanges(registryService.watch(WatchRequest.newBuilder()
+                    .addEntries(WatchEntry.newBuilder().setInterfaceName(interfaceName))
+                    .build()));
+        } catch (Exception e) {
+            log.warn("Fetch service instances of {} failed.", interfaceName, e);
+        }
+        startWatchThread();
+    }
+
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        heartbeatScheduler.shutdownNow();
+        for (RegisteredService registeredService : new ArrayList<>(registeredServices.values())) {
+            try {
+                unregister(registeredService.registerInfo);
+            } catch (Exception e) {
+                log.warn("Unregister service failed, register info: {}.", registeredService.registerInfo, e);
+            }
+        }
+        synchronized (this) {
+            if (watchThread != null) {
+                watchThread.interrupt();
+            }
+        }
+        rpcClient.shutdown();
+    }
+
+    private void doRegister(RegisteredService registeredService) {
+        RegisterInfo registerInfo = registeredService.registerInfo;
+        ServiceNode node = ServiceNode.newBuilder()
+                .setInterfaceName(registerInfo.getInterfaceName())
+                .setHost(registerInfo.getHost())
+                .setPort(registerInfo.getPort())
+                .setWeight(1)
+                .build();
+        registeredService.leaseId = registryService.register(RegisterRequest.newBuilder()
+                .setNode(node)
+                .setTtlMillis(options.getLeaseTtlMillis())
+                .build()).getLeaseId();
+    }
+
+    private void renewLeases() {
+        if (registeredServices.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, RegisteredService> byLeaseId = new HashMap<>();
+            for (RegisteredService registeredService : registeredServices.values()) {
+                byLeaseId.put(registeredService.leaseId, registeredService);
+            }
+            RenewResponse response = registryService.renew(RenewRequest.newBuilder()
+                    .addAllLeaseIds(byLeaseId.keySet()).build());
+            //租约已过期(如与注册中心长时间断连)，重新注册
+            for (long leaseId : response.getExpiredLeaseIdsList()) {
+                RegisteredService registeredService = byLeaseId.get(leaseId);
+                log.warn("Lease {} expired, register again: {}.", leaseId, registeredService.registerInfo);
+                doRegister(registeredService);
+            }
+        } catch (Exception e) {
+            log.warn("Renew leases failed.", e);
+        }
+    }
+
+    private synchronized void startWatchThread() {
+        if (watchThread != null || closed) {
+            return;
+        }
+        watchThread = new NamedThreadFactory("rpc-registry-watch-thread", true).newThread(this::watchLoop);
+        watchThread.start();
+    }
+
+    private void watchLoop() {
+        while (!closed) {
+            long start = System.currentTimeMillis();
+            try {
+                WatchRequest.Builder builder = WatchRequest.newBuilder()
+                        .setWaitMillis(options.getWatchWaitMillis());
+                for (Map.Entry<String, Long> entry : watchedRevisions.entrySet()) {
+                    builder.addEntries(WatchEntry.newBuilder()
+                            .setInterfaceName(entry.getKey()).setRevision(entry.getValue()));
+                }
+                boolean changed = applyChanges(registryService.watch(builder.build()));
+                //注册中心watch数已满时会立即返回，稍后重试
+                if (!changed && System.currentTimeMillis() - start < options.getWatchWaitMillis() / 2) {
+                    Thread.sleep(options.getWatchRetryIntervalMillis());
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (Exception e) {
+                if (closed) {
+                    break;
+                }
+                log.warn("Watch registry failed, retry later.", e);
+                try {
+                    Thread.sleep(options.getWatchRetryIntervalMillis());
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private synchronized boolean applyChanges(WatchResponse response) {
+        boolean changed = false;
+        for (ServiceSnapshot snapshot : response.getSnapshotsList()) {
+            Long knownRevision = watchedRevisions.get(snapshot.getInterfaceName());
+            if (knownRevision != null && knownRevision >= snapshot.getRevision()) {
+                continue;
+            }
+            watchedRevisions.put(snapshot.getInterfaceName(), snapshot.getRevision());
+            List<ServiceInstance> instances = new ArrayList<>(snapshot.getNodesCount());
+            for (ServiceNode node : snapshot.getNodesList()) {
+                instances.add(new ServiceInstance(node.getHost(), node.getPort(), node.getWeight()));
+            }
+            updateInstances(snapshot.getInterfaceName(), instances);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static String buildKey(RegisterInfo registerInfo) {
+        return String.format("%s@%s:%d", registerInfo.getInterfaceName()
+                , registerInfo.getHost(), registerInfo.getPort());
+    }
+
+    private static class RegisteredService {
+        private final RegisterInfo registerInfo;
+        private volatile long leaseId;
+
+        RegisteredService(RegisterInfo registerInfo) {
+            this.registerInfo = registerInfo;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jsj.rpc.server;
+
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.Response;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 收集批量请求中各请求的响应，全部完成后作为一个报文返回
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class BatchResponseCollector {
+    private final Channel channel;
+    private final Protocol protocol;
+    private final long batchId;
+    private final Response[] responses;
+    private final AtomicInteger remaining;
+
+    BatchResponseCollector(Channel channel, Protocol protocol, long batchId, int size) {
+        this.channel = channel;
+        this.protocol = protocol;
+        this.batchId = batchId;
+        this.responses = new Response[size];
+        this.remaining = new AtomicInteger(size);
+    }
+
+    /**
+     * 各请求的响应由不同的业务线程写入，最后一个完成的线程负责发送
+     *
+     * @param index    请求在批量请求中的位置
+     * @param response
+     */
+    void complete(int index, Response response) {
+        responses[index] = response;
+        if (remaining.decrementAndGet() != 0) {
+            return;
+        }
+        Packet packet = protocol.encodeBatchResponse(batchId, Arrays.asList(responses));
+        channel.writeAndFlush(packet).addListener(future -> {
+            if (!future.isSuccess()) {
+                log.warn("Send batch response: {} failed!", batchId);
+            }
+        });
+    }
+}
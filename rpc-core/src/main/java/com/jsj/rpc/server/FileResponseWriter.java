@@ -0,0 +1,91 @@
+package com.jsj.rpc.server;
+
+import com.jsj.rpc.RpcFile;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.Response;
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultFileRegion;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+
+/**
+ * 写出返回RpcFile的响应：先写响应，再把文件内容按frameSize分为多个FILE_DATA报文，
+ * 以DefaultFileRegion零拷贝(sendfile)写出，文件内容不经过堆内存。
+ * 上一个报文写入socket后才写出下一个，其间连接上的其他报文可以插队，大文件不会长时间阻塞其他请求；
+ * 中途写出失败(如文件被截断)时关闭连接
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+class FileResponseWriter {
+    private final Channel channel;
+    private final Protocol protocol;
+    private final long requestId;
+    private final File file;
+    private final long end;
+    private final int frameSize;
+
+    private FileResponseWriter(Channel channel, Protocol protocol, long requestId, RpcFile rpcFile, int frameSize) {
+        this.channel = channel;
+        this.protocol = protocol;
+        this.requestId = requestId;
+        this.file = rpcFile.getFile();
+        this.end = rpcFile.getPosition() + rpcFile.getLength();
+        this.frameSize = frameSize;
+    }
+
+    /**
+     * 文件不可读或范围超出文件长度时以异常响应
+     *
+     * @param channel
+     * @param protocol
+     * @param response  结果为RpcFile的响应
+     * @param frameSize
+     */
+    static void write(Channel channel, Protocol protocol, Response response, int frameSize) {
+        RpcFile rpcFile = (RpcFile) response.getResult();
+        File file = rpcFile.getFile();
+        if (file == null || !file.canRead() || rpcFile.getPosition() < 0 || rpcFile.getLength() < 0
+                || rpcFile.getPosition() + rpcFile.getLength() > file.length()) {
+            log.warn("Invalid file result: {} of request: {}.", rpcFile, response.getRequestId());
+            response.setResult(null);
+            response.setException(new RpcException(String.format("Invalid file result: %s", rpcFile)
+                    , RpcExceptionType.SERVICE_EXCEPTION.getCode()));
+            ServerWorkTask.writeResponse(channel, response);
+            return;
+        }
+        FileResponseWriter writer = new FileResponseWriter(channel, protocol, response.getRequestId()
+                , rpcFile, Math.max(1, frameSize));
+        //响应与第一个报文在同一个io线程任务中写出，避免其他线程的写入夹在响应header与文件数据之间
+        channel.eventLoop().execute(() -> {
+            channel.write(response.transToPacket());
+            writer.writeFrame(rpcFile.getPosition());
+        });
+    }
+
+    private void writeFrame(long position) {
+        if (position >= end) {
+            channel.flush();
+            return;
+        }
+        if (!channel.isActive()) {
+            return;
+        }
+        int length = (int) Math.min(frameSize, end - position);
+        //header与文件数据在io线程中连续写出，中间不会夹杂其他报文
+        channel.write(protocol.encodeFileDataHeader(requestId, length));
+        channel.writeAndFlush(new DefaultFileRegion(file, position, length)).addListener(future -> {
+            if (future.isSuccess()) {
+                writeFrame(position + length);
+            } else {
+                //已写出的FILE_DATA header承诺了后续的字节数，无法再在连接上发送异常响应；
+                //关闭连接，客户端随即以异常结束调用并删除临时文件，而不是等到超时
+                log.warn("Send file: {} of request: {} failed, close the channel.", file, requestId, future.cause());
+                channel.close();
+            }
+        });
+    }
+}
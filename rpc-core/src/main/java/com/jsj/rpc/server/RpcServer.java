@@ -2,13 +2,24 @@ package com.jsj.rpc.server;
 
 import com.jsj.rpc.codec.BaseDecoder;
 import com.jsj.rpc.codec.BaseEncoder;
+import com.jsj.rpc.codec.ChunkedPacketWriter;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.ProtocolManager;
 import com.jsj.rpc.registry.RegisterInfo;
 import com.jsj.rpc.registry.ServiceRegistry;
+import com.jsj.rpc.server.cache.ResultCache;
+import com.jsj.rpc.server.cache.ResultCacheOptions;
+import com.jsj.rpc.server.limiter.ConcurrencyLimiter;
+import com.jsj.rpc.server.limiter.VegasConcurrencyLimiter;
+import com.jsj.rpc.server.queue.FairTaskQueue;
+import com.jsj.rpc.server.queue.PriorityTaskQueue;
+import com.jsj.rpc.server.queue.WorkerQueueType;
+import com.jsj.rpc.util.BoundedForkJoinPool;
 import com.jsj.rpc.util.NamedThreadFactory;
+import com.jsj.rpc.util.WorkerExecutorType;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -20,6 +31,15 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -32,7 +52,10 @@ import java.util.concurrent.TimeUnit;
 @Setter
 public class RpcServer {
     private final String ip;
-    private final int port;
+    /**
+     * 监听端口，为0时绑定随机端口，启动后更新为实际绑定的端口
+     */
+    private volatile int port;
     private final RpcServerOptions serverOptions;
     /**
      * Netty 的accept线程池
@@ -49,7 +72,15 @@ public class RpcServer {
     /**
      * 业务线程池
      */
-    private ThreadPoolExecutor workerThreadPool;
+    private ExecutorService workerThreadPool;
+    /**
+     * 自适应并发限制，未开启时为null
+     */
+    private ConcurrencyLimiter concurrencyLimiter;
+    /**
+     * 开启了结果缓存的方法，key与ServiceManager一致
+     */
+    private final Map<String, ResultCache> resultCaches = new ConcurrentHashMap<>();
     /**
      * 协议类型
      */
@@ -58,6 +89,10 @@ public class RpcServer {
      * 服务注册
      */
     private ServiceRegistry serviceRegistry;
+    /**
+     * 已注册到服务中心的服务，关闭时注销
+     */
+    private final List<RegisterInfo> registeredInfos = new CopyOnWriteArrayList<>();
 
     public RpcServer(String ip, int port) {
         this(ip, port, new RpcServerOptions());
@@ -80,6 +115,7 @@ public class RpcServer {
         if (serviceRegistry != null) {
             RegisterInfo registerInfo = new RegisterInfo(targetInterface.getName(), ip, port);
             serviceRegistry.register(registerInfo);
+            registeredInfos.add(registerInfo);
         }
     }
 
@@ -89,10 +125,14 @@ public class RpcServer {
                 , new NamedThreadFactory("rpc-server-accept-thread", false));
         workerGroup = new NioEventLoopGroup(serverOptions.getIoThreadNumber()
                 , new NamedThreadFactory("rpc-server-io-thread", false));
-        workerThreadPool = new ThreadPoolExecutor(serverOptions.getWorkerThreadNumber()
-                , serverOptions.getWorkerThreadNumber(), 0L, TimeUnit.MILLISECONDS
-                , new LinkedBlockingDeque<>(serverOptions.getWorkerThreadPoolQueueSize())
-                , new NamedThreadFactory("rpc-server-worker-thread", false));
+        workerThreadPool = createWorkerThreadPool();
+        if (serverOptions.isConcurrencyLimitEnabled()) {
+            concurrencyLimiter = new VegasConcurrencyLimiter(serverOptions.getInitialConcurrencyLimit()
+                    , serverOptions.getMinConcurrencyLimit(), serverOptions.getMaxConcurrencyLimit());
+        }
+        for (Map.Entry<String, ResultCacheOptions> entry : serverOptions.getResultCacheOptions().entrySet()) {
+            resultCaches.put(entry.getKey().toLowerCase(), new ResultCache(entry.getValue()));
+        }
         final RpcServer rpcServer = this;
         serverBootstrap = new ServerBootstrap()
                 //NioEventGroup
@@ -114,13 +154,18 @@ public class RpcServer {
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
                         socketChannel.pipeline()
                                 //出方向编码
-                                .addLast(new BaseEncoder(protocol))
+                                .addLast(new BaseEncoder(protocol));
+                        if (serverOptions.getChunkSize() > 0) {
+                            //出方向大报文分片
+                            socketChannel.pipeline().addLast(new ChunkedPacketWriter(serverOptions.getChunkSize()));
+                        }
+                        socketChannel.pipeline()
                                 //入方向解码
-                                .addLast(new BaseDecoder(protocol))
+                                .addLast(new BaseDecoder(protocol, serverOptions.getMaxPartialPackets()
+                                        , serverOptions.getMaxReassemblyBytes()))
+                                //客户端空闲时会发送心跳，读空闲说明客户端已失联
                                 .addLast(new IdleStateHandler(serverOptions.getReadIdleTime()
-                                        , serverOptions.getWriteIdleTime()
-                                        , serverOptions.getKeepAliveTime()
-                                        , TimeUnit.MILLISECONDS))
+                                        , 0L, 0L, TimeUnit.MILLISECONDS))
                                 .addLast(new RpcServerChannelIdleHandler())
                                 //业务处理
                                 .addLast(new RpcServerHandler(rpcServer));
@@ -128,12 +173,87 @@ public class RpcServer {
                 });
     }
 
+    private ExecutorService createWorkerThreadPool() {
+        int threadNumber = serverOptions.getWorkerThreadNumber();
+        if (serverOptions.getWorkerExecutorType() == WorkerExecutorType.FORK_JOIN) {
+            if (serverOptions.getWorkerQueueType() != WorkerQueueType.FIFO) {
+                throw new IllegalArgumentException(String.format("%s worker queue is not supported by %s executor"
+                        , serverOptions.getWorkerQueueType(), WorkerExecutorType.FORK_JOIN));
+            }
+            return new BoundedForkJoinPool(threadNumber, serverOptions.getWorkerThreadPoolQueueSize()
+                    , "rpc-server-worker-thread");
+        }
+        return new ThreadPoolExecutor(threadNumber, threadNumber, 0L, TimeUnit.MILLISECONDS
+                , createWorkerQueue()
+                , new NamedThreadFactory("rpc-server-worker-thread", false));
+    }
+
+    private BlockingQueue<Runnable> createWorkerQueue() {
+        int queueSize = serverOptions.getWorkerThreadPoolQueueSize();
+        switch (serverOptions.getWorkerQueueType()) {
+            case PRIORITY:
+                return new PriorityTaskQueue(queueSize, serverOptions.getStarvationThresholdMillis()
+                        , serverOptions.getStarvationServeInterval());
+            case FAIR:
+                return new FairTaskQueue(queueSize, serverOptions.getWorkerQueueSizePerConnection()
+                        , serverOptions.getFairQueueQuantumMicros());
+            case FIFO:
+            default:
+                return new LinkedBlockingDeque<>(queueSize);
+        }
+    }
+
+    /**
+     * 业务线程池的任务队列，FORK_JOIN类型的线程池返回null
+     *
+     * @return
+     */
+    public BlockingQueue<Runnable> getWorkerQueue() {
+        if (workerThreadPool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) workerThreadPool).getQueue();
+        }
+        return null;
+    }
+
+    /**
+     * @param serviceName
+     * @param methodName
+     * @return 方法未开启结果缓存时返回null
+     */
+    public ResultCache getResultCache(String serviceName, String methodName) {
+        if (resultCaches.isEmpty()) {
+            return null;
+        }
+        return resultCaches.get(String.format("%s.%s", serviceName.toLowerCase(), methodName.toLowerCase()));
+    }
+
+    /**
+     * 各连接在业务线程池队列中等待的请求数，仅FAIR队列支持
+     *
+     * @return key为客户端地址
+     */
+    public Map<String, Integer> getConnectionQueueDepths() {
+        BlockingQueue<Runnable> workerQueue = getWorkerQueue();
+        if (!(workerQueue instanceof FairTaskQueue)) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Integer> depths = ((FairTaskQueue) workerQueue).getQueueDepths();
+        Map<String, Integer> result = new HashMap<>(depths.size());
+        for (Map.Entry<Object, Integer> entry : depths.entrySet()) {
+            Object key = entry.getKey();
+            String name = key instanceof Channel ? String.valueOf(((Channel) key).remoteAddress()) : key.toString();
+            result.put(name, entry.getValue());
+        }
+        return result;
+    }
+
     public boolean start() {
         init();
         boolean success = false;
         try {
             //绑定对应ip和端口（阻塞等待）
-            serverBootstrap.bind(ip, port).sync();
+            Channel serverChannel = serverBootstrap.bind(ip, port).sync().channel();
+            port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
             success = true;
             log.info("rpc server started, listen port：{}.", port);
         } catch (InterruptedException i) {
@@ -144,6 +264,15 @@ public class RpcServer {
     }
 
     public void shutdown() {
+        //先从服务中心注销，避免客户端继续路由到本节点
+        for (RegisterInfo registerInfo : registeredInfos) {
+            try {
+                serviceRegistry.unregister(registerInfo);
+            } catch (Exception e) {
+                log.warn("Unregister service failed, register info: {}.", registerInfo, e);
+            }
+        }
+        registeredInfos.clear();
         //优雅退出，释放 NIO 线程组
         workerGroup.shutdownGracefully().awaitUninterruptibly();
         bossGroup.shutdownGracefully().awaitUninterruptibly();
@@ -8,7 +8,7 @@ import io.netty.handler.timeout.IdleStateEvent;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 关闭半开连接
+ * 关闭未按时收到请求或心跳的连接(半开连接)
  *
  * @author jiangshenjie
  */
@@ -21,9 +21,9 @@ public class RpcServerChannelIdleHandler extends ChannelDuplexHandler {
             ctx.fireUserEventTriggered(evt);
             return;
         }
-        if (((IdleStateEvent) evt).state() == IdleState.ALL_IDLE) {
+        if (((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
             Channel channel = ctx.channel();
-            log.debug("Channel: [remote addr: {}] is idle for period time, close now."
+            log.debug("Channel: [remote addr: {}] missed heartbeats, close now."
                     , channel.remoteAddress());
             ctx.close();
         }
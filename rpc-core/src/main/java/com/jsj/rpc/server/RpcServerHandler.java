@@ -1,15 +1,34 @@
 package com.jsj.rpc.server;
 
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.RpcFile;
+import com.jsj.rpc.RpcMethodDetail;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.BatchRequest;
 import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.RpcMeta;
+import com.jsj.rpc.server.cache.ResultCache;
+import com.jsj.rpc.server.limiter.ConcurrencyLimiter;
+import com.jsj.rpc.server.queue.FairTaskQueue;
+import com.jsj.rpc.util.ParamsKey;
+import com.jsj.rpc.util.SerialExecutor;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * @author jiangshenjie
  */
@@ -26,16 +45,169 @@ public class RpcServerHandler extends SimpleChannelInboundHandler<Packet> {
     protected void channelRead0(ChannelHandlerContext ctx, Packet packet) throws Exception {
         try {
             Channel channel = ctx.channel();
+            if (packet.getType() == PacketType.PING) {
+                //探活请求直接在io线程应答，不进入业务线程池
+                channel.writeAndFlush(new Packet(PacketType.PONG, packet.getBody().retain()));
+                return;
+            }
             ChannelInfo channelInfo = ChannelInfo.getOrCreateServerChannelInfo(channel);
             Protocol protocol = channelInfo.getProtocol();
+            if (isStreamFrame(packet.getType())) {
+                handleStreamFrame(channelInfo, packet.getType(), protocol.decodeAsStreamFrame(packet));
+                return;
+            }
+            if (packet.getType() == PacketType.BATCH_REQUEST) {
+                handleBatchRequest(channel, protocol, protocol.decodeAsBatchRequest(packet));
+                return;
+            }
             Request request = protocol.decodeAsRequest(packet);
             log.debug("Get new rpc request: {}.", request);
-            rpcServer.getWorkerThreadPool().submit(new ServerWorkTask(request, protocol, channel));
+            ServerWorkTask task = new ServerWorkTask(request, protocol, channel);
+            if (RpcMethodDetail.isBidiStreaming(request.getMethod())) {
+                task.setStreamExecutor(new SerialExecutor(rpcServer.getWorkerThreadPool()));
+                task.setStreamWindowSize(rpcServer.getServerOptions().getStreamWindowSize());
+            } else if (request.getMethod().getReturnType() == RpcFile.class) {
+                task.setFileFrameSize(rpcServer.getServerOptions().getFileFrameSize());
+            }
+            ResultCache resultCache = rpcServer.getResultCache(request.getServiceName(), request.getMethodName());
+            //文件结果不经过序列化，流式调用没有单一的结果，都不能缓存
+            if (resultCache != null && request.getMethod().getReturnType() != RpcFile.class
+                    && !RpcMethodDetail.isStreaming(request.getMethod())) {
+                ByteString cacheKey = ParamsKey.of(request.getSerializedParams());
+                if (serveFromCache(task, resultCache, cacheKey)) {
+                    return;
+                }
+                task.setResultCache(resultCache);
+                task.setCacheKey(cacheKey);
+            }
+            dispatch(task);
         } finally {
             packet.release();
         }
     }
 
+    private void handleStreamFrame(ChannelInfo channelInfo, PacketType type, RpcMeta.StreamMeta streamMeta) {
+        ServerCallStream<?> stream = channelInfo.getServerStream(streamMeta.getStreamId());
+        if (stream == null) {
+            //流已结束
+            return;
+        }
+        switch (type) {
+            case STREAM_CREDIT:
+                stream.addCredits(streamMeta.getCredits());
+                break;
+            case STREAM_MESSAGE:
+                stream.onInboundMessage(streamMeta.getMessage());
+                break;
+            case STREAM_HALF_CLOSE:
+                stream.onHalfClose();
+                break;
+            default:
+                log.debug("Stream: {} cancelled by client.", streamMeta.getStreamId());
+                stream.cancel();
+                break;
+        }
+    }
+
+    private static boolean isStreamFrame(PacketType type) {
+        return type == PacketType.STREAM_CREDIT || type == PacketType.STREAM_CANCEL
+                || type == PacketType.STREAM_MESSAGE || type == PacketType.STREAM_HALF_CLOSE;
+    }
+
+    /**
+     * 批量请求中的各请求作为独立的任务并行执行，全部完成后一次返回；
+     * 流式方法没有单一的结果，直接以错误应答，避免整批等到客户端超时
+     *
+     * @param channel
+     * @param protocol
+     * @param batchRequest
+     */
+    private void handleBatchRequest(Channel channel, Protocol protocol, BatchRequest batchRequest) {
+        List<Request> requests = batchRequest.getRequests();
+        log.debug("Get new batch request: {}, size: {}.", batchRequest.getRequestId(), requests.size());
+        if (requests.isEmpty()) {
+            channel.writeAndFlush(protocol.encodeBatchResponse(batchRequest.getRequestId(), Collections.emptyList()));
+            return;
+        }
+        BatchResponseCollector collector = new BatchResponseCollector(channel, protocol
+                , batchRequest.getRequestId(), requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Request request = requests.get(i);
+            if (RpcMethodDetail.isStreaming(request.getMethod())) {
+                collector.complete(i, ServerWorkTask.createErrorResponse(protocol, request
+                        , new RpcException("Streaming method is not supported in batch request."
+                                , RpcExceptionType.REQUEST_EXCEPTION.getCode())));
+                continue;
+            }
+            ServerWorkTask task = new ServerWorkTask(request, protocol, channel);
+            task.setBatchCollector(collector);
+            task.setBatchIndex(i);
+            dispatch(task);
+        }
+    }
+
+    /**
+     * 获取并发限制许可后提交到业务线程池，失败时拒绝该请求
+     *
+     * @param task
+     */
+    private void dispatch(ServerWorkTask task) {
+        Request request = task.getRequest();
+        ConcurrencyLimiter concurrencyLimiter = rpcServer.getConcurrencyLimiter();
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            log.debug("Reject rpc request: {}, concurrency limit: {}."
+                    , request.getRequestId(), concurrencyLimiter.getLimit());
+            rejectRequest(task);
+            return;
+        }
+        task.setConcurrencyLimiter(concurrencyLimiter);
+        try {
+            //使用execute而不是submit，以便任务队列能获取到任务的调度属性
+            rpcServer.getWorkerThreadPool().execute(task);
+        } catch (RejectedExecutionException e) {
+            //业务线程池已满，仅拒绝该请求，保留连接上的其他请求
+            log.debug("Reject rpc request: {}, worker thread pool is full.", request.getRequestId());
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release(0L, true);
+            }
+            rejectRequest(task);
+        }
+    }
+
+    /**
+     * 在io线程查询结果缓存：命中时直接应答；已有相同参数的请求在执行时，等待其结果后应答
+     *
+     * @return true表示请求已由缓存处理，无需提交到业务线程池
+     */
+    private boolean serveFromCache(ServerWorkTask task, ResultCache resultCache, ByteString cacheKey) {
+        Channel channel = task.getChannel();
+        Protocol protocol = task.getProtocol();
+        Request request = task.getRequest();
+        Any cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            log.debug("Rpc request: {} hit result cache.", request.getRequestId());
+            ServerWorkTask.writeResponse(channel, ServerWorkTask.createCachedResponse(protocol, request, cached, null));
+            return true;
+        }
+        return !resultCache.lead(cacheKey, task.getDeadline(), (result, e) -> ServerWorkTask.writeResponse(channel
+                , ServerWorkTask.createCachedResponse(protocol, request, result, e)));
+    }
+
+    /**
+     * 返回带有重试等待提示的OVERLOAD_EXCEPTION，便于客户端退避或切换节点
+     *
+     * @param task
+     */
+    private void rejectRequest(ServerWorkTask task) {
+        RpcException e = new RpcException(RpcExceptionType.OVERLOAD_EXCEPTION)
+                .setRetryAfterMillis(rpcServer.getServerOptions().getOverloadRetryAfterMillis());
+        task.sendResponse(ServerWorkTask.createErrorResponse(task.getProtocol(), task.getRequest(), e));
+        //等待该请求结果的相同请求一并拒绝
+        if (task.getResultCache() != null) {
+            task.getResultCache().complete(task.getCacheKey(), null, e);
+        }
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         ChannelInfo channelInfo = ChannelInfo.getOrCreateServerChannelInfo(ctx.channel());
@@ -46,6 +218,14 @@ public class RpcServerHandler extends SimpleChannelInboundHandler<Packet> {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         log.info("Channel [remote addr: {}] is inactive.", ctx.channel().remoteAddress());
+        //连接上的流式调用无法再发送消息，唤醒阻塞在额度上的服务方法
+        for (ServerCallStream<?> stream : ChannelInfo.getOrCreateServerChannelInfo(ctx.channel()).removeAllServerStreams()) {
+            stream.cancel();
+        }
+        BlockingQueue<Runnable> workerQueue = rpcServer.getWorkerQueue();
+        if (workerQueue instanceof FairTaskQueue) {
+            ((FairTaskQueue) workerQueue).removeKey(ctx.channel());
+        }
     }
 
     @Override
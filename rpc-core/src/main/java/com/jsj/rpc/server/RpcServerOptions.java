@@ -1,11 +1,18 @@
 package com.jsj.rpc.server;
 
+import com.jsj.rpc.codec.BaseDecoder;
 import com.jsj.rpc.protocol.ProtocolType;
+import com.jsj.rpc.server.cache.ResultCacheOptions;
+import com.jsj.rpc.server.queue.WorkerQueueType;
+import com.jsj.rpc.util.WorkerExecutorType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author jiangshenjie
  * @date 2020/5/22
@@ -35,17 +42,95 @@ public class RpcServerOptions {
      */
     private int ioThreadNumber = Runtime.getRuntime().availableProcessors();
     private int workerThreadNumber = Runtime.getRuntime().availableProcessors();
+    /**
+     * implementation of worker thread pool, FORK_JOIN only supports FIFO queue
+     */
+    private WorkerExecutorType workerExecutorType = WorkerExecutorType.THREAD_POOL;
     /**
      * blocking queue size of worker thread pool
      */
     private int workerThreadPoolQueueSize = 1024;
+    /**
+     * scheduling policy of worker thread pool queue
+     */
+    private WorkerQueueType workerQueueType = WorkerQueueType.FIFO;
+    /**
+     * (ms) lower priority task waiting longer than this is scheduled first, only for PRIORITY queue
+     */
+    private long starvationThresholdMillis = 500L;
+    /**
+     * at most one starved lower priority task is scheduled first every this many dequeues,
+     * so higher priority tasks keep most of the workers under overload, only for PRIORITY queue
+     */
+    private int starvationServeInterval = 4;
+    /**
+     * max queued tasks of one connection, only for FAIR queue
+     */
+    private int workerQueueSizePerConnection = 256;
+    /**
+     * (us) worker time granted to a connection in each round, only for FAIR queue
+     */
+    private long fairQueueQuantumMicros = 1000L;
 
     /**
-     * channel idle time (ms)
+     * (ms) channel is closed if neither request nor heartbeat received within the time,
+     * should be several times of the client heartbeatIntervalMillis
      */
-    private long readIdleTime = 60 * 1000L;
-    private long writeIdleTime = 60 * 1000L;
-    private long keepAliveTime = 5 * 1000L;
+    private long readIdleTime = 15 * 1000L;
 
+    /**
+     * enable adaptive concurrency limit, requests over the limit get OVERLOAD_EXCEPTION immediately
+     */
+    private boolean concurrencyLimitEnabled = false;
+    private int initialConcurrencyLimit = 20;
+    private int minConcurrencyLimit = 1;
+    private int maxConcurrencyLimit = 1000;
+    /**
+     * retry-after hint (ms) carried in the OVERLOAD_EXCEPTION response
+     */
+    private int overloadRetryAfterMillis = 100;
 
+    /**
+     * result cache of idempotent methods, key is "serviceName.methodName", disabled for methods not configured
+     */
+    private Map<String, ResultCacheOptions> resultCacheOptions = new HashMap<>();
+
+    /**
+     * client messages buffered by the server of a client-streaming or bidi-streaming call,
+     * credits are granted back each time half of the window is consumed
+     */
+    private int streamWindowSize = 32;
+
+    /**
+     * packets with body larger than this (bytes) are sent as interleaved chunks, 0 means never chunk
+     */
+    private int chunkSize = 64 * 1024;
+    /**
+     * max number of chunked packets being reassembled at the same time on a connection
+     */
+    private int maxPartialPackets = BaseDecoder.DEFAULT_MAX_PARTIAL_PACKETS;
+    /**
+     * max bytes buffered by the chunked packets being reassembled on a connection,
+     * the connection is closed when either limit is exceeded
+     */
+    private long maxReassemblyBytes = BaseDecoder.DEFAULT_MAX_REASSEMBLY_BYTES;
+
+    /**
+     * max bytes of each FILE_DATA frame when sending the file returned by a method, other packets
+     * on the connection can be interleaved between frames
+     */
+    private int fileFrameSize = 1024 * 1024;
+
+    /**
+     * 为单个方法开启结果缓存，只应用于幂等且结果仅由参数决定的方法
+     *
+     * @param serviceName 接口全限定名
+     * @param methodName
+     * @param options
+     * @return
+     */
+    public RpcServerOptions addResultCache(String serviceName, String methodName, ResultCacheOptions options) {
+        resultCacheOptions.put(String.format("%s.%s", serviceName, methodName), options);
+        return this;
+    }
 }
@@ -0,0 +1,262 @@
+package com.jsj.rpc.server;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.PacketType;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.protocol.RpcMeta;
+import io.netty.channel.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 服务端流式方法的StreamObserver，服务方法通过它向客户端逐条发送消息
+ * <p>
+ * 每发送一条消息消耗一个额度，额度由客户端在处理完消息后授予；额度用尽时onNext阻塞，
+ * 直到客户端授予新的额度、取消调用、连接断开或超过客户端的超时时间，服务端因此不会超过慢消费者的处理速度
+ * <p>
+ * 客户端流式与双向流式调用中，同时负责把客户端发来的消息按序、串行地交给服务方法返回的StreamObserver，
+ * 每处理完窗口一半的消息向客户端授予相应的额度；客户端半关闭时回调其onCompleted，取消或连接断开时回调其onError
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class ServerCallStream<T> implements StreamObserver<T> {
+    private final Channel channel;
+    private final Protocol protocol;
+    private final long streamId;
+    /**
+     * 客户端放弃等待的时间点(ms)
+     */
+    private final long deadline;
+    private int credits;
+    private boolean cancelled = false;
+    private boolean closed = false;
+
+    /**
+     * 接收客户端消息的observer，仅客户端流式与双向流式调用使用
+     */
+    private volatile StreamObserver<Object> inboundObserver;
+    private Class<? extends Message> inboundType;
+    private Executor inboundExecutor;
+    private int inboundWindowSize;
+    private int inboundConsumed = 0;
+    /**
+     * 只在inboundExecutor中访问
+     */
+    private boolean inboundClosed = false;
+
+    public ServerCallStream(Channel channel, Protocol protocol, long streamId, int initialCredits, long deadline) {
+        this.channel = channel;
+        this.protocol = protocol;
+        this.streamId = streamId;
+        this.credits = initialCredits;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void onNext(T message) {
+        synchronized (this) {
+            while (credits <= 0 && !cancelled && !closed) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new RpcCallException(RpcExceptionType.TIMEOUT_EXCEPTION.getCode()
+                            , "Timed out waiting for stream credits.");
+                }
+                try {
+                    this.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RpcCallException("Interrupted while waiting for stream credits.");
+                }
+            }
+            if (closed) {
+                throw new IllegalStateException("Stream already closed.");
+            }
+            if (cancelled) {
+                throw new RpcCallException("Stream cancelled by client.");
+            }
+            credits--;
+        }
+        RpcMeta.StreamMeta streamMeta = RpcMeta.StreamMeta.newBuilder()
+                .setStreamId(streamId)
+                .setMessage(Any.pack((Message) message))
+                .build();
+        channel.writeAndFlush(protocol.encodeStreamFrame(PacketType.STREAM_MESSAGE, streamMeta));
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("Stream: {} failed, err msg: {}.", streamId, t.getMessage());
+        close(new RpcException(String.format("%s: %s", t.getClass().getName(), t.getMessage())
+                , RpcExceptionType.SERVICE_EXCEPTION.getCode()));
+    }
+
+    @Override
+    public void onCompleted() {
+        close(null);
+    }
+
+    /**
+     * 以requestId等于streamId的响应结束流，客户端已取消时不再发送
+     *
+     * @param e
+     */
+    private void close(RpcException e) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            this.notifyAll();
+        }
+        ChannelInfo.getOrCreateServerChannelInfo(channel).removeServerStream(streamId);
+        if (cancelled) {
+            return;
+        }
+        Response response = protocol.createResponse();
+        response.setRequestId(streamId);
+        response.setException(e);
+        ServerWorkTask.writeResponse(channel, response);
+    }
+
+    /**
+     * 服务方法返回接收消息的observer后开始接收客户端消息，并授予客户端初始额度
+     *
+     * @param observer
+     * @param messageType
+     * @param executor    串行执行的线程池
+     * @param windowSize
+     */
+    void startInbound(StreamObserver<Object> observer, Class<?> messageType, Executor executor, int windowSize) {
+        this.inboundType = (Class<? extends Message>) messageType;
+        this.inboundExecutor = executor;
+        this.inboundWindowSize = windowSize;
+        this.inboundObserver = observer;
+        sendCredits(windowSize);
+    }
+
+    /**
+     * io线程收到客户端的一条消息
+     *
+     * @param message
+     */
+    public void onInboundMessage(Any message) {
+        StreamObserver<Object> observer = inboundObserver;
+        if (observer == null) {
+            return;
+        }
+        Object value;
+        try {
+            value = message.unpack(inboundType);
+        } catch (Exception e) {
+            log.warn("Decode stream message failed, stream: {}.", streamId, e);
+            onError(e);
+            return;
+        }
+        executeInbound(() -> {
+            if (inboundClosed) {
+                return;
+            }
+            try {
+                observer.onNext(value);
+            } catch (Exception e) {
+                log.warn("Exception caught in stream observer, stream: {}.", streamId, e);
+                inboundClosed = true;
+                onError(e);
+                return;
+            }
+            inboundConsumed(1);
+        });
+    }
+
+    /**
+     * io线程收到客户端的半关闭，客户端不会再发送消息
+     */
+    public void onHalfClose() {
+        executeInbound(() -> finishInbound(null));
+    }
+
+    private void finishInbound(Throwable t) {
+        if (inboundClosed) {
+            return;
+        }
+        inboundClosed = true;
+        try {
+            if (t == null) {
+                inboundObserver.onCompleted();
+            } else {
+                inboundObserver.onError(t);
+            }
+        } catch (Exception e) {
+            log.warn("Exception caught in stream observer, stream: {}.", streamId, e);
+            onError(e);
+        }
+    }
+
+    private void executeInbound(Runnable task) {
+        if (inboundObserver == null) {
+            return;
+        }
+        try {
+            inboundExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            //业务线程池已满，无法继续按序处理客户端消息，结束流
+            log.warn("Worker thread pool is full, close stream: {}.", streamId);
+            close(new RpcException(RpcExceptionType.OVERLOAD_EXCEPTION));
+        }
+    }
+
+    private void inboundConsumed(int n) {
+        int granted;
+        synchronized (this) {
+            inboundConsumed += n;
+            if (closed || inboundConsumed < Math.max(1, inboundWindowSize / 2)) {
+                return;
+            }
+            granted = inboundConsumed;
+            inboundConsumed = 0;
+        }
+        sendCredits(granted);
+    }
+
+    private void sendCredits(int n) {
+        RpcMeta.StreamMeta streamMeta = RpcMeta.StreamMeta.newBuilder()
+                .setStreamId(streamId)
+                .setCredits(n)
+                .build();
+        channel.writeAndFlush(protocol.encodeStreamFrame(PacketType.STREAM_CREDIT, streamMeta));
+    }
+
+    public synchronized void addCredits(int n) {
+        credits += n;
+        this.notifyAll();
+    }
+
+    /**
+     * 客户端取消调用或连接断开，之后的onNext抛出异常
+     */
+    public void cancel() {
+        synchronized (this) {
+            cancelled = true;
+            this.notifyAll();
+        }
+        executeInbound(() -> finishInbound(new RpcCallException("Stream cancelled by client.")));
+    }
+
+    public long getStreamId() {
+        return streamId;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+}
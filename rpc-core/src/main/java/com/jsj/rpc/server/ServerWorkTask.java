@@ -1,16 +1,30 @@
 package com.jsj.rpc.server;
 
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.jsj.rpc.ChannelInfo;
+import com.jsj.rpc.RpcFile;
+import com.jsj.rpc.RpcMethodDetail;
+import com.jsj.rpc.StreamObserver;
 import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
 import com.jsj.rpc.protocol.Packet;
 import com.jsj.rpc.protocol.Protocol;
 import com.jsj.rpc.protocol.Request;
 import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.server.cache.ResultCache;
+import com.jsj.rpc.server.limiter.ConcurrencyLimiter;
+import com.jsj.rpc.server.queue.SchedulableTask;
 import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * @author jiangshenjie
@@ -18,20 +32,155 @@ import java.lang.reflect.Method;
 @Slf4j
 @Getter
 @Setter
-public class ServerWorkTask implements Runnable {
+public class ServerWorkTask implements SchedulableTask {
     private Request request;
     private Protocol protocol;
     private Channel channel;
+    /**
+     * 客户端放弃等待的时间点(ms)，超过后不再执行
+     */
+    private long deadline;
+    /**
+     * 请求到达时间(ns)，用于统计rtt
+     */
+    private long startNanos;
+    /**
+     * 已获取许可的并发限制器，处理完成后需释放
+     */
+    private ConcurrencyLimiter concurrencyLimiter;
+    /**
+     * 方法开启了结果缓存时，本任务负责执行并填充缓存
+     */
+    private ResultCache resultCache;
+    private ByteString cacheKey;
+    /**
+     * 属于批量请求时，响应交给收集器统一返回
+     */
+    private BatchResponseCollector batchCollector;
+    private int batchIndex;
+    /**
+     * 客户端流式与双向流式调用中，按序处理客户端消息的线程池及接收窗口
+     */
+    private Executor streamExecutor;
+    private int streamWindowSize;
+    /**
+     * 返回RpcFile的方法，文件内容每个FILE_DATA报文的最大长度
+     */
+    private int fileFrameSize;
 
     public ServerWorkTask(Request request, Protocol protocol, Channel channel) {
+        this(request, protocol, channel, null);
+    }
+
+    public ServerWorkTask(Request request, Protocol protocol, Channel channel
+            , ConcurrencyLimiter concurrencyLimiter) {
         this.request = request;
         this.protocol = protocol;
         this.channel = channel;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.startNanos = System.nanoTime();
+        int taskTimeoutMillis = request.getTaskTimeoutMills();
+        this.deadline = taskTimeoutMillis > 0
+                ? System.currentTimeMillis() + taskTimeoutMillis : Long.MAX_VALUE;
     }
 
     @Override
     public void run() {
-        Response response = executeRequest(request);
+        Response response = null;
+        boolean expired = isExpired();
+        //客户端已超时时直接丢弃，避免占用业务线程；但仍有未超时的相同请求在等待本请求的结果时，为它们照常执行
+        boolean dropped = expired && (resultCache == null
+                || resultCache.abandon(cacheKey, new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION)));
+        boolean cacheCompleted = dropped;
+        try {
+            if (dropped) {
+                log.debug("Rpc request: {} expired in server queue, drop it.", request.getRequestId());
+                response = createErrorResponse(protocol, request
+                        , new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION));
+            } else {
+                response = executeRequest(request);
+                if (resultCache != null && response != null) {
+                    completeResultCache(response);
+                    cacheCompleted = true;
+                }
+                if (expired) {
+                    log.debug("Rpc request: {} expired in server queue, executed for waiting requests."
+                            , request.getRequestId());
+                    response = createErrorResponse(protocol, request
+                            , new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION));
+                }
+            }
+        } finally {
+            if (resultCache != null && !cacheCompleted) {
+                //执行中途抛出异常，也要结束等待中的相同请求
+                resultCache.complete(cacheKey, null, new RpcException("Execute rpc request failed."
+                        , RpcExceptionType.SERVICE_EXCEPTION.getCode()));
+            }
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release(System.nanoTime() - startNanos, dropped);
+            }
+        }
+        //流式调用由ServerCallStream结束
+        if (response != null) {
+            sendResponse(response);
+        }
+    }
+
+    /**
+     * 单个请求直接写回，批量请求中的请求交给收集器
+     *
+     * @param response
+     */
+    void sendResponse(Response response) {
+        if (response.getResult() instanceof RpcFile) {
+            if (batchCollector == null) {
+                FileResponseWriter.write(channel, protocol, response, fileFrameSize);
+                return;
+            }
+            response.setResult(null);
+            response.setException(new RpcException("File result is not supported in batch request."
+                    , RpcExceptionType.SERVICE_EXCEPTION.getCode()));
+        }
+        if (batchCollector != null) {
+            batchCollector.complete(batchIndex, response);
+        } else {
+            writeResponse(channel, response);
+        }
+    }
+
+    @Override
+    public int getPriority() {
+        return request.getPriority();
+    }
+
+    @Override
+    public Object getScheduleKey() {
+        return channel;
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= deadline;
+    }
+
+    static Response createErrorResponse(Protocol protocol, Request request, RpcException e) {
+        Response response = protocol.createResponse();
+        response.setRequestId(request.getRequestId());
+        response.setException(e);
+        return response;
+    }
+
+    static Response createCachedResponse(Protocol protocol, Request request, Any result, Exception e) {
+        Response response = protocol.createResponse();
+        response.setRequestId(request.getRequestId());
+        if (e != null) {
+            response.setException(e);
+        } else if (result != null) {
+            response.setSerializedResult(result);
+        }
+        return response;
+    }
+
+    static void writeResponse(Channel channel, Response response) {
         Packet packet = response.transToPacket();
         channel.writeAndFlush(packet).addListener(
                 future -> {
@@ -44,7 +193,56 @@ public class ServerWorkTask implements Runnable {
         );
     }
 
+    /**
+     * 服务方法可以在返回前或返回后(如在其他线程中)通过observer发送消息并结束流，
+     * 方法抛出异常时以该异常结束流。客户端流式与双向流式方法返回接收客户端消息的observer，
+     * 之后才向客户端授予发送额度，客户端的消息因此不会早于流的建立到达
+     *
+     * @param request
+     */
+    private void executeStreamingRequest(Request request) {
+        ServerCallStream<Object> stream = new ServerCallStream<>(channel, protocol, request.getRequestId()
+                , request.getStreamCredits(), deadline);
+        ChannelInfo.getOrCreateServerChannelInfo(channel).addServerStream(stream);
+        Object[] params = Arrays.copyOf(request.getParams(), request.getParams().length + 1);
+        params[params.length - 1] = stream;
+        try {
+            Object inboundObserver = request.getMethod().invoke(request.getTarget(), params);
+            if (RpcMethodDetail.isBidiStreaming(request.getMethod())) {
+                if (inboundObserver == null) {
+                    throw new IllegalStateException("Streaming method returned null StreamObserver.");
+                }
+                stream.startInbound((StreamObserver<Object>) inboundObserver
+                        , RpcMethodDetail.getStreamRequestType(request.getMethod())
+                        , streamExecutor, Math.max(1, streamWindowSize));
+            }
+        } catch (Exception e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            log.warn("Execute streaming ServerWorkTask error, request id: {}, err msg: {}."
+                    , request.getRequestId(), cause.getMessage());
+            stream.onError(cause);
+        }
+    }
+
+    /**
+     * 结果只序列化一次，同时用于本次应答、写入缓存及应答等待中的相同请求
+     *
+     * @param response
+     */
+    private void completeResultCache(Response response) {
+        Any serializedResult = null;
+        if (response.getException() == null && response.getResult() != null) {
+            serializedResult = Any.pack((Message) response.getResult());
+            response.setSerializedResult(serializedResult);
+        }
+        resultCache.complete(cacheKey, serializedResult, response.getException());
+    }
+
     private Response executeRequest(Request request) {
+        if (RpcMethodDetail.isStreaming(request.getMethod())) {
+            executeStreamingRequest(request);
+            return null;
+        }
         Object result = null;
         String errMsg = null;
         try {
@@ -61,7 +259,7 @@ public class ServerWorkTask implements Runnable {
             response.setResult(result);
         }
         if (errMsg != null) {
-            response.setException(new RpcException(errMsg));
+            response.setException(new RpcException(errMsg, RpcExceptionType.SERVICE_EXCEPTION.getCode()));
         }
         return response;
     }
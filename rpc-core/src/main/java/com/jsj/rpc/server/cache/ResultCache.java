@@ -0,0 +1,122 @@
+package com.jsj.rpc.server.cache;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.jsj.rpc.util.LruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 服务端单个方法的结果缓存
+ * <p>
+ * key为请求参数序列化后的字节(见{@link com.jsj.rpc.util.ParamsKey})，value为序列化后的结果，命中时既不调用方法也不再序列化结果；
+ * 同一key的并发未命中请求合并，只有第一个请求执行方法，其余请求等待其结果；
+ * 执行方法的请求在队列中超时时，若还有未超时的等待请求，仍由它为等待的请求执行
+ *
+ * @author jiangshenjie
+ */
+public class ResultCache {
+    private final LruCache<ByteString, Any> cache;
+    /**
+     * 正在执行的key及等待其结果的请求
+     */
+    private final ConcurrentHashMap<ByteString, List<Waiter>> inflight = new ConcurrentHashMap<>();
+
+    public ResultCache(ResultCacheOptions options) {
+        this.cache = new LruCache<>(options.getMaxEntries(), options.getMaxBytes(), options.getTtlMillis()
+                , (key, value) -> key.size() + value.getSerializedSize());
+    }
+
+    public Any get(ByteString key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 未命中时调用，决定由谁执行方法
+     *
+     * @param key
+     * @param deadline 请求的客户端放弃等待的时间点(ms)
+     * @param waiter   已有相同key的请求在执行时，在其完成后以(结果, 异常)回调
+     * @return true表示调用方需执行方法并调用complete或abandon；false表示已加入等待
+     */
+    public boolean lead(ByteString key, long deadline, BiConsumer<Any, Exception> waiter) {
+        boolean[] leader = new boolean[1];
+        inflight.compute(key, (k, waiters) -> {
+            if (waiters == null) {
+                leader[0] = true;
+                return new ArrayList<>(2);
+            }
+            waiters.add(new Waiter(deadline, waiter));
+            return waiters;
+        });
+        return leader[0];
+    }
+
+    /**
+     * 执行方法的请求已超时时调用，没有未超时的等待请求才放弃执行
+     *
+     * @param key
+     * @param exception 放弃时通知已超时的等待请求
+     * @return true表示已放弃，等待的请求均已通知；false表示仍有等待的请求未超时，调用方需照常执行并调用complete
+     */
+    public boolean abandon(ByteString key, Exception exception) {
+        long now = System.currentTimeMillis();
+        boolean[] kept = new boolean[1];
+        List<Waiter> abandoned = new ArrayList<>();
+        inflight.computeIfPresent(key, (k, waiters) -> {
+            for (Waiter waiter : waiters) {
+                if (waiter.deadline > now) {
+                    kept[0] = true;
+                    return waiters;
+                }
+            }
+            abandoned.addAll(waiters);
+            return null;
+        });
+        if (kept[0]) {
+            return false;
+        }
+        for (Waiter waiter : abandoned) {
+            waiter.callback.accept(null, exception);
+        }
+        return true;
+    }
+
+    /**
+     * 执行完成，成功的结果写入缓存，并通知等待的请求
+     *
+     * @param key
+     * @param result    序列化后的结果，失败时为null
+     * @param exception
+     */
+    public void complete(ByteString key, Any result, Exception exception) {
+        if (exception == null && result != null) {
+            //先写缓存再移除，之后到达的请求直接命中
+            cache.put(key, result);
+        }
+        List<Waiter> waiters = inflight.remove(key);
+        if (waiters == null) {
+            return;
+        }
+        for (Waiter waiter : waiters) {
+            waiter.callback.accept(result, exception);
+        }
+    }
+
+    public LruCache<ByteString, Any> getCache() {
+        return cache;
+    }
+
+    private static class Waiter {
+        private final long deadline;
+        private final BiConsumer<Any, Exception> callback;
+
+        private Waiter(long deadline, BiConsumer<Any, Exception> callback) {
+            this.deadline = deadline;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jsj.rpc.server.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 服务端单个方法的结果缓存配置，只应对幂等方法开启
+ *
+ * @author jiangshenjie
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ResultCacheOptions {
+    /**
+     * (ms) time to live of a cached result
+     */
+    private long ttlMillis = 1000L;
+    /**
+     * max cached results, 0 for unlimited
+     */
+    private int maxEntries = 10000;
+    /**
+     * max total bytes of cached keys and results, 0 for unlimited
+     */
+    private long maxBytes = 64 * 1024 * 1024L;
+}
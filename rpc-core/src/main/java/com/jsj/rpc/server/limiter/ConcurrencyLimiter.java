@@ -0,0 +1,38 @@
+package com.jsj.rpc.server.limiter;
+
+/**
+ * 服务端并发限制器，在请求进入业务线程池前进行准入控制
+ *
+ * @author jiangshenjie
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * 尝试获取一个执行许可
+     *
+     * @return 当前并发数已达上限时返回false
+     */
+    boolean tryAcquire();
+
+    /**
+     * 请求处理完成后释放许可，并反馈本次请求的耗时
+     *
+     * @param rttNanos 从请求到达到处理完成的耗时(ns)
+     * @param dropped  请求是否因过载被丢弃(如在队列中超时)
+     */
+    void release(long rttNanos, boolean dropped);
+
+    /**
+     * 当前允许的最大并发数
+     *
+     * @return
+     */
+    int getLimit();
+
+    /**
+     * 当前正在处理(含排队)的请求数
+     *
+     * @return
+     */
+    int getInflight();
+}
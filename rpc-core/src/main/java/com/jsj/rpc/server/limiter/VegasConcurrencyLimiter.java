@@ -0,0 +1,138 @@
+package com.jsj.rpc.server.limiter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 参照TCP Vegas的自适应并发限制器：
+ * 以观测到的最小rtt作为无负载时的rtt，根据 limit * (1 - rttNoLoad / rtt) 估算排队的请求数，
+ * 排队数较少时增大limit，排队数过多或出现丢弃时减小limit
+ *
+ * @author jiangshenjie
+ */
+@Slf4j
+public class VegasConcurrencyLimiter implements ConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    /**
+     * 平滑系数，取值(0, 1]
+     */
+    private final double smoothing;
+    /**
+     * 每经过 probeMultiplier * limit 个样本，重置一次rttNoLoad以适应服务基线rtt的变化
+     */
+    private final int probeMultiplier;
+
+    private final AtomicInteger inflight = new AtomicInteger(0);
+    private volatile int limit;
+    private double estimatedLimit;
+    private long rttNoLoad = 0L;
+    private long probeCountdown;
+
+    public VegasConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 1.0D, 30);
+    }
+
+    public VegasConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit
+            , double smoothing, int probeMultiplier) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(String.format("Illegal concurrency limit range: [%s, %s]"
+                    , minLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.probeMultiplier = probeMultiplier;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.probeCountdown = nextProbeCountdown();
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(long rttNanos, boolean dropped) {
+        int currentInflight = inflight.getAndDecrement();
+        onSample(rttNanos, currentInflight, dropped);
+    }
+
+    private synchronized void onSample(long rtt, int currentInflight, boolean dropped) {
+        //被丢弃的请求(如工作线程池拒绝)没有有效的rtt，但它是最直接的过载信号，必须先于rtt检查处理
+        if (dropped) {
+            updateLimit(estimatedLimit - Math.max(1.0D, Math.log10(estimatedLimit)), rtt);
+            return;
+        }
+        if (rtt <= 0L) {
+            return;
+        }
+        if (--probeCountdown <= 0) {
+            //重新探测无负载rtt
+            probeCountdown = nextProbeCountdown();
+            rttNoLoad = rtt;
+            return;
+        }
+        if (rttNoLoad == 0L || rtt < rttNoLoad) {
+            rttNoLoad = rtt;
+            return;
+        }
+        updateLimit(estimateLimit(rtt, currentInflight), rtt);
+    }
+
+    private void updateLimit(double newLimit, long rtt) {
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        estimatedLimit = (1 - smoothing) * estimatedLimit + smoothing * newLimit;
+        int oldLimit = limit;
+        limit = (int) estimatedLimit;
+        if (oldLimit != limit) {
+            log.debug("Concurrency limit changed: {} -> {}, rtt: {}ns, rttNoLoad: {}ns."
+                    , oldLimit, limit, rtt, rttNoLoad);
+        }
+    }
+
+    private double estimateLimit(long rtt, int currentInflight) {
+        double log10Limit = Math.max(1.0D, Math.log10(estimatedLimit));
+        //请求量不足以压满当前limit，观测结果不具有参考意义
+        if (currentInflight * 2 < estimatedLimit) {
+            return estimatedLimit;
+        }
+        int queueSize = (int) Math.ceil(estimatedLimit * (1 - (double) rttNoLoad / rtt));
+        double alpha = 3 * log10Limit;
+        double beta = 6 * log10Limit;
+        if (queueSize <= log10Limit) {
+            return estimatedLimit + beta;
+        } else if (queueSize < alpha) {
+            return estimatedLimit + log10Limit;
+        } else if (queueSize > beta) {
+            return estimatedLimit - log10Limit;
+        }
+        return estimatedLimit;
+    }
+
+    private long nextProbeCountdown() {
+        //加入随机抖动，避免多个实例同时探测
+        return (long) (probeMultiplier * estimatedLimit * (1 + ThreadLocalRandom.current().nextDouble()));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,398 @@
+package com.jsj.rpc.server.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按调度分组(如连接)进行deficit round-robin调度的有界任务队列：
+ * 每个分组有独立的子队列，轮到某分组时为其增加quantum的额度，额度为正时才能取出任务；
+ * 取出任务时按该分组任务的平均耗时预扣额度，任务执行完成后按实际耗时修正，
+ * 因此每个分组获得的是有界的业务线程时间份额，而不是请求数份额
+ *
+ * @author jiangshenjie
+ */
+public class FairTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    private static final Object DEFAULT_KEY = new Object();
+    /**
+     * 分组平均耗时的平滑系数
+     */
+    private static final double COST_SMOOTHING = 0.2D;
+
+    private final int capacity;
+    private final int capacityPerKey;
+    private final long quantumNanos;
+
+    private final Map<Object, Flow> flows = new HashMap<>();
+    private final ArrayDeque<Flow> activeFlows = new ArrayDeque<>();
+    private int count = 0;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public FairTaskQueue(int capacity, int capacityPerKey, long quantumMicros) {
+        if (capacity <= 0 || capacityPerKey <= 0 || quantumMicros <= 0) {
+            throw new IllegalArgumentException("capacity and quantum must be positive");
+        }
+        this.capacity = capacity;
+        this.capacityPerKey = capacityPerKey;
+        this.quantumNanos = TimeUnit.MICROSECONDS.toNanos(quantumMicros);
+    }
+
+    private static Object keyOf(Runnable task) {
+        if (task instanceof SchedulableTask) {
+            Object key = ((SchedulableTask) task).getScheduleKey();
+            if (key != null) {
+                return key;
+            }
+        }
+        return DEFAULT_KEY;
+    }
+
+    private boolean tryEnqueue(Runnable task) {
+        Object key = keyOf(task);
+        Flow flow = flows.get(key);
+        if (flow == null) {
+            flow = new Flow(key, quantumNanos);
+            flows.put(key, flow);
+        }
+        if (flow.tasks.size() >= capacityPerKey) {
+            return false;
+        }
+        flow.tasks.addLast(task);
+        if (!flow.active) {
+            flow.active = true;
+            activeFlows.addLast(flow);
+        }
+        count++;
+        notEmpty.signal();
+        return true;
+    }
+
+    private Runnable dequeue() {
+        while (true) {
+            Flow flow = activeFlows.peekFirst();
+            if (flow.deficit <= 0L) {
+                //额度用完，补充额度后轮到下一个分组
+                flow.deficit += quantumNanos;
+                activeFlows.addLast(activeFlows.pollFirst());
+                continue;
+            }
+            Runnable task = flow.tasks.pollFirst();
+            flow.deficit -= flow.avgCostNanos;
+            if (flow.tasks.isEmpty()) {
+                activeFlows.pollFirst();
+                flow.active = false;
+                //空闲分组不累积额度，但保留欠下的额度
+                flow.deficit = Math.min(flow.deficit, 0L);
+                if (flow.removed) {
+                    flows.remove(flow.key);
+                }
+            }
+            count--;
+            notFull.signal();
+            return new ChargedTask(flow, task);
+        }
+    }
+
+    private Runnable dequeueRaw() {
+        Runnable task = dequeue();
+        return ((ChargedTask) task).task;
+    }
+
+    private void charge(Flow flow, long costNanos) {
+        lock.lock();
+        try {
+            //修正取出任务时按平均耗时预扣的额度
+            flow.deficit -= costNanos - flow.avgCostNanos;
+            flow.avgCostNanos = (long) ((1 - COST_SMOOTHING) * flow.avgCostNanos + COST_SMOOTHING * costNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 移除某一分组(如连接关闭时)，其未执行的任务仍会被调度，分组在任务取完后移除
+     *
+     * @param key
+     */
+    public void removeKey(Object key) {
+        lock.lock();
+        try {
+            Flow flow = flows.get(key);
+            if (flow == null) {
+                return;
+            }
+            if (flow.active) {
+                flow.removed = true;
+            } else {
+                flows.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 各分组当前等待中的任务数
+     *
+     * @return
+     */
+    public Map<Object, Integer> getQueueDepths() {
+        lock.lock();
+        try {
+            Map<Object, Integer> depths = new HashMap<>(flows.size());
+            for (Flow flow : flows.values()) {
+                depths.put(flow.key, flow.tasks.size());
+            }
+            return depths;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            return count < capacity && tryEnqueue(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity || !tryEnqueue(task)) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity || !tryEnqueue(task)) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            Flow flow = activeFlows.peekFirst();
+            return flow == null ? null : flow.tasks.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (Flow flow : flows.values()) {
+                if (flow.tasks.remove(o)) {
+                    if (flow.tasks.isEmpty() && flow.active) {
+                        activeFlows.remove(flow);
+                        flow.active = false;
+                        if (flow.removed) {
+                            flows.remove(flow.key);
+                        }
+                    }
+                    count--;
+                    notFull.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeueRaw());
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回当前任务的快照，不支持通过迭代器删除
+     *
+     * @return
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> snapshot = new ArrayList<>(count);
+            for (Flow flow : activeFlows) {
+                snapshot.addAll(flow.tasks);
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Flow {
+        private final Object key;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        /**
+         * 剩余额度(ns)，为负表示已超额使用
+         */
+        private long deficit = 0L;
+        private long avgCostNanos;
+        private boolean active = false;
+        /**
+         * 已调用removeKey，任务取完后从flows中移除
+         */
+        private boolean removed = false;
+
+        private Flow(Object key, long initialCostNanos) {
+            this.key = key;
+            this.avgCostNanos = initialCostNanos;
+        }
+    }
+
+    /**
+     * 执行完成后按实际耗时扣减所属分组的额度
+     */
+    private class ChargedTask implements Runnable {
+        private final Flow flow;
+        private final Runnable task;
+
+        private ChargedTask(Flow flow, Runnable task) {
+            this.flow = flow;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                charge(flow, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.jsj.rpc.server.queue;
+
+import com.jsj.rpc.protocol.RequestPriority;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按优先级调度的有界任务队列：
+ * 优先取出高优先级的任务，同一优先级内先进先出；
+ * 低优先级队列的队首任务等待超过starvationThreshold后，会先于高优先级任务被取出，避免饥饿；
+ * 每starvationServeInterval次取出中至多有一次这样插队，低优先级任务持续积压时高优先级任务仍占大部分
+ *
+ * @author jiangshenjie
+ */
+public class PriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+    private static final int DEFAULT_STARVATION_SERVE_INTERVAL = 4;
+
+    private final int capacity;
+    private final long starvationThresholdNanos;
+    private final int starvationServeInterval;
+    /**
+     * 下标与RequestPriority的ordinal一致，0为最高优先级
+     */
+    private final ArrayDeque<Entry>[] queues;
+    private int count = 0;
+    /**
+     * 距上次让等待过久的任务插队以来的取出次数
+     */
+    private int dequeuesSinceStarvationServe;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public PriorityTaskQueue(int capacity, long starvationThresholdMillis) {
+        this(capacity, starvationThresholdMillis, DEFAULT_STARVATION_SERVE_INTERVAL);
+    }
+
+    /**
+     * @param capacity
+     * @param starvationThresholdMillis 低优先级任务等待超过该时间后可以插队
+     * @param starvationServeInterval   每多少次取出中至多插队一次，1表示不限制
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityTaskQueue(int capacity, long starvationThresholdMillis, int starvationServeInterval) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (starvationServeInterval <= 0) {
+            throw new IllegalArgumentException("starvationServeInterval must be positive");
+        }
+        this.capacity = capacity;
+        this.starvationThresholdNanos = TimeUnit.MILLISECONDS.toNanos(starvationThresholdMillis);
+        this.starvationServeInterval = starvationServeInterval;
+        this.dequeuesSinceStarvationServe = starvationServeInterval;
+        this.queues = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    private static int levelOf(Runnable task) {
+        if (task instanceof SchedulableTask) {
+            return RequestPriority.valueOf(((SchedulableTask) task).getPriority()).ordinal();
+        }
+        return RequestPriority.NORMAL.ordinal();
+    }
+
+    private void enqueue(Runnable task) {
+        queues[levelOf(task)].addLast(new Entry(task, System.nanoTime()));
+        count++;
+        notEmpty.signal();
+    }
+
+    private Runnable dequeue() {
+        long now = System.nanoTime();
+        ArrayDeque<Entry> target = null;
+        long oldestEnqueueNanos = 0L;
+        //低优先级任务等待过久时，取其中等待最久的，但距上次插队不足starvationServeInterval次时按优先级取
+        boolean starvationServeAllowed = dequeuesSinceStarvationServe >= starvationServeInterval;
+        for (int i = 1; starvationServeAllowed && i < queues.length; i++) {
+            Entry head = queues[i].peekFirst();
+            if (head != null && now - head.enqueueNanos >= starvationThresholdNanos
+                    && (target == null || head.enqueueNanos - oldestEnqueueNanos < 0)) {
+                target = queues[i];
+                oldestEnqueueNanos = head.enqueueNanos;
+            }
+        }
+        if (target == null) {
+            for (ArrayDeque<Entry> queue : queues) {
+                if (!queue.isEmpty()) {
+                    target = queue;
+                    break;
+                }
+            }
+            dequeuesSinceStarvationServe = Math.min(starvationServeInterval, dequeuesSinceStarvationServe + 1);
+        } else {
+            dequeuesSinceStarvationServe = 1;
+        }
+        Entry entry = target.pollFirst();
+        count--;
+        notFull.signal();
+        return entry.task;
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            enqueue(task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            enqueue(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> queue : queues) {
+                Entry head = queue.peekFirst();
+                if (head != null) {
+                    return head.task;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> queue : queues) {
+                Iterator<Entry> it = queue.iterator();
+                while (it.hasNext()) {
+                    if (o.equals(it.next().task)) {
+                        it.remove();
+                        count--;
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 某一优先级下等待中的任务数
+     *
+     * @param priority
+     * @return
+     */
+    public int size(RequestPriority priority) {
+        lock.lock();
+        try {
+            return queues[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeue());
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回当前任务的快照，不支持通过迭代器删除
+     *
+     * @return
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> snapshot = new ArrayList<>(count);
+            for (ArrayDeque<Entry> queue : queues) {
+                for (Entry entry : queue) {
+                    snapshot.add(entry.task);
+                }
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Entry {
+        private final Runnable task;
+        private final long enqueueNanos;
+
+        private Entry(Runnable task, long enqueueNanos) {
+            this.task = task;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
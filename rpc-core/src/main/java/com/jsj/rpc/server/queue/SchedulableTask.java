@@ -0,0 +1,23 @@
+package com.jsj.rpc.server.queue;
+
+/**
+ * 可被业务线程池队列按属性调度的任务
+ *
+ * @author jiangshenjie
+ */
+public interface SchedulableTask extends Runnable {
+
+    /**
+     * 调度优先级，见{@link com.jsj.rpc.protocol.RequestPriority}
+     *
+     * @return
+     */
+    int getPriority();
+
+    /**
+     * 公平调度的分组依据，如任务所属的连接
+     *
+     * @return
+     */
+    Object getScheduleKey();
+}
@@ -0,0 +1,21 @@
+package com.jsj.rpc.server.queue;
+
+/**
+ * 服务端业务线程池的任务队列类型
+ *
+ * @author jiangshenjie
+ */
+public enum WorkerQueueType {
+    /**
+     * 先进先出
+     */
+    FIFO,
+    /**
+     * 按请求优先级调度，低优先级任务等待过久时优先调度
+     */
+    PRIORITY,
+    /**
+     * 按连接进行deficit round-robin调度，每个连接按实际占用的业务线程时间分配份额
+     */
+    FAIR
+}
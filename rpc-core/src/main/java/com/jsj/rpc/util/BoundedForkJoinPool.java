@@ -0,0 +1,165 @@
+package com.jsj.rpc.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 限制等待任务数的ForkJoinPool，以FIFO模式调度外部提交的任务；
+ * 等待执行的任务数达到capacity时，与有界的ThreadPoolExecutor一样抛出RejectedExecutionException。
+ * execute与submit提交的任务都计入等待数，submit返回的任务在执行前被取消时释放占用的名额
+ *
+ * @author jiangshenjie
+ */
+public class BoundedForkJoinPool extends ForkJoinPool {
+    private final int capacity;
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+
+    public BoundedForkJoinPool(int parallelism, int capacity, String namePrefix) {
+        super(parallelism, new NamedWorkerThreadFactory(namePrefix), null, true);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        reserve();
+        try {
+            super.execute(() -> {
+                pendingCount.decrementAndGet();
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            pendingCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return submitPending(new PendingTask<>(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return submitPending(new PendingTask<>(Executors.callable(task, result)));
+    }
+
+    @Override
+    public ForkJoinTask<?> submit(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return submitPending(new PendingTask<>(Executors.callable(task)));
+    }
+
+    private <T> ForkJoinTask<T> submitPending(PendingTask<T> task) {
+        reserve();
+        try {
+            return super.submit(task);
+        } catch (RejectedExecutionException e) {
+            task.release();
+            throw e;
+        }
+    }
+
+    private void reserve() {
+        if (pendingCount.incrementAndGet() > capacity) {
+            pendingCount.decrementAndGet();
+            throw new RejectedExecutionException(String.format("Task rejected, pending task count reach %s", capacity));
+        }
+    }
+
+    /**
+     * 等待执行的任务数
+     *
+     * @return
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * submit提交的任务，开始执行或被取消时释放等待名额
+     */
+    private final class PendingTask<T> extends ForkJoinTask<T> {
+        private final Callable<T> callable;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private T result;
+
+        private PendingTask(Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public T getRawResult() {
+            return result;
+        }
+
+        @Override
+        protected void setRawResult(T value) {
+            this.result = value;
+        }
+
+        @Override
+        protected boolean exec() {
+            release();
+            try {
+                result = callable.call();
+                return true;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                release();
+            }
+            return cancelled;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    private static class NamedWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+        private static final AtomicInteger poolNumber = new AtomicInteger(1);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        private NamedWorkerThreadFactory(String prefix) {
+            this.namePrefix = prefix + "-" + poolNumber.getAndIncrement() + "-thread-";
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(namePrefix + threadNumber.getAndIncrement());
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jsj.rpc.util;
+
+import java.util.Arrays;
+
+/**
+ * 最近若干次延迟的分位数统计，分位数结果缓存一段时间，避免每次查询都排序，延迟单位由调用方决定
+ *
+ * @author jiangshenjie
+ */
+public class LatencyPercentile {
+    private static final long REFRESH_INTERVAL_MILLIS = 1000L;
+
+    private final long[] samples;
+    private final int minSamples;
+    private int count = 0;
+    private int next = 0;
+
+    private double cachedQuantile = -1D;
+    private long cachedValue = -1L;
+    private long cachedAtMillis = 0L;
+
+    /**
+     * @param windowSize 保留的最近样本数
+     * @param minSamples 样本不足时不给出分位数
+     */
+    public LatencyPercentile(int windowSize, int minSamples) {
+        this.samples = new long[windowSize];
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(long latency) {
+        samples[next] = latency;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * @param quantile 如0.95
+     * @return 分位数延迟，样本不足时返回-1
+     */
+    public synchronized long getPercentile(double quantile) {
+        if (count < minSamples) {
+            return -1L;
+        }
+        long now = System.currentTimeMillis();
+        if (quantile == cachedQuantile && now - cachedAtMillis < REFRESH_INTERVAL_MILLIS) {
+            return cachedValue;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * count) - 1;
+        cachedValue = sorted[Math.max(0, Math.min(count - 1, index))];
+        cachedQuantile = quantile;
+        cachedAtMillis = now;
+        return cachedValue;
+    }
+}
@@ -0,0 +1,135 @@
+package com.jsj.rpc.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * 带过期时间的LRU缓存，按条目数和总权重(如字节数)两个维度限制容量，并统计命中率
+ *
+ * @author jiangshenjie
+ */
+public class LruCache<K, V> {
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final ToLongBiFunction<K, V> weigher;
+    /**
+     * 按访问顺序排列，队首为最久未访问的条目
+     */
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private long totalWeight = 0L;
+
+    private long hitCount = 0L;
+    private long missCount = 0L;
+    private long evictionCount = 0L;
+
+    /**
+     * @param maxEntries 最大条目数，0表示不限制
+     * @param maxWeight  最大总权重，0表示不限制
+     * @param ttlMillis  写入后的存活时间
+     * @param weigher    计算条目权重，为null时每个条目权重为1
+     */
+    public LruCache(int maxEntries, long maxWeight, long ttlMillis, ToLongBiFunction<K, V> weigher) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.weigher = weigher == null ? (k, v) -> 1L : weigher;
+    }
+
+    /**
+     * @param key
+     * @return 不存在或已过期时返回null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.expireAtMillis <= System.currentTimeMillis()) {
+            remove(key);
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long weight = weigher.applyAsLong(key, value);
+        if (maxWeight > 0 && weight > maxWeight) {
+            //单个条目超过容量，不缓存
+            return;
+        }
+        Entry<V> old = entries.put(key, new Entry<>(value, weight, System.currentTimeMillis() + ttlMillis));
+        if (old != null) {
+            totalWeight -= old.weight;
+        }
+        totalWeight += weight;
+        evictIfNecessary();
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        totalWeight -= entry.weight;
+        return entry.value;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0L;
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && ((maxEntries > 0 && entries.size() > maxEntries)
+                || (maxWeight > 0 && totalWeight > maxWeight))) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictionCount++;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0D : (double) hitCount / total;
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long expireAtMillis;
+
+        private Entry(V value, long weight, long expireAtMillis) {
+            this.value = value;
+            this.weight = weight;
+            this.expireAtMillis = expireAtMillis;
+        }
+    }
+}
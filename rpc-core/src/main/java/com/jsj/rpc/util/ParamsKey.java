@@ -0,0 +1,58 @@
+package com.jsj.rpc.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 由请求参数序列化后的字节构造key，参数字节完全相同的请求得到相同的key，用于结果缓存与请求合并
+ *
+ * @author jiangshenjie
+ */
+public final class ParamsKey {
+
+    private ParamsKey() {
+    }
+
+    /**
+     * @param params protobuf消息类型的参数
+     * @return
+     */
+    public static ByteString of(Object[] params) {
+        if (params == null || params.length == 0) {
+            return ByteString.EMPTY;
+        }
+        List<ByteString> serializedParams = new ArrayList<>(params.length);
+        for (Object param : params) {
+            serializedParams.add(((Message) param).toByteString());
+        }
+        return of(serializedParams);
+    }
+
+    /**
+     * 多个参数时各参数前加上长度，避免不同的参数切分拼接出相同的key
+     *
+     * @param serializedParams
+     * @return
+     */
+    public static ByteString of(List<ByteString> serializedParams) {
+        if (serializedParams.size() == 1) {
+            return serializedParams.get(0);
+        }
+        ByteString key = ByteString.EMPTY;
+        for (ByteString param : serializedParams) {
+            byte[] length = new byte[CodedOutputStream.computeUInt32SizeNoTag(param.size())];
+            try {
+                CodedOutputStream.newInstance(length).writeUInt32NoTag(param.size());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            key = key.concat(ByteString.copyFrom(length)).concat(param);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jsj.rpc.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 在线程池上按提交顺序串行执行任务，同一时刻最多占用一个线程，用于流式调用中消息的按序回调
+ *
+ * @author jiangshenjie
+ */
+public class SerialExecutor implements Executor {
+    private final Executor delegate;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    public SerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (pending.getAndIncrement() == 0) {
+            delegate.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            tasks.poll().run();
+        } while (pending.decrementAndGet() != 0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.jsj.rpc.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按请求量计提的令牌预算，用于限制对冲、重试等额外请求占总流量的比例
+ * <p>
+ * 每个正常请求存入ratio个令牌，每个额外请求消耗1个令牌，令牌数不超过maxTokens
+ *
+ * @author jiangshenjie
+ */
+public class TokenBudget {
+    /**
+     * 令牌以千分之一为单位计数，避免浮点运算
+     */
+    private static final long UNIT = 1000L;
+
+    private final long depositPerRequest;
+    private final long maxUnits;
+    private final AtomicLong units;
+
+    /**
+     * @param percent   额外请求占正常请求的最大百分比
+     * @param maxTokens 令牌上限，即允许的突发额外请求数，初始为满
+     */
+    public TokenBudget(int percent, int maxTokens) {
+        if (percent < 0 || maxTokens < 0) {
+            throw new IllegalArgumentException("percent and maxTokens must not be negative");
+        }
+        this.depositPerRequest = percent * UNIT / 100;
+        this.maxUnits = maxTokens * UNIT;
+        this.units = new AtomicLong(maxUnits);
+    }
+
+    /**
+     * 一个正常请求发出时调用
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = units.get();
+            if (current >= maxUnits) {
+                return;
+            }
+        } while (!units.compareAndSet(current, Math.min(maxUnits, current + depositPerRequest)));
+    }
+
+    /**
+     * 尝试为一个额外请求获取令牌
+     *
+     * @return 预算不足时返回false
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = units.get();
+            if (current < UNIT) {
+                return false;
+            }
+        } while (!units.compareAndSet(current, current - UNIT));
+        return true;
+    }
+
+    public double getAvailableTokens() {
+        return (double) units.get() / UNIT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jsj.rpc.util;
+
+/**
+ * 业务线程池的实现类型
+ *
+ * @author jiangshenjie
+ */
+public enum WorkerExecutorType {
+    /**
+     * ThreadPoolExecutor，所有业务线程共享同一个阻塞队列
+     */
+    THREAD_POOL,
+    /**
+     * ForkJoinPool，每个业务线程有独立的任务队列，空闲线程从其他队列窃取任务，
+     * 减少高并发下对单一队列的锁竞争
+     */
+    FORK_JOIN
+}
@@ -0,0 +1,75 @@
+package com.jsj.rpc;
+
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.server.RpcServer;
+import com.jsj.rpc.server.RpcServerOptions;
+
+/**
+ * 集成测试共用的服务端与客户端，服务端绑定随机端口，避免并行执行的测试端口冲突
+ *
+ * @author jiangshenjie
+ */
+public final class RpcTestFixture {
+    private static final String HOST = "127.0.0.1";
+
+    private RpcTestFixture() {
+    }
+
+    public static RpcServerOptions serverOptions() {
+        RpcServerOptions serverOptions = new RpcServerOptions();
+        serverOptions.setWorkerThreadNumber(4);
+        return serverOptions;
+    }
+
+    public static RpcServer startServer(Object service, Class<?> targetInterface) throws Exception {
+        return startServer(serverOptions(), service, targetInterface);
+    }
+
+    /**
+     * 注册服务并在随机端口启动服务端
+     *
+     * @param serverOptions
+     * @param service
+     * @param targetInterface
+     * @return 已启动的服务端，{@link RpcServer#getPort()}为实际绑定的端口
+     * @throws Exception
+     */
+    public static RpcServer startServer(RpcServerOptions serverOptions, Object service
+            , Class<?> targetInterface) throws Exception {
+        RpcServer rpcServer = new RpcServer(HOST, 0, serverOptions);
+        rpcServer.registerService(service, targetInterface);
+        if (!rpcServer.start()) {
+            throw new IllegalStateException("Rpc server start failed.");
+        }
+        return rpcServer;
+    }
+
+    public static Endpoint endpoint(RpcServer rpcServer) {
+        return new Endpoint(HOST, rpcServer.getPort());
+    }
+
+    public static RpcClient newClient(RpcServer rpcServer) {
+        return newClient(rpcServer, new RpcClientOptions());
+    }
+
+    public static RpcClient newClient(RpcServer rpcServer, RpcClientOptions clientOptions) {
+        return new RpcClient(endpoint(rpcServer), clientOptions);
+    }
+
+    /**
+     * 依次关闭客户端与服务端，参数可为null
+     *
+     * @param rpcClient
+     * @param rpcServer
+     */
+    public static void shutdown(RpcClient rpcClient, RpcServer rpcServer) {
+        if (rpcClient != null) {
+            rpcClient.shutdown();
+        }
+        if (rpcServer != null) {
+            rpcServer.shutdown();
+        }
+    }
+}
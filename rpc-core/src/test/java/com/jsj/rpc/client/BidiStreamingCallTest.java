@@ -0,0 +1,183 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.Int32Value;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.server.RpcServer;
+import com.jsj.rpc.server.RpcServerOptions;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class BidiStreamingCallTest {
+    private static final int WINDOW_SIZE = 4;
+    private static final AtomicInteger RECEIVED = new AtomicInteger(0);
+    /**
+     * 服务端处理第一条消息前等待它打开，用于模拟慢消费者
+     */
+    private static volatile CountDownLatch gate = new CountDownLatch(0);
+    private static RpcServer rpcServer;
+    private static RpcClient rpcClient;
+    private static SumService sumService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        RpcServerOptions serverOptions = RpcTestFixture.serverOptions();
+        serverOptions.setStreamWindowSize(WINDOW_SIZE);
+        rpcServer = RpcTestFixture.startServer(serverOptions, new SumServiceImpl(), SumService.class);
+        rpcClient = RpcTestFixture.newClient(rpcServer);
+        sumService = RpcClient.getProxy(rpcClient, SumService.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Test
+    public void testHalfClose() {
+        RpcStream<Int32Value> result = new RpcStream<>();
+        StreamObserver<Int32Value> requests = sumService.sum(result);
+        for (int i = 1; i <= 10; i++) {
+            requests.onNext(Int32Value.of(i));
+        }
+        requests.onCompleted();
+        //半关闭后仍能收到服务端的消息
+        Assert.assertEquals(55, result.next().getValue());
+        Assert.assertFalse(result.hasNext());
+        try {
+            requests.onNext(Int32Value.of(1));
+            Assert.fail("Exception expected.");
+        } catch (IllegalStateException | RpcCallException e) {
+            //半关闭后不能再发送
+        }
+
+        //服务端开始接收前即半关闭
+        RpcStream<Int32Value> empty = new RpcStream<>();
+        sumService.sum(empty).onCompleted();
+        Assert.assertEquals(0, empty.next().getValue());
+        Assert.assertFalse(empty.hasNext());
+    }
+
+    @Test
+    public void testInboundBackpressure() throws Exception {
+        gate = new CountDownLatch(1);
+        RECEIVED.set(0);
+        RpcStream<Int32Value> result = new RpcStream<>();
+        StreamObserver<Int32Value> requests = sumService.sum(result);
+        AtomicInteger sent = new AtomicInteger(0);
+        Thread sender = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                requests.onNext(Int32Value.of(1));
+                sent.incrementAndGet();
+            }
+            requests.onCompleted();
+        });
+        sender.start();
+        Thread.sleep(300);
+        //服务端未处理消息时，客户端最多发出一个窗口
+        Assert.assertEquals(WINDOW_SIZE, sent.get());
+        Assert.assertEquals(0, RECEIVED.get());
+        gate.countDown();
+        sender.join(5000);
+        Assert.assertEquals(100, sent.get());
+        Assert.assertEquals(100, result.next().getValue());
+        Assert.assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void testServerErrorTerminatesClient() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        StreamObserver<Int32Value> requests = sumService.sum(new StreamObserver<Int32Value>() {
+            @Override
+            public void onNext(Int32Value message) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                failed.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(Int32Value.of(-1));
+        Assert.assertTrue(failed.await(2, TimeUnit.SECONDS));
+        try {
+            requests.onNext(Int32Value.of(1));
+            Assert.fail("Exception expected.");
+        } catch (RpcCallException e) {
+            //调用已结束
+        }
+    }
+
+    @Test
+    public void testStreamTimeoutOutlivesTaskTimeout() throws Exception {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setRpcTaskTimeoutMillis(200);
+        clientOptions.getOrCreateMethodOptions("sum").setStreamTimeoutMillis(5000);
+        RpcClient uploadClient = RpcTestFixture.newClient(rpcServer, clientOptions);
+        try {
+            SumService service = RpcClient.getProxy(uploadClient, SumService.class);
+            RpcStream<Int32Value> result = new RpcStream<>();
+            StreamObserver<Int32Value> requests = service.sum(result);
+            //整个流的时长超过rpcTaskTimeoutMillis
+            for (int i = 1; i <= 5; i++) {
+                requests.onNext(Int32Value.of(i));
+                Thread.sleep(100);
+            }
+            requests.onCompleted();
+            Assert.assertEquals(15, result.next().getValue());
+            Assert.assertFalse(result.hasNext());
+        } finally {
+            uploadClient.shutdown();
+        }
+    }
+
+    public interface SumService {
+        StreamObserver<Int32Value> sum(StreamObserver<Int32Value> observer);
+    }
+
+    public static class SumServiceImpl implements SumService {
+        @Override
+        public StreamObserver<Int32Value> sum(StreamObserver<Int32Value> observer) {
+            return new StreamObserver<Int32Value>() {
+                private int sum = 0;
+
+                @Override
+                public void onNext(Int32Value message) {
+                    if (message.getValue() < 0) {
+                        throw new IllegalArgumentException("negative value");
+                    }
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    RECEIVED.incrementAndGet();
+                    sum += message.getValue();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                    observer.onNext(Int32Value.of(sum));
+                    observer.onCompleted();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcFile;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * @author jiangshenjie
+ */
+public class FileTransferTest {
+    @ClassRule
+    public static final TemporaryFolder TEMPORARY_FOLDER = new TemporaryFolder();
+    private static File sourceDirectory;
+    private static byte[] content;
+    private static RpcServer rpcServer;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        sourceDirectory = TEMPORARY_FOLDER.newFolder("source");
+        //多于一个FILE_DATA报文
+        content = new byte[3 * 1024 * 1024 + 123];
+        new Random(1).nextBytes(content);
+        Files.write(new File(sourceDirectory, "data").toPath(), content);
+        Files.write(new File(sourceDirectory, "empty").toPath(), new byte[0]);
+        rpcServer = RpcTestFixture.startServer(new FileServiceImpl(), FileService.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(null, rpcServer);
+    }
+
+    @Test
+    public void testDownload() throws Exception {
+        File directory = TEMPORARY_FOLDER.newFolder();
+        RpcClient rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions(directory, 10000));
+        try {
+            FileService fileService = RpcClient.getProxy(rpcClient, FileService.class);
+            RpcFile rpcFile = fileService.download(StringValue.of("data"));
+            Assert.assertEquals(directory, rpcFile.getFile().getParentFile());
+            Assert.assertEquals(content.length, rpcFile.getLength());
+            byte[] received = new byte[content.length];
+            try (InputStream in = rpcFile.openStream()) {
+                int offset = 0;
+                int n;
+                while (offset < received.length && (n = in.read(received, offset, received.length - offset)) > 0) {
+                    offset += n;
+                }
+                Assert.assertEquals(-1, in.read());
+            }
+            Assert.assertArrayEquals(content, received);
+            Assert.assertTrue(rpcFile.delete());
+        } finally {
+            rpcClient.shutdown();
+        }
+    }
+
+    @Test
+    public void testDownloadEmptyFile() throws Exception {
+        File directory = TEMPORARY_FOLDER.newFolder();
+        RpcClient rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions(directory, 10000));
+        try {
+            FileService fileService = RpcClient.getProxy(rpcClient, FileService.class);
+            RpcFile rpcFile = fileService.download(StringValue.of("empty"));
+            Assert.assertEquals(0L, rpcFile.getLength());
+            Assert.assertTrue(rpcFile.getFile().exists());
+            Assert.assertEquals(0L, rpcFile.getFile().length());
+            Assert.assertTrue(rpcFile.delete());
+        } finally {
+            rpcClient.shutdown();
+        }
+    }
+
+    @Test
+    public void testTempFileDeletedOnTimeout() throws Exception {
+        File directory = TEMPORARY_FOLDER.newFolder();
+        RpcClientOptions clientOptions = clientOptions(directory, 300);
+        clientOptions.setGlobalThreadPoolSharing(false);
+        clientOptions.setWorkerThreadNumber(1);
+        RpcClient rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions);
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            FileService fileService = RpcClient.getProxy(rpcClient, FileService.class);
+            //占住业务线程，文件内容在调用超时前无法写完
+            rpcClient.getWorkerThreadPool().execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            try {
+                fileService.download(StringValue.of("data"));
+                Assert.fail("Timeout expected.");
+            } catch (Exception e) {
+                //调用超时
+            }
+            blocked.countDown();
+            long deadline = System.currentTimeMillis() + 2000;
+            while (listFiles(directory).length > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            Assert.assertEquals(Arrays.toString(listFiles(directory)), 0, listFiles(directory).length);
+        } finally {
+            blocked.countDown();
+            rpcClient.shutdown();
+        }
+    }
+
+    private static File[] listFiles(File directory) {
+        File[] files = directory.listFiles();
+        return files == null ? new File[0] : files;
+    }
+
+    private static RpcClientOptions clientOptions(File fileDirectory, int taskTimeoutMillis) {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setFileDirectory(fileDirectory.getAbsolutePath());
+        clientOptions.setRpcTaskTimeoutMillis(taskTimeoutMillis);
+        return clientOptions;
+    }
+
+    public interface FileService {
+        RpcFile download(StringValue name);
+    }
+
+    public static class FileServiceImpl implements FileService {
+        @Override
+        public RpcFile download(StringValue name) {
+            return new RpcFile(new File(sourceDirectory, name.getValue()));
+        }
+    }
+}
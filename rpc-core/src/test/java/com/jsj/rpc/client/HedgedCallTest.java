@@ -0,0 +1,172 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.channel.StubRpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.util.LatencyPercentile;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author jiangshenjie
+ */
+public class HedgedCallTest {
+    private StubClient client;
+    private RpcMethodOptions methodOptions;
+
+    @Before
+    public void setUp() {
+        client = new StubClient();
+        methodOptions = new RpcMethodOptions();
+        methodOptions.setHedgeEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    public void testFirstResponseWins() throws Exception {
+        methodOptions.setHedgeDelayMillis(20);
+        RpcFuture<StringValue> result = client.call(methodOptions, new LatencyPercentile(100, 1));
+        client.awaitAttempts(2);
+        //对冲请求发往另一个节点
+        Assert.assertSame(client.endpoints.get(0), client.attempts.get(0).getRpcChannel());
+        Assert.assertEquals(Arrays.asList(client.endpoints.get(0)), client.excludedPerAttempt.get(1));
+        Assert.assertSame(client.endpoints.get(1), client.attempts.get(1).getRpcChannel());
+
+        client.complete(1, "hedged");
+        Assert.assertEquals("hedged", result.get(1, TimeUnit.SECONDS).getValue());
+        //落后的原始请求被取消
+        Assert.assertTrue(client.attempts.get(0).isCancelled());
+        Assert.assertEquals(2, client.attempts.size());
+    }
+
+    @Test
+    public void testHedgeDispatchedOnWorkerThread() throws Exception {
+        methodOptions.setHedgeDelayMillis(10);
+        RpcFuture<StringValue> result = client.call(methodOptions, new LatencyPercentile(100, 1));
+        client.awaitAttempts(2);
+        //发送可能阻塞，不能占用定时线程
+        Assert.assertFalse(client.threadPerAttempt.get(1), client.threadPerAttempt.get(1).contains("scheduled"));
+        client.complete(0, "original");
+        Assert.assertEquals("original", result.get(1, TimeUnit.SECONDS).getValue());
+        Assert.assertTrue(client.attempts.get(1).isCancelled());
+    }
+
+    @Test
+    public void testHedgeDelayFromP95() throws Exception {
+        LatencyPercentile latencies = new LatencyPercentile(100, 10);
+        for (int i = 1; i <= 100; i++) {
+            latencies.record(TimeUnit.MILLISECONDS.toNanos(i * 2));
+        }
+        //p95为190ms
+        RpcFuture<StringValue> result = client.call(methodOptions, latencies);
+        Thread.sleep(100L);
+        Assert.assertEquals(1, client.attempts.size());
+        client.awaitAttempts(2);
+        Assert.assertTrue(System.nanoTime() - client.attempts.get(0).getStartNanos()
+                >= TimeUnit.MILLISECONDS.toNanos(190));
+        client.complete(1, "hedged");
+        Assert.assertEquals("hedged", result.get(1, TimeUnit.SECONDS).getValue());
+    }
+
+    @Test
+    public void testNoHedgeWithoutEnoughSamples() throws Exception {
+        RpcFuture<StringValue> result = client.call(methodOptions, new LatencyPercentile(100, 10));
+        Thread.sleep(100L);
+        Assert.assertEquals(1, client.attempts.size());
+        client.complete(0, "original");
+        Assert.assertEquals("original", result.get(1, TimeUnit.SECONDS).getValue());
+    }
+
+    @Test
+    public void testCancelledLoserLatencyRecorded() throws Exception {
+        methodOptions.setHedgeDelayMillis(50);
+        LatencyPercentile latencies = new LatencyPercentile(100, 1);
+        RpcFuture<StringValue> result = client.call(methodOptions, latencies);
+        client.awaitAttempts(2);
+        client.complete(1, "hedged");
+        result.get(1, TimeUnit.SECONDS);
+        //对冲请求立即返回，被取消的原始请求已等待了对冲延迟
+        Assert.assertTrue(latencies.getPercentile(1D) >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    /**
+     * 不建立连接，每次尝试返回未完成的future，由测试决定何时以何结果完成
+     */
+    private static class StubClient extends RpcClient {
+        private final List<RpcChannel> endpoints = Arrays.asList(
+                new StubRpcChannel(new Endpoint("127.0.0.1", 1))
+                , new StubRpcChannel(new Endpoint("127.0.0.1", 2)));
+        private final List<RpcFuture<?>> attempts = new ArrayList<>();
+        private final List<List<RpcChannel>> excludedPerAttempt = new ArrayList<>();
+        private final List<String> threadPerAttempt = new ArrayList<>();
+
+        private StubClient() {
+            super(new Endpoint("127.0.0.1", 1), new RpcClientOptions());
+        }
+
+        private RpcFuture<StringValue> call(RpcMethodOptions methodOptions, LatencyPercentile latencies) {
+            Request request = protocol.createRequest()
+                    .setRequestId(1L)
+                    .setMethodName("echo")
+                    .setTaskTimeoutMills(5000);
+            return new HedgedCall<StringValue>(this, request, methodOptions, latencies).start();
+        }
+
+        private void awaitAttempts(int n) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000L;
+            synchronized (this) {
+                while (attempts.size() < n && System.currentTimeMillis() < deadline) {
+                    wait(10L);
+                }
+                Assert.assertEquals(n, attempts.size());
+            }
+        }
+
+        private synchronized void complete(int attempt, String value) {
+            RpcFuture<?> rpcFuture = attempts.get(attempt);
+            Response response = protocol.createResponse();
+            response.setRequestId(rpcFuture.getRequest().getRequestId());
+            response.setRpcFuture(rpcFuture);
+            response.setResult(StringValue.of(value));
+            rpcFuture.handleResponse(response);
+        }
+
+        @Override
+        protected void initRpcChannel() {
+        }
+
+        @Override
+        protected synchronized <T> RpcFuture<T> sendRequest(Request request, Collection<RpcChannel> excluded) {
+            RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+            RpcChannel selected = endpoints.get(0);
+            for (RpcChannel candidate : endpoints) {
+                if (!excluded.contains(candidate)) {
+                    selected = candidate;
+                    break;
+                }
+            }
+            rpcFuture.setRpcChannel(selected);
+            attempts.add(rpcFuture);
+            excludedPerAttempt.add(new ArrayList<>(excluded));
+            threadPerAttempt.add(Thread.currentThread().getName());
+            notifyAll();
+            return rpcFuture;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author jiangshenjie
+ */
+public class RetryPolicyTest {
+
+    @Test
+    public void testRetriableExceptionTypes() {
+        RetryPolicy retryPolicy = new RetryPolicy();
+        Assert.assertTrue(retryPolicy.isRetriable(new RpcException(RpcExceptionType.NETWORK_EXCEPTION)));
+        Assert.assertTrue(retryPolicy.isRetriable(new RpcException(RpcExceptionType.OVERLOAD_EXCEPTION)));
+        Assert.assertFalse(retryPolicy.isRetriable(new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION)));
+        Assert.assertFalse(retryPolicy.isRetriable(new IllegalStateException()));
+        retryPolicy.getRetriableExceptionTypes().add(RpcExceptionType.TIMEOUT_EXCEPTION);
+        Assert.assertTrue(retryPolicy.isRetriable(new RpcException(RpcExceptionType.TIMEOUT_EXCEPTION)));
+    }
+
+    @Test
+    public void testBackoff() {
+        RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setInitialBackoffMillis(10);
+        retryPolicy.setMaxBackoffMillis(50);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(retryPolicy.getBackoffMillis(1, null) < 10);
+            Assert.assertTrue(retryPolicy.getBackoffMillis(10, null) < 50);
+        }
+        //服务端给出的等待时间优先
+        RpcException overload = new RpcException(RpcExceptionType.OVERLOAD_EXCEPTION).setRetryAfterMillis(200);
+        Assert.assertTrue(retryPolicy.getBackoffMillis(1, overload) >= 200);
+    }
+}
@@ -0,0 +1,218 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.channel.StubRpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class RetryingCallTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger(0);
+
+    @Test
+    public void testRetryOnDifferentEndpoint() throws Exception {
+        StubClient client = new StubClient(new RpcClientOptions()
+                , network(), null);
+        try {
+            RpcFuture<StringValue> result = client.call(10000, new RetryPolicy());
+            Assert.assertEquals("ok", result.get(1, TimeUnit.SECONDS).getValue());
+            Assert.assertEquals(2, client.attempts.size());
+            Assert.assertSame(client.endpoints.get(0), client.attempts.get(0).getRpcChannel());
+            //失败的节点在重试时被避开
+            Assert.assertEquals(Arrays.asList(client.endpoints.get(0)), client.excludedPerAttempt.get(1));
+            Assert.assertSame(client.endpoints.get(1), client.attempts.get(1).getRpcChannel());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testNotRetryWriteTimeoutOfSentRequest() throws Exception {
+        StubClient client = new StubClient(new RpcClientOptions()
+                , new RpcException("Write rpc request timeout, request may have been sent."
+                , RpcExceptionType.TIMEOUT_EXCEPTION.getCode()), null);
+        try {
+            RpcFuture<StringValue> result = client.call(10000, new RetryPolicy());
+            assertFailedWith(result, RpcExceptionType.TIMEOUT_EXCEPTION);
+            Assert.assertEquals(1, client.attempts.size());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testRetryBudgetExhausted() throws Exception {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setRetryBudgetPercent(0);
+        clientOptions.setRetryBudgetMaxTokens(1);
+        StubClient client = new StubClient(clientOptions, network(), network(), network(), network());
+        try {
+            RetryPolicy retryPolicy = new RetryPolicy();
+            retryPolicy.setMaxAttempts(3);
+            retryPolicy.setInitialBackoffMillis(1);
+            assertFailedWith(client.call(10000, retryPolicy), RpcExceptionType.NETWORK_EXCEPTION);
+            //唯一的令牌被第一次调用的重试用掉，第二次调用不再重试
+            Assert.assertEquals(2, client.attempts.size());
+            assertFailedWith(client.call(10000, retryPolicy), RpcExceptionType.NETWORK_EXCEPTION);
+            Assert.assertEquals(3, client.attempts.size());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testGiveUpBeforeDeadline() throws Exception {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setRetryBudgetMaxTokens(1000);
+        StubClient client = new StubClient(clientOptions, network());
+        try {
+            RetryPolicy retryPolicy = new RetryPolicy();
+            retryPolicy.setMaxAttempts(1000);
+            retryPolicy.setInitialBackoffMillis(50);
+            retryPolicy.setMaxBackoffMillis(50);
+            long start = System.currentTimeMillis();
+            RpcFuture<StringValue> result = client.call(300, retryPolicy);
+            //退避会越过截止时间时放弃，以最后一次尝试的异常结束，而不是超时
+            assertFailedWith(result, RpcExceptionType.NETWORK_EXCEPTION);
+            Assert.assertTrue(System.currentTimeMillis() - start < 300);
+            Assert.assertTrue(client.attempts.size() > 1);
+            Assert.assertTrue(client.attempts.size() < 1000);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testWriteTimeoutOfChunkedRequestExecutedOnce() throws Exception {
+        RpcServer rpcServer = RpcTestFixture.startServer(new CountingServiceImpl(), CountingService.class);
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        //大请求分片写出，写入必然超过1ms
+        clientOptions.setWriteTimeoutMillis(1);
+        clientOptions.getOrCreateMethodOptions("count").setRetryPolicy(new RetryPolicy());
+        RpcClient rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions);
+        INVOCATIONS.set(0);
+        try {
+            RpcClient.getProxy(rpcClient, CountingService.class);
+            char[] payload = new char[8 * 1024 * 1024];
+            Arrays.fill(payload, 'a');
+            Request request = rpcClient.buildRequest(CountingService.class.getMethod("count", StringValue.class)
+                    , null, new Object[]{StringValue.of(new String(payload))});
+            RpcFuture<StringValue> rpcFuture = rpcClient.sendRequest(request);
+            Exception exception = null;
+            try {
+                rpcFuture.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                exception = (Exception) e.getCause();
+            }
+            Thread.sleep(1000);
+            //已开始写出的请求超时后不按网络异常重试，服务端最多执行一次
+            Assert.assertTrue(INVOCATIONS.get() <= 1);
+            if (exception != null && ((RpcException) exception).getCode()
+                    == RpcExceptionType.TIMEOUT_EXCEPTION.getCode()) {
+                Assert.assertEquals(1, INVOCATIONS.get());
+            }
+        } finally {
+            RpcTestFixture.shutdown(rpcClient, rpcServer);
+        }
+    }
+
+    private static RpcException network() {
+        return new RpcException("Write rpc request failed.", RpcExceptionType.NETWORK_EXCEPTION.getCode());
+    }
+
+    private static void assertFailedWith(RpcFuture<?> result, RpcExceptionType type) throws Exception {
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            Assert.fail("Exception expected.");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(type.getCode(), ((RpcException) e.getCause()).getCode());
+        }
+    }
+
+    public interface CountingService {
+        StringValue count(StringValue request);
+    }
+
+    public static class CountingServiceImpl implements CountingService {
+        @Override
+        public StringValue count(StringValue request) {
+            INVOCATIONS.incrementAndGet();
+            return StringValue.of("ok");
+        }
+    }
+
+    /**
+     * 不建立连接，按脚本依次以给定的异常结束每次尝试，null表示成功，脚本用完后重复最后一项
+     */
+    private static class StubClient extends RpcClient {
+        private final List<RpcChannel> endpoints = Arrays.asList(
+                new StubRpcChannel(new Endpoint("127.0.0.1", 1))
+                , new StubRpcChannel(new Endpoint("127.0.0.1", 2)));
+        private final List<Exception> outcomes;
+        private final List<RpcFuture<?>> attempts = new ArrayList<>();
+        private final List<List<RpcChannel>> excludedPerAttempt = new ArrayList<>();
+
+        private StubClient(RpcClientOptions clientOptions, Exception... outcomes) {
+            super(new Endpoint("127.0.0.1", 1), clientOptions);
+            this.outcomes = Arrays.asList(outcomes);
+        }
+
+        private RpcFuture<StringValue> call(int taskTimeoutMillis, RetryPolicy retryPolicy) {
+            Request request = protocol.createRequest()
+                    .setRequestId(attempts.size() * 100L)
+                    .setMethodName("count")
+                    .setTaskTimeoutMills(taskTimeoutMillis);
+            getRetryBudget().deposit();
+            return new RetryingCall<StringValue>(this, request, retryPolicy).start();
+        }
+
+        @Override
+        protected void initRpcChannel() {
+        }
+
+        @Override
+        protected synchronized <T> RpcFuture<T> sendRequest(Request request, Collection<RpcChannel> excluded) {
+            RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+            RpcChannel selected = endpoints.get(0);
+            for (RpcChannel candidate : endpoints) {
+                if (!excluded.contains(candidate)) {
+                    selected = candidate;
+                    break;
+                }
+            }
+            rpcFuture.setRpcChannel(selected);
+            Exception outcome = outcomes.get(Math.min(attempts.size(), outcomes.size() - 1));
+            attempts.add(rpcFuture);
+            excludedPerAttempt.add(new ArrayList<>(excluded));
+            Response response = protocol.createResponse();
+            response.setRequestId(request.getRequestId());
+            response.setRpcFuture(rpcFuture);
+            if (outcome == null) {
+                response.setResult(StringValue.of("ok"));
+            } else {
+                response.setException(outcome);
+            }
+            rpcFuture.handleResponse(response);
+            return rpcFuture;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcBatchTest {
+    private static RpcServer rpcServer;
+    private static RpcClient rpcClient;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        rpcServer = RpcTestFixture.startServer(new BatchEchoServiceImpl(), BatchEchoService.class);
+        rpcClient = RpcTestFixture.newClient(rpcServer);
+        RpcClient.getProxy(rpcClient, BatchEchoService.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Test
+    public void testMixedSuccessAndFailure() throws Exception {
+        RpcBatch batch = rpcClient.newBatch();
+        RpcFuture<StringValue> f1 = batch.add("echo", StringValue.of("a"));
+        RpcFuture<StringValue> f2 = batch.add("echo", StringValue.of("bad"));
+        RpcFuture<StringValue> f3 = batch.add("upper", StringValue.of("c"));
+        List<Response> responses = batch.send().get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(3, responses.size());
+        Assert.assertEquals("echo a", f1.get().getValue());
+        Assert.assertEquals("C", f3.get().getValue());
+        try {
+            f2.get();
+            Assert.fail("Exception expected.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RpcException);
+        }
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        RpcBatch batch = rpcClient.newBatch();
+        Assert.assertEquals(0, batch.size());
+        Assert.assertTrue(batch.send().get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    @Test
+    public void testResultOrderMatchesRequestOrder() throws Exception {
+        int size = 20;
+        RpcBatch batch = rpcClient.newBatch();
+        List<RpcFuture<StringValue>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            //排在后面的请求先执行完
+            futures.add(batch.add("echo", StringValue.of(String.valueOf(size - i))));
+        }
+        List<Response> responses = batch.send().get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(size, responses.size());
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(futures.get(i).getRequest().getRequestId(), responses.get(i).getRequestId());
+            Assert.assertEquals("echo " + (size - i), ((StringValue) responses.get(i).getResult()).getValue());
+            Assert.assertEquals("echo " + (size - i), futures.get(i).get().getValue());
+        }
+    }
+
+    @Test
+    public void testRejectStreamingMethod() throws Exception {
+        try {
+            rpcClient.newBatch().add("count", StringValue.of("a"));
+            Assert.fail("RpcCallException expected.");
+        } catch (RpcCallException e) {
+            //流式方法不能加入批量调用
+        }
+        //绕过客户端检查，服务端以错误应答流式方法，其余请求正常返回
+        Request echo = rpcClient.buildRequest(BatchEchoService.class.getMethod("echo", StringValue.class)
+                , null, new Object[]{StringValue.of("a")});
+        Request count = rpcClient.buildRequest(BatchEchoService.class.getMethod("count", StringValue.class
+                , StreamObserver.class), null, new Object[]{StringValue.of("a")});
+        RpcFuture<StringValue> echoFuture = RpcFuture.createRpcFuture(echo);
+        RpcFuture<StringValue> countFuture = RpcFuture.createRpcFuture(count);
+        List<Response> responses = rpcClient.sendBatch(Arrays.asList(echo, count)
+                , Arrays.asList(echoFuture, countFuture)).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(2, responses.size());
+        Assert.assertEquals("echo a", echoFuture.get().getValue());
+        try {
+            countFuture.get();
+            Assert.fail("Exception expected.");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(RpcExceptionType.REQUEST_EXCEPTION.getCode()
+                    , ((RpcException) e.getCause()).getCode());
+        }
+    }
+
+    public interface BatchEchoService {
+        StringValue echo(StringValue request);
+
+        StringValue upper(StringValue request);
+
+        void count(StringValue request, StreamObserver<StringValue> observer);
+    }
+
+    public static class BatchEchoServiceImpl implements BatchEchoService {
+        @Override
+        public StringValue echo(StringValue request) {
+            if ("bad".equals(request.getValue())) {
+                throw new IllegalArgumentException("bad value");
+            }
+            try {
+                //数值作为耗时(ms)
+                Thread.sleep(Long.parseLong(request.getValue().replaceAll("\\D", "0")) * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return StringValue.of("echo " + request.getValue());
+        }
+
+        @Override
+        public StringValue upper(StringValue request) {
+            return StringValue.of(request.getValue().toUpperCase());
+        }
+
+        @Override
+        public void count(StringValue request, StreamObserver<StringValue> observer) {
+            observer.onNext(request);
+            observer.onCompleted();
+        }
+    }
+}
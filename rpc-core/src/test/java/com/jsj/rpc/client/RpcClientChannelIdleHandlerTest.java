@@ -0,0 +1,76 @@
+package com.jsj.rpc.client;
+
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcClientChannelIdleHandlerTest {
+    private static final long PING_TIMEOUT_MILLIS = 50L;
+
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new RpcClientChannelIdleHandler(PING_TIMEOUT_MILLIS));
+    }
+
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testWriterIdleSendsHeartbeat() {
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.WRITER_IDLE_STATE_EVENT);
+        assertPingSent();
+        Assert.assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void testReaderIdleProbesBeforeClosing() throws Exception {
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        //读空闲不直接关闭，先发送探测
+        assertPingSent();
+        Assert.assertTrue(channel.isOpen());
+        //探测期间再次读空闲不重复发送
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        Assert.assertNull(channel.readOutbound());
+        Thread.sleep(PING_TIMEOUT_MILLIS * 2);
+        channel.runScheduledPendingTasks();
+        Assert.assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testReaderIdleKeptOpenWhenAnswered() throws Exception {
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        assertPingSent();
+        Packet pong = new Packet(PacketType.PONG, Unpooled.buffer(8).writeLong(0L));
+        channel.writeInbound(pong);
+        Packet received = channel.readInbound();
+        Assert.assertSame(pong, received);
+        received.release();
+        Thread.sleep(PING_TIMEOUT_MILLIS * 2);
+        channel.runScheduledPendingTasks();
+        Assert.assertTrue(channel.isOpen());
+
+        //应答后再次读空闲，重新探测
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        assertPingSent();
+    }
+
+    private void assertPingSent() {
+        Packet ping = channel.readOutbound();
+        Assert.assertNotNull(ping);
+        Assert.assertEquals(PacketType.PING, ping.getType());
+        ping.release();
+    }
+}
@@ -0,0 +1,131 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcClientCoalesceTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger(0);
+    private static RpcServer rpcServer;
+    private static RpcClient rpcClient;
+    private static EchoServiceAsync echoService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        rpcServer = RpcTestFixture.startServer(new SlowEchoService(), EchoService.class);
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.getOrCreateMethodOptions("echo").setCoalesceEnabled(true);
+        rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions);
+        echoService = RpcClient.getProxy(rpcClient, EchoServiceAsync.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Before
+    public void resetInvocations() {
+        INVOCATIONS.set(0);
+    }
+
+    @Test
+    public void testCoalesceIdenticalCalls() throws Exception {
+        List<RpcFuture<StringValue>> futures = send("a", 10);
+        for (RpcFuture<StringValue> future : futures) {
+            Assert.assertEquals("echo a", future.get().getValue());
+        }
+        Assert.assertEquals(1, INVOCATIONS.get());
+        Assert.assertTrue(rpcClient.getCoalescedCalls().get("echo").isEmpty());
+
+        //共用的请求完成后，新的调用发出新的请求
+        Assert.assertEquals("echo a", send("a", 1).get(0).get().getValue());
+        Assert.assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testNotCoalesceDifferentParams() throws Exception {
+        List<RpcFuture<StringValue>> futures = new ArrayList<>();
+        futures.addAll(send("a", 3));
+        futures.addAll(send("b", 3));
+        for (int i = 0; i < futures.size(); i++) {
+            Assert.assertEquals(i < 3 ? "echo a" : "echo b", futures.get(i).get().getValue());
+        }
+        Assert.assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testErrorPropagatesToFollowers() throws Exception {
+        List<RpcFuture<StringValue>> futures = send("bad", 5);
+        String message = null;
+        for (RpcFuture<StringValue> future : futures) {
+            try {
+                future.get();
+                Assert.fail("Exception expected.");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RpcException);
+                if (message == null) {
+                    message = e.getCause().getMessage();
+                }
+                Assert.assertEquals(message, e.getCause().getMessage());
+            }
+        }
+        Assert.assertEquals(1, INVOCATIONS.get());
+    }
+
+    private static List<RpcFuture<StringValue>> send(String value, int times) {
+        List<RpcFuture<StringValue>> futures = new ArrayList<>(times);
+        for (int i = 0; i < times; i++) {
+            futures.add(echoService.echo(StringValue.of(value), new RpcCallback<StringValue>() {
+                @Override
+                public void handleResult(StringValue result) {
+                }
+
+                @Override
+                public void handleException(Exception e) {
+                }
+            }));
+        }
+        return futures;
+    }
+
+    public interface EchoService {
+        StringValue echo(StringValue request);
+    }
+
+    public interface EchoServiceAsync extends EchoService {
+        RpcFuture<StringValue> echo(StringValue request, RpcCallback<StringValue> callback);
+    }
+
+    public static class SlowEchoService implements EchoService {
+        @Override
+        public StringValue echo(StringValue request) {
+            INVOCATIONS.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if ("bad".equals(request.getValue())) {
+                throw new IllegalArgumentException("bad value");
+            }
+            return StringValue.of("echo " + request.getValue());
+        }
+    }
+}
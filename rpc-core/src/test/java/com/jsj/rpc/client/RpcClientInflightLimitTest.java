@@ -0,0 +1,125 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.limiter.InflightLimitMode;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.protocol.Response;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcClientInflightLimitTest {
+    private StubClient client;
+
+    @Before
+    public void setUp() {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setMaxInflightRequests(1);
+        clientOptions.setInflightLimitMode(InflightLimitMode.ASYNC);
+        client = new StubClient(clientOptions);
+    }
+
+    @After
+    public void tearDown() {
+        client.sendBlocker.countDown();
+        client.shutdown();
+    }
+
+    @Test
+    public void testAsyncModeDispatchesOnWorkerThread() throws Exception {
+        //发送阻塞(如等待建立连接)时，调用线程不受影响
+        long start = System.currentTimeMillis();
+        RpcFuture<StringValue> first = client.sendRequest(client.newRequest());
+        RpcFuture<StringValue> second = client.sendRequest(client.newRequest());
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+        Assert.assertFalse(first.isDone());
+
+        client.sendBlocker.countDown();
+        client.awaitAttempts(1);
+        client.complete(0, "first");
+        Assert.assertEquals("first", first.get(1, TimeUnit.SECONDS).getValue());
+        //许可转交给排队的请求，同样在worker线程中发送
+        client.awaitAttempts(2);
+        client.complete(1, "second");
+        Assert.assertEquals("second", second.get(1, TimeUnit.SECONDS).getValue());
+        for (String thread : client.threadPerAttempt) {
+            Assert.assertTrue(thread, thread.startsWith("rpc-client-work-thread"));
+        }
+    }
+
+    /**
+     * 不建立连接，发送时阻塞到sendBlocker放行，之后返回未完成的future，由测试决定何时完成
+     */
+    private static class StubClient extends RpcClient {
+        private final CountDownLatch sendBlocker = new CountDownLatch(1);
+        private final List<RpcFuture<?>> attempts = new ArrayList<>();
+        private final List<String> threadPerAttempt = new ArrayList<>();
+        private long nextRequestId = 0L;
+
+        private StubClient(RpcClientOptions clientOptions) {
+            super(new Endpoint("127.0.0.1", 1), clientOptions);
+        }
+
+        private Request newRequest() {
+            return protocol.createRequest()
+                    .setRequestId(nextRequestId++)
+                    .setMethodName("echo")
+                    .setTaskTimeoutMills(5000);
+        }
+
+        private void awaitAttempts(int n) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000L;
+            synchronized (this) {
+                while (attempts.size() < n && System.currentTimeMillis() < deadline) {
+                    wait(10L);
+                }
+                Assert.assertEquals(n, attempts.size());
+            }
+        }
+
+        private void complete(int attempt, String value) {
+            RpcFuture<?> rpcFuture;
+            synchronized (this) {
+                rpcFuture = attempts.get(attempt);
+            }
+            Response response = protocol.createResponse();
+            response.setRequestId(rpcFuture.getRequest().getRequestId());
+            response.setRpcFuture(rpcFuture);
+            response.setResult(StringValue.of(value));
+            rpcFuture.handleResponse(response);
+        }
+
+        @Override
+        protected void initRpcChannel() {
+        }
+
+        @Override
+        protected <T> RpcFuture<T> sendRequest(Request request, Collection<RpcChannel> excluded) {
+            try {
+                sendBlocker.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            RpcFuture<T> rpcFuture = RpcFuture.createRpcFuture(request);
+            synchronized (this) {
+                attempts.add(rpcFuture);
+                threadPerAttempt.add(Thread.currentThread().getName());
+                notifyAll();
+            }
+            return rpcFuture;
+        }
+    }
+}
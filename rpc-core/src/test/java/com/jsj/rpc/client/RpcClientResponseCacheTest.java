@@ -0,0 +1,175 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.client.cache.ResponseCacheOptions;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcClientResponseCacheTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger(0);
+    private static RpcServer rpcServer;
+    private static RpcClient rpcClient;
+    private static EchoServiceAsync echoService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        rpcServer = RpcTestFixture.startServer(new SlowEchoService(), EchoService.class);
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        ResponseCacheOptions longTtl = new ResponseCacheOptions();
+        longTtl.setTtlMillis(60 * 1000L);
+        RpcMethodOptions echoOptions = clientOptions.getOrCreateMethodOptions("echo");
+        echoOptions.setResponseCacheOptions(longTtl);
+        echoOptions.setCoalesceEnabled(true);
+        ResponseCacheOptions shortTtl = new ResponseCacheOptions();
+        shortTtl.setTtlMillis(100L);
+        clientOptions.getOrCreateMethodOptions("echoShortTtl").setResponseCacheOptions(shortTtl);
+        clientOptions.getOrCreateMethodOptions("length").setResponseCacheOptions(longTtl);
+        rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions);
+        echoService = RpcClient.getProxy(rpcClient, EchoServiceAsync.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Before
+    public void resetInvocations() {
+        INVOCATIONS.set(0);
+    }
+
+    @Test
+    public void testHitSkipsNetworkAndInvokesCallback() throws Exception {
+        List<String> results = new CopyOnWriteArrayList<>();
+        Assert.assertEquals("echo hit", echoService.echo(StringValue.of("hit"), collect(results))
+                .get(1, TimeUnit.SECONDS).getValue());
+        RpcFuture<StringValue> cached = echoService.echo(StringValue.of("hit"), collect(results));
+        //命中时不发出请求，返回已完成的future，回调同样被调用
+        Assert.assertTrue(cached.isDone());
+        Assert.assertEquals("echo hit", cached.get().getValue());
+        Assert.assertEquals(1, INVOCATIONS.get());
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("echo hit", results.get(1));
+    }
+
+    @Test
+    public void testFailureNotCached() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try {
+                echoService.echo(StringValue.of("bad"), collect(new ArrayList<>())).get(1, TimeUnit.SECONDS);
+                Assert.fail("Exception expected.");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RpcException);
+            }
+        }
+        Assert.assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testTtlExpiry() throws Exception {
+        Assert.assertEquals("echo ttl", echoService.echoShortTtl(StringValue.of("ttl")).getValue());
+        Assert.assertEquals("echo ttl", echoService.echoShortTtl(StringValue.of("ttl")).getValue());
+        Assert.assertEquals(1, INVOCATIONS.get());
+        Thread.sleep(200L);
+        Assert.assertEquals("echo ttl", echoService.echoShortTtl(StringValue.of("ttl")).getValue());
+        Assert.assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testCoalescedMissFillsCache() throws Exception {
+        List<RpcFuture<StringValue>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(echoService.echo(StringValue.of("coalesce"), collect(new ArrayList<>())));
+        }
+        for (RpcFuture<StringValue> future : futures) {
+            Assert.assertEquals("echo coalesce", future.get(1, TimeUnit.SECONDS).getValue());
+        }
+        //并发未命中合并为一个请求，其结果写入缓存
+        Assert.assertEquals(1, INVOCATIONS.get());
+        Assert.assertTrue(echoService.echo(StringValue.of("coalesce"), collect(new ArrayList<>())).isDone());
+        Assert.assertEquals(1, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testRejectNonMessageReturnType() throws Exception {
+        try {
+            rpcClient.sendRequest(rpcClient.buildRequest(EchoService.class.getMethod("length", StringValue.class)
+                    , null, new Object[]{StringValue.of("a")}));
+            Assert.fail("RpcCallException expected.");
+        } catch (RpcCallException e) {
+            Assert.assertEquals(0, INVOCATIONS.get());
+        }
+    }
+
+    private static RpcCallback<StringValue> collect(List<String> results) {
+        return new RpcCallback<StringValue>() {
+            @Override
+            public void handleResult(StringValue result) {
+                results.add(result.getValue());
+            }
+
+            @Override
+            public void handleException(Exception e) {
+            }
+        };
+    }
+
+    public interface EchoService {
+        StringValue echo(StringValue request);
+
+        StringValue echoShortTtl(StringValue request);
+
+        Integer length(StringValue request);
+    }
+
+    public interface EchoServiceAsync extends EchoService {
+        RpcFuture<StringValue> echo(StringValue request, RpcCallback<StringValue> callback);
+    }
+
+    public static class SlowEchoService implements EchoService {
+        @Override
+        public StringValue echo(StringValue request) {
+            INVOCATIONS.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if ("bad".equals(request.getValue())) {
+                throw new IllegalArgumentException("bad value");
+            }
+            return StringValue.of("echo " + request.getValue());
+        }
+
+        @Override
+        public StringValue echoShortTtl(StringValue request) {
+            INVOCATIONS.incrementAndGet();
+            return StringValue.of("echo " + request.getValue());
+        }
+
+        @Override
+        public Integer length(StringValue request) {
+            INVOCATIONS.incrementAndGet();
+            return request.getValue().length();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.jsj.rpc.client;
+
+import com.google.protobuf.Int32Value;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.StreamObserver;
+import com.jsj.rpc.exception.RpcCallException;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.server.RpcServer;
+import com.jsj.rpc.server.RpcServerOptions;
+import com.jsj.rpc.server.cache.ResultCacheOptions;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author jiangshenjie
+ */
+public class ServerStreamingCallTest {
+    private static final int WINDOW_SIZE = 8;
+    private static final AtomicInteger EMITTED = new AtomicInteger(0);
+    /**
+     * 服务方法结束的方式：completed或aborted
+     */
+    private static final BlockingQueue<String> SERVER_ENDS = new LinkedBlockingQueue<>();
+    private static RpcServer rpcServer;
+    private static RpcClient rpcClient;
+    private static CountService countService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        RpcServerOptions serverOptions = RpcTestFixture.serverOptions();
+        serverOptions.setWorkerThreadNumber(8);
+        //流式方法配置了结果缓存也不应使用
+        serverOptions.getResultCacheOptions().put(CountService.class.getName() + ".count", new ResultCacheOptions());
+        rpcServer = RpcTestFixture.startServer(serverOptions, new CountServiceImpl(), CountService.class);
+        rpcClient = RpcTestFixture.newClient(rpcServer, clientOptions(10000));
+        countService = RpcClient.getProxy(rpcClient, CountService.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Before
+    public void reset() {
+        EMITTED.set(0);
+        SERVER_ENDS.clear();
+    }
+
+    @Test
+    public void testCreditWindowBoundsSlowConsumer() throws Exception {
+        RpcStream<Int32Value> stream = new RpcStream<>();
+        countService.count(Int32Value.of(100), stream);
+        Thread.sleep(300);
+        //未消费时服务端最多发出一个窗口的消息
+        Assert.assertEquals(WINDOW_SIZE, EMITTED.get());
+        int received = 0;
+        while (stream.hasNext()) {
+            Assert.assertEquals(received++, stream.next().getValue());
+            Assert.assertTrue(EMITTED.get() - received <= WINDOW_SIZE);
+        }
+        Assert.assertEquals(100, received);
+        Assert.assertEquals("completed", SERVER_ENDS.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelStopsServer() throws Exception {
+        RpcStream<Int32Value> stream = new RpcStream<>();
+        countService.count(Int32Value.of(Integer.MAX_VALUE), stream);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, stream.next().getValue());
+        }
+        stream.cancel();
+        Assert.assertEquals("aborted", SERVER_ENDS.poll(2, TimeUnit.SECONDS));
+        int emitted = EMITTED.get();
+        Thread.sleep(100);
+        Assert.assertEquals(emitted, EMITTED.get());
+    }
+
+    @Test
+    public void testDeadlineExpiry() throws Exception {
+        RpcClient shortClient = RpcTestFixture.newClient(rpcServer, clientOptions(300));
+        try {
+            CountService service = RpcClient.getProxy(shortClient, CountService.class);
+            RpcStream<Int32Value> stream = new RpcStream<>();
+            long start = System.currentTimeMillis();
+            service.count(Int32Value.of(Integer.MAX_VALUE), stream);
+            //不消费消息，服务端阻塞在额度上直到调用超时
+            Assert.assertEquals("aborted", SERVER_ENDS.poll(2, TimeUnit.SECONDS));
+            Assert.assertTrue(System.currentTimeMillis() - start >= 300);
+            try {
+                while (stream.hasNext()) {
+                    stream.next();
+                }
+                Assert.fail("Exception expected.");
+            } catch (RpcCallException e) {
+                Assert.assertNotNull(stream.getError());
+            }
+        } finally {
+            shortClient.shutdown();
+        }
+    }
+
+    @Test
+    public void testConnectionLoss() throws Exception {
+        Request request = rpcClient.buildRequest(CountService.class.getMethod("count", Int32Value.class
+                , StreamObserver.class), null, new Object[]{Int32Value.of(Integer.MAX_VALUE)});
+        CountDownLatch firstMessage = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        RpcFuture<Void> rpcFuture = rpcClient.sendStreamingRequest(request, new StreamObserver<Int32Value>() {
+            @Override
+            public void onNext(Int32Value message) {
+                firstMessage.countDown();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                closed.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                closed.countDown();
+            }
+        });
+        Assert.assertTrue(firstMessage.await(2, TimeUnit.SECONDS));
+        rpcFuture.getChannelInfo().getChannel().close();
+        Assert.assertTrue(closed.await(2, TimeUnit.SECONDS));
+        Assert.assertNotNull(error.get());
+        Assert.assertEquals("aborted", SERVER_ENDS.poll(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIdenticalStreamsNotCached() throws Exception {
+        RpcStream<Int32Value> first = new RpcStream<>();
+        RpcStream<Int32Value> second = new RpcStream<>();
+        countService.count(Int32Value.of(3), first);
+        countService.count(Int32Value.of(3), second);
+        for (RpcStream<Int32Value> stream : new RpcStream[]{first, second}) {
+            int received = 0;
+            while (stream.hasNext()) {
+                Assert.assertEquals(received++, stream.next().getValue());
+            }
+            Assert.assertEquals(3, received);
+        }
+    }
+
+    private static RpcClientOptions clientOptions(int taskTimeoutMillis) {
+        RpcClientOptions clientOptions = new RpcClientOptions();
+        clientOptions.setStreamWindowSize(WINDOW_SIZE);
+        clientOptions.setRpcTaskTimeoutMillis(taskTimeoutMillis);
+        return clientOptions;
+    }
+
+    public interface CountService {
+        void count(Int32Value n, StreamObserver<Int32Value> observer);
+    }
+
+    public static class CountServiceImpl implements CountService {
+        @Override
+        public void count(Int32Value n, StreamObserver<Int32Value> observer) {
+            try {
+                for (int i = 0; i < n.getValue(); i++) {
+                    observer.onNext(Int32Value.of(i));
+                    EMITTED.incrementAndGet();
+                }
+                observer.onCompleted();
+                SERVER_ENDS.add("completed");
+            } catch (RuntimeException e) {
+                SERVER_ENDS.add("aborted");
+            }
+        }
+    }
+}
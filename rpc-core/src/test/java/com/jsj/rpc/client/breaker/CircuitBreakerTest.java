@@ -0,0 +1,141 @@
+package com.jsj.rpc.client.breaker;
+
+import com.jsj.rpc.client.instance.Endpoint;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author jiangshenjie
+ */
+public class CircuitBreakerTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private CircuitBreakerConfig config;
+
+    @Before
+    public void setUp() {
+        config = new CircuitBreakerConfig();
+        config.setMinimumCalls(10);
+        config.setErrorRateThresholdPercent(50);
+        config.setSlowCallRateThresholdPercent(80);
+        config.setSlowCallDurationMillis(100);
+        config.setOpenDurationMillis(50);
+        config.setHalfOpenPermittedCalls(2);
+    }
+
+    private CircuitBreaker create() {
+        return new CircuitBreaker(new Endpoint("127.0.0.1", 8000), "sayHello", config);
+    }
+
+    @Test
+    public void testOpenOnErrorRate() {
+        CircuitBreaker breaker = create();
+        for (int i = 0; i < 9; i++) {
+            call(breaker, FAST, true);
+        }
+        //未达到最小调用数，不熔断
+        Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        call(breaker, FAST, false);
+        Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        Assert.assertNull(breaker.tryAcquirePermission());
+        Assert.assertEquals(1L, breaker.getMetrics().getRejectedCalls());
+    }
+
+    @Test
+    public void testOpenOnSlowCallRate() {
+        CircuitBreaker breaker = create();
+        for (int i = 0; i < 8; i++) {
+            call(breaker, SLOW, false);
+        }
+        call(breaker, FAST, false);
+        Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        call(breaker, FAST, false);
+        Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenTransitions() throws InterruptedException {
+        CircuitBreaker breaker = create();
+        for (int i = 0; i < 10; i++) {
+            call(breaker, FAST, true);
+        }
+        Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        Thread.sleep(60);
+        //半开状态只放行有限的探测请求，探测失败则重新熔断
+        CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+        Assert.assertEquals(CircuitBreakerState.HALF_OPEN, probe.getState());
+        Assert.assertNotNull(breaker.tryAcquirePermission());
+        Assert.assertNull(breaker.tryAcquirePermission());
+        Assert.assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        breaker.onComplete(probe, FAST, true);
+        Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        CircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        CircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        breaker.onComplete(first, FAST, false);
+        breaker.onComplete(second, FAST, false);
+        Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        Assert.assertEquals(0, breaker.getMetrics().getBufferedCalls());
+        Assert.assertEquals(2L, breaker.getMetrics().getOpenedCount());
+    }
+
+    @Test
+    public void testBacklogDoesNotDecideHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = create();
+        List<CircuitBreaker.Permit> backlog = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            backlog.add(breaker.tryAcquirePermission());
+        }
+        for (int i = 0; i < 10; i++) {
+            breaker.onComplete(backlog.get(i), FAST, true);
+        }
+        Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        Thread.sleep(60);
+        CircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        CircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        //熔断前发出的请求在半开期间超时，不影响探测结果
+        for (int i = 10; i < 20; i++) {
+            breaker.onComplete(backlog.get(i), SLOW, true);
+        }
+        Assert.assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        breaker.onComplete(first, FAST, false);
+        breaker.onComplete(second, FAST, false);
+        Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testCancelledBacklogDoesNotAddProbes() throws InterruptedException {
+        CircuitBreaker breaker = create();
+        List<CircuitBreaker.Permit> backlog = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            backlog.add(breaker.tryAcquirePermission());
+        }
+        for (int i = 0; i < 10; i++) {
+            breaker.onComplete(backlog.get(i), FAST, true);
+        }
+        Thread.sleep(60);
+        CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+        for (int i = 10; i < 20; i++) {
+            breaker.onCancelled(backlog.get(i));
+        }
+        Assert.assertNotNull(breaker.tryAcquirePermission());
+        Assert.assertNull(breaker.tryAcquirePermission());
+        //取消的探测请求归还名额
+        breaker.onCancelled(probe);
+        Assert.assertNotNull(breaker.tryAcquirePermission());
+        Assert.assertNull(breaker.tryAcquirePermission());
+    }
+
+    private static void call(CircuitBreaker breaker, long latencyNanos, boolean failed) {
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        Assert.assertNotNull(permit);
+        breaker.onComplete(permit, latencyNanos, failed);
+    }
+}
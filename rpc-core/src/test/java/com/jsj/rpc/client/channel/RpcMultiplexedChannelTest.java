@@ -0,0 +1,144 @@
+package com.jsj.rpc.client.channel;
+
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.instance.Endpoint;
+import io.netty.channel.Channel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 在真实连接上验证连接预热、断开重连与重连退避
+ *
+ * @author jiangshenjie
+ */
+public class RpcMultiplexedChannelTest {
+    private Acceptor acceptor;
+    private RpcClient rpcClient;
+
+    @After
+    public void tearDown() throws Exception {
+        if (rpcClient != null) {
+            rpcClient.shutdown();
+        }
+        if (acceptor != null) {
+            acceptor.close();
+        }
+    }
+
+    @Test
+    public void testWarmUpInBackground() throws Exception {
+        acceptor = new Acceptor(false);
+        RpcClientOptions options = new RpcClientOptions();
+        options.setMaxChannelNumber(3);
+        long start = System.currentTimeMillis();
+        rpcClient = new RpcClient(new Endpoint("127.0.0.1", acceptor.getPort()), options);
+        //构造时不等待连接建立
+        Assert.assertTrue(System.currentTimeMillis() - start < options.getConnectTimeoutMillis());
+        //未发出任何请求，全部连接已在后台建立
+        Assert.assertTrue(waitFor(() -> acceptor.acceptedAt.size() == 3, 2000L));
+        Assert.assertTrue(waitFor(() -> rpcClient.getRpcChannels().get(0).tryGetChannel() != null, 2000L));
+    }
+
+    @Test
+    public void testReconnectOnChannelInactive() throws Exception {
+        acceptor = new Acceptor(false);
+        RpcClientOptions options = new RpcClientOptions();
+        options.setMaxChannelNumber(1);
+        rpcClient = new RpcClient(new Endpoint("127.0.0.1", acceptor.getPort()), options);
+        RpcChannel rpcChannel = rpcClient.getRpcChannels().get(0);
+        Channel channel = rpcChannel.getChannel();
+        //稳定的连接断开后立即重连
+        Thread.sleep(1100L);
+        channel.close().syncUninterruptibly();
+        Assert.assertTrue(waitFor(() -> {
+            Channel current = rpcChannel.tryGetChannel();
+            return current != null && current != channel;
+        }, 1000L));
+        Assert.assertEquals(2, acceptor.acceptedAt.size());
+    }
+
+    @Test
+    public void testReconnectBackoff() throws Exception {
+        //接受连接后立即关闭，连接每次建立后随即断开
+        acceptor = new Acceptor(true);
+        RpcClientOptions options = new RpcClientOptions();
+        options.setMaxChannelNumber(1);
+        options.setReconnectBaseDelayMillis(100);
+        options.setReconnectMaxDelayMillis(400);
+        rpcClient = new RpcClient(new Endpoint("127.0.0.1", acceptor.getPort()), options);
+        Thread.sleep(1500L);
+        List<Long> acceptedAt = acceptor.acceptedAt;
+        //退避间隔依次落在[50,100]、[100,200]、[200,400]、[200,400]...，1.5秒内至多重连约8次
+        Assert.assertTrue(String.valueOf(acceptedAt.size()), acceptedAt.size() >= 3 && acceptedAt.size() <= 9);
+        long maxGap = 0L;
+        for (int i = 1; i < acceptedAt.size(); i++) {
+            maxGap = Math.max(maxGap, acceptedAt.get(i) - acceptedAt.get(i - 1));
+        }
+        Assert.assertTrue(String.valueOf(maxGap), maxGap >= 180L);
+    }
+
+    private static boolean waitFor(Condition condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.test()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10L);
+        }
+        return true;
+    }
+
+    private interface Condition {
+        boolean test();
+    }
+
+    /**
+     * 只接受连接、从不应答的服务端，记录每次接受连接的时间
+     */
+    private static class Acceptor implements AutoCloseable {
+        private final ServerSocket serverSocket;
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        private final List<Long> acceptedAt = new CopyOnWriteArrayList<>();
+
+        private Acceptor(boolean closeOnAccept) throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread thread = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket socket = serverSocket.accept();
+                        acceptedAt.add(System.currentTimeMillis());
+                        if (closeOnAccept) {
+                            socket.close();
+                        } else {
+                            sockets.add(socket);
+                        }
+                    } catch (IOException e) {
+                        //closed
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}
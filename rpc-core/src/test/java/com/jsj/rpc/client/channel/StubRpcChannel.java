@@ -0,0 +1,77 @@
+package com.jsj.rpc.client.channel;
+
+import com.jsj.rpc.client.breaker.CircuitBreaker;
+import com.jsj.rpc.client.health.EndpointHealth;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.instance.EndpointStats;
+import io.netty.channel.Channel;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 不建立连接的RpcChannel，用于测试负载均衡与健康检查
+ *
+ * @author jiangshenjie
+ */
+public class StubRpcChannel implements RpcChannel {
+    private final Endpoint endpoint;
+    private final EndpointStats stats;
+    private final EndpointHealth health = new EndpointHealth();
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public StubRpcChannel(Endpoint endpoint) {
+        this(endpoint, new EndpointStats());
+    }
+
+    public StubRpcChannel(Endpoint endpoint, EndpointStats stats) {
+        this.endpoint = endpoint;
+        this.stats = stats;
+    }
+
+    @Override
+    public Channel getChannel() {
+        return null;
+    }
+
+    @Override
+    public Channel tryGetChannel() {
+        return null;
+    }
+
+    @Override
+    public void returnChannel(Channel channel) {
+    }
+
+    @Override
+    public void removeChannel(Channel channel) {
+    }
+
+    @Override
+    public void channelWritabilityChanged(Channel channel) {
+    }
+
+    @Override
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public EndpointStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public EndpointHealth getHealth() {
+        return health;
+    }
+
+    @Override
+    public ConcurrentMap<String, CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    @Override
+    public void close() {
+    }
+}
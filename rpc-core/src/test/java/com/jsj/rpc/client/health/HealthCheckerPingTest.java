@@ -0,0 +1,109 @@
+package com.jsj.rpc.client.health;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.server.RpcServer;
+import io.netty.channel.Channel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 在真实连接上验证PING/PONG探测
+ *
+ * @author jiangshenjie
+ */
+public class HealthCheckerPingTest {
+    private ScheduledThreadPoolExecutor scheduler;
+    private RpcClientOptions options;
+    private RpcServer rpcServer;
+    private RpcClient rpcClient;
+
+    @Before
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        options = new RpcClientOptions();
+        options.setPingTimeoutMillis(300);
+    }
+
+    @After
+    public void tearDown() {
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testPingPongRoundTrip() throws Exception {
+        rpcServer = RpcTestFixture.startServer(new EchoServiceImpl(), EchoService.class);
+        rpcClient = RpcTestFixture.newClient(rpcServer);
+        RpcChannel rpcChannel = connect(rpcClient);
+        HealthChecker healthChecker = new HealthChecker(rpcClient::getRpcChannels, options, scheduler);
+        for (int i = 0; i < 3; i++) {
+            healthChecker.ping(rpcChannel).get(1, TimeUnit.SECONDS);
+        }
+        //收到PONG后超时任务随即取消，不在调度队列中堆积
+        Assert.assertEquals(0, scheduler.getQueue().size());
+    }
+
+    @Test
+    public void testPingTimeoutWithoutPong() throws Exception {
+        //只接受连接、从不应答的服务端
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            Thread acceptor = new Thread(() -> {
+                try (Socket ignored = serverSocket.accept()) {
+                    Thread.sleep(5000L);
+                } catch (Exception e) {
+                    //closed
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+            rpcClient = new RpcClient(new Endpoint("127.0.0.1", serverSocket.getLocalPort()), new RpcClientOptions());
+            RpcChannel rpcChannel = connect(rpcClient);
+            HealthChecker healthChecker = new HealthChecker(rpcClient::getRpcChannels, options, scheduler);
+            long start = System.currentTimeMillis();
+            CompletableFuture<Void> ping = healthChecker.ping(rpcChannel);
+            try {
+                ping.get(2, TimeUnit.SECONDS);
+                Assert.fail("Ping timeout expected.");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+            Assert.assertTrue(System.currentTimeMillis() - start >= 300L);
+            acceptor.interrupt();
+        }
+    }
+
+    private static RpcChannel connect(RpcClient rpcClient) throws Exception {
+        RpcChannel rpcChannel = rpcClient.getRpcChannels().get(0);
+        Channel channel = rpcChannel.getChannel();
+        rpcChannel.returnChannel(channel);
+        Assert.assertNotNull(rpcChannel.tryGetChannel());
+        return rpcChannel;
+    }
+
+    public interface EchoService {
+        StringValue echo(StringValue request);
+    }
+
+    public static class EchoServiceImpl implements EchoService {
+        @Override
+        public StringValue echo(StringValue request) {
+            return request;
+        }
+    }
+}
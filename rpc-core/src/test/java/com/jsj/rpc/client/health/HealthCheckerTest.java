@@ -0,0 +1,95 @@
+package com.jsj.rpc.client.health;
+
+import com.jsj.rpc.client.RpcClientOptions;
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.channel.StubRpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * @author jiangshenjie
+ */
+public class HealthCheckerTest {
+    private ScheduledThreadPoolExecutor scheduler;
+    private List<RpcChannel> channels;
+    private RpcClientOptions options;
+    private HealthChecker healthChecker;
+
+    @Before
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        channels = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 8000 + i)));
+        }
+        options = new RpcClientOptions();
+        options.setConsecutiveErrorsToEject(3);
+        options.setMaxEjectionPercent(50);
+        healthChecker = new HealthChecker(() -> channels, options, scheduler);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testEjectOnConsecutiveErrors() {
+        RpcChannel bad = channels.get(0);
+        for (int i = 0; i < 3; i++) {
+            fail(bad);
+        }
+        Assert.assertTrue(bad.getHealth().isEjected());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertFalse(healthChecker.filterAvailable(channels).contains(bad));
+        }
+        //最多剔除一半节点
+        fail(channels.get(1));
+        fail(channels.get(1));
+        fail(channels.get(1));
+        fail(channels.get(2));
+        fail(channels.get(2));
+        fail(channels.get(2));
+        Assert.assertTrue(channels.get(1).getHealth().isEjected());
+        Assert.assertFalse(channels.get(2).getHealth().isEjected());
+    }
+
+    @Test
+    public void testReadmittedEndpointRampsUp() {
+        EndpointHealth health = channels.get(0).getHealth();
+        long now = System.currentTimeMillis();
+        health.eject(now, 1000L, 8000L);
+        health.readmit(now);
+        Assert.assertEquals(0.1D, health.getAdmissionRatio(now, 10000L), 0.001D);
+        Assert.assertEquals(0.55D, health.getAdmissionRatio(now + 5000L, 10000L), 0.001D);
+        Assert.assertEquals(1D, health.getAdmissionRatio(now + 10000L, 10000L), 0.001D);
+        //再次剔除时退避时间翻倍
+        health.eject(now, 1000L, 8000L);
+        Assert.assertFalse(health.isEjectionExpired(now + 1500L));
+        Assert.assertTrue(health.isEjectionExpired(now + 2000L));
+    }
+
+    @Test
+    public void testEjectLatencyOutlier() {
+        for (int i = 0; i < channels.size(); i++) {
+            long latencyMillis = i == 3 ? 200L : 20L;
+            channels.get(i).getStats().onRequestStart();
+            channels.get(i).getStats().onRequestComplete(latencyMillis * 1000_000L, true);
+        }
+        healthChecker.check();
+        Assert.assertTrue(channels.get(3).getHealth().isEjected());
+        Assert.assertFalse(channels.get(0).getHealth().isEjected());
+    }
+
+    private void fail(RpcChannel rpcChannel) {
+        rpcChannel.getHealth().onRequestComplete(false);
+        healthChecker.onRequestComplete(rpcChannel, false);
+    }
+}
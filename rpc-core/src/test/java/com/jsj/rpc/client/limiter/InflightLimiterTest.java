@@ -0,0 +1,100 @@
+package com.jsj.rpc.client.limiter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class InflightLimiterTest {
+
+    @Test
+    public void testTryAcquireAndBlock() throws InterruptedException {
+        InflightLimiter limiter = new InflightLimiter(2, 0, Runnable::run);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.acquire(10));
+        Assert.assertFalse(limiter.tryAcquire());
+        long start = System.currentTimeMillis();
+        Assert.assertFalse(limiter.acquire(50));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 50);
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+            }
+            limiter.release();
+        });
+        releaser.start();
+        Assert.assertTrue(limiter.acquire(1000));
+        Assert.assertEquals(2, limiter.getInflight());
+    }
+
+    @Test
+    public void testAsyncQueueHandOff() {
+        InflightLimiter limiter = new InflightLimiter(1, 2, Runnable::run);
+        AtomicInteger executed = new AtomicInteger(0);
+        AtomicInteger rejected = new AtomicInteger(0);
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        //等待队列已满
+        Assert.assertFalse(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        Assert.assertEquals(1, executed.get());
+        Assert.assertEquals(2, limiter.getPending());
+
+        //许可直接转交给队首任务，未完成数不变
+        limiter.release();
+        Assert.assertEquals(2, executed.get());
+        Assert.assertEquals(1, limiter.getInflight());
+        limiter.release();
+        limiter.release();
+        Assert.assertEquals(3, executed.get());
+        Assert.assertEquals(0, limiter.getInflight());
+        Assert.assertEquals(0, limiter.getPending());
+    }
+
+    @Test
+    public void testRejectedHandOffReleasesPermit() {
+        AtomicBoolean shutdown = new AtomicBoolean(false);
+        Executor executor = task -> {
+            if (shutdown.get()) {
+                throw new RejectedExecutionException("shutdown");
+            }
+            task.run();
+        };
+        InflightLimiter limiter = new InflightLimiter(1, 2, executor);
+        AtomicInteger executed = new AtomicInteger(0);
+        AtomicInteger rejected = new AtomicInteger(0);
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        Assert.assertTrue(limiter.acquireAsync(executed::incrementAndGet, e -> rejected.incrementAndGet()));
+        shutdown.set(true);
+
+        //排队的任务全部被拒绝并收到通知，许可归还
+        limiter.release();
+        Assert.assertEquals(1, executed.get());
+        Assert.assertEquals(2, rejected.get());
+        Assert.assertEquals(0, limiter.getInflight());
+        Assert.assertEquals(0, limiter.getPending());
+        Assert.assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testRejectedImmediateTaskReleasesPermit() {
+        InflightLimiter limiter = new InflightLimiter(1, 2, task -> {
+            throw new RejectedExecutionException("shutdown");
+        });
+        AtomicInteger rejected = new AtomicInteger(0);
+        //直接获得许可的任务同样交给executor，被拒绝时归还许可
+        Assert.assertTrue(limiter.acquireAsync(Assert::fail, e -> rejected.incrementAndGet()));
+        Assert.assertEquals(1, rejected.get());
+        Assert.assertEquals(0, limiter.getInflight());
+        Assert.assertTrue(limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,150 @@
+package com.jsj.rpc.client.loadbalance;
+
+import com.jsj.rpc.client.channel.RpcChannel;
+import com.jsj.rpc.client.channel.StubRpcChannel;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.client.instance.EndpointStats;
+import com.jsj.rpc.protocol.standard.RpcRequest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author jiangshenjie
+ */
+public class LoadBalancerTest {
+
+    @Test
+    public void testRoundRobin() {
+        List<RpcChannel> channels = createChannels(3);
+        LoadBalancer loadBalancer = new RoundRobinLoadBalancer();
+        Map<RpcChannel, Integer> counts = countSelections(loadBalancer, channels, 300);
+        for (RpcChannel channel : channels) {
+            Assert.assertEquals(100, counts.get(channel).intValue());
+        }
+    }
+
+    @Test
+    public void testWeightedRandom() {
+        List<RpcChannel> channels = new ArrayList<>();
+        channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 1, 1)));
+        channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 2, 3)));
+        channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 3, 0)));
+        Map<RpcChannel, Integer> counts = countSelections(new WeightedRandomLoadBalancer(), channels, 10000);
+        Assert.assertNull(counts.get(channels.get(2)));
+        double ratio = counts.get(channels.get(1)) / (double) counts.get(channels.get(0));
+        Assert.assertTrue("ratio: " + ratio, ratio > 2.5 && ratio < 3.5);
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesAvoidsBusyEndpoint() {
+        List<RpcChannel> channels = createChannels(2);
+        for (int i = 0; i < 10; i++) {
+            channels.get(0).getStats().onRequestStart();
+        }
+        Map<RpcChannel, Integer> counts = countSelections(new PowerOfTwoChoicesLoadBalancer(), channels, 100);
+        Assert.assertEquals(100, counts.get(channels.get(1)).intValue());
+    }
+
+    @Test
+    public void testPeakEwmaAvoidsSlowEndpoint() {
+        List<RpcChannel> channels = createChannels(2);
+        channels.get(0).getStats().onRequestStart();
+        channels.get(0).getStats().onRequestComplete(50_000_000L, true);
+        channels.get(1).getStats().onRequestStart();
+        channels.get(1).getStats().onRequestComplete(1_000_000L, true);
+        Map<RpcChannel, Integer> counts = countSelections(new PeakEwmaLoadBalancer(), channels, 100);
+        Assert.assertEquals(100, counts.get(channels.get(1)).intValue());
+    }
+
+    @Test
+    public void testPeakEwmaSlowEndpointRecovers() throws InterruptedException {
+        List<RpcChannel> channels = new ArrayList<>();
+        channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 8000), new EndpointStats(20L)));
+        channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 8001), new EndpointStats(20L)));
+        channels.get(0).getStats().onRequestStart();
+        channels.get(0).getStats().onRequestComplete(50_000_000L, true);
+        channels.get(1).getStats().onRequestStart();
+        channels.get(1).getStats().onRequestComplete(1_000_000L, true);
+        channels.get(1).getStats().onRequestStart();
+        Assert.assertNull(countSelections(new PeakEwmaLoadBalancer(), channels, 100).get(channels.get(0)));
+        //慢节点不再有请求完成，其延迟在读取时随时间衰减，低于持续服务的快节点后重新被选中
+        Thread.sleep(200L);
+        channels.get(1).getStats().onRequestStart();
+        channels.get(1).getStats().onRequestComplete(1_000_000L, true);
+        Assert.assertTrue(channels.get(0).getStats().getPeakEwmaNanos() < 100_000L);
+        Map<RpcChannel, Integer> counts = countSelections(new PeakEwmaLoadBalancer(), channels, 100);
+        Assert.assertEquals(100, counts.get(channels.get(0)).intValue());
+    }
+
+    @Test
+    public void testConsistentHashMovesOnlyKeysOfRemovedEndpoint() {
+        List<RpcChannel> channels = createChannels(4);
+        LoadBalancer loadBalancer = new ConsistentHashLoadBalancer();
+        int keys = 2000;
+        Map<String, RpcChannel> before = new HashMap<>();
+        for (int i = 0; i < keys; i++) {
+            String key = "key-" + i;
+            RpcChannel selected = loadBalancer.select(channels, new RpcRequest(null).setParams(key));
+            Assert.assertSame(selected, loadBalancer.select(channels, new RpcRequest(null).setParams(key)));
+            before.put(key, selected);
+        }
+        RpcChannel removed = channels.get(1);
+        List<RpcChannel> remaining = new ArrayList<>(channels);
+        remaining.remove(removed);
+        int moved = 0;
+        for (Map.Entry<String, RpcChannel> entry : before.entrySet()) {
+            RpcChannel selected = loadBalancer.select(remaining, new RpcRequest(null).setParams(entry.getKey()));
+            if (entry.getValue() != removed) {
+                Assert.assertSame(entry.getValue(), selected);
+            } else {
+                moved++;
+            }
+        }
+        //4个节点时每个节点约承担1/4的key
+        Assert.assertTrue("moved: " + moved, moved > keys / 8 && moved < keys * 3 / 8);
+    }
+
+    @Test
+    public void testConsistentHashSkipsUnavailableEndpoint() {
+        List<RpcChannel> channels = createChannels(4);
+        LoadBalancer loadBalancer = new ConsistentHashLoadBalancer();
+        loadBalancer.updateEndpoints(channels);
+        RpcChannel unavailable = channels.get(2);
+        for (int i = 0; i < 500; i++) {
+            String key = "key-" + i;
+            RpcChannel owner = loadBalancer.select(channels, new RpcRequest(null).setParams(key));
+            //每次调用传入新过滤出的列表，key的映射不随列表实例变化
+            List<RpcChannel> available = new ArrayList<>(channels);
+            available.remove(unavailable);
+            RpcChannel selected = loadBalancer.select(available, new RpcRequest(null).setParams(key));
+            Assert.assertNotSame(unavailable, selected);
+            if (owner != unavailable) {
+                Assert.assertSame(owner, selected);
+            }
+            Assert.assertSame(selected, loadBalancer.select(new ArrayList<>(available)
+                    , new RpcRequest(null).setParams(key)));
+        }
+    }
+
+    private static List<RpcChannel> createChannels(int n) {
+        List<RpcChannel> channels = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            channels.add(new StubRpcChannel(new Endpoint("127.0.0.1", 8000 + i)));
+        }
+        return channels;
+    }
+
+    private static Map<RpcChannel, Integer> countSelections(LoadBalancer loadBalancer
+            , List<RpcChannel> channels, int times) {
+        Map<RpcChannel, Integer> counts = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            counts.merge(loadBalancer.select(channels, null), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
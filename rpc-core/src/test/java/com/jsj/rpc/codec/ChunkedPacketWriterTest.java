@@ -0,0 +1,129 @@
+package com.jsj.rpc.codec;
+
+import com.jsj.rpc.exception.BadSchemaException;
+import com.jsj.rpc.protocol.Packet;
+import com.jsj.rpc.protocol.PacketType;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.standard.RpcProtocol;
+import com.jsj.rpc.server.ServiceManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author jiangshenjie
+ */
+public class ChunkedPacketWriterTest {
+    private final Protocol protocol = new RpcProtocol(ServiceManager.getInstance());
+
+    @Test
+    public void testChunkAndReassemble() {
+        EmbeddedChannel sender = new EmbeddedChannel(new BaseEncoder(protocol), new ChunkedPacketWriter(16));
+        EmbeddedChannel receiver = new EmbeddedChannel(new BaseDecoder(protocol));
+        String large = "0123456789abcdefghijklmnopqrstuvwxyz";
+        sender.writeOutbound(packet(PacketType.DATA, large, 1L)
+                , packet(PacketType.DATA, "small-2", 2L)
+                , packet(PacketType.STREAM_MESSAGE, "small-1", 1L));
+        transfer(sender, receiver);
+
+        List<String> received = new ArrayList<>();
+        Packet packet;
+        while ((packet = receiver.readInbound()) != null) {
+            received.add(packet.getType() + ":" + packet.getBody().toString(StandardCharsets.UTF_8));
+            packet.release();
+        }
+        //其他请求的小报文插队到大报文之前，同一请求的报文保持顺序
+        Assert.assertEquals(3, received.size());
+        Assert.assertEquals("DATA:small-2", received.get(0));
+        Assert.assertEquals("DATA:" + large, received.get(1));
+        Assert.assertEquals("STREAM_MESSAGE:small-1", received.get(2));
+        Assert.assertFalse(sender.finish());
+        Assert.assertFalse(receiver.finish());
+    }
+
+    @Test
+    public void testCancelBeforeFirstChunk() {
+        EmbeddedChannel sender = new EmbeddedChannel(new BaseEncoder(protocol), new ChunkedPacketWriter(16));
+        EmbeddedChannel receiver = new EmbeddedChannel(new BaseDecoder(protocol));
+        ChannelPromise promise = sender.newPromise();
+        sender.write(packet(PacketType.DATA, "0123456789abcdefghijklmnopqrstuvwxyz", 1L), promise);
+        //未写出任何分片时可以取消，整个报文被丢弃
+        Assert.assertTrue(promise.cancel(false));
+        sender.flush();
+        transfer(sender, receiver);
+        Assert.assertNull(receiver.readInbound());
+        Assert.assertFalse(sender.finish());
+        Assert.assertFalse(receiver.finish());
+    }
+
+    @Test
+    public void testCannotCancelAfterFirstChunk() {
+        EmbeddedChannel sender = new EmbeddedChannel(new BaseEncoder(protocol), new ChunkedPacketWriter(16));
+        EmbeddedChannel receiver = new EmbeddedChannel(new BaseDecoder(protocol));
+        String large = "0123456789abcdefghijklmnopqrstuvwxyz";
+        ChannelPromise promise = sender.newPromise();
+        sender.writeAndFlush(packet(PacketType.DATA, large, 1L), promise);
+        //已写出分片，取消失败，报文完整写出
+        Assert.assertFalse(promise.cancel(false));
+        transfer(sender, receiver);
+        Assert.assertTrue(promise.isSuccess());
+        Packet packet = receiver.readInbound();
+        Assert.assertEquals(large, packet.getBody().toString(StandardCharsets.UTF_8));
+        packet.release();
+        Assert.assertFalse(sender.finish());
+        Assert.assertFalse(receiver.finish());
+    }
+
+    @Test
+    public void testRejectTooManyPartialPackets() {
+        EmbeddedChannel sender = new EmbeddedChannel(new BaseEncoder(protocol), new ChunkedPacketWriter(16));
+        EmbeddedChannel receiver = new EmbeddedChannel(new BaseDecoder(protocol, 1, 1024));
+        String large = "0123456789abcdefghijklmnopqrstuvwxyz";
+        sender.writeOutbound(packet(PacketType.DATA, large, 1L), packet(PacketType.DATA, large, 2L));
+        assertRejected(sender, receiver);
+    }
+
+    @Test
+    public void testRejectTooManyReassemblyBytes() {
+        EmbeddedChannel sender = new EmbeddedChannel(new BaseEncoder(protocol), new ChunkedPacketWriter(16));
+        EmbeddedChannel receiver = new EmbeddedChannel(new BaseDecoder(protocol, 16, 20));
+        sender.writeOutbound(packet(PacketType.DATA, "0123456789abcdefghijklmnopqrstuvwxyz", 1L));
+        assertRejected(sender, receiver);
+    }
+
+    private static void assertRejected(EmbeddedChannel sender, EmbeddedChannel receiver) {
+        try {
+            transfer(sender, receiver);
+            Assert.fail("DecoderException expected.");
+        } catch (DecoderException e) {
+            Assert.assertTrue(e.getCause() instanceof BadSchemaException);
+        }
+        Assert.assertNull(receiver.readInbound());
+        sender.finishAndReleaseAll();
+        receiver.finishAndReleaseAll();
+    }
+
+    private static Packet packet(PacketType type, String body, long orderKey) {
+        return new Packet(type, Unpooled.copiedBuffer(body, StandardCharsets.UTF_8)).setOrderKey(orderKey);
+    }
+
+    /**
+     * 执行分片写出的后续轮次，并将写出的字节交给接收方
+     */
+    private static void transfer(EmbeddedChannel sender, EmbeddedChannel receiver) {
+        sender.runPendingTasks();
+        ByteBuf buf;
+        while ((buf = sender.readOutbound()) != null) {
+            receiver.writeInbound(buf);
+            sender.runPendingTasks();
+        }
+    }
+}
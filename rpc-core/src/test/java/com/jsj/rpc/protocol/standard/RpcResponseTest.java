@@ -0,0 +1,30 @@
+package com.jsj.rpc.protocol.standard;
+
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.ProtocolManager;
+import com.jsj.rpc.protocol.ProtocolType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author jiangshenjie
+ */
+public class RpcResponseTest {
+
+    @Test
+    public void testRetryAfterMillisClamped() {
+        Assert.assertEquals(Integer.MAX_VALUE, encodeRetryAfter(Long.MAX_VALUE));
+        Assert.assertEquals(Integer.MAX_VALUE, encodeRetryAfter(1L << 32));
+        Assert.assertEquals(0, encodeRetryAfter(-1L));
+        Assert.assertEquals(100, encodeRetryAfter(100L));
+    }
+
+    private static int encodeRetryAfter(long retryAfterMillis) {
+        RpcResponse response = new RpcResponse(ProtocolManager.getInstance().getProtocol(ProtocolType.STANDARD));
+        response.setRequestId(1L);
+        response.setException(new RpcException(RpcExceptionType.OVERLOAD_EXCEPTION)
+                .setRetryAfterMillis(retryAfterMillis));
+        return response.transToResponseMeta().getRetryAfterMillis();
+    }
+}
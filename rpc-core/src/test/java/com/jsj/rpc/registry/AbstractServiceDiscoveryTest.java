@@ -0,0 +1,84 @@
+package com.jsj.rpc.registry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class AbstractServiceDiscoveryTest {
+    private static final String SLOW_SERVICE = "com.jsj.rpc.service.SlowService";
+    private static final String FAST_SERVICE = "com.jsj.rpc.service.FastService";
+
+    @Test
+    public void testSlowSubscribeNotBlockOtherServices() throws Exception {
+        BlockingDiscovery discovery = new BlockingDiscovery();
+        CompletableFuture<List<ServiceInstance>> first = CompletableFuture.supplyAsync(
+                () -> discovery.discoverAll(new SubscribeInfo(SLOW_SERVICE)));
+        Assert.assertTrue(discovery.subscribeStarted.await(1, TimeUnit.SECONDS));
+        CompletableFuture<List<ServiceInstance>> second = CompletableFuture.supplyAsync(
+                () -> discovery.discoverAll(new SubscribeInfo(SLOW_SERVICE)));
+
+        //其他服务的发现不等待慢订阅
+        Assert.assertEquals(1, discovery.discoverAll(new SubscribeInfo(FAST_SERVICE)).size());
+        //同一服务的调用方等待订阅完成，拿到初始节点
+        try {
+            second.get(100, TimeUnit.MILLISECONDS);
+            Assert.fail("Discover should wait for subscribing.");
+        } catch (TimeoutException e) {
+            //expected
+        }
+        discovery.releaseSubscribe.countDown();
+        Assert.assertEquals(1, first.get(1, TimeUnit.SECONDS).size());
+        Assert.assertEquals(1, second.get(1, TimeUnit.SECONDS).size());
+        Assert.assertEquals(2, discovery.subscribeCount.get());
+    }
+
+    @Test
+    public void testFailedSubscribeRetried() {
+        BlockingDiscovery discovery = new BlockingDiscovery();
+        discovery.releaseSubscribe.countDown();
+        discovery.failNext = true;
+        try {
+            discovery.discoverAll(new SubscribeInfo(FAST_SERVICE));
+            Assert.fail("IllegalStateException expected.");
+        } catch (IllegalStateException e) {
+            //expected
+        }
+        Assert.assertEquals(1, discovery.discoverAll(new SubscribeInfo(FAST_SERVICE)).size());
+        Assert.assertEquals(2, discovery.subscribeCount.get());
+    }
+
+    private static class BlockingDiscovery extends AbstractServiceDiscovery {
+        private final CountDownLatch subscribeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseSubscribe = new CountDownLatch(1);
+        private final AtomicInteger subscribeCount = new AtomicInteger(0);
+        private volatile boolean failNext = false;
+
+        @Override
+        protected void doSubscribe(String interfaceName) {
+            subscribeCount.incrementAndGet();
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("registry unavailable");
+            }
+            if (SLOW_SERVICE.equals(interfaceName)) {
+                subscribeStarted.countDown();
+                try {
+                    releaseSubscribe.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            updateInstances(interfaceName, Collections.singletonList(new ServiceInstance("127.0.0.1", 8001)));
+        }
+    }
+}
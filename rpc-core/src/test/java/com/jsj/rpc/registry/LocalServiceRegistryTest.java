@@ -0,0 +1,53 @@
+package com.jsj.rpc.registry;
+
+import com.jsj.rpc.registry.local.LocalServiceRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author jiangshenjie
+ */
+public class LocalServiceRegistryTest {
+    private static final String INTERFACE_NAME = "com.jsj.rpc.service.HelloService";
+
+    @Test
+    public void testSubscribeReceivesSnapshotAndDiffs() {
+        LocalServiceRegistry registry = new LocalServiceRegistry();
+        registry.register(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8001));
+        SubscribeInfo subscribeInfo = new SubscribeInfo(INTERFACE_NAME);
+        List<ServiceChangeEvent> events = new ArrayList<>();
+        ServiceListener listener = events::add;
+        registry.subscribe(subscribeInfo, listener);
+
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(Collections.singletonList(new ServiceInstance("127.0.0.1", 8001))
+                , events.get(0).getInstances());
+
+        registry.register(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8002));
+        Assert.assertEquals(2, events.size());
+        Assert.assertEquals(2, events.get(1).getInstances().size());
+        Assert.assertEquals(Collections.singletonList(new ServiceInstance("127.0.0.1", 8002))
+                , events.get(1).getAdded());
+        Assert.assertTrue(events.get(1).getRemoved().isEmpty());
+
+        //重复注册不产生事件
+        registry.register(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8002));
+        Assert.assertEquals(2, events.size());
+
+        registry.unregister(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8001));
+        Assert.assertEquals(3, events.size());
+        Assert.assertEquals(Collections.singletonList(new ServiceInstance("127.0.0.1", 8001))
+                , events.get(2).getRemoved());
+        Assert.assertEquals(events.get(2).getInstances(), registry.discoverAll(subscribeInfo));
+        Assert.assertEquals(new ServiceInstance("127.0.0.1", 8002), registry.discover(subscribeInfo));
+
+        registry.unsubscribe(subscribeInfo, listener);
+        registry.unregister(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8002));
+        Assert.assertEquals(3, events.size());
+        Assert.assertNull(registry.discover(subscribeInfo));
+    }
+}
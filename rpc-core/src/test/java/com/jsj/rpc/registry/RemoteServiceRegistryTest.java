@@ -0,0 +1,91 @@
+package com.jsj.rpc.registry;
+
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.client.instance.Endpoint;
+import com.jsj.rpc.registry.remote.RegistryMeta.RegisterRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.ServiceNode;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchEntry;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchRequest;
+import com.jsj.rpc.registry.remote.RegistryMeta.WatchResponse;
+import com.jsj.rpc.registry.remote.RegistryService;
+import com.jsj.rpc.registry.remote.RegistryServiceImpl;
+import com.jsj.rpc.registry.remote.RemoteRegistryOptions;
+import com.jsj.rpc.registry.remote.RemoteServiceRegistry;
+import com.jsj.rpc.server.RpcServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author jiangshenjie
+ */
+public class RemoteServiceRegistryTest {
+    private static final String INTERFACE_NAME = "com.jsj.rpc.service.HelloService";
+
+    @Test
+    public void testRegisterAndWatchThroughRpcServer() throws Exception {
+        RegistryServiceImpl registryServiceImpl = new RegistryServiceImpl();
+        RpcServer registryServer = RpcTestFixture.startServer(registryServiceImpl, RegistryService.class);
+
+        RemoteRegistryOptions options = new RemoteRegistryOptions();
+        options.setWatchWaitMillis(2000);
+        Endpoint registryEndpoint = RpcTestFixture.endpoint(registryServer);
+        RemoteServiceRegistry provider = new RemoteServiceRegistry(registryEndpoint, options);
+        RemoteServiceRegistry consumer = new RemoteServiceRegistry(registryEndpoint, options);
+        try {
+            provider.register(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8001));
+            BlockingQueue<ServiceChangeEvent> events = new LinkedBlockingQueue<>();
+            SubscribeInfo subscribeInfo = new SubscribeInfo(INTERFACE_NAME);
+            consumer.subscribe(subscribeInfo, events::add);
+
+            ServiceChangeEvent initial = events.poll(1, TimeUnit.SECONDS);
+            Assert.assertNotNull(initial);
+            Assert.assertEquals(1, initial.getInstances().size());
+
+            provider.register(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8002));
+            ServiceChangeEvent added = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(added);
+            Assert.assertEquals(new ServiceInstance("127.0.0.1", 8002), added.getAdded().get(0));
+            Assert.assertEquals(2, consumer.discoverAll(subscribeInfo).size());
+
+            provider.unregister(new RegisterInfo(INTERFACE_NAME, "127.0.0.1", 8001));
+            ServiceChangeEvent removed = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(removed);
+            Assert.assertEquals(new ServiceInstance("127.0.0.1", 8001), removed.getRemoved().get(0));
+        } finally {
+            provider.close();
+            consumer.close();
+            registryServer.shutdown();
+            registryServiceImpl.close();
+        }
+    }
+
+    @Test
+    public void testLeaseExpiresWithoutRenewal() throws Exception {
+        RegistryServiceImpl registryService = new RegistryServiceImpl(1, 50L);
+        try {
+            registryService.register(RegisterRequest.newBuilder()
+                    .setNode(ServiceNode.newBuilder().setInterfaceName(INTERFACE_NAME)
+                            .setHost("127.0.0.1").setPort(8001))
+                    .setTtlMillis(200).build());
+            WatchRequest request = WatchRequest.newBuilder()
+                    .addEntries(WatchEntry.newBuilder().setInterfaceName(INTERFACE_NAME))
+                    .build();
+            WatchResponse registered = registryService.watch(request);
+            Assert.assertEquals(1, registered.getSnapshots(0).getNodesCount());
+
+            long revision = registered.getSnapshots(0).getRevision();
+            WatchResponse expired = registryService.watch(WatchRequest.newBuilder()
+                    .addEntries(WatchEntry.newBuilder().setInterfaceName(INTERFACE_NAME).setRevision(revision))
+                    .setWaitMillis(2000).build());
+            List<ServiceNode> nodes = expired.getSnapshots(0).getNodesList();
+            Assert.assertTrue(nodes.isEmpty());
+        } finally {
+            registryService.close();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jsj.rpc.server;
+
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.RpcCallback;
+import com.jsj.rpc.RpcFuture;
+import com.jsj.rpc.RpcTestFixture;
+import com.jsj.rpc.client.RpcClient;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 服务端过载拒绝请求时，重试等待提示随响应传回客户端
+ *
+ * @author jiangshenjie
+ */
+public class RpcServerOverloadTest {
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    private static final CountDownLatch STARTED = new CountDownLatch(1);
+    private RpcServer rpcServer;
+    private RpcClient rpcClient;
+
+    @After
+    public void tearDown() {
+        RELEASE.countDown();
+        RpcTestFixture.shutdown(rpcClient, rpcServer);
+    }
+
+    @Test
+    public void testOverloadCarriesRetryAfterToClient() throws Exception {
+        RpcServerOptions serverOptions = RpcTestFixture.serverOptions();
+        serverOptions.setConcurrencyLimitEnabled(true);
+        serverOptions.setInitialConcurrencyLimit(1);
+        serverOptions.setMinConcurrencyLimit(1);
+        serverOptions.setMaxConcurrencyLimit(1);
+        serverOptions.setOverloadRetryAfterMillis(250);
+        rpcServer = RpcTestFixture.startServer(serverOptions, new BlockingEchoService(), EchoService.class);
+        rpcClient = RpcTestFixture.newClient(rpcServer);
+        EchoServiceAsync echoService = RpcClient.getProxy(rpcClient, EchoServiceAsync.class);
+
+        //第一个请求占满并发上限
+        RpcFuture<StringValue> first = echoService.echo(StringValue.of("first"), new NoopCallback());
+        Assert.assertTrue(STARTED.await(2, TimeUnit.SECONDS));
+        try {
+            echoService.echo(StringValue.of("second"), new NoopCallback()).get(2, TimeUnit.SECONDS);
+            Assert.fail("RpcException expected.");
+        } catch (ExecutionException e) {
+            RpcException rpcException = (RpcException) e.getCause();
+            Assert.assertEquals(RpcExceptionType.OVERLOAD_EXCEPTION.getCode(), rpcException.getCode());
+            Assert.assertEquals(250L, rpcException.getRetryAfterMillis());
+        }
+        RELEASE.countDown();
+        Assert.assertEquals("first", first.get(2, TimeUnit.SECONDS).getValue());
+    }
+
+    public interface EchoService {
+        StringValue echo(StringValue request);
+    }
+
+    public interface EchoServiceAsync extends EchoService {
+        RpcFuture<StringValue> echo(StringValue request, RpcCallback<StringValue> callback);
+    }
+
+    private static class NoopCallback implements RpcCallback<StringValue> {
+        @Override
+        public void handleResult(StringValue result) {
+        }
+
+        @Override
+        public void handleException(Exception e) {
+        }
+    }
+
+    public static class BlockingEchoService implements EchoService {
+        @Override
+        public StringValue echo(StringValue request) {
+            STARTED.countDown();
+            try {
+                RELEASE.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return request;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jsj.rpc.server;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.exception.RpcException;
+import com.jsj.rpc.exception.RpcExceptionType;
+import com.jsj.rpc.protocol.Protocol;
+import com.jsj.rpc.protocol.ProtocolManager;
+import com.jsj.rpc.protocol.ProtocolType;
+import com.jsj.rpc.protocol.Request;
+import com.jsj.rpc.server.cache.ResultCache;
+import com.jsj.rpc.server.cache.ResultCacheOptions;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class ServerWorkTaskTest {
+    private final Protocol protocol = ProtocolManager.getInstance().getProtocol(ProtocolType.STANDARD);
+    private final ByteString cacheKey = ByteString.copyFromUtf8("key");
+    private final List<Any> results = new ArrayList<>();
+    private final List<Exception> exceptions = new ArrayList<>();
+    private EchoService service;
+    private ResultCache resultCache;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        service = new EchoService();
+        resultCache = new ResultCache(new ResultCacheOptions());
+        channel = new EmbeddedChannel();
+    }
+
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testExpiredLeaderExecutesForWaitingRequests() throws Exception {
+        ServerWorkTask leader = createLeader("echo");
+        follow(System.currentTimeMillis() + 10000L);
+        leader.setDeadline(System.currentTimeMillis() - 1L);
+        leader.run();
+        //原请求已超时，但等待其结果的请求仍拿到结果，结果也写入了缓存
+        Assert.assertEquals(1, service.invocations.get());
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("hello", results.get(0).unpack(StringValue.class).getValue());
+        Assert.assertNull(exceptions.get(0));
+        Assert.assertNotNull(resultCache.get(cacheKey));
+    }
+
+    @Test
+    public void testExpiredLeaderWithExpiredWaitersDropped() throws Exception {
+        ServerWorkTask leader = createLeader("echo");
+        follow(System.currentTimeMillis() - 1L);
+        leader.setDeadline(System.currentTimeMillis() - 1L);
+        leader.run();
+        Assert.assertEquals(0, service.invocations.get());
+        Assert.assertEquals(RpcExceptionType.TIMEOUT_EXCEPTION.getCode()
+                , ((RpcException) exceptions.get(0)).getCode());
+        //key已释放，下一个请求重新执行
+        Assert.assertTrue(resultCache.lead(cacheKey, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    public void testWaitersCompletedWhenLeaderThrows() throws Exception {
+        //返回值不是protobuf消息，序列化结果时抛出异常
+        ServerWorkTask leader = createLeader("name");
+        follow(System.currentTimeMillis() + 10000L);
+        try {
+            leader.run();
+            Assert.fail("ClassCastException expected.");
+        } catch (ClassCastException e) {
+            //expected
+        }
+        Assert.assertNull(results.get(0));
+        Assert.assertEquals(RpcExceptionType.SERVICE_EXCEPTION.getCode()
+                , ((RpcException) exceptions.get(0)).getCode());
+        Assert.assertTrue(resultCache.lead(cacheKey, Long.MAX_VALUE, null));
+    }
+
+    private ServerWorkTask createLeader(String methodName) throws Exception {
+        Request request = protocol.createRequest()
+                .setRequestId(1L)
+                .setMethod(EchoService.class.getMethod(methodName, StringValue.class))
+                .setTarget(service)
+                .setParams(StringValue.of("hello"))
+                .setTaskTimeoutMills(10000);
+        ServerWorkTask task = new ServerWorkTask(request, protocol, channel);
+        Assert.assertTrue(resultCache.lead(cacheKey, task.getDeadline(), null));
+        task.setResultCache(resultCache);
+        task.setCacheKey(cacheKey);
+        return task;
+    }
+
+    private void follow(long deadline) {
+        Assert.assertFalse(resultCache.lead(cacheKey, deadline, (result, e) -> {
+            results.add(result);
+            exceptions.add(e);
+        }));
+    }
+
+    public static class EchoService {
+        private final AtomicInteger invocations = new AtomicInteger(0);
+
+        public StringValue echo(StringValue request) {
+            invocations.incrementAndGet();
+            return request;
+        }
+
+        public String name(StringValue request) {
+            invocations.incrementAndGet();
+            return request.getValue();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jsj.rpc.server.cache;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+import com.jsj.rpc.util.ParamsKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author jiangshenjie
+ */
+public class ResultCacheTest {
+
+    @Test
+    public void testConcurrentMissesCoalesced() {
+        ResultCache cache = new ResultCache(new ResultCacheOptions());
+        ByteString key = ByteString.copyFromUtf8("key");
+        List<Any> received = new ArrayList<>();
+        Assert.assertTrue(cache.lead(key, Long.MAX_VALUE, (result, e) -> Assert.fail()));
+        Assert.assertFalse(cache.lead(key, Long.MAX_VALUE, (result, e) -> received.add(result)));
+        Assert.assertFalse(cache.lead(key, Long.MAX_VALUE, (result, e) -> received.add(result)));
+        Any result = Any.pack(StringValue.of("value"));
+        cache.complete(key, result, null);
+        Assert.assertEquals(Arrays.asList(result, result), received);
+        Assert.assertEquals(result, cache.get(key));
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        ResultCache cache = new ResultCache(new ResultCacheOptions());
+        ByteString key = ByteString.copyFromUtf8("key");
+        Assert.assertTrue(cache.lead(key, Long.MAX_VALUE, null));
+        cache.complete(key, null, new RuntimeException());
+        Assert.assertNull(cache.get(key));
+        //失败后下一个请求重新执行
+        Assert.assertTrue(cache.lead(key, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    public void testAbandonOnlyWithoutLiveWaiters() {
+        ResultCache cache = new ResultCache(new ResultCacheOptions());
+        ByteString key = ByteString.copyFromUtf8("key");
+        List<Exception> received = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        Assert.assertTrue(cache.lead(key, now - 1, null));
+        Assert.assertFalse(cache.lead(key, now - 1, (result, e) -> received.add(e)));
+        Assert.assertFalse(cache.lead(key, now + 10000, (result, e) -> received.add(e)));
+        //有未超时的等待请求，不能放弃
+        Assert.assertFalse(cache.abandon(key, new RuntimeException()));
+        Assert.assertTrue(received.isEmpty());
+        cache.complete(key, Any.pack(StringValue.of("value")), null);
+        Assert.assertEquals(Arrays.asList(null, null), received);
+
+        received.clear();
+        ByteString expired = ByteString.copyFromUtf8("expired");
+        Assert.assertTrue(cache.lead(expired, now - 1, null));
+        Assert.assertFalse(cache.lead(expired, now - 1, (result, e) -> received.add(e)));
+        RuntimeException exception = new RuntimeException();
+        Assert.assertTrue(cache.abandon(expired, exception));
+        Assert.assertEquals(Arrays.asList(exception), received);
+        Assert.assertTrue(cache.lead(expired, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    public void testEvictedByBytes() {
+        ResultCacheOptions options = new ResultCacheOptions();
+        Any result = Any.pack(StringValue.of("value"));
+        ByteString key1 = ByteString.copyFromUtf8("key1");
+        options.setMaxBytes((key1.size() + result.getSerializedSize()) * 2L);
+        ResultCache cache = new ResultCache(options);
+        for (int i = 1; i <= 3; i++) {
+            ByteString key = ByteString.copyFromUtf8("key" + i);
+            cache.lead(key, Long.MAX_VALUE, null);
+            cache.complete(key, result, null);
+        }
+        Assert.assertNull(cache.get(key1));
+        Assert.assertEquals(2, cache.getCache().size());
+        Assert.assertEquals(1L, cache.getCache().getEvictionCount());
+    }
+
+    @Test
+    public void testKeyOfMultipleParams() {
+        ByteString a = ParamsKey.of(Arrays.asList(ByteString.copyFromUtf8("ab"), ByteString.copyFromUtf8("c")));
+        ByteString b = ParamsKey.of(Arrays.asList(ByteString.copyFromUtf8("a"), ByteString.copyFromUtf8("bc")));
+        Assert.assertNotEquals(a, b);
+    }
+}
@@ -0,0 +1,72 @@
+package com.jsj.rpc.server.limiter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class VegasConcurrencyLimiterTest {
+
+    @Test
+    public void testRejectOverLimit() {
+        VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(2, 1, 10);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.tryAcquire());
+        Assert.assertEquals(2, limiter.getInflight());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        Assert.assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testIncreaseWhenRttStable() {
+        VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(10, 1, 100, 1.0D, 1000);
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Assert.assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    public void testDecreaseWhenRttGrows() {
+        VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(50, 1, 100, 1.0D, 1000);
+        saturateAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        Assert.assertTrue(limiter.getLimit() < 50);
+    }
+
+    @Test
+    public void testDecreaseWhenDropped() {
+        VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(50, 1, 100, 1.0D, 1000);
+        saturateAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        Assert.assertTrue(limiter.tryAcquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+        Assert.assertTrue(limiter.getLimit() < 50);
+    }
+
+    @Test
+    public void testDecreaseWhenRejectedWithoutRtt() {
+        VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(50, 1, 100, 1.0D, 1000);
+        //工作线程池拒绝任务时以rtt=0释放
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(limiter.tryAcquire());
+            limiter.release(0L, true);
+        }
+        Assert.assertTrue(limiter.getLimit() < 50);
+        Assert.assertEquals(0, limiter.getInflight());
+    }
+
+    /**
+     * 占满所有许可后释放一个，模拟满负载下的一次采样
+     */
+    private void saturateAndRelease(VegasConcurrencyLimiter limiter, long rttNanos) {
+        while (limiter.tryAcquire()) {
+        }
+        limiter.release(rttNanos, false);
+        while (limiter.getInflight() > 0) {
+            limiter.release(0L, false);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.jsj.rpc.server.queue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class FairTaskQueueTest {
+
+    @Test
+    public void testRoundRobinBetweenKeys() throws Exception {
+        //quantum为10ms，flood任务每个耗时20ms，计时粒度较粗或机器繁忙时也能确定地超出quantum
+        FairTaskQueue queue = new FairTaskQueue(64, 32, 10000L);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(queue.offer(new Task("flood", 20L)));
+        }
+        Assert.assertTrue(queue.offer(new Task("quiet", 0L)));
+        Assert.assertTrue(queue.offer(new Task("quiet", 0L)));
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            order.add(takeAndRun(queue));
+        }
+        //flood分组的任务耗时超过quantum，不能独占业务线程
+        Assert.assertEquals(2, order.stream().filter("quiet"::equals).count());
+        Assert.assertEquals(8, queue.size());
+    }
+
+    @Test
+    public void testCapacityPerKey() {
+        FairTaskQueue queue = new FairTaskQueue(64, 2, 1000L);
+        Assert.assertTrue(queue.offer(new Task("a", 0L)));
+        Assert.assertTrue(queue.offer(new Task("a", 0L)));
+        Assert.assertFalse(queue.offer(new Task("a", 0L)));
+        Assert.assertTrue(queue.offer(new Task("b", 0L)));
+        Map<Object, Integer> depths = queue.getQueueDepths();
+        Assert.assertEquals(Integer.valueOf(2), depths.get("a"));
+        Assert.assertEquals(Integer.valueOf(1), depths.get("b"));
+    }
+
+    @Test
+    public void testRemoveKeyWhileQueued() throws Exception {
+        FairTaskQueue queue = new FairTaskQueue(64, 32, 1000L);
+        Assert.assertTrue(queue.offer(new Task("closed", 0L)));
+        Assert.assertTrue(queue.offer(new Task("closed", 0L)));
+        Assert.assertTrue(queue.offer(new Task("open", 0L)));
+        //连接关闭时仍有任务排队，任务照常执行，取完后分组被移除
+        queue.removeKey("closed");
+        Assert.assertEquals(Integer.valueOf(2), queue.getQueueDepths().get("closed"));
+        for (int i = 0; i < 3; i++) {
+            takeAndRun(queue);
+        }
+        Assert.assertEquals(0, queue.size());
+        Map<Object, Integer> depths = queue.getQueueDepths();
+        Assert.assertFalse(depths.containsKey("closed"));
+        Assert.assertTrue(depths.containsKey("open"));
+    }
+
+    private String takeAndRun(FairTaskQueue queue) throws InterruptedException {
+        Runnable task = queue.take();
+        task.run();
+        return Task.lastRun;
+    }
+
+    private static class Task implements SchedulableTask {
+        private static String lastRun;
+        private final String key;
+        private final long costMillis;
+
+        private Task(String key, long costMillis) {
+            this.key = key;
+            this.costMillis = costMillis;
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public Object getScheduleKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            lastRun = key;
+            try {
+                Thread.sleep(costMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
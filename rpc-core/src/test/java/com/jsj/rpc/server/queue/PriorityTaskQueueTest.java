@@ -0,0 +1,96 @@
+package com.jsj.rpc.server.queue;
+
+import com.jsj.rpc.protocol.RequestPriority;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class PriorityTaskQueueTest {
+
+    @Test
+    public void testHighPriorityFirst() throws Exception {
+        PriorityTaskQueue queue = new PriorityTaskQueue(16, 10000L);
+        Task low = new Task(RequestPriority.LOW);
+        Task normal = new Task(RequestPriority.NORMAL);
+        Task high1 = new Task(RequestPriority.HIGH);
+        Task high2 = new Task(RequestPriority.HIGH);
+        queue.offer(low);
+        queue.offer(normal);
+        queue.offer(high1);
+        queue.offer(high2);
+        Assert.assertEquals(2, queue.size(RequestPriority.HIGH));
+        Assert.assertSame(high1, queue.take());
+        Assert.assertSame(high2, queue.take());
+        Assert.assertSame(normal, queue.take());
+        Assert.assertSame(low, queue.poll(10, TimeUnit.MILLISECONDS));
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    public void testStarvationProtection() throws Exception {
+        PriorityTaskQueue queue = new PriorityTaskQueue(16, 20L);
+        Task low = new Task(RequestPriority.LOW);
+        queue.offer(low);
+        Thread.sleep(30L);
+        Task high = new Task(RequestPriority.HIGH);
+        queue.offer(high);
+        Assert.assertSame(low, queue.take());
+        Assert.assertSame(high, queue.take());
+    }
+
+    @Test
+    public void testHighPriorityNotStarvedByAgedTasks() throws Exception {
+        PriorityTaskQueue queue = new PriorityTaskQueue(1024, 1L, 4);
+        for (int i = 0; i < 200; i++) {
+            queue.offer(new Task(RequestPriority.LOW));
+        }
+        Thread.sleep(5L);
+        //低优先级任务全部已等待过久，高优先级任务持续到达
+        int high = 0;
+        int low = 0;
+        for (int i = 0; i < 100; i++) {
+            queue.offer(new Task(RequestPriority.HIGH));
+            queue.offer(new Task(RequestPriority.LOW));
+            Task task = (Task) queue.take();
+            if (task.priority == RequestPriority.HIGH) {
+                high++;
+            } else {
+                low++;
+            }
+        }
+        //每4次取出至多插队一次
+        Assert.assertEquals(25, low);
+        Assert.assertEquals(75, high);
+    }
+
+    @Test
+    public void testCapacity() {
+        PriorityTaskQueue queue = new PriorityTaskQueue(1, 100L);
+        Assert.assertTrue(queue.offer(new Task(RequestPriority.LOW)));
+        Assert.assertFalse(queue.offer(new Task(RequestPriority.HIGH)));
+        Assert.assertEquals(0, queue.remainingCapacity());
+    }
+
+    private static class Task implements SchedulableTask {
+        private final RequestPriority priority;
+
+        private Task(RequestPriority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority.getValue();
+        }
+
+        @Override
+        public Object getScheduleKey() {
+            return null;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jsj.rpc.util;
+
+import com.jsj.rpc.client.ClientThreadPoolInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jiangshenjie
+ */
+public class BoundedForkJoinPoolTest {
+    private BoundedForkJoinPool pool;
+    private CountDownLatch blocker;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        pool = new BoundedForkJoinPool(1, 1, "test-worker");
+        blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        //占住唯一的业务线程，后续任务只能排队
+        pool.execute(() -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+    }
+
+    @After
+    public void tearDown() {
+        blocker.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    public void testExecuteRejectWhenFull() {
+        pool.execute(() -> {
+        });
+        assertRejected(() -> pool.execute(() -> {
+        }));
+        Assert.assertEquals(1, pool.getPendingCount());
+    }
+
+    @Test
+    public void testSubmitRejectWhenFull() throws Exception {
+        Future<String> queued = pool.submit(() -> "ok");
+        Assert.assertEquals(1, pool.getPendingCount());
+        assertRejected(() -> pool.submit(() -> {
+        }));
+        assertRejected(() -> pool.execute(() -> {
+        }));
+        blocker.countDown();
+        Assert.assertEquals("ok", queued.get(1, TimeUnit.SECONDS));
+        Assert.assertEquals(0, pool.getPendingCount());
+    }
+
+    @Test
+    public void testCancelledSubmitReleasesSlot() throws Exception {
+        AtomicInteger runs = new AtomicInteger(0);
+        Future<?> cancelled = pool.submit(runs::incrementAndGet);
+        Assert.assertTrue(cancelled.cancel(false));
+        Assert.assertEquals(0, pool.getPendingCount());
+        Future<?> queued = pool.submit(runs::incrementAndGet);
+        blocker.countDown();
+        queued.get(1, TimeUnit.SECONDS);
+        Assert.assertEquals(1, runs.get());
+        Assert.assertEquals(0, pool.getPendingCount());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        blocker.countDown();
+        int producers = 16;
+        int tasksPerProducer = 5000;
+        ExecutorService executor = ClientThreadPoolInstance.createWorkThreadPool(WorkerExecutorType.FORK_JOIN
+                , 4, producers * tasksPerProducer, "concurrent-test");
+        CountDownLatch done = new CountDownLatch(producers * tasksPerProducer);
+        AtomicInteger runs = new AtomicInteger(0);
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            boolean submit = i % 2 == 0;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < tasksPerProducer; j++) {
+                    Runnable task = () -> {
+                        runs.incrementAndGet();
+                        done.countDown();
+                    };
+                    if (submit) {
+                        executor.submit(task);
+                    } else {
+                        executor.execute(task);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        try {
+            Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+            //多个提交线程并发时每个任务恰好执行一次，等待数归零
+            Assert.assertEquals(producers * tasksPerProducer, runs.get());
+            Assert.assertEquals(0, ((BoundedForkJoinPool) executor).getPendingCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertRejected(Runnable submit) {
+        try {
+            submit.run();
+            Assert.fail("task should be rejected");
+        } catch (RejectedExecutionException e) {
+            //expected
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jsj.rpc.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author jiangshenjie
+ */
+public class LruCacheTest {
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        LruCache<String, String> cache = new LruCache<>(2, 0L, 60000L, null);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        //访问a后，b成为最久未访问的条目
+        Assert.assertEquals("1", cache.get("a"));
+        cache.put("c", "3");
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertEquals("3", cache.get("c"));
+        Assert.assertEquals(1L, cache.getEvictionCount());
+        Assert.assertEquals(0.75D, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        LruCache<String, String> cache = new LruCache<>(0, 0L, 20L, null);
+        cache.put("a", "1");
+        Assert.assertEquals("1", cache.get("a"));
+        Thread.sleep(40L);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(0, cache.size());
+    }
+}
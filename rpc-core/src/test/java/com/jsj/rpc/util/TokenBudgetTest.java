@@ -0,0 +1,35 @@
+package com.jsj.rpc.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author jiangshenjie
+ */
+public class TokenBudgetTest {
+
+    @Test
+    public void testBurstThenRatio() {
+        TokenBudget budget = new TokenBudget(10, 2);
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+        //每10个请求积累1个令牌
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        Assert.assertFalse(budget.tryAcquire());
+        budget.deposit();
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    public void testDepositCappedByMaxTokens() {
+        TokenBudget budget = new TokenBudget(50, 1);
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        Assert.assertEquals(1D, budget.getAvailableTokens(), 1e-9);
+    }
+}